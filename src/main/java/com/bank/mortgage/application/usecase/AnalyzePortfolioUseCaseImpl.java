@@ -0,0 +1,40 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.model.PortfolioAnalytics;
+import com.bank.mortgage.domain.model.PortfolioRateTable;
+import com.bank.mortgage.domain.port.in.AnalyzePortfolioUseCase;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.port.out.PortfolioScanPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class AnalyzePortfolioUseCaseImpl implements AnalyzePortfolioUseCase {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+    private final LtvTierRepositoryPort ltvTierRepositoryPort;
+    private final PortfolioScanPort portfolioScanPort;
+    private final MortgageDomainService mortgageDomainService;
+
+    @Override
+    public PortfolioAnalytics analyzePortfolio() {
+        log.info("Analyzing the portfolio");
+
+        PortfolioRateTable rateTable = PortfolioRateTable.of(mortgageRateRepositoryPort.findAllMortgageRates());
+        LtvTierIndex ltvTierIndex = ltvTierRepositoryPort.findLtvTierIndex();
+
+        PortfolioAnalytics portfolioAnalytics = portfolioScanPort.scan(
+                chunk -> mortgageDomainService.analyzePortfolioChunk(chunk, rateTable, ltvTierIndex),
+                PortfolioAnalytics.EMPTY, PortfolioAnalytics::combine);
+
+        log.info("Portfolio analyzed: {} loans, {} feasible", portfolioAnalytics.loans(),
+                portfolioAnalytics.feasibleLoans());
+        return portfolioAnalytics;
+    }
+}
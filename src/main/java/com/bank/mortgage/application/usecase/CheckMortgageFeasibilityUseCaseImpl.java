@@ -1,10 +1,22 @@
 package com.bank.mortgage.application.usecase;
 
+import com.bank.mortgage.domain.entity.MaturityResolution;
 import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageQuote;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.event.MortgageCheckEvent;
+import com.bank.mortgage.domain.event.MortgageValidationFailedEvent;
+import com.bank.mortgage.domain.exception.MortgageDomainException;
 import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.model.CostOfCredit;
+import com.bank.mortgage.domain.model.MortgageCheckCommand;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.model.ResolvedMortgageRate;
 import com.bank.mortgage.domain.port.in.CheckMortgageFeasibilityUseCase;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageDecisionAuditPort;
+import com.bank.mortgage.domain.port.out.MortgageQuoteRepositoryPort;
 import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
 import com.bank.mortgage.domain.service.MortgageDomainService;
 import lombok.AllArgsConstructor;
@@ -12,43 +24,144 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.Optional;
 
 @Component
 @AllArgsConstructor
 @Slf4j
 public class CheckMortgageFeasibilityUseCaseImpl implements CheckMortgageFeasibilityUseCase {
 
+    private static final String INVALID_MATURITY_PERIOD = "Invalid maturity period: It must be greater than zero.";
+    private static final String INVALID_PRODUCT = "Invalid product: It must be provided.";
+
     private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
     private final MortgageDomainService mortgageDomainService;
+    private final MortgageDecisionAuditPort mortgageDecisionAuditPort;
+    private final MortgageQuoteRepositoryPort mortgageQuoteRepositoryPort;
+    private final LtvTierRepositoryPort ltvTierRepositoryPort;
 
+    /**
+     * Every check is recorded as a Flight Recorder event with its outcome, when a recording is running
+     */
     @Override
-    public MortgageFeasibilityResult checkMortgageFeasibility(Integer maturityPeriod, BigDecimal income,
-                                                              BigDecimal loanValue, BigDecimal homeValue) {
+    public MortgageFeasibilityResult checkMortgageFeasibility(MortgageCheckCommand command) {
+        MortgageCheckEvent event = new MortgageCheckEvent();
+        event.begin();
+        String outcome = MortgageCheckEvent.ERROR;
+        try {
+            MortgageFeasibilityResult result = check(command);
+            outcome = result.isFeasible() ? MortgageCheckEvent.FEASIBLE : MortgageCheckEvent.NOT_FEASIBLE;
+            return result;
+        } catch (MortgageNotFoundException e) {
+            outcome = MortgageCheckEvent.NO_RATE;
+            throw e;
+        } catch (IllegalArgumentException | MortgageDomainException e) {
+            outcome = MortgageCheckEvent.INVALID;
+            throw e;
+        } finally {
+            event.complete(command.product() == null ? null : command.product().name(), command.maturityPeriod(),
+                    outcome);
+        }
+    }
 
-        log.info("Checking mortgage feasibility for maturity period: {} years, income: {}, loan value: {}, home value: {}",
-                maturityPeriod, income, loanValue, homeValue);
+    private MortgageFeasibilityResult check(MortgageCheckCommand command) {
+        log.info("Checking {} mortgage feasibility for maturity period: {} years, income: {}, loan value: {}, "
+                        + "home value: {}", command.product(), command.maturityPeriod(), command.income(),
+                command.loanValue(), command.homeValue());
 
-        // Validate maturity period before querying. Income, loan and home value will be validated in domain layer
+        // Validate product, maturity period and fees before querying. Income, loan and home value will be validated
+        // in domain layer
+        if (command.product() == null) {
+            log.debug("Invalid product: It must be provided.");
+            MortgageValidationFailedEvent.emit(INVALID_PRODUCT);
+            throw new InvalidCheckException(INVALID_PRODUCT);
+        }
+        Integer maturityPeriod = command.maturityPeriod();
         if (maturityPeriod == null || maturityPeriod <= 0) {
-            log.error("Invalid maturity period: {}. It must be greater than zero.", maturityPeriod);
-            throw new IllegalArgumentException("Invalid maturity period: It must be greater than zero.");
+            log.debug("Invalid maturity period: {}. It must be greater than zero.", maturityPeriod);
+            MortgageValidationFailedEvent.emit(INVALID_MATURITY_PERIOD);
+            throw new InvalidCheckException(INVALID_MATURITY_PERIOD);
+        }
+        // Fees are validated with the other inputs, whether or not the APR is requested, so an invalid check is
+        // neither audited nor issued as a quote
+        BigDecimal fees = command.fees() == null ? BigDecimal.ZERO : command.fees();
+        if (fees.signum() < 0 || (command.loanValue() != null && fees.compareTo(command.loanValue()) >= 0)) {
+            log.debug("Invalid fees: {}. They must be zero or greater, and lower than the loan value.", fees);
+            MortgageValidationFailedEvent.emit(MortgageDomainException.INVALID_FEES.getMessage());
+            throw MortgageDomainException.INVALID_FEES;
         }
 
-        // Find Mortgage rate by maturity period
-        Optional<MortgageRate> mortgageRate = mortgageRateRepositoryPort.findByMaturityPeriod(maturityPeriod);
+        ResolvedMortgageRate resolvedMortgageRate = resolveMortgageRate(command.product(), maturityPeriod,
+                command.maturityResolution() == null ? MaturityResolution.EXACT : command.maturityResolution());
+
+        if (resolvedMortgageRate == null) {
+            log.debug("No {} mortgage rate was found related to maturity period of: {} years. Cannot check mortgage "
+                    + "feasibility", command.product(), maturityPeriod);
+            throw MortgageNotFoundException.forProductAndMaturityPeriod(command.product(), maturityPeriod);
+        }
+        MortgageRate mortgageRate = resolvedMortgageRate.mortgageRate();
+
+        MortgageApplicant mortgageApplicant = new MortgageApplicant(command.income(), command.loanValue(),
+                command.homeValue());
+
+        // The rate is priced by loan-to-value tier
+        MortgageFeasibilityResult result = mortgageDomainService.checkMortgageFeasibility(mortgageRate,
+                mortgageApplicant, ltvTierRepositoryPort.findLtvTierIndex());
 
-        if (mortgageRate.isEmpty()) {
-            log.error("No mortgage rate was found related to maturity period of: {} years. Cannot check mortgage feasibility",
-                    maturityPeriod);
-            throw new MortgageNotFoundException(
-                    String.format("Could not find mortgage rate for maturity period of %s years", maturityPeriod)
-            );
+        // Every decision is issued as a quote the quote store persists in the background, so it can be fetched by id
+        // right away, and kept for regulatory purposes. It is only audited once the quote store accepts the quote, so
+        // the audit log holds no decision whose quote doesn't exist. A dry run is not a decision about an applicant
+        MortgageQuote mortgageQuote = null;
+        if (!command.dryRun()) {
+            mortgageQuote = MortgageQuote.of(mortgageRate, mortgageApplicant, result);
+            mortgageQuoteRepositoryPort.save(mortgageQuote);
+            mortgageDecisionAuditPort.record(mortgageRate, mortgageApplicant, result);
         }
 
-        MortgageApplicant mortgageApplicant = new MortgageApplicant(income, loanValue, homeValue);
+        // The APR is only disclosed for a mortgage that can be offered
+        CostOfCredit costOfCredit = null;
+        if (command.includeApr() && result.isFeasible()) {
+            costOfCredit = mortgageDomainService.calculateCostOfCredit(mortgageRate.maturityPeriod(),
+                    result.getInterestRate(), command.loanValue(), result.getMonthlyCost(), fees);
+        }
 
-        return mortgageDomainService.checkMortgageFeasibility(mortgageRate.get(), mortgageApplicant);
+        return result.toBuilder()
+                .quoteId(mortgageQuote == null ? null : mortgageQuote.id())
+                .maturityResolution(resolvedMortgageRate.resolution())
+                .costOfCredit(costOfCredit)
+                .build();
     }
 
+    /**
+     * An exact lookup only reads the rate of the maturity period. Other rules read the rates around it, so a
+     * maturity period without a rate of its own is resolved in the same request.
+     *
+     * @return The rate for the maturity period and the rule that resolved it, null if there is none
+     */
+    private ResolvedMortgageRate resolveMortgageRate(MortgageProduct product, int maturityPeriod,
+                                                     MaturityResolution maturityResolution) {
+        if (maturityResolution == MaturityResolution.EXACT) {
+            return mortgageRateRepositoryPort.findByProductAndMaturityPeriod(product, maturityPeriod)
+                    .map(mortgageRate -> new ResolvedMortgageRate(mortgageRate, MaturityResolution.EXACT))
+                    .orElse(null);
+        }
+        return mortgageRateRepositoryPort.findBracketByProductAndMaturityPeriod(product, maturityPeriod)
+                .resolve(maturityPeriod, maturityResolution);
+    }
+
+    /**
+     * Invalid check input. Invalid input is expected traffic and its stack trace is always the same, so none is
+     * captured. IllegalArgumentException has no constructor disabling suppression, so an instance is created per
+     * failure instead of being shared.
+     */
+    static final class InvalidCheckException extends IllegalArgumentException {
+
+        private InvalidCheckException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
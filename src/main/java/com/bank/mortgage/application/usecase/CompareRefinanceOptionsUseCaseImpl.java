@@ -0,0 +1,62 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.exception.DomainException;
+import com.bank.mortgage.domain.model.RefinanceCandidate;
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.port.in.CompareRefinanceOptionsUseCase;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class CompareRefinanceOptionsUseCaseImpl implements CompareRefinanceOptionsUseCase {
+
+    static final String OUT_OF_RANGE = "Invalid loan: Its amounts are out of the range that can be compared.";
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+    private final MortgageDomainService mortgageDomainService;
+
+    @Override
+    public RefinanceComparison compareRefinanceOptions(RefinanceCommand command) {
+        log.info("Comparing refinance options for loan {}", command.loanReference());
+
+        return mortgageDomainService.compareRefinanceOptions(command, findRefinanceCandidates());
+    }
+
+    @Override
+    public List<RefinanceComparison> compareRefinanceOptions(List<RefinanceCommand> commands) {
+        log.info("Comparing refinance options for {} loans", commands.size());
+
+        // The rates and their annuity factors are shared by every loan of the batch
+        List<RefinanceCandidate> candidates = findRefinanceCandidates();
+        return commands.stream()
+                .map(command -> compareOrFail(command, candidates))
+                .toList();
+    }
+
+    /**
+     * A loan that cannot be compared gets its error in the batch, instead of failing the comparison of the others
+     */
+    private RefinanceComparison compareOrFail(RefinanceCommand command, List<RefinanceCandidate> candidates) {
+        try {
+            return mortgageDomainService.compareRefinanceOptions(command, candidates);
+        } catch (DomainException e) {
+            log.debug("Could not compare refinance options for loan {}: {}", command.loanReference(), e.getMessage());
+            return RefinanceComparison.failed(command.loanReference(), e.getMessage());
+        } catch (ArithmeticException e) {
+            log.warn("Could not compare refinance options for loan {}", command.loanReference(), e);
+            return RefinanceComparison.failed(command.loanReference(), OUT_OF_RANGE);
+        }
+    }
+
+    private List<RefinanceCandidate> findRefinanceCandidates() {
+        return mortgageDomainService.prepareRefinanceCandidates(mortgageRateRepositoryPort.findAllMortgageRates());
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageQuote;
+import com.bank.mortgage.domain.exception.MortgageQuoteNotFoundException;
+import com.bank.mortgage.domain.port.in.GetMortgageQuoteUseCase;
+import com.bank.mortgage.domain.port.out.MortgageQuoteRepositoryPort;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class GetMortgageQuoteUseCaseImpl implements GetMortgageQuoteUseCase {
+
+    private final MortgageQuoteRepositoryPort mortgageQuoteRepositoryPort;
+
+    @Override
+    public MortgageQuote getMortgageQuote(UUID quoteId) {
+        log.info("Finding mortgage quote {}", quoteId);
+        return mortgageQuoteRepositoryPort.findById(quoteId)
+                .orElseThrow(() -> MortgageQuoteNotFoundException.forId(quoteId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.model.ScoredLoan;
+import com.bank.mortgage.domain.port.in.LoadPortfolioUseCase;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.port.out.PortfolioRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class LoadPortfolioUseCaseImpl implements LoadPortfolioUseCase {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+    private final LtvTierRepositoryPort ltvTierRepositoryPort;
+    private final PortfolioRepositoryPort portfolioRepositoryPort;
+    @Qualifier("screeningMortgageDomainService")
+    private final MortgageDomainService mortgageDomainService;
+
+    @Override
+    public int loadPortfolioLoans(List<PortfolioLoan> loans) {
+        log.info("Loading {} loans into the portfolio", loans.size());
+
+        for (PortfolioLoan loan : loans) {
+            if (loan.loanId() == null || loan.loanId().isBlank()) {
+                throw new IllegalArgumentException("Invalid loan id: It must be provided.");
+            }
+            if (loan.product() == null) {
+                throw new IllegalArgumentException("Invalid product: It must be provided.");
+            }
+        }
+
+        LtvTierIndex ltvTierIndex = ltvTierRepositoryPort.findLtvTierIndex();
+        List<ScoredLoan> scoredLoans = loans.stream()
+                .map(loan -> mortgageDomainService.scoreLoan(mortgageRateRepositoryPort
+                        .findByProductAndMaturityPeriod(loan.product(), loan.maturityPeriod())
+                        .orElse(null), loan, ltvTierIndex))
+                .toList();
+        portfolioRepositoryPort.saveAll(scoredLoans);
+
+        int portfolioSize = portfolioRepositoryPort.count();
+        log.info("Portfolio has {} loans", portfolioSize);
+        return portfolioSize;
+    }
+}
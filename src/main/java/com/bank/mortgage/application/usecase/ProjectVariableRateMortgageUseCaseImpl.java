@@ -0,0 +1,87 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MaturityResolution;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.model.ResolvedMortgageRate;
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import com.bank.mortgage.domain.model.VariableRateProjectionCommand;
+import com.bank.mortgage.domain.port.in.ProjectVariableRateMortgageUseCase;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.IntFunction;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class ProjectVariableRateMortgageUseCaseImpl implements ProjectVariableRateMortgageUseCase {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+    private final MortgageDomainService mortgageDomainService;
+
+    @Override
+    public VariableRateProjection projectVariableRateMortgage(VariableRateProjectionCommand command) {
+
+        log.info("Projecting {} variable-rate mortgage for maturity period: {} years, loan value: {}, reset every {} "
+                        + "months", command.product(), command.maturityPeriod(), command.loanValue(),
+                command.resetIntervalMonths());
+
+        if (command.product() == null) {
+            throw new IllegalArgumentException("Invalid product: It must be provided.");
+        }
+        Integer maturityPeriod = command.maturityPeriod();
+        if (maturityPeriod == null || maturityPeriod <= 0
+                || maturityPeriod > MortgageDomainService.MAX_PROJECTION_MATURITY_PERIOD) {
+            throw new IllegalArgumentException("Invalid maturity period: It must be between 1 and 50 years.");
+        }
+
+        BigDecimal spread = command.spread() == null ? BigDecimal.ZERO : command.spread();
+        IntFunction<BigDecimal> indexRateAt = command.ratePath() == null || command.ratePath().isEmpty()
+                ? curveRate(command.product(), maturityPeriod)
+                : pathRate(command.ratePath(), command.resetIntervalMonths());
+
+        return mortgageDomainService.projectVariableRateMortgage(command.loanValue(), maturityPeriod,
+                command.resetIntervalMonths(), month -> {
+                    BigDecimal indexRate = indexRateAt.apply(month);
+                    return indexRate == null || spread.signum() == 0 ? indexRate : indexRate.add(spread);
+                });
+    }
+
+    /**
+     * @return Rate of the reset period of the month in the path, the last one beyond its end
+     */
+    private static IntFunction<BigDecimal> pathRate(List<BigDecimal> ratePath, int resetIntervalMonths) {
+        return month -> ratePath.get(Math.min(month / resetIntervalMonths, ratePath.size() - 1));
+    }
+
+    /**
+     * The rate of a period is the rate of the product for the term remaining at its start, interpolated between the
+     * stored maturity periods. The remaining term is counted in whole years, so the curve is read at most once per
+     * year of the mortgage, whatever the number of resets.
+     */
+    private IntFunction<BigDecimal> curveRate(MortgageProduct product, int maturityPeriod) {
+        BigDecimal[] rateByRemainingYears = new BigDecimal[maturityPeriod + 1];
+        int numPayments = maturityPeriod * 12;
+        return month -> {
+            int remainingYears = (numPayments - month + 11) / 12;
+            BigDecimal rate = rateByRemainingYears[remainingYears];
+            if (rate == null) {
+                ResolvedMortgageRate resolved = mortgageRateRepositoryPort
+                        .findBracketByProductAndMaturityPeriod(product, remainingYears)
+                        .resolve(remainingYears, MaturityResolution.INTERPOLATED);
+                if (resolved == null) {
+                    throw MortgageNotFoundException.forProductAndMaturityPeriod(product, remainingYears);
+                }
+                rate = resolved.mortgageRate().interestRate();
+                rateByRemainingYears[remainingYears] = rate;
+            }
+            return rate;
+        };
+    }
+}
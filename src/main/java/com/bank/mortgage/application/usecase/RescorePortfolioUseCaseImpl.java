@@ -0,0 +1,100 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.LoanScoreChange;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.model.PortfolioRescoreReport;
+import com.bank.mortgage.domain.model.ScoredLoan;
+import com.bank.mortgage.domain.port.in.RescorePortfolioUseCase;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.PortfolioRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Scores again only the buckets of the changed rates: the portfolio is indexed by product and maturity period, so the
+ * cost of a rate change grows with the number of loans of the changed rates, not with the size of the portfolio.
+ * Large buckets are scored in parallel.
+ */
+@Component
+@AllArgsConstructor
+@Slf4j
+public class RescorePortfolioUseCaseImpl implements RescorePortfolioUseCase {
+
+    // Below this size, splitting a bucket between threads costs more than scoring it
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private final LtvTierRepositoryPort ltvTierRepositoryPort;
+    private final PortfolioRepositoryPort portfolioRepositoryPort;
+    @Qualifier("screeningMortgageDomainService")
+    private final MortgageDomainService mortgageDomainService;
+
+    @Override
+    public PortfolioRescoreReport rescorePortfolio(List<MortgageRate> updated, List<MortgageRate> removed) {
+        LtvTierIndex ltvTierIndex = ltvTierRepositoryPort.findLtvTierIndex();
+
+        int loansRescored = 0;
+        List<LoanScoreChange> changedPayments = new ArrayList<>();
+        List<LoanScoreChange> newlyInfeasible = new ArrayList<>();
+
+        for (MortgageRate mortgageRate : updated) {
+            loansRescored += rescoreBucket(mortgageRate, mortgageRate, ltvTierIndex, changedPayments, newlyInfeasible);
+        }
+        // A removed rate leaves its loans without a rate
+        for (MortgageRate mortgageRate : removed) {
+            loansRescored += rescoreBucket(mortgageRate, null, ltvTierIndex, changedPayments, newlyInfeasible);
+        }
+
+        log.info("Portfolio rescored: {} loans, {} changed payments, {} newly infeasible", loansRescored,
+                changedPayments.size(), newlyInfeasible.size());
+        return new PortfolioRescoreReport(loansRescored, List.copyOf(changedPayments), List.copyOf(newlyInfeasible));
+    }
+
+    /**
+     * Score again the loans of the bucket of a rate, adding their changes to the report lists. Loans saved again while
+     * the bucket was scored keep the score they were saved with, and are not reported.
+     *
+     * @return The number of loans scored again
+     */
+    private int rescoreBucket(MortgageRate changedRate, MortgageRate currentRate, LtvTierIndex ltvTierIndex,
+                              List<LoanScoreChange> changedPayments, List<LoanScoreChange> newlyInfeasible) {
+        List<ScoredLoan> bucket = portfolioRepositoryPort.findByProductAndMaturityPeriod(changedRate.product(),
+                changedRate.maturityPeriod());
+        if (bucket.isEmpty()) {
+            return 0;
+        }
+
+        Stream<ScoredLoan> loans = bucket.size() >= PARALLEL_THRESHOLD ? bucket.parallelStream() : bucket.stream();
+        List<ScoredLoan> rescored = loans
+                .map(previous -> mortgageDomainService.scoreLoan(currentRate, previous.loan(), ltvTierIndex))
+                .toList();
+
+        // Only the score of loans unchanged since they were read is stored
+        Set<String> updated = portfolioRepositoryPort.updateScores(rescored).stream()
+                .map(scoredLoan -> scoredLoan.loan().loanId())
+                .collect(Collectors.toSet());
+
+        for (int i = 0; i < bucket.size(); i++) {
+            ScoredLoan previous = bucket.get(i);
+            ScoredLoan current = rescored.get(i);
+            if (!updated.contains(current.loan().loanId())) {
+                continue;
+            }
+            if (previous.feasible() && !current.feasible()) {
+                newlyInfeasible.add(LoanScoreChange.of(previous, current));
+            } else if (previous.monthlyCost().compareTo(current.monthlyCost()) != 0) {
+                changedPayments.add(LoanScoreChange.of(previous, current));
+            }
+        }
+        return updated.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class SearchMortgageRatesUseCaseImpl implements SearchMortgageRatesUseCase {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+
+    @Override
+    public MortgageRatePage searchMortgageRates(MortgageRateQuery query) {
+        log.info("Finding mortgage rates: {}", query);
+        if (query.limit() <= 0) {
+            throw new IllegalArgumentException("Invalid limit: It must be greater than zero.");
+        }
+        MortgageRatePage page = mortgageRateRepositoryPort.findMortgageRates(query);
+        log.info("Found {} mortgage rates", page.rates().size());
+        return page;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.OverpaymentSimulationCommand;
+import com.bank.mortgage.domain.port.in.SimulateOverpaymentsUseCase;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class SimulateOverpaymentsUseCaseImpl implements SimulateOverpaymentsUseCase {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+    private final MortgageDomainService mortgageDomainService;
+
+    @Override
+    public OverpaymentSimulation simulateOverpayments(OverpaymentSimulationCommand command) {
+
+        log.debug("Simulating {} overpayments on {} mortgage for maturity period: {} years, loan value: {}",
+                command.overpayments() == null ? 0 : command.overpayments().size(), command.product(),
+                command.maturityPeriod(), command.loanValue());
+
+        if (command.product() == null) {
+            throw new IllegalArgumentException("Invalid product: It must be provided.");
+        }
+        Integer maturityPeriod = command.maturityPeriod();
+        if (maturityPeriod == null || maturityPeriod <= 0) {
+            throw new IllegalArgumentException("Invalid maturity period: It must be greater than zero.");
+        }
+
+        MortgageRate mortgageRate = mortgageRateRepositoryPort
+                .findByProductAndMaturityPeriod(command.product(), maturityPeriod)
+                .orElseThrow(() -> MortgageNotFoundException.forProductAndMaturityPeriod(command.product(),
+                        maturityPeriod));
+
+        return mortgageDomainService.simulateOverpayments(mortgageRate.interestRate(), maturityPeriod,
+                command.loanValue(), command.strategy(), command.overpayments());
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.mortgage.domain.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents a loan-to-value band and the adjustment it adds to the mortgage rate.
+ *
+ * @param minLtv The lower bound of the band, exclusive. A ratio, 0.6 is 60% of the home value.
+ * @param maxLtv The upper bound of the band, inclusive.
+ * @param rateAdjustment The amount added to the interest rate of the product for loans in the band.
+ */
+public record LtvTier(
+        BigDecimal minLtv,
+        BigDecimal maxLtv,
+        BigDecimal rateAdjustment) {
+}
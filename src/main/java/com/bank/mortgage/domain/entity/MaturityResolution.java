@@ -0,0 +1,23 @@
+package com.bank.mortgage.domain.entity;
+
+/**
+ * Rules to resolve the interest rate of a maturity period that may have no rate of its own.
+ */
+public enum MaturityResolution {
+
+    /**
+     * Only the rate of the maturity period itself
+     */
+    EXACT,
+
+    /**
+     * The rate of the nearest maturity period with a rate. Ties go to the shorter one
+     */
+    NEAREST,
+
+    /**
+     * The rate linearly interpolated between the maturity periods with a rate around it. Outside of them, the rate
+     * of the nearest one
+     */
+    INTERPOLATED
+}
@@ -0,0 +1,22 @@
+package com.bank.mortgage.domain.entity;
+
+/**
+ * Mortgage products offered by the bank. Every product has its own rate curve, one rate per maturity period.
+ */
+public enum MortgageProduct {
+
+    /**
+     * Standard fixed-rate mortgage
+     */
+    FIXED,
+
+    /**
+     * Fixed-rate mortgage with a discount for energy efficient homes
+     */
+    GREEN,
+
+    /**
+     * Fixed-rate mortgage with a discount for first-time buyers
+     */
+    FIRST_TIME_BUYER
+}
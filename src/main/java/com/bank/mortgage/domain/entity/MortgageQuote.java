@@ -0,0 +1,59 @@
+package com.bank.mortgage.domain.entity;
+
+import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Represents a quote: the outcome of a mortgage check, kept so it can be fetched later by its id.
+ *
+ * @param id The unique identifier of the quote.
+ * @param product The mortgage product of the check.
+ * @param maturityPeriod The maturity period of the mortgage in years.
+ * @param interestRate The interest rate applied to the mortgage, including the loan-to-value tier adjustment.
+ * @param income The income of the applicant.
+ * @param loanValue The value of the mortgage loan.
+ * @param homeValue The value of the home.
+ * @param feasible Whether the mortgage is feasible or not.
+ * @param monthlyCost The monthly cost of the mortgage, zero if not feasible.
+ * @param createdAt The timestamp of the check.
+ */
+public record MortgageQuote(
+        UUID id,
+        MortgageProduct product,
+        Integer maturityPeriod,
+        BigDecimal interestRate,
+        BigDecimal income,
+        BigDecimal loanValue,
+        BigDecimal homeValue,
+        boolean feasible,
+        BigDecimal monthlyCost,
+        LocalDateTime createdAt) {
+
+    /**
+     * Create a new quote for a mortgage check, with its amounts and timestamp at the precision of the quote table so a
+     * quote reads the same whether it is served from memory or from the database
+     *
+     * @param mortgageRate,      mortgage rate used in the check
+     * @param mortgageApplicant, applicant data of the check
+     * @param result,            outcome of the check
+     * @return MortgageQuote, with a random id
+     */
+    public static MortgageQuote of(MortgageRate mortgageRate, MortgageApplicant mortgageApplicant,
+                                   MortgageFeasibilityResult result) {
+        return new MortgageQuote(UUID.randomUUID(), mortgageRate.product(), mortgageRate.maturityPeriod(),
+                scaled(result.getInterestRate(), 4),
+                scaled(mortgageApplicant.income(), 4), scaled(mortgageApplicant.loanValue(), 4),
+                scaled(mortgageApplicant.homeValue(), 4),
+                result.isFeasible(), scaled(result.getMonthlyCost(), 2),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private static BigDecimal scaled(BigDecimal value, int scale) {
+        return value == null ? null : value.setScale(scale, RoundingMode.HALF_UP);
+    }
+}
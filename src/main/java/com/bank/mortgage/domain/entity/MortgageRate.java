@@ -6,12 +6,47 @@ import java.time.LocalDateTime;
 /**
  * Represents a mortgage rate.
  *
+ * @param product The mortgage product the rate belongs to.
  * @param maturityPeriod The maturity period of the mortgage in years.
  * @param interestRate The interest rate applied to the mortgage.
  * @param lastUpdate The timestamp of the last update of the mortgage.
+ * @param stale True if the rate comes from the last known good copy because the rate source is not available.
  */
 public record MortgageRate(
+        MortgageProduct product,
         Integer maturityPeriod,
         BigDecimal interestRate,
-        LocalDateTime lastUpdate) {
+        LocalDateTime lastUpdate,
+        boolean stale) {
+
+    public MortgageRate(MortgageProduct product, Integer maturityPeriod, BigDecimal interestRate,
+                        LocalDateTime lastUpdate) {
+        this(product, maturityPeriod, interestRate, lastUpdate, false);
+    }
+
+    /**
+     * Pack a product and a maturity period in a single primitive key. Keys sort by product, then by
+     * maturity period (maturity periods are positive).
+     *
+     * @param product,        mortgage product
+     * @param maturityPeriod, maturity period in years
+     * @return The key of the rate of the product for the maturity period
+     */
+    public static long key(MortgageProduct product, int maturityPeriod) {
+        return ((long) product.ordinal() << 32) | (maturityPeriod & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return The key of this rate, see {@link #key(MortgageProduct, int)}
+     */
+    public long key() {
+        return key(product, maturityPeriod);
+    }
+
+    /**
+     * @return A copy of this rate flagged as stale
+     */
+    public MortgageRate asStale() {
+        return stale ? this : new MortgageRate(product, maturityPeriod, interestRate, lastUpdate, true);
+    }
 }
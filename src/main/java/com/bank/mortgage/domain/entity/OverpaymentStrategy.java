@@ -0,0 +1,17 @@
+package com.bank.mortgage.domain.entity;
+
+/**
+ * What an overpayment changes in a fixed-rate mortgage.
+ */
+public enum OverpaymentStrategy {
+
+    /**
+     * The monthly cost stays the same and the mortgage is repaid earlier
+     */
+    REDUCE_TERM,
+
+    /**
+     * The term stays the same and the monthly cost is recalculated after every overpayment
+     */
+    REDUCE_PAYMENT
+}
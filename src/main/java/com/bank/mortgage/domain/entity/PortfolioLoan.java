@@ -0,0 +1,36 @@
+package com.bank.mortgage.domain.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * A loan of the stored portfolio, scored again whenever the rate of its product and maturity period changes.
+ *
+ * @param loanId         The id of the loan in the portfolio.
+ * @param product        The mortgage product of the loan.
+ * @param maturityPeriod The maturity period of the loan in years.
+ * @param income         The annual income of the borrower.
+ * @param loanValue      The value of the loan.
+ * @param homeValue      The value of the home.
+ */
+public record PortfolioLoan(
+        String loanId,
+        MortgageProduct product,
+        int maturityPeriod,
+        BigDecimal income,
+        BigDecimal loanValue,
+        BigDecimal homeValue) {
+
+    /**
+     * @return The key of the rate the loan is priced with, see {@link MortgageRate#key(MortgageProduct, int)}
+     */
+    public long rateKey() {
+        return MortgageRate.key(product, maturityPeriod);
+    }
+
+    /**
+     * @return The borrower as a mortgage applicant
+     */
+    public MortgageApplicant toApplicant() {
+        return new MortgageApplicant(income, loanValue, homeValue);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.mortgage.domain.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a mortgage feasibility check, from the request validation to the stored quote.
+ * <p>
+ * Created and begun on every check, but only filled in and committed when a recording enables it, so a check pays a
+ * timestamp when no recording is running.
+ */
+@Name("com.bank.mortgage.MortgageCheck")
+@Label("Mortgage Check")
+@Category({"Mortgage Service", "Mortgage"})
+@Description("A mortgage feasibility check, from the request validation to the stored quote")
+@StackTrace(false)
+public class MortgageCheckEvent extends Event {
+
+    public static final String FEASIBLE = "FEASIBLE";
+    public static final String NOT_FEASIBLE = "NOT_FEASIBLE";
+    public static final String NO_RATE = "NO_RATE";
+    public static final String INVALID = "INVALID";
+    public static final String ERROR = "ERROR";
+
+    @Label("Product")
+    public String product;
+
+    @Label("Maturity Period")
+    @Description("The requested maturity period in years, 0 if missing")
+    public int maturityPeriod;
+
+    @Label("Outcome")
+    @Description("FEASIBLE, NOT_FEASIBLE, NO_RATE, INVALID or ERROR")
+    public String outcome;
+
+    /**
+     * End the event and commit it if a recording enables it
+     */
+    public void complete(String product, Integer maturityPeriod, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.product = product;
+            this.maturityPeriod = maturityPeriod == null ? 0 : maturityPeriod;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
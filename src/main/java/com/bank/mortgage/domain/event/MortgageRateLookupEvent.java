@@ -0,0 +1,53 @@
+package com.bank.mortgage.domain.event;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a single rate lookup in one of the rate repositories. A lookup through the decorated
+ * repository records an event per layer it reaches, each one with its source.
+ */
+@Name("com.bank.mortgage.MortgageRateLookup")
+@Label("Mortgage Rate Lookup")
+@Category({"Mortgage Service", "Mortgage Rates"})
+@Description("A lookup of the rate of a product and maturity period")
+@StackTrace(false)
+public class MortgageRateLookupEvent extends Event {
+
+    public static final String INDEX = "index";
+    public static final String DATABASE = "database";
+    public static final String LAST_KNOWN = "last-known";
+
+    @Label("Product")
+    public String product;
+
+    @Label("Maturity Period")
+    public int maturityPeriod;
+
+    @Label("Hit")
+    @Description("Whether a rate was found")
+    public boolean hit;
+
+    @Label("Source")
+    @Description("index, database or last-known, the copy served while the database is unavailable")
+    public String source;
+
+    /**
+     * End the event and commit it if a recording enables it
+     */
+    public void complete(MortgageProduct product, Integer maturityPeriod, boolean hit, String source) {
+        end();
+        if (shouldCommit()) {
+            this.product = product == null ? null : product.name();
+            this.maturityPeriod = maturityPeriod == null ? 0 : maturityPeriod;
+            this.hit = hit;
+            this.source = source;
+            commit();
+        }
+    }
+}
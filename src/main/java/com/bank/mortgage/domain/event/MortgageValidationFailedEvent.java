@@ -0,0 +1,35 @@
+package com.bank.mortgage.domain.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an input rejected by validation. Validation failures are preallocated, stackless
+ * exceptions, so this event is the only trace of where and how often they happen.
+ */
+@Name("com.bank.mortgage.MortgageValidationFailed")
+@Label("Mortgage Validation Failed")
+@Category({"Mortgage Service", "Mortgage"})
+@Description("An input rejected by the mortgage validation rules")
+@StackTrace(false)
+public class MortgageValidationFailedEvent extends Event {
+
+    @Label("Message")
+    @Description("The validation message returned to the client")
+    public String message;
+
+    /**
+     * Commit an instant event with the failure if a recording enables it
+     */
+    public static void emit(String message) {
+        MortgageValidationFailedEvent event = new MortgageValidationFailedEvent();
+        if (event.shouldCommit()) {
+            event.message = message;
+            event.commit();
+        }
+    }
+}
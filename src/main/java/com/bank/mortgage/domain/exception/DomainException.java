@@ -9,4 +9,13 @@ public class DomainException extends RuntimeException {
     public DomainException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Creates an exception without stack trace nor suppressed exceptions.
+     * Meant for expected business failures, whose stack trace is always the same and carries no information, so
+     * they can be thrown at the cost of a normal return, or preallocated and shared.
+     */
+    protected DomainException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -2,6 +2,28 @@ package com.bank.mortgage.domain.exception;
 
 public class MortgageDomainException extends DomainException {
 
+    // Preallocated, stackless instances for the validation failures. They are immutable, so they can be shared
+    public static final MortgageDomainException INVALID_INCOME =
+            new MortgageDomainException("Invalid income: It must be greater than zero.", false);
+    public static final MortgageDomainException INVALID_LOAN_VALUE =
+            new MortgageDomainException("Invalid loan value: It must be greater than zero.", false);
+    public static final MortgageDomainException INVALID_HOME_VALUE =
+            new MortgageDomainException("Invalid home value: It must be greater than zero.", false);
+    public static final MortgageDomainException INVALID_MATURITY_PERIOD =
+            new MortgageDomainException("Invalid maturity period: It must be greater than zero.", false);
+    public static final MortgageDomainException INVALID_PROJECTION_MATURITY_PERIOD =
+            new MortgageDomainException("Invalid maturity period: It must be between 1 and 50 years.", false);
+    public static final MortgageDomainException INVALID_RESET_INTERVAL =
+            new MortgageDomainException("Invalid reset interval: It must be greater than zero.", false);
+    public static final MortgageDomainException INVALID_INTEREST_RATE =
+            new MortgageDomainException("Invalid interest rate: It must be zero or greater.", false);
+    public static final MortgageDomainException INVALID_OVERPAYMENT =
+            new MortgageDomainException("Invalid overpayment: It must be a positive amount within the mortgage term.",
+                    false);
+    public static final MortgageDomainException INVALID_FEES =
+            new MortgageDomainException("Invalid fees: They must be zero or greater, and lower than the loan value.",
+                    false);
+
     public MortgageDomainException(String message) {
         super(message);
     }
@@ -9,4 +31,8 @@ public class MortgageDomainException extends DomainException {
     public MortgageDomainException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+
+    private MortgageDomainException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+}
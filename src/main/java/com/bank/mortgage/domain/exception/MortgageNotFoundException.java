@@ -1,5 +1,7 @@
 package com.bank.mortgage.domain.exception;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
 public class MortgageNotFoundException extends DomainException {
 
     public MortgageNotFoundException(String message) {
@@ -9,4 +11,22 @@ public class MortgageNotFoundException extends DomainException {
     public MortgageNotFoundException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+
+    private MortgageNotFoundException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * Creates a stackless exception for a product and maturity period without mortgage rate. Unknown maturities are a
+     * frequent, expected outcome, so they shouldn't pay for a stack trace
+     *
+     * @param product,        mortgage product
+     * @param maturityPeriod, maturity period in years
+     * @return MortgageNotFoundException
+     */
+    public static MortgageNotFoundException forProductAndMaturityPeriod(MortgageProduct product,
+                                                                        Integer maturityPeriod) {
+        return new MortgageNotFoundException("Could not find " + product + " mortgage rate for maturity period of "
+                + maturityPeriod + " years", false);
+    }
+}
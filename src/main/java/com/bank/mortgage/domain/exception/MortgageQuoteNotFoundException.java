@@ -0,0 +1,24 @@
+package com.bank.mortgage.domain.exception;
+
+import java.util.UUID;
+
+public class MortgageQuoteNotFoundException extends DomainException {
+
+    public MortgageQuoteNotFoundException(String message) {
+        super(message);
+    }
+
+    private MortgageQuoteNotFoundException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * Creates a stackless exception for an unknown quote id
+     *
+     * @param quoteId, id of the quote
+     * @return MortgageQuoteNotFoundException
+     */
+    public static MortgageQuoteNotFoundException forId(UUID quoteId) {
+        return new MortgageQuoteNotFoundException("Could not find mortgage quote " + quoteId, false);
+    }
+}
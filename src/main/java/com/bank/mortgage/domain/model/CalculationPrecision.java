@@ -0,0 +1,49 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.MathContext;
+
+/**
+ * Numeric precision of the mortgage calculations.
+ * <p>
+ * Monthly costs are rounded to cents, so the precision only shows where the digits lost change the rounding. The
+ * maximum errors against DECIMAL128 are measured by MortgageCalculationAccuracyTest on loans from a cent to
+ * 10^12, rates up to 25% and every maturity period from 1 to 40 years, and the cost of each mode by the performance
+ * profile (see README).
+ */
+public enum CalculationPrecision {
+
+    /**
+     * 34 significant digits in every division and power. The reference, for regulatory quotes
+     */
+    DECIMAL128(MathContext.DECIMAL128),
+
+    /**
+     * 16 significant digits in every division and power. (1+i)^n - 1 loses digits to cancellation at low rates, so
+     * the monthly cost is up to 30 cents away from DECIMAL128 over 1 year, 2 cents over 2 to 4 years and a cent over
+     * 5 to 40 years
+     */
+    DECIMAL64(MathContext.DECIMAL64),
+
+    /**
+     * The monthly cost on doubles, for high-volume pre-screening. A cost too close to half a cent for a double to
+     * round it is calculated in DECIMAL128 instead, so it matches DECIMAL128 to the cent for any maturity. The other
+     * calculations fall back to DECIMAL64: the monthly costs of the refinance options have its errors, and the
+     * balances rolled forward between the resets of a variable-rate projection carry theirs to the next periods, so
+     * the last monthly cost of a projection is up to 15 cents away from DECIMAL128 over 2 years, 10 cents over 3 to 5
+     * years and 5 cents over 6 to 40 years
+     */
+    DOUBLE(MathContext.DECIMAL64);
+
+    private final MathContext mathContext;
+
+    CalculationPrecision(MathContext mathContext) {
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * @return Precision of the BigDecimal calculations
+     */
+    public MathContext mathContext() {
+        return mathContext;
+    }
+}
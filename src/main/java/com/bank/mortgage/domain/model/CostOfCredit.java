@@ -0,0 +1,17 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * The cost of a mortgage over its whole term, fees included.
+ *
+ * @param apr               The annual percentage rate: the effective annual rate at which the monthly payments
+ *                          repay the loan net of fees. A ratio, 0.05 is 5%.
+ * @param totalInterest     The sum of the monthly payments minus the loan value.
+ * @param totalCostOfCredit The total interest plus the fees.
+ */
+public record CostOfCredit(
+        BigDecimal apr,
+        BigDecimal totalInterest,
+        BigDecimal totalCostOfCredit) {
+}
@@ -0,0 +1,31 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+
+/**
+ * A change in the score of a portfolio loan caused by a rate change.
+ *
+ * @param loanId              The id of the loan in the portfolio.
+ * @param product             The mortgage product of the loan.
+ * @param maturityPeriod      The maturity period of the loan in years.
+ * @param previousFeasible    The feasibility before the rate change.
+ * @param feasible            The feasibility after the rate change.
+ * @param previousMonthlyCost The monthly cost before the rate change.
+ * @param monthlyCost         The monthly cost after the rate change.
+ */
+public record LoanScoreChange(
+        String loanId,
+        MortgageProduct product,
+        int maturityPeriod,
+        boolean previousFeasible,
+        boolean feasible,
+        BigDecimal previousMonthlyCost,
+        BigDecimal monthlyCost) {
+
+    public static LoanScoreChange of(ScoredLoan previous, ScoredLoan current) {
+        return new LoanScoreChange(current.loan().loanId(), current.loan().product(), current.loan().maturityPeriod(),
+                previous.feasible(), current.feasible(), previous.monthlyCost(), current.monthlyCost());
+    }
+}
@@ -0,0 +1,94 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.LtvTier;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable interval index of the loan-to-value tiers.
+ * <p>
+ * Bands are kept sorted by upper bound in primitive arrays, so resolving the band of a loan-to-value ratio is a
+ * binary search without boxing nor allocation. Bands must not overlap, gaps between them are allowed.
+ */
+public final class LtvTierIndex {
+
+    /**
+     * No tiers: every loan-to-value ratio is priced at the product rate
+     */
+    public static final LtvTierIndex EMPTY = new LtvTierIndex(new LtvTier[0]);
+
+    private final double[] minLtv;
+    private final double[] maxLtv;
+    private final double[] rateAdjustment;
+    private final LtvTier[] tiers;
+
+    private LtvTierIndex(LtvTier[] tiers) {
+        this.tiers = tiers;
+        this.minLtv = new double[tiers.length];
+        this.maxLtv = new double[tiers.length];
+        this.rateAdjustment = new double[tiers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            minLtv[i] = tiers[i].minLtv().doubleValue();
+            maxLtv[i] = tiers[i].maxLtv().doubleValue();
+            rateAdjustment[i] = tiers[i].rateAdjustment().doubleValue();
+        }
+    }
+
+    /**
+     * Build an index of the given tiers
+     *
+     * @param ltvTiers, tiers in any order
+     * @return LtvTierIndex
+     * @throws IllegalArgumentException if a band is empty or two bands overlap
+     */
+    public static LtvTierIndex of(List<LtvTier> ltvTiers) {
+        LtvTier[] sorted = ltvTiers.stream()
+                .sorted(Comparator.comparing(LtvTier::maxLtv))
+                .toArray(LtvTier[]::new);
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i].minLtv().compareTo(sorted[i].maxLtv()) >= 0) {
+                throw new IllegalArgumentException("Invalid LTV tier: " + sorted[i]);
+            }
+            if (i > 0 && sorted[i].minLtv().compareTo(sorted[i - 1].maxLtv()) < 0) {
+                throw new IllegalArgumentException("Overlapping LTV tiers: " + sorted[i - 1] + " and " + sorted[i]);
+            }
+        }
+        return new LtvTierIndex(sorted);
+    }
+
+    /**
+     * @param ltv, loan-to-value ratio
+     * @return The tier whose band contains the ratio, null if there is none
+     */
+    public LtvTier find(double ltv) {
+        int index = indexOf(ltv);
+        return index < 0 ? null : tiers[index];
+    }
+
+    /**
+     * @param ltv, loan-to-value ratio
+     * @return The rate adjustment of the tier whose band contains the ratio, 0 if there is none
+     */
+    public double rateAdjustment(double ltv) {
+        int index = indexOf(ltv);
+        return index < 0 ? 0 : rateAdjustment[index];
+    }
+
+    private int indexOf(double ltv) {
+        int index = Arrays.binarySearch(maxLtv, ltv);
+        if (index < 0) {
+            // Insertion point: first band whose upper bound is greater than the ratio
+            index = -index - 1;
+            if (index == maxLtv.length) {
+                return -1;
+            }
+        }
+        return minLtv[index] < ltv ? index : -1;
+    }
+
+    public int size() {
+        return tiers.length;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MaturityResolution;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+
+/**
+ * Input of a mortgage check.
+ *
+ * @param product        The mortgage product whose rates apply.
+ * @param maturityPeriod The maturity period of the mortgage in years.
+ * @param income         The income of the applicant.
+ * @param loanValue      The value of the mortgage loan.
+ * @param homeValue      The value of the home.
+ * @param maturityResolution The rule to resolve the rate if the maturity period has no rate of its own.
+ * @param fees           The fees charged to the applicant up front, included in the APR.
+ * @param includeApr     True to calculate the APR and the total cost of credit of a feasible mortgage.
+ * @param dryRun         True for a check that is not a real application, such as the startup warm-up: the decision is
+ *                       neither audited nor issued as a quote.
+ */
+public record MortgageCheckCommand(
+        MortgageProduct product,
+        Integer maturityPeriod,
+        BigDecimal income,
+        BigDecimal loanValue,
+        BigDecimal homeValue,
+        MaturityResolution maturityResolution,
+        BigDecimal fees,
+        boolean includeApr,
+        boolean dryRun) {
+
+    public MortgageCheckCommand(MortgageProduct product, Integer maturityPeriod, BigDecimal income,
+                                BigDecimal loanValue, BigDecimal homeValue, MaturityResolution maturityResolution,
+                                BigDecimal fees, boolean includeApr) {
+        this(product, maturityPeriod, income, loanValue, homeValue, maturityResolution, fees, includeApr, false);
+    }
+
+    public MortgageCheckCommand(MortgageProduct product, Integer maturityPeriod, BigDecimal income,
+                                BigDecimal loanValue, BigDecimal homeValue) {
+        this(product, maturityPeriod, income, loanValue, homeValue, MaturityResolution.EXACT, BigDecimal.ZERO,
+                false);
+    }
+}
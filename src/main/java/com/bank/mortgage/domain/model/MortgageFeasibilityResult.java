@@ -1,6 +1,9 @@
 package com.bank.mortgage.domain.model;
 
+import com.bank.mortgage.domain.entity.MaturityResolution;
+
 import java.math.BigDecimal;
+import java.util.UUID;
 
 /**
  * Represents the result of a mortgage feasibility check.
@@ -17,6 +20,31 @@ public class MortgageFeasibilityResult {
      */
     private final BigDecimal monthlyCost;
 
+    /**
+     * The interest rate applied to the mortgage: the product rate plus the adjustment of its loan-to-value tier.
+     */
+    private final BigDecimal interestRate;
+
+    /**
+     * The rule that resolved the interest rate of the maturity period.
+     */
+    private final MaturityResolution maturityResolution;
+
+    /**
+     * The APR and total cost of credit of the mortgage, if requested and feasible.
+     */
+    private final CostOfCredit costOfCredit;
+
+    /**
+     * Indicates whether the result was calculated with a stale mortgage rate, because the rate source was not available.
+     */
+    private final boolean staleRate;
+
+    /**
+     * The id of the quote issued for this check, to fetch it later.
+     */
+    private final UUID quoteId;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -24,6 +52,11 @@ public class MortgageFeasibilityResult {
     private MortgageFeasibilityResult(Builder builder) {
         this.feasible = builder.feasible;
         this.monthlyCost = builder.monthlyCost;
+        this.interestRate = builder.interestRate;
+        this.maturityResolution = builder.maturityResolution;
+        this.costOfCredit = builder.costOfCredit;
+        this.staleRate = builder.staleRate;
+        this.quoteId = builder.quoteId;
     }
 
     public boolean isFeasible() {
@@ -34,12 +67,59 @@ public class MortgageFeasibilityResult {
         return monthlyCost;
     }
 
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public MaturityResolution getMaturityResolution() {
+        return maturityResolution;
+    }
+
+    public CostOfCredit getCostOfCredit() {
+        return costOfCredit;
+    }
+
+    public boolean isStaleRate() {
+        return staleRate;
+    }
+
+    public UUID getQuoteId() {
+        return quoteId;
+    }
+
+    /**
+     * @param quoteId, id of the quote issued for this check
+     * @return A copy of this result with the given quote id
+     */
+    public MortgageFeasibilityResult withQuoteId(UUID quoteId) {
+        return toBuilder().quoteId(quoteId).build();
+    }
+
+    /**
+     * @return A builder initialized with the values of this result, to build a modified copy
+     */
+    public Builder toBuilder() {
+        return builder()
+                .feasible(feasible)
+                .monthlyCost(monthlyCost)
+                .interestRate(interestRate)
+                .maturityResolution(maturityResolution)
+                .costOfCredit(costOfCredit)
+                .staleRate(staleRate)
+                .quoteId(quoteId);
+    }
+
     /**
      * Builder class for constructing MortgageFeasibilityResult instances.
      */
     public static final class Builder {
         private boolean feasible;
         private BigDecimal monthlyCost;
+        private BigDecimal interestRate;
+        private MaturityResolution maturityResolution;
+        private CostOfCredit costOfCredit;
+        private boolean staleRate;
+        private UUID quoteId;
 
         private Builder() {
         }
@@ -54,6 +134,31 @@ public class MortgageFeasibilityResult {
             return this;
         }
 
+        public Builder interestRate(BigDecimal interestRate) {
+            this.interestRate = interestRate;
+            return this;
+        }
+
+        public Builder maturityResolution(MaturityResolution maturityResolution) {
+            this.maturityResolution = maturityResolution;
+            return this;
+        }
+
+        public Builder costOfCredit(CostOfCredit costOfCredit) {
+            this.costOfCredit = costOfCredit;
+            return this;
+        }
+
+        public Builder staleRate(boolean staleRate) {
+            this.staleRate = staleRate;
+            return this;
+        }
+
+        public Builder quoteId(UUID quoteId) {
+            this.quoteId = quoteId;
+            return this;
+        }
+
         public MortgageFeasibilityResult build() {
             return new MortgageFeasibilityResult(this);
         }
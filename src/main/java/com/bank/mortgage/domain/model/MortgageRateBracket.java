@@ -0,0 +1,97 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MaturityResolution;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * The rates of a product around a maturity period. Both are the same rate if the maturity period has one.
+ *
+ * @param lower The rate of the longest maturity period up to the requested one, null if there is none.
+ * @param upper The rate of the shortest maturity period from the requested one, null if there is none.
+ */
+public record MortgageRateBracket(
+        MortgageRate lower,
+        MortgageRate upper) {
+
+    // Rates are stored with 4 decimals
+    private static final int RATE_SCALE = 4;
+
+    /**
+     * Find the rates of a product around a maturity period
+     *
+     * @param rates,          rates in any order
+     * @param product,        mortgage product
+     * @param maturityPeriod, maturity period in years
+     * @return MortgageRateBracket
+     */
+    public static MortgageRateBracket of(Iterable<MortgageRate> rates, MortgageProduct product, int maturityPeriod) {
+        MortgageRate lower = null;
+        MortgageRate upper = null;
+        for (MortgageRate rate : rates) {
+            if (rate.product() != product) {
+                continue;
+            }
+            int maturity = rate.maturityPeriod();
+            if (maturity <= maturityPeriod && (lower == null || maturity > lower.maturityPeriod())) {
+                lower = rate;
+            }
+            if (maturity >= maturityPeriod && (upper == null || maturity < upper.maturityPeriod())) {
+                upper = rate;
+            }
+        }
+        return new MortgageRateBracket(lower, upper);
+    }
+
+    /**
+     * Resolve the rate of a maturity period
+     *
+     * @param maturityPeriod, maturity period in years, the one the bracket was found for
+     * @param resolution,     rule to apply if the maturity period has no rate of its own
+     * @return The rate for the maturity period and the rule that resolved it, null if there is none
+     */
+    public ResolvedMortgageRate resolve(int maturityPeriod, MaturityResolution resolution) {
+        if (lower != null && lower.maturityPeriod() == maturityPeriod) {
+            return new ResolvedMortgageRate(lower, MaturityResolution.EXACT);
+        }
+        if (resolution == MaturityResolution.EXACT || (lower == null && upper == null)) {
+            return null;
+        }
+        if (resolution == MaturityResolution.INTERPOLATED && lower != null && upper != null) {
+            return new ResolvedMortgageRate(interpolate(maturityPeriod), MaturityResolution.INTERPOLATED);
+        }
+        return new ResolvedMortgageRate(forMaturityPeriod(nearest(maturityPeriod), maturityPeriod),
+                MaturityResolution.NEAREST);
+    }
+
+    private MortgageRate nearest(int maturityPeriod) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        return maturityPeriod - lower.maturityPeriod() <= upper.maturityPeriod() - maturityPeriod ? lower : upper;
+    }
+
+    private MortgageRate interpolate(int maturityPeriod) {
+        // lower + (upper - lower) * (maturity - lower maturity) / (upper maturity - lower maturity)
+        BigDecimal weight = BigDecimal.valueOf(maturityPeriod - lower.maturityPeriod())
+                .divide(BigDecimal.valueOf(upper.maturityPeriod() - lower.maturityPeriod()), MathContext.DECIMAL64);
+        BigDecimal interestRate = lower.interestRate()
+                .add(upper.interestRate().subtract(lower.interestRate()).multiply(weight))
+                .setScale(RATE_SCALE, RoundingMode.HALF_UP);
+        // As old and as stale as the oldest of both
+        return new MortgageRate(lower.product(), maturityPeriod, interestRate,
+                lower.lastUpdate().isBefore(upper.lastUpdate()) ? lower.lastUpdate() : upper.lastUpdate(),
+                lower.stale() || upper.stale());
+    }
+
+    private static MortgageRate forMaturityPeriod(MortgageRate rate, int maturityPeriod) {
+        return new MortgageRate(rate.product(), maturityPeriod, rate.interestRate(), rate.lastUpdate(), rate.stale());
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+import java.util.List;
+
+/**
+ * A page of mortgage rates, sorted by maturity period.
+ *
+ * @param rates   The rates of the page.
+ * @param hasNext True if more rates match the query after this page.
+ */
+public record MortgageRatePage(
+        List<MortgageRate> rates,
+        boolean hasNext) {
+
+    /**
+     * Build a page from up to limit + 1 rates, the extra one only telling there is a next page
+     *
+     * @param rates, rates sorted by maturity period
+     * @param limit, maximum number of rates in the page
+     * @return MortgageRatePage
+     */
+    public static MortgageRatePage of(List<MortgageRate> rates, int limit) {
+        return rates.size() > limit
+                ? new MortgageRatePage(List.copyOf(rates.subList(0, limit)), true)
+                : new MortgageRatePage(List.copyOf(rates), false);
+    }
+
+    /**
+     * @return Maturity period to start the next page after, null if this is the last page
+     */
+    public Integer lastMaturityPeriod() {
+        return hasNext ? rates.get(rates.size() - 1).maturityPeriod() : null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and position of a page of mortgage rates of a product. Pages are sorted by maturity period, and a page
+ * starts after the last maturity period of the previous one (keyset pagination), so reading a page costs the same
+ * wherever it is.
+ *
+ * @param product             Mortgage product of the rates.
+ * @param minMaturityPeriod   Minimum maturity period in years, inclusive. Null for no minimum.
+ * @param maxMaturityPeriod   Maximum maturity period in years, inclusive. Null for no maximum.
+ * @param updatedSince        Only rates updated at or after this timestamp. Null for all.
+ * @param afterMaturityPeriod Last maturity period of the previous page. Null for the first page.
+ * @param limit               Maximum number of rates in the page.
+ */
+public record MortgageRateQuery(
+        MortgageProduct product,
+        Integer minMaturityPeriod,
+        Integer maxMaturityPeriod,
+        LocalDateTime updatedSince,
+        Integer afterMaturityPeriod,
+        int limit) {
+
+    /**
+     * @return First maturity period the page can contain, combining the minimum and the position
+     */
+    public int fromMaturityPeriod() {
+        int from = minMaturityPeriod != null ? minMaturityPeriod : Integer.MIN_VALUE;
+        if (afterMaturityPeriod != null && afterMaturityPeriod >= from) {
+            from = afterMaturityPeriod + 1;
+        }
+        return from;
+    }
+
+    /**
+     * @return Last maturity period the page can contain
+     */
+    public int toMaturityPeriod() {
+        return maxMaturityPeriod != null ? maxMaturityPeriod : Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param mortgageRate, mortgage rate
+     * @return true if the rate passes the filters and is after the position of the page
+     */
+    public boolean matches(MortgageRate mortgageRate) {
+        int maturityPeriod = mortgageRate.maturityPeriod();
+        return mortgageRate.product() == product
+                && maturityPeriod >= fromMaturityPeriod()
+                && maturityPeriod <= toMaturityPeriod()
+                && (updatedSince == null || !mortgageRate.lastUpdate().isBefore(updatedSince));
+    }
+}
@@ -0,0 +1,18 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A one-off or recurring overpayment, paid on top of the monthly cost.
+ *
+ * @param month          The month of the first overpayment, 1 for the first monthly payment.
+ * @param amount         The amount of every overpayment.
+ * @param intervalMonths The number of months between overpayments, 0 for a one-off overpayment.
+ * @param endMonth       The last month an overpayment can be made, null until the end of the mortgage.
+ */
+public record Overpayment(
+        int month,
+        BigDecimal amount,
+        int intervalMonths,
+        Integer endMonth) {
+}
@@ -0,0 +1,26 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * The outcome of a mortgage with overpayments, compared with the same mortgage without them.
+ *
+ * @param interestRate     The annual interest rate of the mortgage.
+ * @param monthlyCost      The monthly cost without overpayments.
+ * @param finalMonthlyCost The monthly cost after the last overpayment.
+ * @param termMonths       The number of monthly payments until the mortgage is repaid.
+ * @param monthsSaved      The number of monthly payments saved.
+ * @param totalOverpaid    The sum of the overpayments made.
+ * @param totalInterest    The interest paid with the overpayments.
+ * @param interestSaved    The interest saved by the overpayments.
+ */
+public record OverpaymentSimulation(
+        BigDecimal interestRate,
+        BigDecimal monthlyCost,
+        BigDecimal finalMonthlyCost,
+        int termMonths,
+        int monthsSaved,
+        BigDecimal totalOverpaid,
+        BigDecimal totalInterest,
+        BigDecimal interestSaved) {
+}
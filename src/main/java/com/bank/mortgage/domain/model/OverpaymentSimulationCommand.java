@@ -0,0 +1,24 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.OverpaymentStrategy;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Input of an overpayment simulation.
+ *
+ * @param product        The mortgage product whose rate applies.
+ * @param maturityPeriod The maturity period of the mortgage in years.
+ * @param loanValue      The value of the mortgage loan.
+ * @param strategy       What the overpayments change: the term or the monthly cost.
+ * @param overpayments   The one-off and recurring overpayments.
+ */
+public record OverpaymentSimulationCommand(
+        MortgageProduct product,
+        Integer maturityPeriod,
+        BigDecimal loanValue,
+        OverpaymentStrategy strategy,
+        List<Overpayment> overpayments) {
+}
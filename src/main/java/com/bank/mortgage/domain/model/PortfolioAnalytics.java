@@ -0,0 +1,26 @@
+package com.bank.mortgage.domain.model;
+
+/**
+ * Totals of a portfolio at the current rates. Totals of separate chunks are combined with {@link #combine}.
+ *
+ * @param loans            The number of loans.
+ * @param feasibleLoans    The number of loans feasible at the current rates.
+ * @param unpricedLoans    The number of loans without a current rate for their product and maturity period.
+ * @param totalLoanValue   The sum of the loan values.
+ * @param totalMonthlyCost The sum of the monthly costs of the feasible loans.
+ */
+public record PortfolioAnalytics(
+        long loans,
+        long feasibleLoans,
+        long unpricedLoans,
+        double totalLoanValue,
+        double totalMonthlyCost) {
+
+    public static final PortfolioAnalytics EMPTY = new PortfolioAnalytics(0, 0, 0, 0, 0);
+
+    public PortfolioAnalytics combine(PortfolioAnalytics other) {
+        return new PortfolioAnalytics(loans + other.loans, feasibleLoans + other.feasibleLoans,
+                unpricedLoans + other.unpricedLoans, totalLoanValue + other.totalLoanValue,
+                totalMonthlyCost + other.totalMonthlyCost);
+    }
+}
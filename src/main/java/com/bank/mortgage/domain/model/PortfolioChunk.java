@@ -0,0 +1,24 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+/**
+ * A range of rows of a columnar portfolio, read as primitives without materializing the loans.
+ * Rows are numbered from 0 to {@link #size()} - 1 within the chunk. A chunk is only valid during the scan it is
+ * given to.
+ */
+public interface PortfolioChunk {
+
+    int size();
+
+    MortgageProduct product(int row);
+
+    int maturityPeriod(int row);
+
+    double income(int row);
+
+    double loanValue(int row);
+
+    double homeValue(int row);
+
+}
@@ -0,0 +1,50 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The interest rate of every product and maturity period in a primitive table, so the rate of a loan is read without
+ * boxing nor hashing during a portfolio scan.
+ */
+public final class PortfolioRateTable {
+
+    // Product ordinal -> maturity period -> interest rate, NaN if there is no rate
+    private final double[][] interestRates;
+
+    private PortfolioRateTable(double[][] interestRates) {
+        this.interestRates = interestRates;
+    }
+
+    /**
+     * Build a table of the given rates
+     *
+     * @param mortgageRates, rates in any order
+     * @return PortfolioRateTable
+     */
+    public static PortfolioRateTable of(List<MortgageRate> mortgageRates) {
+        int maxMaturityPeriod = mortgageRates.stream().mapToInt(MortgageRate::maturityPeriod).max().orElse(0);
+        double[][] interestRates = new double[MortgageProduct.values().length][maxMaturityPeriod + 1];
+        for (double[] productRates : interestRates) {
+            Arrays.fill(productRates, Double.NaN);
+        }
+        for (MortgageRate mortgageRate : mortgageRates) {
+            interestRates[mortgageRate.product().ordinal()][mortgageRate.maturityPeriod()] =
+                    mortgageRate.interestRate().doubleValue();
+        }
+        return new PortfolioRateTable(interestRates);
+    }
+
+    /**
+     * @param product,        mortgage product
+     * @param maturityPeriod, maturity period in years
+     * @return The interest rate of the product for the maturity period, NaN if there is none
+     */
+    public double interestRate(MortgageProduct product, int maturityPeriod) {
+        double[] productRates = interestRates[product.ordinal()];
+        return maturityPeriod > 0 && maturityPeriod < productRates.length ? productRates[maturityPeriod] : Double.NaN;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.mortgage.domain.model;
+
+import java.util.List;
+
+/**
+ * What a rate change changed in the portfolio. Only the loans of the changed rates are scored again.
+ *
+ * @param loansRescored   The number of loans scored again.
+ * @param changedPayments The loans still feasible, or feasible again, whose monthly cost changed.
+ * @param newlyInfeasible The loans feasible before the rate change and not feasible after it.
+ */
+public record PortfolioRescoreReport(
+        int loansRescored,
+        List<LoanScoreChange> changedPayments,
+        List<LoanScoreChange> newlyInfeasible) {
+}
@@ -0,0 +1,20 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A period of a variable-rate mortgage between two rate resets.
+ *
+ * @param month          The month the period starts, 0 for the first one.
+ * @param months         The number of monthly payments in the period.
+ * @param interestRate   The annual interest rate of the period.
+ * @param openingBalance The outstanding balance at the start of the period.
+ * @param monthlyCost    The monthly cost during the period.
+ */
+public record RateReset(
+        int month,
+        int months,
+        BigDecimal interestRate,
+        BigDecimal openingBalance,
+        BigDecimal monthlyCost) {
+}
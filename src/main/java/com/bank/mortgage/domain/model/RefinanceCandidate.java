@@ -0,0 +1,17 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+import java.math.BigDecimal;
+
+/**
+ * A stored mortgage rate a loan can be refinanced to.
+ *
+ * @param mortgageRate  The mortgage rate.
+ * @param annuityFactor The monthly cost of every unit of loan at the rate over its maturity period, so the monthly
+ *                      cost of any balance is a single multiplication.
+ */
+public record RefinanceCandidate(
+        MortgageRate mortgageRate,
+        BigDecimal annuityFactor) {
+}
@@ -0,0 +1,24 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+
+/**
+ * An existing loan to compare with the stored mortgage rates.
+ *
+ * @param loanReference       The reference of the loan, returned with its comparison.
+ * @param remainingBalance    The outstanding balance of the loan.
+ * @param remainingTermMonths The number of monthly payments left.
+ * @param currentInterestRate The annual interest rate of the loan.
+ * @param switchingCost       The cost of refinancing, paid up front.
+ * @param product             The mortgage product to refinance to, null for every product.
+ */
+public record RefinanceCommand(
+        String loanReference,
+        BigDecimal remainingBalance,
+        int remainingTermMonths,
+        BigDecimal currentInterestRate,
+        BigDecimal switchingCost,
+        MortgageProduct product) {
+}
@@ -0,0 +1,33 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A loan compared with every stored mortgage rate it can be refinanced to.
+ *
+ * @param loanReference      The reference of the loan.
+ * @param currentMonthlyCost The monthly cost of the loan.
+ * @param currentTotalCost   The sum of the remaining payments of the loan.
+ * @param options            The outcome of refinancing to every rate, highest lifetime savings first.
+ * @param error              Why the loan could not be compared in a batch, null if it was.
+ */
+public record RefinanceComparison(
+        String loanReference,
+        BigDecimal currentMonthlyCost,
+        BigDecimal currentTotalCost,
+        List<RefinanceOption> options,
+        String error) {
+
+    public RefinanceComparison(String loanReference, BigDecimal currentMonthlyCost, BigDecimal currentTotalCost,
+                               List<RefinanceOption> options) {
+        this(loanReference, currentMonthlyCost, currentTotalCost, options, null);
+    }
+
+    /**
+     * @return The comparison of a loan of a batch that could not be compared, without costs nor options
+     */
+    public static RefinanceComparison failed(String loanReference, String error) {
+        return new RefinanceComparison(loanReference, null, null, List.of(), error);
+    }
+}
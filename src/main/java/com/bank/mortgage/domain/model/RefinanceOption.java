@@ -0,0 +1,26 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+
+/**
+ * The outcome of refinancing a loan to a stored mortgage rate.
+ *
+ * @param product         The mortgage product of the rate.
+ * @param maturityPeriod  The maturity period of the rate in years.
+ * @param interestRate    The annual interest rate.
+ * @param monthlyCost     The monthly cost of the remaining balance at the rate.
+ * @param monthlySavings  The current monthly cost minus the new one, negative if the new one is higher.
+ * @param lifetimeSavings The remaining payments of the loan minus the payments at the rate and the switching cost.
+ * @param breakEvenMonth  The month the monthly savings cover the switching cost, null if they never do.
+ */
+public record RefinanceOption(
+        MortgageProduct product,
+        int maturityPeriod,
+        BigDecimal interestRate,
+        BigDecimal monthlyCost,
+        BigDecimal monthlySavings,
+        BigDecimal lifetimeSavings,
+        Integer breakEvenMonth) {
+}
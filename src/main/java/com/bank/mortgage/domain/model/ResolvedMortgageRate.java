@@ -0,0 +1,15 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MaturityResolution;
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+/**
+ * The interest rate resolved for a maturity period.
+ *
+ * @param mortgageRate The rate, for the requested maturity period.
+ * @param resolution   The rule that resolved it.
+ */
+public record ResolvedMortgageRate(
+        MortgageRate mortgageRate,
+        MaturityResolution resolution) {
+}
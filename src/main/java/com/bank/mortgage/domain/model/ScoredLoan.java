@@ -0,0 +1,18 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+
+import java.math.BigDecimal;
+
+/**
+ * A portfolio loan with its feasibility and monthly cost at the current rate of its product and maturity period.
+ *
+ * @param loan        The portfolio loan.
+ * @param feasible    True if the loan is feasible at the current rate. False if there is no rate for it.
+ * @param monthlyCost The monthly cost at the current rate, zero if the loan is not feasible.
+ */
+public record ScoredLoan(
+        PortfolioLoan loan,
+        boolean feasible,
+        BigDecimal monthlyCost) {
+}
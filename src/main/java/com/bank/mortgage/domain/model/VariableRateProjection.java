@@ -0,0 +1,17 @@
+package com.bank.mortgage.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Projection of the payments of a variable-rate mortgage along a rate path.
+ *
+ * @param resets        The periods between rate resets, in order.
+ * @param totalPaid     The sum of all the monthly payments.
+ * @param totalInterest The interest paid over the whole term.
+ */
+public record VariableRateProjection(
+        List<RateReset> resets,
+        BigDecimal totalPaid,
+        BigDecimal totalInterest) {
+}
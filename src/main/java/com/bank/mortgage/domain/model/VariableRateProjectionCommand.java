@@ -0,0 +1,27 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Input of a variable-rate mortgage projection.
+ *
+ * @param product             The mortgage product whose rate curve applies if no rate path is given.
+ * @param maturityPeriod      The maturity period of the mortgage in years.
+ * @param loanValue           The value of the mortgage loan.
+ * @param resetIntervalMonths The number of months between rate resets.
+ * @param ratePath            The index rate of each reset period, in order. The last one applies to the remaining
+ *                            periods. If empty, the index rate of a period is the rate of the product for the
+ *                            remaining term.
+ * @param spread              The amount added to the index rate of every period.
+ */
+public record VariableRateProjectionCommand(
+        MortgageProduct product,
+        Integer maturityPeriod,
+        BigDecimal loanValue,
+        int resetIntervalMonths,
+        List<BigDecimal> ratePath,
+        BigDecimal spread) {
+}
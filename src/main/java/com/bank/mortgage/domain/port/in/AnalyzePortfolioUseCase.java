@@ -0,0 +1,15 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.model.PortfolioAnalytics;
+
+
+public interface AnalyzePortfolioUseCase {
+
+    /**
+     * Score the whole portfolio at the current rates
+     *
+     * @return PortfolioAnalytics, with the number of feasible loans and the total monthly cost
+     */
+    PortfolioAnalytics analyzePortfolio();
+
+}
@@ -1,21 +1,17 @@
 package com.bank.mortgage.domain.port.in;
 
+import com.bank.mortgage.domain.model.MortgageCheckCommand;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
 
-import java.math.BigDecimal;
 
 public interface CheckMortgageFeasibilityUseCase {
 
     /**
      * Check a mortgage viability and calculates the monthly cost, if applicable
      *
-     * @param income,         applicant income
-     * @param maturityPeriod, mortgage maturity period in years
-     * @param loanValue,      loan value for applicant
-     * @param homeValue,      home's applicant value
+     * @param command, product, maturity period and applicant data of the check
      * @return A MortgageFeasibilityResult, containing the viability of the mortgage and the monthly cost, if applicable
      */
-    MortgageFeasibilityResult checkMortgageFeasibility(Integer maturityPeriod, BigDecimal income, BigDecimal loanValue,
-                                                       BigDecimal homeValue);
+    MortgageFeasibilityResult checkMortgageFeasibility(MortgageCheckCommand command);
 
 }
\ No newline at end of file
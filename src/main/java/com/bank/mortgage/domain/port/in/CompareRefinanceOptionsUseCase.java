@@ -0,0 +1,27 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+
+import java.util.List;
+
+
+public interface CompareRefinanceOptionsUseCase {
+
+    /**
+     * Compare an existing loan with every stored mortgage rate
+     *
+     * @param command, loan to refinance
+     * @return A RefinanceComparison, with the savings and break-even month of every rate
+     */
+    RefinanceComparison compareRefinanceOptions(RefinanceCommand command);
+
+    /**
+     * Compare a list of existing loans with every stored mortgage rate, reading the rates once
+     *
+     * @param commands, loans to refinance
+     * @return A RefinanceComparison per loan, in the same order, with its error if the loan cannot be compared
+     */
+    List<RefinanceComparison> compareRefinanceOptions(List<RefinanceCommand> commands);
+
+}
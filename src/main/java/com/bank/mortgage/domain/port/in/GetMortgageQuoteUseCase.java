@@ -0,0 +1,16 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.entity.MortgageQuote;
+
+import java.util.UUID;
+
+public interface GetMortgageQuoteUseCase {
+
+    /**
+     * Get a quote issued by a previous mortgage check
+     *
+     * @param quoteId, id of the quote
+     * @return The MortgageQuote
+     */
+    MortgageQuote getMortgageQuote(UUID quoteId);
+}
@@ -0,0 +1,18 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+
+import java.util.List;
+
+
+public interface LoadPortfolioUseCase {
+
+    /**
+     * Score loans at the current rates and store them in the portfolio, replacing the loans with the same id
+     *
+     * @param loans, loans to store
+     * @return The number of loans in the portfolio
+     */
+    int loadPortfolioLoans(List<PortfolioLoan> loans);
+
+}
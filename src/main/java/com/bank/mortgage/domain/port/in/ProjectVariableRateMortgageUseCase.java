@@ -0,0 +1,17 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import com.bank.mortgage.domain.model.VariableRateProjectionCommand;
+
+
+public interface ProjectVariableRateMortgageUseCase {
+
+    /**
+     * Project the payments of a variable-rate mortgage, recomputed at each rate reset
+     *
+     * @param command, loan, term, reset interval and rate path of the projection
+     * @return A VariableRateProjection, with the monthly cost of every period between resets
+     */
+    VariableRateProjection projectVariableRateMortgage(VariableRateProjectionCommand command);
+
+}
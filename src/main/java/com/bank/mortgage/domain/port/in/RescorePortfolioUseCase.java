@@ -0,0 +1,20 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.PortfolioRescoreReport;
+
+import java.util.List;
+
+
+public interface RescorePortfolioUseCase {
+
+    /**
+     * Score again the portfolio loans of the changed rates
+     *
+     * @param updated, rates added or modified
+     * @param removed, rates removed, their loans are no longer feasible
+     * @return A PortfolioRescoreReport, with the changed payments and the newly infeasible loans
+     */
+    PortfolioRescoreReport rescorePortfolio(List<MortgageRate> updated, List<MortgageRate> removed);
+
+}
@@ -0,0 +1,15 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+
+public interface SearchMortgageRatesUseCase {
+
+    /**
+     * Get a page of the mortgage rates matching the query
+     *
+     * @param query, filters and position of the page
+     * @return MortgageRatePage, sorted by maturity period
+     */
+    MortgageRatePage searchMortgageRates(MortgageRateQuery query);
+}
@@ -0,0 +1,17 @@
+package com.bank.mortgage.domain.port.in;
+
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.OverpaymentSimulationCommand;
+
+
+public interface SimulateOverpaymentsUseCase {
+
+    /**
+     * Simulate overpayments on a fixed-rate mortgage at the current rate of its product and maturity period
+     *
+     * @param command, mortgage and overpayments of the simulation
+     * @return An OverpaymentSimulation, with the term, monthly cost and interest saved by the overpayments
+     */
+    OverpaymentSimulation simulateOverpayments(OverpaymentSimulationCommand command);
+
+}
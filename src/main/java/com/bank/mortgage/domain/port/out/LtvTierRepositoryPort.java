@@ -0,0 +1,14 @@
+package com.bank.mortgage.domain.port.out;
+
+import com.bank.mortgage.domain.model.LtvTierIndex;
+
+public interface LtvTierRepositoryPort {
+
+    /**
+     * Find the loan-to-value tiers
+     *
+     * @return LtvTierIndex of the tiers in the system, empty if there are none
+     */
+    LtvTierIndex findLtvTierIndex();
+
+}
@@ -0,0 +1,19 @@
+package com.bank.mortgage.domain.port.out;
+
+import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+
+public interface MortgageDecisionAuditPort {
+
+    /**
+     * Record a mortgage feasibility decision for audit purposes.
+     * Implementations must not block the caller on I/O.
+     *
+     * @param mortgageRate,      mortgage rate used in the decision
+     * @param mortgageApplicant, applicant data the decision was based on
+     * @param result,            outcome of the decision
+     */
+    void record(MortgageRate mortgageRate, MortgageApplicant mortgageApplicant, MortgageFeasibilityResult result);
+
+}
@@ -0,0 +1,26 @@
+package com.bank.mortgage.domain.port.out;
+
+import com.bank.mortgage.domain.entity.MortgageQuote;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MortgageQuoteRepositoryPort {
+
+    /**
+     * Save a quote. Implementations may persist it asynchronously, but it must be found by
+     * {@link #findById(UUID)} as soon as this method returns.
+     *
+     * @param mortgageQuote, quote to save
+     */
+    void save(MortgageQuote mortgageQuote);
+
+    /**
+     * Find a quote by its id
+     *
+     * @param quoteId, id of the quote
+     * @return An Optional containing the MortgageQuote, if found.
+     */
+    Optional<MortgageQuote> findById(UUID quoteId);
+
+}
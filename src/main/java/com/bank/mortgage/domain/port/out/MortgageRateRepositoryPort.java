@@ -1,6 +1,10 @@
 package com.bank.mortgage.domain.port.out;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageRateBracket;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,11 +19,32 @@ public interface MortgageRateRepositoryPort {
     List<MortgageRate> findAllMortgageRates();
 
     /**
-     * Find the mortgage rate related to a given maturityPeriod
+     * Find the mortgage rate of a product related to a given maturityPeriod
      *
+     * @param product,        mortgage product of the rate
      * @param maturityPeriod, maturity period of the mortgage rate in years
      * @return An Optional containing the MortgageRate, if found.
      */
-    Optional<MortgageRate> findByMaturityPeriod(Integer maturityPeriod);
+    Optional<MortgageRate> findByProductAndMaturityPeriod(MortgageProduct product, Integer maturityPeriod);
+
+    /**
+     * Find the rates of a product around a maturity period. Reads all the rates, adapters with an index of the rates
+     * should override it.
+     *
+     * @param product,        mortgage product of the rates
+     * @param maturityPeriod, maturity period in years
+     * @return MortgageRateBracket, with the rate of the maturity period if there is one
+     */
+    default MortgageRateBracket findBracketByProductAndMaturityPeriod(MortgageProduct product, int maturityPeriod) {
+        return MortgageRateBracket.of(findAllMortgageRates(), product, maturityPeriod);
+    }
+
+    /**
+     * Find a page of the mortgage rates matching the query
+     *
+     * @param query, filters and position of the page
+     * @return MortgageRatePage, sorted by maturity period
+     */
+    MortgageRatePage findMortgageRates(MortgageRateQuery query);
 
 }
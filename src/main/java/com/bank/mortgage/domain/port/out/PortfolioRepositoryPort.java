@@ -0,0 +1,40 @@
+package com.bank.mortgage.domain.port.out;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.model.ScoredLoan;
+
+import java.util.List;
+
+public interface PortfolioRepositoryPort {
+
+    /**
+     * Store scored loans, replacing the loans with the same id
+     *
+     * @param scoredLoans, loans with their current score
+     */
+    void saveAll(List<ScoredLoan> scoredLoans);
+
+    /**
+     * Store the new score of loans that are still stored as they were read. A loan replaced or moved to another
+     * product or maturity period since it was read keeps the score it was saved with.
+     *
+     * @param scoredLoans, loans as they were read, with their new score
+     * @return The loans whose score was stored
+     */
+    List<ScoredLoan> updateScores(List<ScoredLoan> scoredLoans);
+
+    /**
+     * Find the loans of a product and maturity period, the only ones a change of its rate affects
+     *
+     * @param product,        mortgage product of the loans
+     * @param maturityPeriod, maturity period of the loans in years
+     * @return The loans with their current score
+     */
+    List<ScoredLoan> findByProductAndMaturityPeriod(MortgageProduct product, int maturityPeriod);
+
+    /**
+     * @return The number of loans in the portfolio
+     */
+    int count();
+
+}
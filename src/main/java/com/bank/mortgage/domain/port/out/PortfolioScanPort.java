@@ -0,0 +1,21 @@
+package com.bank.mortgage.domain.port.out;
+
+import com.bank.mortgage.domain.model.PortfolioChunk;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+public interface PortfolioScanPort {
+
+    /**
+     * Run a calculation over the whole portfolio, chunk by chunk. Chunks may be processed in parallel, so the
+     * calculation must not share mutable state between chunks: the result of every chunk is merged with the combiner.
+     *
+     * @param chunkFunction, calculation over the rows of a chunk
+     * @param identity,      result of an empty portfolio
+     * @param combiner,      merge of the results of two chunks
+     * @return The combined result of every chunk
+     */
+    <R> R scan(Function<PortfolioChunk, R> chunkFunction, R identity, BinaryOperator<R> combiner);
+
+}
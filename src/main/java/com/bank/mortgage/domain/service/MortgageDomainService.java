@@ -1,18 +1,66 @@
 package com.bank.mortgage.domain.service;
 
+import com.bank.mortgage.domain.entity.LtvTier;
 import com.bank.mortgage.domain.entity.MortgageApplicant;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.OverpaymentStrategy;
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+import com.bank.mortgage.domain.event.MortgageValidationFailedEvent;
 import com.bank.mortgage.domain.exception.MortgageDomainException;
+import com.bank.mortgage.domain.model.CalculationPrecision;
+import com.bank.mortgage.domain.model.CostOfCredit;
+import com.bank.mortgage.domain.model.LtvTierIndex;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.model.Overpayment;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.PortfolioAnalytics;
+import com.bank.mortgage.domain.model.PortfolioChunk;
+import com.bank.mortgage.domain.model.PortfolioRateTable;
+import com.bank.mortgage.domain.model.RefinanceCandidate;
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.model.RefinanceOption;
+import com.bank.mortgage.domain.model.ScoredLoan;
+import com.bank.mortgage.domain.model.RateReset;
+import com.bank.mortgage.domain.model.VariableRateProjection;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
 
 @Slf4j
 public class MortgageDomainService {
 
+    // The APR solver stops when a Newton step moves the monthly rate less than this, or after MAX_APR_ITERATIONS
+    private static final double APR_TOLERANCE = 1e-12;
+    private static final int MAX_APR_ITERATIONS = 100;
+    // Relative error allowed for a monthly cost on doubles: far above the few ulps of the annuity formula, so a cost
+    // this close to half a cent is left to DECIMAL128
+    private static final double CENT_ROUNDING_GUARD = 1e-12;
+
+    // Longest maturity period of a projection, which has to be bounded as its cost grows with the number of resets
+    public static final int MAX_PROJECTION_MATURITY_PERIOD = 50;
+
+    private final CalculationPrecision precision;
+    private final MathContext mathContext;
+
+    public MortgageDomainService() {
+        this(CalculationPrecision.DECIMAL128);
+    }
+
+    /**
+     * @param precision, Numeric precision of the calculations
+     */
+    public MortgageDomainService(CalculationPrecision precision) {
+        this.precision = precision;
+        this.mathContext = precision.mathContext();
+    }
+
     /**
      * Check if a Mortgage is feasible.
      * If true, calculates monthly cost.
@@ -24,6 +72,22 @@ public class MortgageDomainService {
      */
     public MortgageFeasibilityResult checkMortgageFeasibility(MortgageRate mortgageRate,
                                                               MortgageApplicant mortgageApplicant) {
+        return checkMortgageFeasibility(mortgageRate, mortgageApplicant, LtvTierIndex.EMPTY);
+    }
+
+    /**
+     * Check if a Mortgage is feasible, pricing it by loan-to-value tier.
+     * The rate applied is the product rate plus the adjustment of the tier of the loan-to-value ratio. If the ratio
+     * is in no tier, the product rate is applied.
+     *
+     * @param mortgageRate,      Mortgage information
+     * @param mortgageApplicant, Mortgage applicant information
+     * @param ltvTierIndex,      Loan-to-value tiers
+     * @return Mortgage feasibility, applied interest rate and monthly cost
+     */
+    public MortgageFeasibilityResult checkMortgageFeasibility(MortgageRate mortgageRate,
+                                                              MortgageApplicant mortgageApplicant,
+                                                              LtvTierIndex ltvTierIndex) {
 
         // Validate input data
         validateMortgageData(mortgageRate, mortgageApplicant);
@@ -32,43 +96,515 @@ public class MortgageDomainService {
                 mortgageApplicant.income(), mortgageApplicant.homeValue(), mortgageRate.interestRate(),
                 mortgageApplicant.loanValue());
 
+        MortgageFeasibilityResult result = feasibility(mortgageRate, mortgageApplicant, ltvTierIndex);
+
+        if (result.isFeasible()) {
+            log.info("Mortgage is feasible. Calculated monthly cost: {}", result.getMonthlyCost());
+            return result;
+        }
+        if (exceedsFourTimesIncome(mortgageApplicant.income(), mortgageApplicant.loanValue())) {
+            log.info("Loan exceeds 4 times the income. Mortgage is not feasible.");
+        }
+        if (exceedsHomeValue(mortgageApplicant.loanValue(), mortgageApplicant.homeValue())) {
+            log.info("Loan exceeds the home value. Mortgage is not feasible.");
+        }
+        return result;
+    }
+
+    /**
+     * The feasibility and monthly cost of a validated mortgage, without logging
+     */
+    private MortgageFeasibilityResult feasibility(MortgageRate mortgageRate, MortgageApplicant mortgageApplicant,
+                                                  LtvTierIndex ltvTierIndex) {
         /*
         Check mortgage feasibility. A mortgage should not exceed:
             - 4 times the income
             - The home value
          */
+        boolean feasible = !exceedsFourTimesIncome(mortgageApplicant.income(), mortgageApplicant.loanValue())
+                && !exceedsHomeValue(mortgageApplicant.loanValue(), mortgageApplicant.homeValue());
 
-        BigDecimal maxAllowedLoanByIncome = mortgageApplicant.income().multiply(BigDecimal.valueOf(4));
-        boolean loanExceedsFourTimesIncome = mortgageApplicant.loanValue().compareTo(maxAllowedLoanByIncome) > 0;
-        boolean loanExceedsHomeValue = mortgageApplicant.loanValue().compareTo(mortgageApplicant.homeValue()) > 0;
+        BigDecimal interestRate = applyLtvTier(mortgageRate.interestRate(), mortgageApplicant, ltvTierIndex);
 
-        if (loanExceedsFourTimesIncome) {
-            log.info("Loan exceeds 4 times the income. Mortgage is not feasible.");
+        // If not feasible, monthly cost is 0
+        BigDecimal monthlyCost = feasible
+                ? calculateMonthlyCostFixedRateMortgage(mortgageRate.maturityPeriod(), interestRate,
+                mortgageApplicant.loanValue())
+                : BigDecimal.ZERO;
+
+        return MortgageFeasibilityResult.builder()
+                .feasible(feasible)
+                .monthlyCost(monthlyCost)
+                .interestRate(interestRate)
+                .staleRate(mortgageRate.stale())
+                .build();
+    }
+
+    // The feasibility rules and the monthly cost formulas are package-private for MortgageCalculationAccuracyTest,
+    // which checks every primitive variant against the BigDecimal reference
+
+    static boolean exceedsFourTimesIncome(BigDecimal income, BigDecimal loanValue) {
+        return loanValue.compareTo(income.multiply(BigDecimal.valueOf(4))) > 0;
+    }
+
+    static boolean exceedsHomeValue(BigDecimal loanValue, BigDecimal homeValue) {
+        return loanValue.compareTo(homeValue) > 0;
+    }
+
+    /**
+     * The feasibility rules of {@link #checkMortgageFeasibility(MortgageRate, MortgageApplicant, LtvTierIndex)} on
+     * primitives
+     */
+    static boolean isFeasible(double income, double loanValue, double homeValue) {
+        return loanValue <= income * 4 && loanValue <= homeValue;
+    }
+
+    /**
+     * The band only selects the adjustment, so the ratio is computed in double precision to avoid a BigDecimal
+     * division per check.
+     *
+     * @return The interest rate plus the adjustment of the loan-to-value tier of the applicant, if any
+     */
+    private BigDecimal applyLtvTier(BigDecimal interestRate, MortgageApplicant mortgageApplicant,
+                                    LtvTierIndex ltvTierIndex) {
+        double ltv = mortgageApplicant.loanValue().doubleValue() / mortgageApplicant.homeValue().doubleValue();
+        LtvTier ltvTier = ltvTierIndex.find(ltv);
+        if (ltvTier == null || ltvTier.rateAdjustment().signum() == 0) {
+            return interestRate;
         }
+        log.debug("Loan-to-value {} in tier ({}, {}], rate adjustment: {}", ltv, ltvTier.minLtv(), ltvTier.maxLtv(),
+                ltvTier.rateAdjustment());
+        return interestRate.add(ltvTier.rateAdjustment());
+    }
 
-        if (loanExceedsHomeValue) {
-            log.info("Loan exceeds the home value. Mortgage is not feasible.");
+    /**
+     * Score a portfolio loan: its feasibility and monthly cost at a rate, as a mortgage check of the borrower would.
+     * Nothing is logged per loan, as a rate change may score a large part of the portfolio.
+     *
+     * @param mortgageRate,  Current rate of the product and maturity period of the loan, null if there is none
+     * @param portfolioLoan, Loan to score
+     * @param ltvTierIndex,  LTV tiers adjusting the rate
+     * @return ScoredLoan, not feasible without a rate
+     */
+    public ScoredLoan scoreLoan(MortgageRate mortgageRate, PortfolioLoan portfolioLoan, LtvTierIndex ltvTierIndex) {
+        if (mortgageRate == null) {
+            return new ScoredLoan(portfolioLoan, false, BigDecimal.ZERO);
         }
+        MortgageApplicant mortgageApplicant = portfolioLoan.toApplicant();
+        validateMortgageData(mortgageRate, mortgageApplicant);
+        MortgageFeasibilityResult result = feasibility(mortgageRate, mortgageApplicant, ltvTierIndex);
+        return new ScoredLoan(portfolioLoan, result.isFeasible(), result.getMonthlyCost());
+    }
+
+    /**
+     * Score the loans of a portfolio chunk at the current rates, with the rules of
+     * {@link #checkMortgageFeasibility(MortgageRate, MortgageApplicant, LtvTierIndex)} on primitives: no object is
+     * created per loan, so scans of large portfolios stay allocation free. Monthly costs match the ones of a mortgage
+     * check in DECIMAL128 to the cent, see {@link #monthlyCostCents(double, double, int)}.
+     *
+     * @param chunk,        Rows of the portfolio
+     * @param rateTable,    Current rates
+     * @param ltvTierIndex, LTV tiers adjusting the rates
+     * @return PortfolioAnalytics of the chunk
+     */
+    public PortfolioAnalytics analyzePortfolioChunk(PortfolioChunk chunk, PortfolioRateTable rateTable,
+                                                    LtvTierIndex ltvTierIndex) {
+        int size = chunk.size();
+        long feasibleLoans = 0;
+        long unpricedLoans = 0;
+        double totalLoanValue = 0;
+        double totalMonthlyCost = 0;
+
+        for (int row = 0; row < size; row++) {
+            double loanValue = chunk.loanValue(row);
+            totalLoanValue += loanValue;
 
-        if (loanExceedsFourTimesIncome || loanExceedsHomeValue) {
-            // If not feasible, return with 0 monthly cost
-            return MortgageFeasibilityResult.builder()
-                    .feasible(false)
-                    .monthlyCost(BigDecimal.ZERO)
-                    .build();
+            int maturityPeriod = chunk.maturityPeriod(row);
+            double interestRate = rateTable.interestRate(chunk.product(row), maturityPeriod);
+            if (Double.isNaN(interestRate)) {
+                unpricedLoans++;
+                continue;
+            }
+            double homeValue = chunk.homeValue(row);
+            if (!isFeasible(chunk.income(row), loanValue, homeValue)) {
+                continue;
+            }
+            interestRate += ltvTierIndex.rateAdjustment(loanValue / homeValue);
+            feasibleLoans++;
+            totalMonthlyCost += monthlyCostCents(loanValue, interestRate, maturityPeriod * 12) / 100.0;
         }
-        // If feasible, calculates monthly cost
-        BigDecimal monthlyCost = calculateMonthlyCostFixedRateMortgage(mortgageRate.maturityPeriod(),
-                mortgageRate.interestRate(), mortgageApplicant.loanValue());
+        return new PortfolioAnalytics(size, feasibleLoans, unpricedLoans, totalLoanValue, totalMonthlyCost);
+    }
 
+    /**
+     * Project the payments of a variable-rate mortgage. At every reset the monthly cost is recomputed as a fixed-rate
+     * annuity of the outstanding balance over the remaining term, and the balance is rolled forward to the next reset
+     * in closed form. The cost of a projection grows with the number of resets, not with the number of months.
+     *
+     * @param loanValue,           Loan value
+     * @param maturityPeriod,      Maturity period in years, up to {@link #MAX_PROJECTION_MATURITY_PERIOD}
+     * @param resetIntervalMonths, Months between rate resets
+     * @param interestRateAt,      Annual interest rate of the period starting at the given month
+     * @return The monthly cost of every period between resets and the totals over the term
+     */
+    public VariableRateProjection projectVariableRateMortgage(BigDecimal loanValue, int maturityPeriod,
+                                                              int resetIntervalMonths,
+                                                              IntFunction<BigDecimal> interestRateAt) {
+        if (loanValue == null || loanValue.compareTo(BigDecimal.ZERO) <= 0) {
+            throw rejected(MortgageDomainException.INVALID_LOAN_VALUE);
+        }
+        if (maturityPeriod <= 0 || maturityPeriod > MAX_PROJECTION_MATURITY_PERIOD) {
+            throw rejected(MortgageDomainException.INVALID_PROJECTION_MATURITY_PERIOD);
+        }
+        if (resetIntervalMonths <= 0) {
+            throw rejected(MortgageDomainException.INVALID_RESET_INTERVAL);
+        }
 
-        log.info("Mortgage is feasible. Calculated monthly cost: {}", monthlyCost);
+        int numPayments = maturityPeriod * 12;
+        List<RateReset> resets = new ArrayList<>(numPayments / resetIntervalMonths + 1);
+        BigDecimal balance = loanValue;
+        BigDecimal totalPaid = BigDecimal.ZERO;
 
-        return MortgageFeasibilityResult.builder()
-                .feasible(true)
-                .monthlyCost(monthlyCost)
-                .build();
+        for (int month = 0; month < numPayments; month += resetIntervalMonths) {
+            BigDecimal interestRate = interestRateAt.apply(month);
+            if (interestRate == null || interestRate.signum() < 0) {
+                throw rejected(MortgageDomainException.INVALID_INTEREST_RATE);
+            }
+            int remainingPayments = numPayments - month;
+            int periodPayments = Math.min(resetIntervalMonths, remainingPayments);
+
+            BigDecimal monthlyCost = calculateMonthlyCost(interestRate, remainingPayments, balance);
+            resets.add(new RateReset(month, periodPayments, interestRate, balance.setScale(2, RoundingMode.HALF_UP),
+                    monthlyCost));
+            totalPaid = totalPaid.add(monthlyCost.multiply(BigDecimal.valueOf(periodPayments)));
+
+            if (periodPayments < remainingPayments) {
+                balance = rollBalanceForward(balance, interestRate, monthlyCost, periodPayments);
+            }
+        }
+
+        totalPaid = totalPaid.setScale(2, RoundingMode.HALF_UP);
+        return new VariableRateProjection(List.copyOf(resets), totalPaid, totalPaid.subtract(loanValue)
+                .setScale(2, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Calculate the APR, total interest and total cost of credit of a fixed-rate mortgage.
+     * The APR is the effective annual rate at which the monthly payments repay the loan net of fees:
+     * L - F = C x (1 - (1+i)^-n) / i, APR = (1+i)^12 - 1
+     * Where:
+     * L = Loan value
+     * F = Fees
+     * C = Monthly cost
+     * i = Monthly rate, solved for
+     * n = Number of months to paid (years * 12)
+     *
+     * @param maturityPeriod, Maturity period in years
+     * @param interestRate,   Nominal annual interest rate of the mortgage
+     * @param loanValue,      Loan value
+     * @param monthlyCost,    Monthly cost at the nominal interest rate
+     * @param fees,           Fees charged to the applicant up front
+     * @return CostOfCredit of the mortgage
+     */
+    public CostOfCredit calculateCostOfCredit(int maturityPeriod, BigDecimal interestRate, BigDecimal loanValue,
+                                              BigDecimal monthlyCost, BigDecimal fees) {
+        if (fees == null || fees.signum() < 0 || fees.compareTo(loanValue) >= 0) {
+            throw rejected(MortgageDomainException.INVALID_FEES);
+        }
+        int numPayments = maturityPeriod * 12;
 
+        BigDecimal totalInterest = monthlyCost.multiply(BigDecimal.valueOf(numPayments)).subtract(loanValue)
+                .setScale(2, RoundingMode.HALF_UP);
+        double monthlyRate = solveMonthlyRate(monthlyCost.doubleValue(), numPayments,
+                loanValue.subtract(fees).doubleValue(), interestRate.doubleValue() / 12);
+        double apr = Math.expm1(12 * Math.log1p(monthlyRate));
+
+        return new CostOfCredit(BigDecimal.valueOf(apr).setScale(6, RoundingMode.HALF_UP), totalInterest,
+                totalInterest.add(fees).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Simulate one-off and recurring overpayments on a fixed-rate mortgage, compared with the same mortgage without
+     * them. The overpayments are laid out by month, and both balances are then amortized side by side in a single pass
+     * over the term, on primitives, so a simulation is cheap enough to run on every change of the schedule.
+     * With REDUCE_TERM the monthly cost stays the same and the mortgage is repaid earlier. With REDUCE_PAYMENT the
+     * monthly cost is recalculated over the remaining term after every overpayment.
+     *
+     * @param interestRate,   Annual interest rate of the mortgage
+     * @param maturityPeriod, Maturity period in years
+     * @param loanValue,      Loan value
+     * @param strategy,       What the overpayments change, REDUCE_TERM if null
+     * @param overpayments,   One-off and recurring overpayments
+     * @return The term, monthly cost and interest with the overpayments, and what they save
+     */
+    public OverpaymentSimulation simulateOverpayments(BigDecimal interestRate, int maturityPeriod,
+                                                      BigDecimal loanValue, OverpaymentStrategy strategy,
+                                                      List<Overpayment> overpayments) {
+        if (loanValue == null || loanValue.compareTo(BigDecimal.ZERO) <= 0) {
+            throw rejected(MortgageDomainException.INVALID_LOAN_VALUE);
+        }
+        if (maturityPeriod <= 0) {
+            throw rejected(MortgageDomainException.INVALID_MATURITY_PERIOD);
+        }
+        if (interestRate == null || interestRate.signum() < 0) {
+            throw rejected(MortgageDomainException.INVALID_INTEREST_RATE);
+        }
+
+        int numPayments = maturityPeriod * 12;
+        double[] overpaymentByMonth = scheduleOverpayments(overpayments, numPayments);
+        boolean reducePayment = strategy == OverpaymentStrategy.REDUCE_PAYMENT;
+
+        BigDecimal monthlyCost = calculateMonthlyCost(interestRate, numPayments, loanValue);
+        double monthlyRate = interestRate.doubleValue() / 12;
+        double contractualPayment = monthlyCost.doubleValue();
+        double payment = contractualPayment;
+        double balance = loanValue.doubleValue();
+        double baselineBalance = balance;
+        double totalInterest = 0;
+        double baselineInterest = 0;
+        double totalOverpaid = 0;
+        int termMonths = numPayments;
+
+        for (int month = 1; month <= numPayments; month++) {
+            double baselineMonthInterest = baselineBalance * monthlyRate;
+            baselineInterest += baselineMonthInterest;
+            baselineBalance += baselineMonthInterest - contractualPayment;
+
+            if (balance <= 0) {
+                continue;
+            }
+            double interest = balance * monthlyRate;
+            totalInterest += interest;
+            balance += interest - payment;
+
+            double overpayment = Math.min(overpaymentByMonth[month], Math.max(balance, 0));
+            balance -= overpayment;
+            totalOverpaid += overpayment;
+
+            // Cents left by the rounding of the monthly cost are settled with the last payment, and so is whatever an
+            // overpayment with the last payment leaves: there is no remaining term to spread it over
+            if (balance < 0.005 || month == numPayments) {
+                balance = 0;
+                termMonths = month;
+            } else if (reducePayment && overpayment > 0) {
+                payment = roundToCents(annuity(balance, monthlyRate, numPayments - month));
+            }
+        }
+
+        return new OverpaymentSimulation(interestRate, monthlyCost, toCents(payment), termMonths,
+                numPayments - termMonths, toCents(totalOverpaid), toCents(totalInterest),
+                toCents(baselineInterest - totalInterest));
+    }
+
+    /**
+     * Prepare the stored mortgage rates for refinance comparisons. The annuity factor of every rate is computed once,
+     * so comparing a loan with a rate is a multiplication, however many loans are compared.
+     *
+     * @param mortgageRates, Stored mortgage rates
+     * @return The rates with their annuity factor
+     */
+    public List<RefinanceCandidate> prepareRefinanceCandidates(List<MortgageRate> mortgageRates) {
+        return mortgageRates.stream()
+                .map(mortgageRate -> new RefinanceCandidate(mortgageRate,
+                        annuityFactor(mortgageRate.interestRate(), mortgageRate.maturityPeriod() * 12)))
+                .toList();
+    }
+
+    /**
+     * Compare an existing loan with refinancing its remaining balance at every candidate rate.
+     * The break-even month is the first month the monthly savings add up to the switching cost:
+     * ceil(switching cost / monthly savings), as long as both the loan and the new mortgage are running.
+     *
+     * @param refinanceCommand, Loan to refinance
+     * @param candidates,       Rates prepared by {@link #prepareRefinanceCandidates(List)}
+     * @return The current cost of the loan and the savings of every candidate of the product, highest lifetime
+     * savings first
+     */
+    public RefinanceComparison compareRefinanceOptions(RefinanceCommand refinanceCommand,
+                                                       List<RefinanceCandidate> candidates) {
+        BigDecimal balance = refinanceCommand.remainingBalance();
+        if (balance == null || balance.compareTo(BigDecimal.ZERO) <= 0) {
+            throw rejected(MortgageDomainException.INVALID_LOAN_VALUE);
+        }
+        int remainingTermMonths = refinanceCommand.remainingTermMonths();
+        if (remainingTermMonths <= 0) {
+            throw rejected(MortgageDomainException.INVALID_MATURITY_PERIOD);
+        }
+        BigDecimal currentInterestRate = refinanceCommand.currentInterestRate();
+        if (currentInterestRate == null || currentInterestRate.signum() < 0) {
+            throw rejected(MortgageDomainException.INVALID_INTEREST_RATE);
+        }
+        BigDecimal switchingCost = refinanceCommand.switchingCost() == null
+                ? BigDecimal.ZERO : refinanceCommand.switchingCost();
+        if (switchingCost.signum() < 0 || switchingCost.compareTo(balance) >= 0) {
+            throw rejected(MortgageDomainException.INVALID_FEES);
+        }
+
+        BigDecimal currentMonthlyCost = calculateMonthlyCost(currentInterestRate, remainingTermMonths, balance);
+        BigDecimal currentTotalCost = currentMonthlyCost.multiply(BigDecimal.valueOf(remainingTermMonths));
+
+        List<RefinanceOption> options = new ArrayList<>(candidates.size());
+        for (RefinanceCandidate candidate : candidates) {
+            MortgageRate mortgageRate = candidate.mortgageRate();
+            if (refinanceCommand.product() != null && mortgageRate.product() != refinanceCommand.product()) {
+                continue;
+            }
+            int numPayments = mortgageRate.maturityPeriod() * 12;
+            BigDecimal monthlyCost = balance.multiply(candidate.annuityFactor(), mathContext)
+                    .setScale(2, RoundingMode.HALF_UP);
+            BigDecimal monthlySavings = currentMonthlyCost.subtract(monthlyCost);
+            BigDecimal lifetimeSavings = currentTotalCost
+                    .subtract(monthlyCost.multiply(BigDecimal.valueOf(numPayments)))
+                    .subtract(switchingCost);
+
+            options.add(new RefinanceOption(mortgageRate.product(), mortgageRate.maturityPeriod(),
+                    mortgageRate.interestRate(), monthlyCost, monthlySavings,
+                    lifetimeSavings.setScale(2, RoundingMode.HALF_UP),
+                    breakEvenMonth(switchingCost, monthlySavings, Math.min(remainingTermMonths, numPayments))));
+        }
+        options.sort(Comparator.comparing(RefinanceOption::lifetimeSavings).reversed());
+
+        return new RefinanceComparison(refinanceCommand.loanReference(), currentMonthlyCost,
+                currentTotalCost.setScale(2, RoundingMode.HALF_UP), List.copyOf(options));
+    }
+
+    /**
+     * ceil(switching cost / monthly savings), null without monthly savings or beyond the last month both run
+     */
+    private static Integer breakEvenMonth(BigDecimal switchingCost, BigDecimal monthlySavings, int lastMonth) {
+        if (monthlySavings.signum() <= 0) {
+            return null;
+        }
+        // Compared before the conversion, a tiny saving on a large switching cost is far beyond any int
+        BigDecimal month = switchingCost.divide(monthlySavings, 0, RoundingMode.CEILING);
+        return month.compareTo(BigDecimal.valueOf(lastMonth)) <= 0 ? month.intValueExact() : null;
+    }
+
+    /**
+     * Lay out the overpayments by month, 1 to the number of payments, adding up the ones falling on the same month.
+     */
+    private static double[] scheduleOverpayments(List<Overpayment> overpayments, int numPayments) {
+        double[] overpaymentByMonth = new double[numPayments + 1];
+        if (overpayments == null) {
+            return overpaymentByMonth;
+        }
+        for (Overpayment overpayment : overpayments) {
+            if (overpayment == null || overpayment.amount() == null || overpayment.amount().signum() <= 0
+                    || overpayment.month() < 1 || overpayment.month() > numPayments
+                    || overpayment.intervalMonths() < 0
+                    || (overpayment.endMonth() != null && overpayment.endMonth() < overpayment.month())) {
+                throw rejected(MortgageDomainException.INVALID_OVERPAYMENT);
+            }
+            double amount = overpayment.amount().doubleValue();
+            if (overpayment.intervalMonths() == 0) {
+                overpaymentByMonth[overpayment.month()] += amount;
+                continue;
+            }
+            int endMonth = overpayment.endMonth() == null ? numPayments : Math.min(overpayment.endMonth(), numPayments);
+            for (int month = overpayment.month(); month <= endMonth; month += overpayment.intervalMonths()) {
+                overpaymentByMonth[month] += amount;
+            }
+        }
+        return overpaymentByMonth;
+    }
+
+    /**
+     * The fixed-rate mortgage payment formula on primitives, see
+     * {@link #calculateMonthlyCost(BigDecimal, int, BigDecimal)}: C = P x i / (1 - (1+i)^-n)
+     */
+    static double annuity(double loanValue, double monthlyRate, int numPayments) {
+        if (monthlyRate == 0) {
+            return loanValue / numPayments;
+        }
+        return loanValue * monthlyRate / -Math.expm1(-numPayments * Math.log1p(monthlyRate));
+    }
+
+    /**
+     * The monthly cost of {@link #calculateMonthlyCostFixedRateMortgage(Integer, BigDecimal, BigDecimal)} on
+     * primitives, rounded half up to cents. A cost too close to half a cent for a double to round it is calculated in
+     * DECIMAL128 instead, so it matches the mortgage check to the cent. That is the only allocation, on a tiny
+     * fraction of the loans.
+     *
+     * @param interestRate, annual interest rate
+     * @return Monthly cost in cents
+     */
+    static long monthlyCostCents(double loanValue, double interestRate, int numPayments) {
+        double cents = annuity(loanValue, interestRate / 12, numPayments) * 100;
+        if (nearHalfCent(cents)) {
+            return calculateMonthlyCost(BigDecimal.valueOf(interestRate), numPayments, BigDecimal.valueOf(loanValue),
+                    MathContext.DECIMAL128).unscaledValue().longValueExact();
+        }
+        return Math.round(cents);
+    }
+
+    /**
+     * @return Whether an amount in cents is too close to half a cent for a double to tell which way it rounds
+     */
+    private static boolean nearHalfCent(double cents) {
+        double fraction = cents - Math.floor(cents);
+        return Math.abs(fraction - 0.5) <= cents * CENT_ROUNDING_GUARD;
+    }
+
+    static double roundToCents(double amount) {
+        return Math.round(amount * 100) / 100.0;
+    }
+
+    private static BigDecimal toCents(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Solve the monthly rate at which n payments are worth the net loan, with Newton-Raphson on primitives.
+     * <p>
+     * The present value of the payments decreases with the rate, so the root is bracketed by 0, where the payments
+     * are worth at least the loan, and payment / net loan, where they are worth less than the net loan. The seed is
+     * the nominal rate, the root itself without fees, and the bracket shrinks with every step. A step leaving the
+     * bracket is replaced by a bisection, so the solver converges whatever the fees.
+     */
+    private static double solveMonthlyRate(double payment, int numPayments, double netLoan, double seed) {
+        double low = 0;
+        double high = payment / netLoan;
+        double rate = seed;
+        for (int iteration = 0; iteration < MAX_APR_ITERATIONS; iteration++) {
+            double value = presentValue(payment, numPayments, rate) - netLoan;
+            if (value > 0) {
+                low = rate;
+            } else {
+                high = rate;
+            }
+            double next = rate - value / presentValueDerivative(payment, numPayments, rate);
+            if (!(next > low && next < high)) {
+                next = (low + high) / 2;
+            }
+            if (Math.abs(next - rate) < APR_TOLERANCE) {
+                return next;
+            }
+            rate = next;
+        }
+        return rate;
+    }
+
+    /**
+     * C x (1 - (1+i)^-n) / i, C x n without interest
+     */
+    private static double presentValue(double payment, int numPayments, double monthlyRate) {
+        if (monthlyRate == 0) {
+            return payment * numPayments;
+        }
+        return payment * -Math.expm1(-numPayments * Math.log1p(monthlyRate)) / monthlyRate;
+    }
+
+    /**
+     * d/di C x (1 - (1+i)^-n) / i = C x (n x i x (1+i)^(-n-1) - (1 - (1+i)^-n)) / i^2, -C x n (n+1) / 2 without
+     * interest
+     */
+    private static double presentValueDerivative(double payment, int numPayments, double monthlyRate) {
+        if (monthlyRate == 0) {
+            return -payment * numPayments * (numPayments + 1) / 2.0;
+        }
+        double discount = Math.exp(-numPayments * Math.log1p(monthlyRate));
+        return payment * (numPayments * monthlyRate * discount / (1 + monthlyRate) - (1 - discount))
+                / (monthlyRate * monthlyRate);
     }
 
     /**
@@ -83,50 +619,127 @@ public class MortgageDomainService {
      *
      * @return Monthly cost of the mortgage
      */
-    private BigDecimal calculateMonthlyCostFixedRateMortgage(Integer maturityPeriod, BigDecimal interestRate,
-                                                             BigDecimal loanValue) {
+    BigDecimal calculateMonthlyCostFixedRateMortgage(Integer maturityPeriod, BigDecimal interestRate,
+                                                     BigDecimal loanValue) {
+        return calculateMonthlyCost(interestRate, maturityPeriod * 12, loanValue);
+    }
+
+    /**
+     * Fixed-rate mortgage payment formula for a number of monthly payments, see
+     * {@link #calculateMonthlyCostFixedRateMortgage(Integer, BigDecimal, BigDecimal)}, in the precision of the
+     * service. Without interest, the loan is split evenly.
+     */
+    private BigDecimal calculateMonthlyCost(BigDecimal interestRate, int numPayments, BigDecimal loanValue) {
+        if (precision == CalculationPrecision.DOUBLE) {
+            BigDecimal monthlyCost = calculateMonthlyCostOnDoubles(interestRate, numPayments, loanValue);
+            return monthlyCost != null ? monthlyCost
+                    : calculateMonthlyCost(interestRate, numPayments, loanValue, MathContext.DECIMAL128);
+        }
+        return calculateMonthlyCost(interestRate, numPayments, loanValue, mathContext);
+    }
+
+    private static BigDecimal calculateMonthlyCost(BigDecimal interestRate, int numPayments, BigDecimal loanValue,
+                                                   MathContext mathContext) {
+        if (interestRate.signum() == 0) {
+            return loanValue.divide(BigDecimal.valueOf(numPayments), mathContext)
+                    .setScale(2, RoundingMode.HALF_UP);
+        }
+
+        return loanValue.multiply(annuityFactor(interestRate, numPayments, mathContext), mathContext)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The payment formula on doubles, rounded half up to cents like the BigDecimal one.
+     *
+     * @return Monthly cost, or null if it is too close to half a cent to tell which way it rounds
+     */
+    private static BigDecimal calculateMonthlyCostOnDoubles(BigDecimal interestRate, int numPayments,
+                                                            BigDecimal loanValue) {
+        double cents = annuity(loanValue.doubleValue(), interestRate.doubleValue() / 12, numPayments) * 100;
+        if (nearHalfCent(cents)) {
+            return null;
+        }
+        return BigDecimal.valueOf(Math.round(cents), 2);
+    }
+
+    private BigDecimal annuityFactor(BigDecimal interestRate, int numPayments) {
+        return annuityFactor(interestRate, numPayments, mathContext);
+    }
+
+    /**
+     * Monthly cost of a loan of 1, the P-independent part of the fixed-rate mortgage payment formula:
+     * (i ((1+i)^n)) / (((1+i)^n) - 1), 1 / n without interest
+     */
+    private static BigDecimal annuityFactor(BigDecimal interestRate, int numPayments, MathContext mathContext) {
+        if (interestRate.signum() == 0) {
+            return BigDecimal.ONE.divide(BigDecimal.valueOf(numPayments), mathContext);
+        }
 
         // i
-        BigDecimal monthlyInterestRate = interestRate.divide(BigDecimal.valueOf(12), MathContext.DECIMAL128);
-        // n
-        int numPayments = maturityPeriod * 12;
+        BigDecimal monthlyInterestRate = interestRate.divide(BigDecimal.valueOf(12), mathContext);
 
         // (1+i)^n
         BigDecimal onePlusMonthlyInterestRatePowNumPayments =
-                BigDecimal.ONE.add(monthlyInterestRate).pow(numPayments, MathContext.DECIMAL128);
+                BigDecimal.ONE.add(monthlyInterestRate).pow(numPayments, mathContext);
 
         BigDecimal numerator = monthlyInterestRate.multiply(onePlusMonthlyInterestRatePowNumPayments);
         BigDecimal denominator = onePlusMonthlyInterestRatePowNumPayments.subtract(BigDecimal.ONE);
 
-        return loanValue.multiply(numerator)
-                .divide(denominator, MathContext.DECIMAL128)
-                .setScale(2, RoundingMode.HALF_UP);
+        return numerator.divide(denominator, mathContext);
+    }
+
+    /**
+     * Outstanding balance after k monthly payments, without iterating over them.
+     * B(k) = B x (1+i)^k - C x ((1+i)^k - 1) / i
+     */
+    private BigDecimal rollBalanceForward(BigDecimal balance, BigDecimal interestRate, BigDecimal monthlyCost,
+                                          int numPayments) {
+        if (interestRate.signum() == 0) {
+            return balance.subtract(monthlyCost.multiply(BigDecimal.valueOf(numPayments)));
+        }
+        BigDecimal monthlyInterestRate = interestRate.divide(BigDecimal.valueOf(12), mathContext);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyInterestRate).pow(numPayments, mathContext);
+
+        return balance.multiply(growth, mathContext)
+                .subtract(monthlyCost.multiply(growth.subtract(BigDecimal.ONE))
+                        .divide(monthlyInterestRate, mathContext), mathContext);
+    }
+
+    /**
+     * Record the validation failure for Flight Recorder before it is thrown
+     */
+    private static MortgageDomainException rejected(MortgageDomainException exception) {
+        MortgageValidationFailedEvent.emit(exception.getMessage());
+        return exception;
     }
 
     /**
      * Validates the mortgage applicant and mortgage rate data.
      * Throws MortgageDomainException if any of the data is invalid.
+     * Invalid input is expected traffic, so failures are preallocated exceptions logged at debug level. They are
+     * reported by the REST layer.
      */
     private void validateMortgageData(MortgageRate mortgageRate, MortgageApplicant mortgageApplicant) {
         // Validaciones de entrada
         if (mortgageApplicant.income() == null || mortgageApplicant.income().compareTo(BigDecimal.ZERO) <= 0) {
-            log.error("Invalid income: {}. It must be greater than zero.", mortgageApplicant.income());
-            throw new MortgageDomainException("Invalid income: It must be greater than zero.");
+            log.debug("Invalid income: {}. It must be greater than zero.", mortgageApplicant.income());
+            throw rejected(MortgageDomainException.INVALID_INCOME);
         }
 
         if (mortgageApplicant.loanValue() == null || mortgageApplicant.loanValue().compareTo(BigDecimal.ZERO) <= 0) {
-            log.error("Invalid loan value: {}. It must be greater than zero.", mortgageApplicant.loanValue());
-            throw new MortgageDomainException("Invalid loan value: It must be greater than zero.");
+            log.debug("Invalid loan value: {}. It must be greater than zero.", mortgageApplicant.loanValue());
+            throw rejected(MortgageDomainException.INVALID_LOAN_VALUE);
         }
 
         if (mortgageApplicant.homeValue() == null || mortgageApplicant.homeValue().compareTo(BigDecimal.ZERO) <= 0) {
-            log.error("Invalid home value: {}. It must be greater than zero.", mortgageApplicant.homeValue());
-            throw new MortgageDomainException("Invalid home value: It must be greater than zero.");
+            log.debug("Invalid home value: {}. It must be greater than zero.", mortgageApplicant.homeValue());
+            throw rejected(MortgageDomainException.INVALID_HOME_VALUE);
         }
 
         if (mortgageRate.maturityPeriod() == null || mortgageRate.maturityPeriod() <= 0) {
-            log.error("Invalid maturity period: {}. It must be greater than zero.", mortgageRate.maturityPeriod());
-            throw new MortgageDomainException("Invalid maturity period: It must be greater than zero.");
+            log.debug("Invalid maturity period: {}. It must be greater than zero.", mortgageRate.maturityPeriod());
+            throw rejected(MortgageDomainException.INVALID_MATURITY_PERIOD);
         }
     }
 
@@ -0,0 +1,88 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.config;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.controller.MortgageAPIController;
+import com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics.RequestCostEndpoint;
+import com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics.RequestCostInterceptor;
+import com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics.RequestCostProperties;
+import com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics.RequestCostRecorder;
+import com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics.ServerTimingFilter;
+import com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics.ServerTimingProperties;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.idempotency.IdempotencyProperties;
+import com.bank.mortgage.infrastructure.adapter.in.rest.idempotency.IdempotencyStore;
+import com.bank.mortgage.infrastructure.adapter.in.rest.limiter.ConcurrencyLimitInterceptor;
+import com.bank.mortgage.infrastructure.adapter.in.rest.limiter.ConcurrencyLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties({ConcurrencyLimitProperties.class, IdempotencyProperties.class,
+        RequestCostProperties.class, ServerTimingProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final RequestCostProperties requestCostProperties;
+
+    public WebConfig(ConcurrencyLimitProperties concurrencyLimitProperties,
+                     RequestCostProperties requestCostProperties) {
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.requestCostProperties = requestCostProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // First, so requests rejected by a concurrency limit are measured too
+        if (requestCostProperties.enabled()) {
+            registry.addInterceptor(RequestCostInterceptor.forController(MortgageAPIController.class,
+                    requestCostRecorder()));
+        }
+
+        if (!concurrencyLimitProperties.enabled()) {
+            return;
+        }
+        ConcurrencyLimitProperties.Limit mortgageCheck = concurrencyLimitProperties.mortgageCheck();
+        registry.addInterceptor(new ConcurrencyLimitInterceptor("mortgage-check", mortgageCheck.toLimiter(),
+                        mortgageCheck.retryAfterSeconds()))
+                .addPathPatterns("/v1/api/mortgage-check");
+
+        ConcurrencyLimitProperties.Limit interestRates = concurrencyLimitProperties.interestRates();
+        registry.addInterceptor(new ConcurrencyLimitInterceptor("interest-rates", interestRates.toLimiter(),
+                        interestRates.retryAfterSeconds()))
+                .addPathPatterns("/v1/api/interest-rates");
+    }
+
+    @Bean
+    public IdempotencyStore<MortgageCheckRequest, MortgageCheckResponse> mortgageCheckIdempotencyStore(
+            IdempotencyProperties properties) {
+        return new IdempotencyStore<>(properties.ttl(), properties.maxEntries());
+    }
+
+    /**
+     * Filled in by the request cost interceptor, when requests are measured
+     */
+    @Bean
+    public RequestCostRecorder requestCostRecorder() {
+        return new RequestCostRecorder();
+    }
+
+    @Bean
+    public RequestCostEndpoint requestCostEndpoint() {
+        return new RequestCostEndpoint(requestCostProperties, requestCostRecorder());
+    }
+
+    /**
+     * Registered disabled when the header is off, the paths are only timed when it is on
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter());
+        registration.setEnabled(properties.enabled());
+        registration.setUrlPatterns(properties.paths());
+        return registration;
+    }
+}
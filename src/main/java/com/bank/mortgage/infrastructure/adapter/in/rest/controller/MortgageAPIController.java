@@ -1,14 +1,42 @@
 package com.bank.mortgage.infrastructure.adapter.in.rest.controller;
 
-import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.MortgageQuote;
+import com.bank.mortgage.domain.model.MortgageCheckCommand;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import com.bank.mortgage.domain.model.VariableRateProjectionCommand;
 import com.bank.mortgage.domain.port.in.CheckMortgageFeasibilityUseCase;
-import com.bank.mortgage.domain.port.in.GetAllMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.CompareRefinanceOptionsUseCase;
+import com.bank.mortgage.domain.port.in.GetMortgageQuoteUseCase;
+import com.bank.mortgage.domain.port.in.ProjectVariableRateMortgageUseCase;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.SimulateOverpaymentsUseCase;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageProjectionRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageProjectionResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageQuoteResponse;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.Product;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceComparisonResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.idempotency.IdempotencyStore;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.MaturityResolutionMapper;
 import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.MortgageCheckResponseMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.MortgageQuoteResponseMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.MortgageProjectionResponseMapper;
 import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.MortgageRateResponseMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.OverpaymentSimulationMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.ProductMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.RefinanceMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.pagination.MortgageRateCursor;
+import com.bank.mortgage.infrastructure.timing.ServerTiming;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +44,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,37 +55,149 @@ import java.util.stream.Collectors;
 @RequestMapping("/v1/api/")
 public class MortgageAPIController implements MortgageApi {
 
-    private final GetAllMortgageRatesUseCase getAllMortgageRatesUseCase;
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final SearchMortgageRatesUseCase searchMortgageRatesUseCase;
     private final CheckMortgageFeasibilityUseCase checkMortgageFeasibilityUseCase;
+    private final GetMortgageQuoteUseCase getMortgageQuoteUseCase;
+    private final ProjectVariableRateMortgageUseCase projectVariableRateMortgageUseCase;
+    private final SimulateOverpaymentsUseCase simulateOverpaymentsUseCase;
+    private final CompareRefinanceOptionsUseCase compareRefinanceOptionsUseCase;
+    private final IdempotencyStore<MortgageCheckRequest, MortgageCheckResponse> mortgageCheckIdempotencyStore;
 
     @Override
-    public ResponseEntity<List<MortgageRateResponse>> getInterestRates() {
-        log.info("Getting all mortgage rates");
+    public ResponseEntity<List<MortgageRateResponse>> getInterestRates(Product product, Integer minMaturityPeriod,
+                                                                       Integer maxMaturityPeriod,
+                                                                       LocalDateTime updatedSince, String cursor,
+                                                                       Integer limit) {
+        ServerTiming.lap(ServerTiming.Stage.PARSE);
+        log.info("Getting mortgage rates");
 
-        List<MortgageRate> allMortgageRates = getAllMortgageRatesUseCase.getAllMortgageRates();
+        MortgageRatePage mortgageRatePage = searchMortgageRatesUseCase.searchMortgageRates(new MortgageRateQuery(
+                ProductMapper.toDomain(product), minMaturityPeriod, maxMaturityPeriod, updatedSince,
+                MortgageRateCursor.decode(cursor), limit));
 
-        List<MortgageRateResponse> mortgageRateResponses = allMortgageRates.stream()
+        List<MortgageRateResponse> mortgageRateResponses = mortgageRatePage.rates().stream()
                 .map(MortgageRateResponseMapper::fromDomain)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(mortgageRateResponses);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (mortgageRatePage.hasNext()) {
+            response.header(MortgageRateCursor.NEXT_CURSOR_HEADER,
+                    MortgageRateCursor.encode(mortgageRatePage.lastMaturityPeriod()));
+        }
+        ServerTiming.lap(ServerTiming.Stage.COMPUTE);
+        return response.body(mortgageRateResponses);
     }
 
     @Override
-    public ResponseEntity<MortgageCheckResponse> checkMortgageFeasibility(MortgageCheckRequest mortgageCheckRequest) {
+    public ResponseEntity<MortgageCheckResponse> checkMortgageFeasibility(MortgageCheckRequest mortgageCheckRequest,
+                                                                          String idempotencyKey) {
+        ServerTiming.lap(ServerTiming.Stage.PARSE);
         log.info("Checking mortgage feasibility");
 
+        if (idempotencyKey == null) {
+            MortgageCheckResponse mortgageCheckResponse = check(mortgageCheckRequest, false);
+            ServerTiming.lap(ServerTiming.Stage.COMPUTE);
+            return ResponseEntity.ok(mortgageCheckResponse);
+        }
+
+        // Retries of the same check get the stored response, and wait for it if the first one is still in progress
+        IdempotencyStore.Outcome<MortgageCheckResponse> outcome = mortgageCheckIdempotencyStore.execute(
+                idempotencyKey, mortgageCheckRequest, () -> check(mortgageCheckRequest, false));
+        ServerTiming.lap(ServerTiming.Stage.COMPUTE);
+
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(outcome.replayed()))
+                .body(outcome.response());
+    }
+
+    @Override
+    public ResponseEntity<MortgageQuoteResponse> getMortgageQuote(UUID quoteId) {
+        log.info("Getting mortgage quote");
+
+        MortgageQuote mortgageQuote = getMortgageQuoteUseCase.getMortgageQuote(quoteId);
+
+        return ResponseEntity.ok(MortgageQuoteResponseMapper.fromDomain(mortgageQuote));
+    }
+
+    @Override
+    public ResponseEntity<MortgageProjectionResponse> projectVariableRateMortgage(
+            MortgageProjectionRequest mortgageProjectionRequest) {
+        log.info("Projecting variable-rate mortgage");
+
+        List<BigDecimal> ratePath = mortgageProjectionRequest.getRatePath() == null ? List.of()
+                : mortgageProjectionRequest.getRatePath().stream().map(BigDecimal::valueOf).toList();
+
+        VariableRateProjection variableRateProjection =
+                projectVariableRateMortgageUseCase.projectVariableRateMortgage(new VariableRateProjectionCommand(
+                        ProductMapper.toDomain(mortgageProjectionRequest.getProduct()),
+                        mortgageProjectionRequest.getMaturityPeriod(),
+                        BigDecimal.valueOf(mortgageProjectionRequest.getLoanValue()),
+                        mortgageProjectionRequest.getResetIntervalMonths() == null
+                                ? 12 : mortgageProjectionRequest.getResetIntervalMonths(),
+                        ratePath,
+                        mortgageProjectionRequest.getSpread() == null
+                                ? BigDecimal.ZERO : BigDecimal.valueOf(mortgageProjectionRequest.getSpread())));
+
+        return ResponseEntity.ok(MortgageProjectionResponseMapper.fromDomain(variableRateProjection));
+    }
+
+    @Override
+    public ResponseEntity<OverpaymentSimulationResponse> simulateOverpayments(
+            OverpaymentSimulationRequest overpaymentSimulationRequest) {
+        log.debug("Simulating mortgage overpayments");
+
+        OverpaymentSimulation overpaymentSimulation = simulateOverpaymentsUseCase.simulateOverpayments(
+                OverpaymentSimulationMapper.toDomain(overpaymentSimulationRequest));
+
+        return ResponseEntity.ok(OverpaymentSimulationMapper.fromDomain(overpaymentSimulation));
+    }
+
+    @Override
+    public ResponseEntity<RefinanceComparisonResponse> compareRefinanceOptions(RefinanceRequest refinanceRequest) {
+        log.info("Comparing refinance options");
+
+        RefinanceComparison refinanceComparison = compareRefinanceOptionsUseCase.compareRefinanceOptions(
+                RefinanceMapper.toDomain(refinanceRequest));
+
+        return ResponseEntity.ok(RefinanceMapper.fromDomain(refinanceComparison));
+    }
+
+    @Override
+    public ResponseEntity<List<RefinanceComparisonResponse>> compareRefinanceOptionsBatch(
+            List<RefinanceRequest> refinanceRequests) {
+        log.info("Comparing refinance options of {} loans", refinanceRequests.size());
+
+        List<RefinanceComparison> refinanceComparisons = compareRefinanceOptionsUseCase.compareRefinanceOptions(
+                refinanceRequests.stream().map(RefinanceMapper::toDomain).toList());
+
+        return ResponseEntity.ok(refinanceComparisons.stream().map(RefinanceMapper::fromDomain).toList());
+    }
+
+    /**
+     * Check a mortgage through the same mapping, use case and domain path as
+     * {@link #checkMortgageFeasibility(MortgageCheckRequest, String)}, without auditing the decision or issuing a
+     * quote. Used by the startup warm-up, whose synthetic checks are not applications
+     */
+    public MortgageCheckResponse checkMortgageFeasibilityDryRun(MortgageCheckRequest mortgageCheckRequest) {
+        return check(mortgageCheckRequest, true);
+    }
+
+    private MortgageCheckResponse check(MortgageCheckRequest mortgageCheckRequest, boolean dryRun) {
         // Parse double to BigDecimal
         BigDecimal income = BigDecimal.valueOf(mortgageCheckRequest.getIncome());
         BigDecimal loanValue = BigDecimal.valueOf(mortgageCheckRequest.getLoanValue());
         BigDecimal homeValue = BigDecimal.valueOf(mortgageCheckRequest.getHomeValue());
 
-        MortgageFeasibilityResult mortgageFeasibilityResult =
-                checkMortgageFeasibilityUseCase.checkMortgageFeasibility(mortgageCheckRequest.getMaturityPeriod(),
-                        income, loanValue, homeValue);
-
-        MortgageCheckResponse mortgageCheckResponse = MortgageCheckResponseMapper.fromDomain(mortgageFeasibilityResult);
+        MortgageFeasibilityResult mortgageFeasibilityResult = checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                new MortgageCheckCommand(ProductMapper.toDomain(mortgageCheckRequest.getProduct()),
+                        mortgageCheckRequest.getMaturityPeriod(), income, loanValue, homeValue,
+                        MaturityResolutionMapper.toDomain(mortgageCheckRequest.getMaturityResolution()),
+                        mortgageCheckRequest.getFees() == null
+                                ? BigDecimal.ZERO : BigDecimal.valueOf(mortgageCheckRequest.getFees()),
+                        Boolean.TRUE.equals(mortgageCheckRequest.getIncludeApr()), dryRun));
 
-        return ResponseEntity.ok(mortgageCheckResponse);
+        return MortgageCheckResponseMapper.fromDomain(mortgageFeasibilityResult);
     }
 }
@@ -0,0 +1,60 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.controller;
+
+import com.bank.mortgage.domain.port.in.AnalyzePortfolioUseCase;
+import com.bank.mortgage.domain.port.in.LoadPortfolioUseCase;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioAnalyticsResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioLoadResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioLoanRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioRescoreReportResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.PortfolioMapper;
+import com.bank.mortgage.infrastructure.portfolio.PortfolioRescoreListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/api/")
+public class PortfolioAPIController implements PortfolioApi {
+
+    private final LoadPortfolioUseCase loadPortfolioUseCase;
+    private final PortfolioRescoreListener portfolioRescoreListener;
+    private final AnalyzePortfolioUseCase analyzePortfolioUseCase;
+
+    @Override
+    public ResponseEntity<PortfolioLoadResponse> loadPortfolioLoans(List<PortfolioLoanRequest> portfolioLoanRequests) {
+        log.info("Loading portfolio loans");
+
+        int portfolioSize = loadPortfolioUseCase.loadPortfolioLoans(portfolioLoanRequests.stream()
+                .map(PortfolioMapper::toDomain)
+                .toList());
+
+        // OpenAPI generator doesn't provide builder function
+        PortfolioLoadResponse portfolioLoadResponse = new PortfolioLoadResponse();
+        portfolioLoadResponse.setLoaded(portfolioLoanRequests.size());
+        portfolioLoadResponse.setPortfolioSize(portfolioSize);
+        return ResponseEntity.ok(portfolioLoadResponse);
+    }
+
+    @Override
+    public ResponseEntity<PortfolioRescoreReportResponse> getPortfolioRescoreReport() {
+        log.info("Getting portfolio rescore report");
+
+        return portfolioRescoreListener.lastReport()
+                .map(lastReport -> ResponseEntity.ok(PortfolioMapper.fromDomain(lastReport.rateVersion(),
+                        lastReport.report())))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @Override
+    public ResponseEntity<PortfolioAnalyticsResponse> getPortfolioAnalytics() {
+        log.info("Getting portfolio analytics");
+
+        return ResponseEntity.ok(PortfolioMapper.fromDomain(analyzePortfolioUseCase.analyzePortfolio()));
+    }
+}
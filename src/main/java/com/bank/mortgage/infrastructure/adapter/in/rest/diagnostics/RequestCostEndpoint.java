@@ -0,0 +1,41 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint with the allocated bytes and CPU time per request of every mortgage API endpoint.
+ * A DELETE starts a new measurement, e.g. between two load tests.
+ */
+@Endpoint(id = "requestcost")
+public class RequestCostEndpoint {
+
+    private final RequestCostProperties properties;
+    private final RequestCostRecorder recorder;
+
+    public RequestCostEndpoint(RequestCostProperties properties, RequestCostRecorder recorder) {
+        this.properties = properties;
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public RequestCostReport requestCost() {
+        return new RequestCostReport(properties.enabled(), recorder.snapshot());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+
+    /**
+     * @param enabled   Whether requests are being measured, see mortgage.request-cost.enabled.
+     * @param endpoints Endpoint -> outcome -> cost per request.
+     */
+    public record RequestCostReport(boolean enabled,
+                                    Map<String, Map<String, RequestCostRecorder.RequestCostSnapshot>> endpoints) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import com.sun.management.ThreadMXBean;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated and the CPU time spent by the request thread between the handler selection and the
+ * completion of the request, response serialization included, with the thread counters of the JVM. Only the
+ * handlers of the given controller are measured, each endpoint under the name of its handler method.
+ * <p>
+ * A request is served by a single thread, so the difference of the counters of that thread is the cost of the request.
+ */
+@Slf4j
+public class RequestCostInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestCostInterceptor.class.getName() + ".start";
+
+    private final Class<?> controllerType;
+    private final ThreadMXBean threadMXBean;
+    private final RequestCostRecorder recorder;
+    private final boolean allocationMeasured;
+    private final boolean cpuTimeMeasured;
+
+    public RequestCostInterceptor(Class<?> controllerType, ThreadMXBean threadMXBean, RequestCostRecorder recorder) {
+        this.controllerType = controllerType;
+        this.threadMXBean = threadMXBean;
+        this.recorder = recorder;
+        this.allocationMeasured = threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled();
+        this.cpuTimeMeasured = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+    }
+
+    /**
+     * Measure the handlers of the controller with the thread counters of this JVM, switching them on
+     */
+    public static RequestCostInterceptor forController(Class<?> controllerType, RequestCostRecorder recorder) {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (threadMXBean.isThreadAllocatedMemorySupported()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            log.warn("Thread allocation counters are not supported by this JVM, request allocations won't be measured");
+        }
+        if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        } else {
+            log.warn("Thread CPU time is not supported by this JVM, request CPU time won't be measured");
+        }
+        return new RequestCostInterceptor(controllerType, threadMXBean, recorder);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.getBeanType() == controllerType) {
+            // Allocated before reading the counters, so it isn't part of the cost
+            long[] start = new long[2];
+            request.setAttribute(START_ATTRIBUTE, start);
+            start[0] = allocationMeasured ? threadMXBean.getCurrentThreadAllocatedBytes() : -1;
+            start[1] = cpuTimeMeasured ? threadMXBean.getCurrentThreadCpuTime() : -1;
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        // Counters first, so the accounting below isn't part of the cost
+        long allocatedBytes = allocationMeasured ? threadMXBean.getCurrentThreadAllocatedBytes() : -1;
+        long cpuTimeNanos = cpuTimeMeasured ? threadMXBean.getCurrentThreadCpuTime() : -1;
+
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof long[] start)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        HttpStatus.Series outcome = ex != null ? HttpStatus.Series.SERVER_ERROR
+                : HttpStatus.Series.resolve(response.getStatus());
+        recorder.record(((HandlerMethod) handler).getMethod().getName(),
+                outcome == null ? HttpStatus.Series.SERVER_ERROR : outcome,
+                start[0] < 0 ? -1 : allocatedBytes - start[0],
+                start[1] < 0 ? -1 : cpuTimeNanos - start[1]);
+    }
+}
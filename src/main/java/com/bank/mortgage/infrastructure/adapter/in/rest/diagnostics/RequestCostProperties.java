@@ -0,0 +1,15 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Diagnostic accounting of the memory allocated and the CPU time spent by every mortgage API request.
+ *
+ * @param enabled Whether requests are measured. Off by default: reading the thread counters costs two native calls
+ *                per request.
+ */
+@ConfigurationProperties(prefix = "mortgage.request-cost")
+public record RequestCostProperties(
+        @DefaultValue("false") boolean enabled) {
+}
@@ -0,0 +1,83 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Allocated bytes and CPU time of the requests, per endpoint and outcome (the series of the response status).
+ * Recording neither locks nor allocates once the endpoint has been seen.
+ */
+public class RequestCostRecorder {
+
+    private static final HttpStatus.Series[] OUTCOMES = HttpStatus.Series.values();
+
+    private final ConcurrentMap<String, RequestCost[]> costs = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint,       name of the endpoint
+     * @param outcome,        series of the response status
+     * @param allocatedBytes, bytes allocated by the request thread, negative if not measured
+     * @param cpuTimeNanos,   CPU time of the request thread, negative if not measured
+     */
+    public void record(String endpoint, HttpStatus.Series outcome, long allocatedBytes, long cpuTimeNanos) {
+        RequestCost[] endpointCosts = costs.get(endpoint);
+        if (endpointCosts == null) {
+            endpointCosts = costs.computeIfAbsent(endpoint, key -> newRequestCosts());
+        }
+        RequestCost requestCost = endpointCosts[outcome.ordinal()];
+        requestCost.allocatedBytes.record(allocatedBytes);
+        requestCost.cpuTimeNanos.record(cpuTimeNanos);
+    }
+
+    /**
+     * @return Endpoint -> outcome -> cost, sorted by name, only the outcomes that happened
+     */
+    public Map<String, Map<String, RequestCostSnapshot>> snapshot() {
+        Map<String, Map<String, RequestCostSnapshot>> snapshot = new TreeMap<>();
+        costs.forEach((endpoint, endpointCosts) -> {
+            Map<String, RequestCostSnapshot> outcomes = new TreeMap<>();
+            for (HttpStatus.Series outcome : OUTCOMES) {
+                RequestCost requestCost = endpointCosts[outcome.ordinal()];
+                LogLinearHistogram.Snapshot allocatedBytes = requestCost.allocatedBytes.snapshot();
+                LogLinearHistogram.Snapshot cpuTimeNanos = requestCost.cpuTimeNanos.snapshot();
+                if (allocatedBytes.count() > 0 || cpuTimeNanos.count() > 0) {
+                    outcomes.put(outcome.name(), new RequestCostSnapshot(allocatedBytes, cpuTimeNanos));
+                }
+            }
+            snapshot.put(endpoint, outcomes);
+        });
+        return snapshot;
+    }
+
+    public void reset() {
+        costs.values().forEach(endpointCosts -> {
+            for (RequestCost requestCost : endpointCosts) {
+                requestCost.allocatedBytes.reset();
+                requestCost.cpuTimeNanos.reset();
+            }
+        });
+    }
+
+    private static RequestCost[] newRequestCosts() {
+        RequestCost[] requestCosts = new RequestCost[OUTCOMES.length];
+        for (int i = 0; i < requestCosts.length; i++) {
+            requestCosts[i] = new RequestCost(new LogLinearHistogram(), new LogLinearHistogram());
+        }
+        return requestCosts;
+    }
+
+    private record RequestCost(LogLinearHistogram allocatedBytes, LogLinearHistogram cpuTimeNanos) {
+    }
+
+    /**
+     * @param allocatedBytes Bytes allocated per request.
+     * @param cpuTimeNanos   CPU time per request, in nanoseconds.
+     */
+    public record RequestCostSnapshot(LogLinearHistogram.Snapshot allocatedBytes,
+                                      LogLinearHistogram.Snapshot cpuTimeNanos) {
+    }
+}
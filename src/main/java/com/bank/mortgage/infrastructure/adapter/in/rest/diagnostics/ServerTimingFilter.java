@@ -0,0 +1,41 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import com.bank.mortgage.infrastructure.timing.ServerTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Times the request with {@link ServerTiming} and sends the stages in a Server-Timing header.
+ * <p>
+ * The body is buffered until the request completes, so the header can still be sent after the serialization has
+ * been timed. The time from the controller returning to the request completing is the serialize stage. A request
+ * rejected before reaching the controller has it all in that stage.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        ServerTiming.begin();
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+            ServerTiming.lap(ServerTiming.Stage.SERIALIZE);
+            bufferedResponse.setHeader(SERVER_TIMING_HEADER, ServerTiming.end());
+        } finally {
+            if (ServerTiming.isActive()) {
+                // The request failed, there's no header to send
+                ServerTiming.end();
+            }
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Server-Timing response header with the duration of every stage of a request.
+ *
+ * @param enabled Whether the header is sent. Off by default: the response body is buffered to time its
+ *                serialization, and the header discloses internal timings.
+ * @param paths   Request paths that get the header.
+ */
+@ConfigurationProperties(prefix = "mortgage.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue({"/v1/api/mortgage-check", "/v1/api/interest-rates"}) List<String> paths) {
+}
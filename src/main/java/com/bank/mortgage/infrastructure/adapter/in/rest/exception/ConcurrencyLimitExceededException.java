@@ -0,0 +1,19 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.exception;
+
+/**
+ * Thrown when a request is rejected because its endpoint is at its concurrency limit.
+ * It is an expected, high volume condition under load, so no stack trace is captured.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(int retryAfterSeconds) {
+        super("Service is at capacity. Please try again later.", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
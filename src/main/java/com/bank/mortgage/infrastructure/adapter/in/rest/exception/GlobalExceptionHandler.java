@@ -3,12 +3,16 @@ package com.bank.mortgage.infrastructure.adapter.in.rest.exception;
 
 import com.bank.mortgage.domain.exception.MortgageDomainException;
 import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.exception.MortgageQuoteNotFoundException;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.bank.mortgage.infrastructure.logging.LogRateLimiter;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,6 +20,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -25,11 +32,26 @@ import java.util.stream.Collectors;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Error bodies for fixed messages are cached instead of rebuilt per request. The generated DTO has setters, but a
+    // cached body is only serialized: it must never be modified once built, as every request with the same error
+    // shares it. The bound keeps messages built from user input (e.g. unknown maturities) from growing the cache
+    // without limit
+    private static final int MAX_CACHED_ERROR_RESPONSES = 1024;
+
+    // Error code -> error message -> body
+    private final Map<String, Map<String, ErrorResponse>> errorResponses = new ConcurrentHashMap<>();
+
+    // Client errors are expected traffic: they are logged without stack trace, and at most 20 per second
+    private final LogRateLimiter clientErrorLogLimiter =
+            new LogRateLimiter(log, "client error", 20, Duration.ofSeconds(1));
+    private final LogRateLimiter serverErrorLogLimiter =
+            new LogRateLimiter(log, "server error", 20, Duration.ofSeconds(1));
+
     @ResponseBody
     @ExceptionHandler(ConstraintViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleConstraintViolationException(ConstraintViolationException ex) {
-        log.error(ex.getMessage(), ex);
+        logClientError(ex);
         // concat all field errors, in case there's more than one
         String errors = ex.getConstraintViolations().stream()
                 .collect(Collectors.groupingBy(violation -> violation.getPropertyPath().toString(),
@@ -45,7 +67,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
-        log.error(ex.getMessage(), ex);
+        logClientError(ex);
         // concat all field errors, in case there's more than one
         String errors = ex.getBindingResult().getFieldErrors().stream()
                 .collect(Collectors.groupingBy(FieldError::getField,
@@ -60,35 +82,83 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = {MortgageNotFoundException.class})
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleException(MortgageNotFoundException mortgageNotFoundException) {
-        log.error(mortgageNotFoundException.getMessage(), mortgageNotFoundException);
-        return buildErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), mortgageNotFoundException.getMessage());
+        logClientError(mortgageNotFoundException);
+        return cachedErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), mortgageNotFoundException.getMessage());
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {MortgageQuoteNotFoundException.class})
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleException(MortgageQuoteNotFoundException mortgageQuoteNotFoundException) {
+        logClientError(mortgageQuoteNotFoundException);
+        // Not cached: the message contains the quote id, different for every request
+        return buildErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), mortgageQuoteNotFoundException.getMessage());
     }
 
     @ResponseBody
     @ExceptionHandler(value = {MortgageDomainException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleException(MortgageDomainException mortgageDomainException) {
-        log.error(mortgageDomainException.getMessage(), mortgageDomainException);
-        return buildErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), mortgageDomainException.getMessage());
+        logClientError(mortgageDomainException);
+        return cachedErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), mortgageDomainException.getMessage());
     }
 
     @ResponseBody
     @ExceptionHandler(value = {IllegalArgumentException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleException(IllegalArgumentException illegalArgumentException) {
-        log.error(illegalArgumentException.getMessage(), illegalArgumentException);
-        return buildErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), illegalArgumentException.getMessage());
+        logClientError(illegalArgumentException);
+        return cachedErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), illegalArgumentException.getMessage());
     }
 
     @ResponseBody
     @ExceptionHandler(DataAccessException.class)
     @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
     public ErrorResponse handleDatabaseException(DataAccessException ex) {
-        log.error("Database connection error: {}", ex.getMessage(), ex);
-        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+        if (serverErrorLogLimiter.tryAcquire()) {
+            log.error("Database connection error: {}", ex.getMessage(), ex);
+        }
+        return cachedErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
                 "There was a problem connecting to the database. Please try again later.");
     }
 
+    @ResponseBody
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ErrorResponse handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        logClientError(ex);
+        return cachedErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(), ex.getMessage());
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException ex) {
+        // Expected under load and potentially very frequent, so no stack trace and no error level
+        log.debug(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(cachedErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(), ex.getMessage()));
+    }
+
+    private void logClientError(Exception ex) {
+        if (clientErrorLogLimiter.tryAcquire()) {
+            log.warn("Rejected request: {}", ex.getMessage());
+        }
+    }
+
+    private ErrorResponse cachedErrorResponse(String errorCode, String errorMessage) {
+        Map<String, ErrorResponse> responsesByMessage =
+                errorResponses.computeIfAbsent(errorCode, code -> new ConcurrentHashMap<>());
+        ErrorResponse errorResponse = responsesByMessage.get(errorMessage);
+        if (errorResponse != null) {
+            return errorResponse;
+        }
+        errorResponse = buildErrorResponse(errorCode, errorMessage);
+        if (responsesByMessage.size() < MAX_CACHED_ERROR_RESPONSES) {
+            responsesByMessage.putIfAbsent(errorMessage, errorResponse);
+        }
+        return errorResponse;
+    }
+
     private ErrorResponse buildErrorResponse(String errorCode, String errorMessage) {
         ErrorResponse errorResponse = new ErrorResponse();
         errorResponse.setErrorCode(errorCode);
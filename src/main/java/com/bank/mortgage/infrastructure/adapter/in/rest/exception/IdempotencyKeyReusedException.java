@@ -0,0 +1,12 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.exception;
+
+/**
+ * Thrown when an idempotency key is sent again with a different request body. It is a client error, so no stack
+ * trace is captured.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("Idempotency key already used with a different request.", null, false, false);
+    }
+}
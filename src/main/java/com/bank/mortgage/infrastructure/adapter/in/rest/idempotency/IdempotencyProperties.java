@@ -0,0 +1,18 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key support.
+ *
+ * @param ttl        Time a response is kept for retries with the same key.
+ * @param maxEntries Maximum number of keys kept. The oldest keys are evicted first when it is reached.
+ */
+@ConfigurationProperties(prefix = "mortgage.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("100000") int maxEntries) {
+}
@@ -0,0 +1,148 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.idempotency;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.exception.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded store of the responses of recent requests, by idempotency key.
+ * <p>
+ * The first request with a key computes the response; requests with the same key and an equal body get that response,
+ * waiting for it while it is in progress (single-flight). Failures are not stored, so a retry after an error computes
+ * again. Every key lives for the same {@code ttl}, so insertion order is also expiry order: keys are evicted from the
+ * head of a queue when they expire, or to make room when the store holds {@code maxEntries} keys.
+ *
+ * @param <Q> request type, compared with equals to detect a key reused for a different request
+ * @param <R> response type
+ */
+public class IdempotencyStore<Q, R> {
+
+    /**
+     * Response for a key, and whether it was computed by this call or replayed from a previous one
+     */
+    public record Outcome<R>(R response, boolean replayed) {
+    }
+
+    private record Entry<Q, R>(String key, Q request, CompletableFuture<R> response, long createdAt) {
+    }
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry<Q, R>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<Q, R>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public IdempotencyStore(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    IdempotencyStore(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid max entries: It must be greater than zero.");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Return the response stored for the key, or compute and store it
+     *
+     * @param key,     idempotency key sent by the client
+     * @param request, request body, must be equal to the one of the first request with the key
+     * @param compute, computes the response. Runs at most once per live key, on the caller thread
+     * @return Outcome with the response
+     * @throws IdempotencyKeyReusedException if the key was used for a different request
+     */
+    public Outcome<R> execute(String key, Q request, Supplier<R> compute) {
+        long now = nanoClock.getAsLong();
+        evict(now);
+
+        Entry<Q, R> entry = new Entry<>(key, request, new CompletableFuture<>(), now);
+        while (true) {
+            Entry<Q, R> existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                insertionOrder.add(entry);
+                return new Outcome<>(compute(key, entry, compute), false);
+            }
+            if (isExpired(existing, now)) {
+                // Not evicted yet: replace it, unless another request has just done it
+                if (entries.replace(key, existing, entry)) {
+                    insertionOrder.add(entry);
+                    return new Outcome<>(compute(key, entry, compute), false);
+                }
+                continue;
+            }
+            if (!existing.request().equals(request)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            return new Outcome<>(await(existing), true);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private R compute(String key, Entry<Q, R> entry, Supplier<R> compute) {
+        try {
+            R response = compute.get();
+            entry.response().complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            // Waiting duplicates get the same failure, later retries compute again
+            entries.remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private R await(Entry<Q, R> entry) {
+        try {
+            return entry.response().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void evict(long now) {
+        // A single thread evicts at a time, the others don't wait for it
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Entry<Q, R> head;
+            while ((head = insertionOrder.peek()) != null) {
+                Entry<Q, R> current = entries.get(head.key());
+                // A key replaced after expiry or removed after a failure leaves an outdated element in the queue
+                if (current == head && !isExpired(head, now) && entries.size() < maxEntries) {
+                    return;
+                }
+                insertionOrder.poll();
+                if (current == head) {
+                    entries.remove(head.key(), head);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Entry<Q, R> entry, long now) {
+        return now - entry.createdAt() >= ttlNanos;
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.limiter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limiter whose limit follows the latency gradient of the protected endpoint.
+ * <p>
+ * By Little's law, concurrency = throughput x latency: while latency stays at its long term baseline, extra in-flight
+ * requests are served without queueing and the limit can grow; once latency rises above the baseline, requests are
+ * queueing somewhere, so the limit shrinks proportionally to {@code longRtt / shortRtt}.
+ * A small headroom of {@code sqrt(limit)} is always added so the limit can probe for more capacity.
+ * <p>
+ * Acquiring is a single CAS on the in-flight counter. Limit updates are sampled: a release that finds another
+ * update in progress simply skips it, so there is no lock on the request path.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    // Exponential moving averages of latency in nanos. The long one is the baseline, the short one the recent trend
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: it must be 0 < min <= initial <= max");
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Invalid smoothing: It must be in (0, 1]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Try to reserve a slot for a new request
+     *
+     * @return true if the request can proceed, false if it has to be rejected
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot previously reserved with {@link #tryAcquire()}
+     *
+     * @param rttNanos, time the request held the slot
+     * @param dropped,  true if the request failed in a way that says nothing about latency (it is not sampled)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        if (dropped || rttNanos <= 0 || !updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            update(rttNanos, current);
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rttNanos, int inFlightAtRelease) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt = shortRtt * 0.9 + rttNanos * 0.1;
+        longRtt = longRtt * 0.99 + rttNanos * 0.01;
+
+        // Let the baseline recover quickly after a latency spike, otherwise the limit would stay low for too long
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+
+        // Do not grow the limit while the endpoint is not using it, there's no evidence it can sustain more
+        if (newLimit > estimatedLimit && inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
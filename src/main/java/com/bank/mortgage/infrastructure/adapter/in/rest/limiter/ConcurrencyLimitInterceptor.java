@@ -0,0 +1,55 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.limiter;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.exception.ConcurrencyLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sheds load in front of an endpoint: requests over the current adaptive limit are rejected before reaching the
+ * controller, so they fail fast instead of queueing behind the requests that are being served.
+ */
+@Slf4j
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private final String name;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int retryAfterSeconds;
+    private final String startAttribute;
+
+    public ConcurrencyLimitInterceptor(String name, AdaptiveConcurrencyLimiter limiter, int retryAfterSeconds) {
+        this.name = name;
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.startAttribute = ConcurrencyLimitInterceptor.class.getName() + "." + name;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            log.debug("Concurrency limit {} reached for {}, rejecting request", limiter.getLimit(), name);
+            throw new ConcurrencyLimitExceededException(retryAfterSeconds);
+        }
+        request.setAttribute(startAttribute, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(startAttribute);
+        if (start == null) {
+            // Rejected in preHandle, there's no slot to release
+            return;
+        }
+        request.removeAttribute(startAttribute);
+        // Server errors are usually fast failures, sampling them would make the endpoint look faster than it is
+        boolean dropped = ex != null || response.getStatus() >= 500;
+        limiter.release(System.nanoTime() - (long) start, dropped);
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.limiter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Adaptive concurrency limits for the REST endpoints. The mortgage check and the interest rates listing have
+ * separate limiters, so a spike on one of them does not shed traffic from the other.
+ *
+ * @param enabled       Whether requests over the limit are rejected.
+ * @param mortgageCheck Limits for POST /mortgage-check.
+ * @param interestRates Limits for GET /interest-rates.
+ */
+@ConfigurationProperties(prefix = "mortgage.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit mortgageCheck,
+        @DefaultValue Limit interestRates) {
+
+    /**
+     * @param initialLimit      Concurrency allowed before any latency has been measured.
+     * @param minLimit          The limit never goes below this value.
+     * @param maxLimit          The limit never goes above this value.
+     * @param smoothing         Weight (0-1] of every new limit estimation.
+     * @param retryAfterSeconds Value of the Retry-After header sent with rejected requests.
+     */
+    public record Limit(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("0.2") double smoothing,
+            @DefaultValue("1") int retryAfterSeconds) {
+
+        public AdaptiveConcurrencyLimiter toLimiter() {
+            return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MaturityResolution;
+
+public class MaturityResolutionMapper {
+
+    /**
+     * Map from infrastructure dto to domain object
+     *
+     * @param maturityResolution, Maturity resolution in the request, null if not given
+     * @return MaturityResolution, EXACT if not given
+     */
+    public static com.bank.mortgage.domain.entity.MaturityResolution toDomain(MaturityResolution maturityResolution) {
+        return maturityResolution == null
+                ? com.bank.mortgage.domain.entity.MaturityResolution.EXACT
+                : com.bank.mortgage.domain.entity.MaturityResolution.valueOf(maturityResolution.name());
+    }
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param maturityResolution, Maturity resolution
+     * @return MaturityResolution
+     */
+    public static MaturityResolution fromDomain(com.bank.mortgage.domain.entity.MaturityResolution maturityResolution) {
+        return maturityResolution == null ? null : MaturityResolution.valueOf(maturityResolution.name());
+    }
+
+}
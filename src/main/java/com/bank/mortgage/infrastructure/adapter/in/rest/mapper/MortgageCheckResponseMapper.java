@@ -1,5 +1,6 @@
 package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
 
+import com.bank.mortgage.domain.model.CostOfCredit;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
 
@@ -20,6 +21,19 @@ public class MortgageCheckResponseMapper {
         MortgageCheckResponse mortgageRateResponse = new MortgageCheckResponse();
         mortgageRateResponse.setFeasible(mortgageFeasibilityResult.isFeasible());
         mortgageRateResponse.setMonthlyCost(mortgageFeasibilityResult.getMonthlyCost().doubleValue());
+        if (mortgageFeasibilityResult.getInterestRate() != null) {
+            mortgageRateResponse.setInterestRate(mortgageFeasibilityResult.getInterestRate().doubleValue());
+        }
+        mortgageRateResponse.setMaturityResolution(
+                MaturityResolutionMapper.fromDomain(mortgageFeasibilityResult.getMaturityResolution()));
+        CostOfCredit costOfCredit = mortgageFeasibilityResult.getCostOfCredit();
+        if (costOfCredit != null) {
+            mortgageRateResponse.setApr(costOfCredit.apr().doubleValue());
+            mortgageRateResponse.setTotalInterest(costOfCredit.totalInterest().doubleValue());
+            mortgageRateResponse.setTotalCostOfCredit(costOfCredit.totalCostOfCredit().doubleValue());
+        }
+        mortgageRateResponse.setStaleRate(mortgageFeasibilityResult.isStaleRate());
+        mortgageRateResponse.setQuoteId(mortgageFeasibilityResult.getQuoteId());
 
         return mortgageRateResponse;
 
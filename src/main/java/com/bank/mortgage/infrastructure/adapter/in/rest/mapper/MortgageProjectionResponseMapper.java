@@ -0,0 +1,42 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.domain.model.RateReset;
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageProjectionResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RateResetResponse;
+
+public class MortgageProjectionResponseMapper {
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param variableRateProjection, Projection of a variable-rate mortgage
+     * @return MortgageProjectionResponse
+     */
+    public static MortgageProjectionResponse fromDomain(VariableRateProjection variableRateProjection) {
+        if (variableRateProjection == null) {
+            return null;
+        }
+
+        // OpenAPI generator doesn't provide builder function
+        MortgageProjectionResponse mortgageProjectionResponse = new MortgageProjectionResponse();
+        mortgageProjectionResponse.setResets(variableRateProjection.resets().stream()
+                .map(MortgageProjectionResponseMapper::fromDomain)
+                .toList());
+        mortgageProjectionResponse.setTotalPaid(variableRateProjection.totalPaid().doubleValue());
+        mortgageProjectionResponse.setTotalInterest(variableRateProjection.totalInterest().doubleValue());
+
+        return mortgageProjectionResponse;
+    }
+
+    private static RateResetResponse fromDomain(RateReset rateReset) {
+        RateResetResponse rateResetResponse = new RateResetResponse();
+        rateResetResponse.setMonth(rateReset.month());
+        rateResetResponse.setMonths(rateReset.months());
+        rateResetResponse.setInterestRate(rateReset.interestRate().doubleValue());
+        rateResetResponse.setOpeningBalance(rateReset.openingBalance().doubleValue());
+        rateResetResponse.setMonthlyCost(rateReset.monthlyCost().doubleValue());
+        return rateResetResponse;
+    }
+
+}
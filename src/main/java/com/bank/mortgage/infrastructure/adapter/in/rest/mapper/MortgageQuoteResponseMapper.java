@@ -0,0 +1,35 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.domain.entity.MortgageQuote;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageQuoteResponse;
+
+public class MortgageQuoteResponseMapper {
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param mortgageQuote, Mortgage quote issued by a mortgage check
+     * @return MortgageQuoteResponse
+     */
+    public static MortgageQuoteResponse fromDomain(MortgageQuote mortgageQuote) {
+        if (mortgageQuote == null) {
+            return null;
+        }
+
+        // OpenAPI generator doesn't provide builder function
+        MortgageQuoteResponse mortgageQuoteResponse = new MortgageQuoteResponse();
+        mortgageQuoteResponse.setQuoteId(mortgageQuote.id());
+        mortgageQuoteResponse.setProduct(ProductMapper.fromDomain(mortgageQuote.product()));
+        mortgageQuoteResponse.setMaturityPeriod(mortgageQuote.maturityPeriod());
+        mortgageQuoteResponse.setInterestRate(mortgageQuote.interestRate().doubleValue());
+        mortgageQuoteResponse.setIncome(mortgageQuote.income().doubleValue());
+        mortgageQuoteResponse.setLoanValue(mortgageQuote.loanValue().doubleValue());
+        mortgageQuoteResponse.setHomeValue(mortgageQuote.homeValue().doubleValue());
+        mortgageQuoteResponse.setFeasible(mortgageQuote.feasible());
+        mortgageQuoteResponse.setMonthlyCost(mortgageQuote.monthlyCost().doubleValue());
+        mortgageQuoteResponse.setCreatedAt(mortgageQuote.createdAt());
+
+        return mortgageQuoteResponse;
+    }
+
+}
@@ -18,9 +18,11 @@ public class MortgageRateResponseMapper {
 
         // OpenAPI generator doesn't provide builder function
         MortgageRateResponse mortgageRateResponse = new MortgageRateResponse();
+        mortgageRateResponse.setProduct(ProductMapper.fromDomain(mortgageRate.product()));
         mortgageRateResponse.setMaturityPeriod(mortgageRate.maturityPeriod());
         mortgageRateResponse.setInterestRate(mortgageRate.interestRate().doubleValue());
         mortgageRateResponse.setLastUpdate(mortgageRate.lastUpdate());
+        mortgageRateResponse.setStale(mortgageRate.stale());
 
         return mortgageRateResponse;
 
@@ -0,0 +1,66 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.domain.model.Overpayment;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.OverpaymentSimulationCommand;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationResponse;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class OverpaymentSimulationMapper {
+
+    /**
+     * Map from infrastructure dto to domain object
+     *
+     * @param request, Overpayment simulation request
+     * @return OverpaymentSimulationCommand, reducing the term if no strategy is given
+     */
+    public static OverpaymentSimulationCommand toDomain(OverpaymentSimulationRequest request) {
+        List<Overpayment> overpayments = request.getOverpayments() == null ? List.of()
+                : request.getOverpayments().stream().map(OverpaymentSimulationMapper::toDomain).toList();
+
+        return new OverpaymentSimulationCommand(
+                ProductMapper.toDomain(request.getProduct()),
+                request.getMaturityPeriod(),
+                BigDecimal.valueOf(request.getLoanValue()),
+                request.getStrategy() == null
+                        ? com.bank.mortgage.domain.entity.OverpaymentStrategy.REDUCE_TERM
+                        : com.bank.mortgage.domain.entity.OverpaymentStrategy.valueOf(request.getStrategy().name()),
+                overpayments);
+    }
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param overpaymentSimulation, Outcome of the overpayments
+     * @return OverpaymentSimulationResponse
+     */
+    public static OverpaymentSimulationResponse fromDomain(OverpaymentSimulation overpaymentSimulation) {
+        if (overpaymentSimulation == null) {
+            return null;
+        }
+
+        // OpenAPI generator doesn't provide builder function
+        OverpaymentSimulationResponse response = new OverpaymentSimulationResponse();
+        response.setInterestRate(overpaymentSimulation.interestRate().doubleValue());
+        response.setMonthlyCost(overpaymentSimulation.monthlyCost().doubleValue());
+        response.setFinalMonthlyCost(overpaymentSimulation.finalMonthlyCost().doubleValue());
+        response.setTermMonths(overpaymentSimulation.termMonths());
+        response.setMonthsSaved(overpaymentSimulation.monthsSaved());
+        response.setTotalOverpaid(overpaymentSimulation.totalOverpaid().doubleValue());
+        response.setTotalInterest(overpaymentSimulation.totalInterest().doubleValue());
+        response.setInterestSaved(overpaymentSimulation.interestSaved().doubleValue());
+
+        return response;
+    }
+
+    private static Overpayment toDomain(OverpaymentRequest overpaymentRequest) {
+        return new Overpayment(overpaymentRequest.getMonth(), BigDecimal.valueOf(overpaymentRequest.getAmount()),
+                overpaymentRequest.getIntervalMonths() == null ? 0 : overpaymentRequest.getIntervalMonths(),
+                overpaymentRequest.getEndMonth());
+    }
+
+}
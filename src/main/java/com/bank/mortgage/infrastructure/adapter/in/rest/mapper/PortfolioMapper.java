@@ -0,0 +1,89 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+import com.bank.mortgage.domain.model.LoanScoreChange;
+import com.bank.mortgage.domain.model.PortfolioAnalytics;
+import com.bank.mortgage.domain.model.PortfolioRescoreReport;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.LoanScoreChangeResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioAnalyticsResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioLoanRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioRescoreReportResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class PortfolioMapper {
+
+    /**
+     * Map from infrastructure dto to domain object
+     *
+     * @param portfolioLoanRequest, Loan of the portfolio
+     * @return PortfolioLoan
+     */
+    public static PortfolioLoan toDomain(PortfolioLoanRequest portfolioLoanRequest) {
+        return new PortfolioLoan(
+                portfolioLoanRequest.getLoanId(),
+                ProductMapper.toDomain(portfolioLoanRequest.getProduct()),
+                portfolioLoanRequest.getMaturityPeriod(),
+                BigDecimal.valueOf(portfolioLoanRequest.getIncome()),
+                BigDecimal.valueOf(portfolioLoanRequest.getLoanValue()),
+                BigDecimal.valueOf(portfolioLoanRequest.getHomeValue()));
+    }
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param rateVersion,            Version of the rate set after the change
+     * @param portfolioRescoreReport, What the rate change changed in the portfolio
+     * @return PortfolioRescoreReportResponse
+     */
+    public static PortfolioRescoreReportResponse fromDomain(long rateVersion,
+                                                            PortfolioRescoreReport portfolioRescoreReport) {
+        // OpenAPI generator doesn't provide builder function
+        PortfolioRescoreReportResponse portfolioRescoreReportResponse = new PortfolioRescoreReportResponse();
+        portfolioRescoreReportResponse.setRateVersion(rateVersion);
+        portfolioRescoreReportResponse.setLoansRescored(portfolioRescoreReport.loansRescored());
+        portfolioRescoreReportResponse.setChangedPayments(portfolioRescoreReport.changedPayments().stream()
+                .map(PortfolioMapper::fromDomain)
+                .toList());
+        portfolioRescoreReportResponse.setNewlyInfeasible(portfolioRescoreReport.newlyInfeasible().stream()
+                .map(PortfolioMapper::fromDomain)
+                .toList());
+
+        return portfolioRescoreReportResponse;
+    }
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param portfolioAnalytics, Totals of the portfolio
+     * @return PortfolioAnalyticsResponse
+     */
+    public static PortfolioAnalyticsResponse fromDomain(PortfolioAnalytics portfolioAnalytics) {
+        // OpenAPI generator doesn't provide builder function
+        PortfolioAnalyticsResponse portfolioAnalyticsResponse = new PortfolioAnalyticsResponse();
+        portfolioAnalyticsResponse.setLoans(portfolioAnalytics.loans());
+        portfolioAnalyticsResponse.setFeasibleLoans(portfolioAnalytics.feasibleLoans());
+        portfolioAnalyticsResponse.setUnpricedLoans(portfolioAnalytics.unpricedLoans());
+        portfolioAnalyticsResponse.setTotalLoanValue(roundToCents(portfolioAnalytics.totalLoanValue()));
+        portfolioAnalyticsResponse.setTotalMonthlyCost(roundToCents(portfolioAnalytics.totalMonthlyCost()));
+        return portfolioAnalyticsResponse;
+    }
+
+    private static double roundToCents(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static LoanScoreChangeResponse fromDomain(LoanScoreChange loanScoreChange) {
+        LoanScoreChangeResponse loanScoreChangeResponse = new LoanScoreChangeResponse();
+        loanScoreChangeResponse.setLoanId(loanScoreChange.loanId());
+        loanScoreChangeResponse.setProduct(ProductMapper.fromDomain(loanScoreChange.product()));
+        loanScoreChangeResponse.setMaturityPeriod(loanScoreChange.maturityPeriod());
+        loanScoreChangeResponse.setPreviousFeasible(loanScoreChange.previousFeasible());
+        loanScoreChangeResponse.setFeasible(loanScoreChange.feasible());
+        loanScoreChangeResponse.setPreviousMonthlyCost(loanScoreChange.previousMonthlyCost().doubleValue());
+        loanScoreChangeResponse.setMonthlyCost(loanScoreChange.monthlyCost().doubleValue());
+        return loanScoreChangeResponse;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.Product;
+
+public class ProductMapper {
+
+    /**
+     * Map from infrastructure dto to domain object
+     *
+     * @param product, Mortgage product in the request, null if not given
+     * @return MortgageProduct, FIXED if not given
+     */
+    public static MortgageProduct toDomain(Product product) {
+        return product == null ? MortgageProduct.FIXED : MortgageProduct.valueOf(product.name());
+    }
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param mortgageProduct, Mortgage product
+     * @return Product
+     */
+    public static Product fromDomain(MortgageProduct mortgageProduct) {
+        return mortgageProduct == null ? null : Product.valueOf(mortgageProduct.name());
+    }
+
+}
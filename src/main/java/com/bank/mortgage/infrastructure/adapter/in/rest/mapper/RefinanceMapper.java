@@ -0,0 +1,72 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.mapper;
+
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.model.RefinanceOption;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceComparisonResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceOptionResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class RefinanceMapper {
+
+    /**
+     * Map from infrastructure dto to domain object
+     *
+     * @param refinanceRequest, Loan to refinance
+     * @return RefinanceCommand, comparing every product if no product is given
+     */
+    public static RefinanceCommand toDomain(RefinanceRequest refinanceRequest) {
+        return new RefinanceCommand(
+                refinanceRequest.getLoanReference(),
+                BigDecimal.valueOf(refinanceRequest.getRemainingBalance()),
+                refinanceRequest.getRemainingTermMonths(),
+                BigDecimal.valueOf(refinanceRequest.getCurrentInterestRate()),
+                refinanceRequest.getSwitchingCost() == null
+                        ? BigDecimal.ZERO : BigDecimal.valueOf(refinanceRequest.getSwitchingCost()),
+                refinanceRequest.getProduct() == null ? null : ProductMapper.toDomain(refinanceRequest.getProduct()));
+    }
+
+    /**
+     * Map from domain object to infrastructure dto
+     *
+     * @param refinanceComparison, Loan compared with the stored mortgage rates
+     * @return RefinanceComparisonResponse
+     */
+    public static RefinanceComparisonResponse fromDomain(RefinanceComparison refinanceComparison) {
+        if (refinanceComparison == null) {
+            return null;
+        }
+
+        // OpenAPI generator doesn't provide builder function
+        RefinanceComparisonResponse refinanceComparisonResponse = new RefinanceComparisonResponse();
+        refinanceComparisonResponse.setLoanReference(refinanceComparison.loanReference());
+        if (refinanceComparison.error() != null) {
+            refinanceComparisonResponse.setError(refinanceComparison.error());
+            refinanceComparisonResponse.setOptions(List.of());
+            return refinanceComparisonResponse;
+        }
+        refinanceComparisonResponse.setCurrentMonthlyCost(refinanceComparison.currentMonthlyCost().doubleValue());
+        refinanceComparisonResponse.setCurrentTotalCost(refinanceComparison.currentTotalCost().doubleValue());
+        refinanceComparisonResponse.setOptions(refinanceComparison.options().stream()
+                .map(RefinanceMapper::fromDomain)
+                .toList());
+
+        return refinanceComparisonResponse;
+    }
+
+    private static RefinanceOptionResponse fromDomain(RefinanceOption refinanceOption) {
+        RefinanceOptionResponse refinanceOptionResponse = new RefinanceOptionResponse();
+        refinanceOptionResponse.setProduct(ProductMapper.fromDomain(refinanceOption.product()));
+        refinanceOptionResponse.setMaturityPeriod(refinanceOption.maturityPeriod());
+        refinanceOptionResponse.setInterestRate(refinanceOption.interestRate().doubleValue());
+        refinanceOptionResponse.setMonthlyCost(refinanceOption.monthlyCost().doubleValue());
+        refinanceOptionResponse.setMonthlySavings(refinanceOption.monthlySavings().doubleValue());
+        refinanceOptionResponse.setLifetimeSavings(refinanceOption.lifetimeSavings().doubleValue());
+        refinanceOptionResponse.setBreakEvenMonth(refinanceOption.breakEvenMonth());
+        return refinanceOptionResponse;
+    }
+
+}
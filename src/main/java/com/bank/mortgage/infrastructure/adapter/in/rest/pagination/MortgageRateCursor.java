@@ -0,0 +1,46 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor of the interest rate pages. It holds the last maturity period of the previous page, encoded so that
+ * clients don't build or depend on it and the key can change without breaking them.
+ */
+public final class MortgageRateCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String PREFIX = "m:";
+
+    private MortgageRateCursor() {
+    }
+
+    public static String encode(int lastMaturityPeriod) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastMaturityPeriod).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor, cursor sent by the client, may be null
+     * @return Last maturity period of the previous page, null for the first page
+     * @throws IllegalArgumentException if the cursor was not issued by this service
+     */
+    public static Integer decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(PREFIX)) {
+                int lastMaturityPeriod = Integer.parseInt(decoded.substring(PREFIX.length()));
+                if (lastMaturityPeriod >= 0 && lastMaturityPeriod < Integer.MAX_VALUE) {
+                    return lastMaturityPeriod;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Not Base64 or not a number, rejected below
+        }
+        throw new IllegalArgumentException("Invalid cursor: It must be the X-Next-Cursor header of a previous page.");
+    }
+}
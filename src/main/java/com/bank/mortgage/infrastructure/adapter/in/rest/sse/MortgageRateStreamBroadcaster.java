@@ -0,0 +1,250 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.sse;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.MortgageRateResponseMapper;
+import com.bank.mortgage.infrastructure.adapter.in.rest.mapper.ProductMapper;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRateFeed;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRatesChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans rate changes out to the open stream connections.
+ * <p>
+ * Connections are servlet async requests, so an idle connection holds no thread, only its socket and an entry in
+ * {@link #connections}. Every event is serialized once and queued to all connections by a single sender thread, which
+ * keeps the events of a connection in order: snapshot or resumed changes first, then the following deltas, each
+ * connection skipping versions it already has.
+ * <p>
+ * The blocking socket writes are done by a pool of writer threads, one connection at a time, draining its queue, so a
+ * slow client only delays itself. Its queue is bounded: a client that falls behind by more than
+ * {@code sendQueueSize} events is disconnected, and resumes from its last version when it reconnects.
+ */
+@Slf4j
+public class MortgageRateStreamBroadcaster {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final MortgageRateFeed mortgageRateFeed;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sender;
+    private final ExecutorService writers;
+    private final long streamTimeoutMillis;
+    private final int sendQueueSize;
+
+    // Open connections. Only added by the sender thread
+    private final Map<SseEmitter, Connection> connections = new ConcurrentHashMap<>();
+    private final AtomicLong droppedConnections = new AtomicLong();
+
+    // Serialized snapshot of the current version, shared by all the clients connecting until the next change.
+    // Only used by the sender thread
+    private Set<DataWithMediaType> renderedSnapshot;
+    private long renderedSnapshotVersion = -1;
+
+    public MortgageRateStreamBroadcaster(MortgageRateFeed mortgageRateFeed, ObjectMapper objectMapper,
+                                         ExecutorService sender, ExecutorService writers, Duration streamTimeout,
+                                         int sendQueueSize) {
+        this.mortgageRateFeed = mortgageRateFeed;
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+        this.writers = writers;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.sendQueueSize = sendQueueSize;
+    }
+
+    /**
+     * Open a stream connection
+     *
+     * @param fromVersion, last version known by the client, null for a new client
+     * @return SseEmitter, which receives the changes after the given version if they are still known, otherwise the
+     * current snapshot, and then every following change
+     */
+    public SseEmitter connect(Long fromVersion) {
+        return connect(new SseEmitter(streamTimeoutMillis), fromVersion);
+    }
+
+    SseEmitter connect(SseEmitter emitter, Long fromVersion) {
+        emitter.onCompletion(() -> close(emitter));
+        emitter.onTimeout(() -> close(emitter));
+        emitter.onError(error -> close(emitter));
+        sender.execute(() -> open(emitter, fromVersion));
+        return emitter;
+    }
+
+    @EventListener
+    public void onMortgageRatesChanged(MortgageRatesChangedEvent event) {
+        Set<DataWithMediaType> delta = render(MortgageRateStreamEvent.DELTA, event.version(), delta(event));
+        sender.execute(() -> connections.values().forEach(connection -> {
+            if (connection.version < event.version()) {
+                connection.queue(delta, event.version());
+            }
+        }));
+    }
+
+    /**
+     * Send a comment to every connection, so proxies and load balancers don't close idle ones
+     */
+    public void heartbeat() {
+        sender.execute(() -> connections.values().forEach(connection -> connection.queue(HEARTBEAT,
+                connection.version)));
+    }
+
+    public int getConnections() {
+        return connections.size();
+    }
+
+    /**
+     * @return Number of connections closed because the client did not keep up with the events
+     */
+    public long getDroppedConnections() {
+        return droppedConnections.get();
+    }
+
+    private void open(SseEmitter emitter, Long fromVersion) {
+        Connection connection = new Connection(emitter);
+        connections.put(emitter, connection);
+        // Resuming with more changes than the queue holds would drop the client right away, so it gets the snapshot
+        Optional<List<MortgageRatesChangedEvent>> changes = fromVersion == null
+                ? Optional.empty()
+                : mortgageRateFeed.changesSince(fromVersion).filter(resumed -> resumed.size() < sendQueueSize);
+        if (changes.isPresent()) {
+            connection.version = fromVersion;
+            for (MortgageRatesChangedEvent change : changes.get()) {
+                connection.queue(render(MortgageRateStreamEvent.DELTA, change.version(), delta(change)),
+                        change.version());
+            }
+        } else {
+            MortgageRateFeed.Snapshot snapshot = mortgageRateFeed.snapshot();
+            long version = snapshot.version();
+            if (renderedSnapshotVersion != version) {
+                renderedSnapshot = render(MortgageRateStreamEvent.SNAPSHOT, version, new MortgageRateStreamEvent.Snapshot(
+                        version, snapshot.rates().stream().map(MortgageRateResponseMapper::fromDomain).toList()));
+                renderedSnapshotVersion = version;
+            }
+            connection.queue(renderedSnapshot, version);
+        }
+    }
+
+    private void close(SseEmitter emitter) {
+        Connection connection = connections.get(emitter);
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private static MortgageRateStreamEvent.Delta delta(MortgageRatesChangedEvent event) {
+        return new MortgageRateStreamEvent.Delta(event.version(),
+                event.updated().stream().map(MortgageRateResponseMapper::fromDomain).toList(),
+                event.removed().stream()
+                        .map(rate -> new MortgageRateStreamEvent.Removed(ProductMapper.fromDomain(rate.product()),
+                                rate.maturityPeriod()))
+                        .toList());
+    }
+
+    private Set<DataWithMediaType> render(String name, long version, Object payload) {
+        try {
+            // Serialized here once, written as plain text to every connection
+            return SseEmitter.event()
+                    .id(String.valueOf(version))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A stream connection and the events queued to it. Events are queued by the sender thread, and written by at most
+     * one writer thread at a time, in order
+     */
+    private final class Connection {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> events = new ArrayBlockingQueue<>(sendQueueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Last version queued to the connection. Only used by the sender thread
+        private long version;
+        private volatile boolean closed;
+        private volatile boolean behind;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void queue(Set<DataWithMediaType> data, long version) {
+            if (closed) {
+                return;
+            }
+            if (!events.offer(data)) {
+                // The emitter is completed by the writer, as it is locked while the writer is blocked on the socket
+                log.info("Closing mortgage rate stream of a client {} events behind", sendQueueSize);
+                droppedConnections.incrementAndGet();
+                behind = true;
+                close();
+                events.clear();
+            } else {
+                this.version = version;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::write);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void write() {
+            try {
+                Set<DataWithMediaType> data;
+                while (!closed && (data = events.poll()) != null) {
+                    emitter.send(data);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone, or connection already completed
+                log.debug("Closing mortgage rate stream: {}", e.getMessage());
+                close();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (behind) {
+                // Completing the response lets the client reconnect and resume from the last event it received
+                emitter.complete();
+            } else if (!closed && !events.isEmpty()) {
+                // Queued after the last poll, while this writer was still draining
+                drain();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            connections.remove(emitter);
+        }
+    }
+}
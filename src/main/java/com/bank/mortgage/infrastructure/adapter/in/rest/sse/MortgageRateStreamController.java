@@ -0,0 +1,38 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.sse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of the mortgage rates. Not part of openapi.yml, as the generator has no support for
+ * event streams.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/api/")
+public class MortgageRateStreamController {
+
+    private final MortgageRateStreamBroadcaster mortgageRateStreamBroadcaster;
+
+    /**
+     * Stream the mortgage rates: a snapshot on connect, then a delta for every change
+     *
+     * @param lastEventId, last version received, sent by EventSource when it reconnects
+     * @param fromVersion, last version known by the client, for clients that can't set the Last-Event-ID header
+     * @return SseEmitter
+     */
+    @GetMapping(value = "interest-rates/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInterestRates(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                          @RequestParam(value = "fromVersion", required = false) Long fromVersion) {
+        log.debug("Opening mortgage rate stream from version {}", lastEventId != null ? lastEventId : fromVersion);
+        return mortgageRateStreamBroadcaster.connect(lastEventId != null ? lastEventId : fromVersion);
+    }
+}
@@ -0,0 +1,37 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.sse;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.Product;
+
+import java.util.List;
+
+/**
+ * Payloads of the mortgage rate stream. The event id is the version, so a reconnecting EventSource resumes from it
+ * with the Last-Event-ID header.
+ */
+public final class MortgageRateStreamEvent {
+
+    static final String SNAPSHOT = "snapshot";
+    static final String DELTA = "delta";
+
+    private MortgageRateStreamEvent() {
+    }
+
+    /**
+     * Complete rate set, sent on connect when the client can't resume from its version
+     */
+    public record Snapshot(long version, List<MortgageRateResponse> rates) {
+    }
+
+    /**
+     * Rates updated and removed since the previous version
+     */
+    public record Delta(long version, List<MortgageRateResponse> updated, List<Removed> removed) {
+    }
+
+    /**
+     * Product and maturity period of a removed rate
+     */
+    public record Removed(Product product, int maturityPeriod) {
+    }
+}
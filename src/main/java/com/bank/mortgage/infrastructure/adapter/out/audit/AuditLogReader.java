@@ -0,0 +1,134 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Queries the segments written by {@link SegmentedAuditLogWriter}.
+ * Segments are ordered by the time of their first line, so segments that can't contain the requested time range are
+ * not opened. An incomplete last line (the writer was stopped while writing it) is ignored.
+ */
+public class AuditLogReader {
+
+    private final Path directory;
+
+    public AuditLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Find the audited decisions in a time range
+     *
+     * @param from,           inclusive start of the time range
+     * @param to,             exclusive end of the time range
+     * @param maturityPeriod, optional maturity period filter, null for every maturity
+     * @return Decisions in the order they were written
+     */
+    public List<AuditRecord> find(Instant from, Instant to, Integer maturityPeriod) {
+        List<Path> segments = segments();
+        List<AuditRecord> records = new ArrayList<>();
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+
+        for (int i = 0; i < segments.size(); i++) {
+            long segmentStart = segmentStart(segments.get(i));
+            if (segmentStart >= toMillis) {
+                break;
+            }
+            // The segment ends where the next one starts
+            if (i + 1 < segments.size() && segmentStart(segments.get(i + 1)) < fromMillis) {
+                continue;
+            }
+            read(segments.get(i), fromMillis, toMillis, maturityPeriod, records);
+        }
+        return records;
+    }
+
+    private List<Path> segments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SegmentedAuditLogWriter.SEGMENT_PREFIX)
+                                && name.endsWith(SegmentedAuditLogWriter.SEGMENT_SUFFIX);
+                    })
+                    .sorted((a, b) -> Long.compare(segmentStart(a), segmentStart(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list audit segments in " + directory, e);
+        }
+    }
+
+    private static long segmentStart(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SegmentedAuditLogWriter.SEGMENT_PREFIX.length(),
+                name.length() - SegmentedAuditLogWriter.SEGMENT_SUFFIX.length()));
+    }
+
+    private static void read(Path segment, long fromMillis, long toMillis, Integer maturityPeriod,
+                             List<AuditRecord> records) {
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.US_ASCII)) {
+            boolean lastLineComplete = endsWithNewLine(segment);
+            reader.readLine(); // header
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                // Only complete lines are valid records
+                if (next != null || lastLineComplete) {
+                    AuditRecord record = parse(line);
+                    if (record.timestamp().toEpochMilli() >= fromMillis && record.timestamp().toEpochMilli() < toMillis
+                            && (maturityPeriod == null || record.maturityPeriod() == maturityPeriod)) {
+                        records.add(record);
+                    }
+                }
+                line = next;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read audit segment " + segment, e);
+        }
+    }
+
+    private static boolean endsWithNewLine(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private static AuditRecord parse(String line) {
+        String[] fields = line.split(",");
+        return new AuditRecord(
+                Instant.ofEpochMilli(Long.parseLong(fields[0])),
+                // The product column was appended when products were introduced, older lines are all fixed-rate
+                fields.length > 9 ? MortgageProduct.valueOf(fields[9]) : MortgageProduct.FIXED,
+                Integer.parseInt(fields[1]),
+                new BigDecimal(fields[2]),
+                new BigDecimal(fields[3]),
+                new BigDecimal(fields[4]),
+                new BigDecimal(fields[5]),
+                Boolean.parseBoolean(fields[6]),
+                new BigDecimal(fields[7]),
+                Boolean.parseBoolean(fields[8]));
+    }
+}
@@ -0,0 +1,43 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Audit log of mortgage feasibility decisions.
+ *
+ * @param directory       Directory of the audit log segments.
+ * @param bufferSize      Number of decisions the ring buffer holds. Must be a power of two.
+ * @param fullPolicy      What a request does when the ring buffer is full.
+ * @param blockTimeout    Longest time a request waits for a free slot with the BLOCK policy, before the decision is
+ *                        dropped.
+ * @param segmentMaxSize  Size after which a new segment is started.
+ * @param fsyncInterval   Maximum time written decisions stay in the OS page cache before being forced to disk.
+ * @param batchSize       Maximum number of decisions written per consumer iteration.
+ */
+@ConfigurationProperties(prefix = "mortgage.audit")
+public record AuditProperties(
+        @DefaultValue("audit") Path directory,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("BLOCK") FullBufferPolicy fullPolicy,
+        @DefaultValue("1s") Duration blockTimeout,
+        @DefaultValue("64MB") DataSize segmentMaxSize,
+        @DefaultValue("1s") Duration fsyncInterval,
+        @DefaultValue("512") int batchSize) {
+
+    public enum FullBufferPolicy {
+        /**
+         * The request waits until the consumer frees a slot, at most the block timeout. No decision is lost unless the
+         * consumer is stalled for longer, but a slow disk slows down mortgage checks.
+         */
+        BLOCK,
+        /**
+         * The decision is not audited and counted as dropped. Mortgage checks are never slowed down.
+         */
+        DROP
+    }
+}
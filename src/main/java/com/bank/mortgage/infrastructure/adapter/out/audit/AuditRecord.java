@@ -0,0 +1,33 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A mortgage feasibility decision read back from the audit log.
+ *
+ * @param timestamp      When the decision was made.
+ * @param product        Mortgage product of the decision.
+ * @param maturityPeriod Maturity period of the mortgage in years.
+ * @param interestRate   Interest rate used in the decision.
+ * @param income         Applicant income.
+ * @param loanValue      Requested loan value.
+ * @param homeValue      Home value.
+ * @param feasible       Outcome of the decision.
+ * @param monthlyCost    Calculated monthly cost, zero if not feasible.
+ * @param staleRate      True if the rate was the last known good one, served during a database outage.
+ */
+public record AuditRecord(
+        Instant timestamp,
+        MortgageProduct product,
+        int maturityPeriod,
+        BigDecimal interestRate,
+        BigDecimal income,
+        BigDecimal loanValue,
+        BigDecimal homeValue,
+        boolean feasible,
+        BigDecimal monthlyCost,
+        boolean staleRate) {
+}
@@ -0,0 +1,88 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free, multi-producer single-consumer ring buffer of preallocated {@link AuditSlot}s.
+ * <p>
+ * A producer claims a sequence with a CAS on {@code claimed}, fills the slot and publishes it by storing
+ * {@code sequence + 1} in {@code published}. The consumer reads slots in sequence order while they are published,
+ * and advances {@code consumed} after each one, which frees the slot for producers.
+ */
+final class AuditRingBuffer {
+
+    private final AuditSlot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLongArray published;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Invalid audit buffer size: It must be a power of two.");
+        }
+        this.slots = new AuditSlot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AuditSlot();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * @return The claimed sequence, or -1 if the buffer is full
+     */
+    long tryClaim() {
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                return -1;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    AuditSlot slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    void publish(long sequence) {
+        published.lazySet((int) sequence & mask, sequence + 1);
+    }
+
+    /**
+     * Hands up to {@code max} published slots to the consumer, in sequence order. If the consumer throws, the slot it
+     * failed on is handed to it again by the next call. Must only be called from the consumer thread.
+     *
+     * @return Number of consumed slots
+     */
+    int drain(Consumer<AuditSlot> consumer, int max) {
+        long next = consumed.get();
+        int count = 0;
+        while (count < max) {
+            int index = (int) next & mask;
+            if (published.get(index) != next + 1) {
+                break;
+            }
+            AuditSlot slot = slots[index];
+            consumer.accept(slot);
+            slot.clear();
+            // Freed slot by slot: if the consumer throws, the slots it took are not handed to it again
+            consumed.set(++next);
+            count++;
+        }
+        return count;
+    }
+
+    boolean isEmpty() {
+        return consumed.get() == claimed.get();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
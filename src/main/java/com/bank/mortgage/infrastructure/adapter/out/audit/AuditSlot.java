@@ -0,0 +1,31 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+
+import java.math.BigDecimal;
+
+/**
+ * Preallocated, reusable entry of the audit ring buffer. Producers overwrite the fields of a claimed slot instead of
+ * allocating an event per decision. Visibility to the consumer is given by the publication in {@link AuditRingBuffer}.
+ */
+final class AuditSlot {
+
+    long timestampMillis;
+    MortgageProduct product;
+    int maturityPeriod;
+    BigDecimal interestRate;
+    BigDecimal income;
+    BigDecimal loanValue;
+    BigDecimal homeValue;
+    boolean feasible;
+    BigDecimal monthlyCost;
+    boolean staleRate;
+
+    void clear() {
+        interestRate = null;
+        income = null;
+        loanValue = null;
+        homeValue = null;
+        monthlyCost = null;
+    }
+}
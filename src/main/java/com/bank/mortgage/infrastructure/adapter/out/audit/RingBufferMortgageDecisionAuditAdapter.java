@@ -0,0 +1,165 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.port.out.MortgageDecisionAuditPort;
+import com.bank.mortgage.infrastructure.logging.LogRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audits mortgage decisions without blocking requests on I/O.
+ * <p>
+ * Requests copy the decision into a preallocated slot of a lock-free ring buffer. A single background thread drains
+ * the buffer in batches into a {@link SegmentedAuditLogWriter}, flushes when it runs out of work and forces the
+ * segment to disk every {@code fsyncInterval}. When the buffer is full, {@link AuditProperties.FullBufferPolicy}
+ * decides whether the request waits, at most {@code blockTimeout}, or the decision is dropped. Dropped decisions are
+ * counted, see {@link #getDropped()}.
+ */
+@Slf4j
+public class RingBufferMortgageDecisionAuditAdapter implements MortgageDecisionAuditPort, Closeable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditRingBuffer ringBuffer;
+    private final SegmentedAuditLogWriter writer;
+    private final AuditProperties.FullBufferPolicy fullPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long fsyncIntervalNanos;
+    private final Thread consumer;
+    private final LongAdder dropped = new LongAdder();
+    private final LogRateLimiter droppedLogLimiter = new LogRateLimiter(log, "dropped audit", 1, Duration.ofSeconds(10));
+
+    private volatile boolean running = true;
+
+    public RingBufferMortgageDecisionAuditAdapter(AuditProperties properties) {
+        this(properties, segmentedAuditLogWriter(properties));
+    }
+
+    RingBufferMortgageDecisionAuditAdapter(AuditProperties properties, SegmentedAuditLogWriter writer) {
+        this.ringBuffer = new AuditRingBuffer(properties.bufferSize());
+        this.writer = writer;
+        this.fullPolicy = properties.fullPolicy();
+        this.blockTimeoutNanos = properties.blockTimeout().toNanos();
+        this.batchSize = properties.batchSize();
+        this.fsyncIntervalNanos = properties.fsyncInterval().toNanos();
+        this.consumer = new Thread(this::consume, "mortgage-audit-writer");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void record(MortgageRate mortgageRate, MortgageApplicant mortgageApplicant,
+                       MortgageFeasibilityResult result) {
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            if (droppedLogLimiter.tryAcquire()) {
+                log.warn("Audit buffer is full, {} decisions dropped so far", dropped.sum());
+            }
+            return;
+        }
+        AuditSlot slot = ringBuffer.slot(sequence);
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.product = mortgageRate.product();
+        slot.maturityPeriod = mortgageRate.maturityPeriod();
+        slot.interestRate = result.getInterestRate();
+        slot.income = mortgageApplicant.income();
+        slot.loanValue = mortgageApplicant.loanValue();
+        slot.homeValue = mortgageApplicant.homeValue();
+        slot.feasible = result.isFeasible();
+        slot.monthlyCost = result.getMonthlyCost();
+        slot.staleRate = result.isStaleRate();
+        ringBuffer.publish(sequence);
+    }
+
+    /**
+     * @return Number of decisions dropped because the buffer was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting work, writes every pending decision and syncs the log to disk
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SegmentedAuditLogWriter segmentedAuditLogWriter(AuditProperties properties) {
+        try {
+            return new SegmentedAuditLogWriter(properties.directory(), properties.segmentMaxSize().toBytes(),
+                    64 * 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create audit log directory " + properties.directory(), e);
+        }
+    }
+
+    private long claim() {
+        long sequence = ringBuffer.tryClaim();
+        if (sequence >= 0 || fullPolicy != AuditProperties.FullBufferPolicy.BLOCK) {
+            return sequence;
+        }
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (sequence < 0 && running && deadline - System.nanoTime() > 0) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+            sequence = ringBuffer.tryClaim();
+        }
+        return sequence;
+    }
+
+    private void consume() {
+        long lastSync = System.nanoTime();
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                int written = ringBuffer.drain(this::write, batchSize);
+                long now = System.nanoTime();
+                if (now - lastSync >= fsyncIntervalNanos) {
+                    writer.sync();
+                    lastSync = now;
+                }
+                if (written == 0) {
+                    // Make written decisions visible to readers while there's nothing else to do
+                    writer.flush();
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (IOException | RuntimeException e) {
+                // The decision that failed is retried, the consumer must outlive any failure or requests would
+                // wait for free slots
+                log.error("Could not write audit log: {}", e.getMessage(), e);
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.error("Could not close audit log: {}", e.getMessage(), e);
+        }
+    }
+
+    private void write(AuditSlot slot) {
+        try {
+            writer.append(slot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
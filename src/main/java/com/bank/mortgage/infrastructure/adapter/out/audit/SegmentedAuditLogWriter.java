@@ -0,0 +1,124 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only CSV audit log split in segments of bounded size.
+ * <p>
+ * Lines are accumulated in a direct buffer and written to the current segment's {@link FileChannel} when the buffer
+ * is full or on {@link #flush()}. {@link #sync()} also forces the data to disk. Segments are named after the time
+ * their first line was written, {@code audit-<epochMillis>.csv}, which lets readers skip segments by time range.
+ * <p>
+ * Not thread safe: it is only used by the audit consumer thread.
+ */
+class SegmentedAuditLogWriter implements Closeable {
+
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".csv";
+    static final String HEADER =
+            "timestamp,maturityPeriod,interestRate,income,loanValue,homeValue,feasible,monthlyCost,staleRate,product\n";
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final ByteBuffer buffer;
+    private final StringBuilder line = new StringBuilder(128);
+
+    private FileChannel segment;
+    private long segmentBytes;
+
+    SegmentedAuditLogWriter(Path directory, long maxSegmentBytes, int bufferBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+    }
+
+    void append(AuditSlot slot) throws IOException {
+        line.setLength(0);
+        line.append(slot.timestampMillis).append(',')
+                .append(slot.maturityPeriod).append(',')
+                .append(slot.interestRate.toPlainString()).append(',')
+                .append(slot.income.toPlainString()).append(',')
+                .append(slot.loanValue.toPlainString()).append(',')
+                .append(slot.homeValue.toPlainString()).append(',')
+                .append(slot.feasible).append(',')
+                .append(slot.monthlyCost.toPlainString()).append(',')
+                .append(slot.staleRate).append(',')
+                .append(slot.product.name()).append('\n');
+        byte[] bytes = line.toString().getBytes(StandardCharsets.US_ASCII);
+
+        if (segment == null || segmentBytes + buffer.position() + bytes.length > maxSegmentBytes) {
+            roll(slot.timestampMillis);
+        }
+        if (buffer.remaining() < bytes.length) {
+            flush();
+        }
+        buffer.put(bytes);
+    }
+
+    /**
+     * Writes buffered lines to the current segment. If a write fails, the lines already written are dropped from the
+     * buffer and the others are kept, so a retry writes each line once.
+     */
+    void flush() throws IOException {
+        if (segment == null) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                segmentBytes += write(buffer);
+            }
+        } finally {
+            // Back to write mode, keeping the lines not written yet
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Writes bytes of the buffer to the current segment
+     *
+     * @return The number of bytes written
+     */
+    int write(ByteBuffer buffer) throws IOException {
+        return segment.write(buffer);
+    }
+
+    /**
+     * Writes buffered lines and forces them to disk
+     */
+    void sync() throws IOException {
+        flush();
+        if (segment != null) {
+            segment.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+    }
+
+    private void roll(long timestampMillis) throws IOException {
+        close();
+        Path path = directory.resolve(SEGMENT_PREFIX + timestampMillis + SEGMENT_SUFFIX);
+        // Several segments in the same millisecond: move forward until the name is free
+        while (Files.exists(path)) {
+            path = directory.resolve(SEGMENT_PREFIX + (++timestampMillis) + SEGMENT_SUFFIX);
+        }
+        segment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        segmentBytes = 0;
+        buffer.put(HEADER.getBytes(StandardCharsets.US_ASCII));
+    }
+}
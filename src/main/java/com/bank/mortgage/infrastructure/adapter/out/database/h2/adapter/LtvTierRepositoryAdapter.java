@@ -0,0 +1,22 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.h2.adapter;
+
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.mapper.LtvTierEntityMapper;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.repository.LtvTierRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class LtvTierRepositoryAdapter implements LtvTierRepositoryPort {
+
+    private final LtvTierRepository ltvTierRepository;
+
+    @Override
+    public LtvTierIndex findLtvTierIndex() {
+        return LtvTierIndex.of(ltvTierRepository.findAll().stream()
+                .map(LtvTierEntityMapper::toDomain)
+                .toList());
+    }
+}
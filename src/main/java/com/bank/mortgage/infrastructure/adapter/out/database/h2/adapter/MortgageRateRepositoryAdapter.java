@@ -1,10 +1,16 @@
 package com.bank.mortgage.infrastructure.adapter.out.database.h2.adapter;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.event.MortgageRateLookupEvent;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
 import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.mapper.MortgageRateEntityMapper;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.repository.MortgageRateRepository;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntity;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -25,8 +31,30 @@ public class MortgageRateRepositoryAdapter implements MortgageRateRepositoryPort
     }
 
     @Override
-    public Optional<MortgageRate> findByMaturityPeriod(Integer maturityPeriod) {
-        return mortgageRateRepository.findByMaturityPeriod(maturityPeriod)
+    public Optional<MortgageRate> findByProductAndMaturityPeriod(MortgageProduct product, Integer maturityPeriod) {
+        MortgageRateLookupEvent event = new MortgageRateLookupEvent();
+        event.begin();
+        Optional<MortgageRate> mortgageRate = mortgageRateRepository.findByProductAndMaturityPeriod(product,
+                        maturityPeriod)
                 .map(MortgageRateEntityMapper::toDomain);
+        event.complete(product, maturityPeriod, mortgageRate.isPresent(), MortgageRateLookupEvent.DATABASE);
+        return mortgageRate;
+    }
+
+    @Override
+    public MortgageRatePage findMortgageRates(MortgageRateQuery query) {
+        // One extra row tells whether there is a next page
+        Limit limit = Limit.of(query.limit() + 1);
+        List<MortgageRateEntity> entities = query.updatedSince() == null
+                ? mortgageRateRepository.findByProductAndMaturityPeriodBetweenOrderByMaturityPeriod(
+                query.product(), query.fromMaturityPeriod(), query.toMaturityPeriod(), limit)
+                : mortgageRateRepository
+                .findByProductAndMaturityPeriodBetweenAndLastUpdateGreaterThanEqualOrderByMaturityPeriod(
+                        query.product(), query.fromMaturityPeriod(), query.toMaturityPeriod(), query.updatedSince(),
+                        limit);
+
+        return MortgageRatePage.of(entities.stream()
+                .map(MortgageRateEntityMapper::toDomain)
+                .toList(), query.limit());
     }
 }
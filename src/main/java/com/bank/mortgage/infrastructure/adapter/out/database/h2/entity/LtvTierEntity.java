@@ -0,0 +1,43 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.h2.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "mortgage_ltv_tier")
+public class LtvTierEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "min_ltv", nullable = false)
+    private BigDecimal minLtv;
+
+    @Column(name = "max_ltv", nullable = false)
+    private BigDecimal maxLtv;
+
+    @Column(name = "rate_adjustment", nullable = false)
+    private BigDecimal rateAdjustment;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LtvTierEntity that = (LtvTierEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
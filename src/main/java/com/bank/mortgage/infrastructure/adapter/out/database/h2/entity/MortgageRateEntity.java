@@ -1,5 +1,6 @@
 package com.bank.mortgage.infrastructure.adapter.out.database.h2.entity;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,13 +14,18 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "mortgage_rate", uniqueConstraints = @UniqueConstraint(columnNames = "maturity_period"))
+@EntityListeners(MortgageRateEntityListener.class)
+@Table(name = "mortgage_rate", uniqueConstraints = @UniqueConstraint(columnNames = {"product", "maturity_period"}))
 public class MortgageRateEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "product", nullable = false)
+    private MortgageProduct product;
+
     @Column(name = "maturity_period", nullable = false)
     private Integer maturityPeriod;
 
@@ -0,0 +1,38 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.h2.entity;
+
+import com.bank.mortgage.infrastructure.adapter.out.database.index.MortgageRateIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the {@link MortgageRateIndex} whenever a mortgage rate is written through JPA. Instantiated by
+ * Hibernate through the Spring bean container, so the index is injected.
+ */
+public class MortgageRateEntityListener {
+
+    private final MortgageRateIndex mortgageRateIndex;
+
+    public MortgageRateEntityListener(MortgageRateIndex mortgageRateIndex) {
+        this.mortgageRateIndex = mortgageRateIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(MortgageRateEntity mortgageRateEntity) {
+        mortgageRateIndex.invalidate();
+        // The write is not visible to other transactions until commit: a reload in between would index the previous
+        // rates as current, so the index is invalidated again once the transaction completes
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    mortgageRateIndex.invalidate();
+                }
+            });
+        }
+    }
+}
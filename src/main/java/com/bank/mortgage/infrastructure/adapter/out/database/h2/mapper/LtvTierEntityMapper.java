@@ -0,0 +1,27 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.h2.mapper;
+
+import com.bank.mortgage.domain.entity.LtvTier;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.LtvTierEntity;
+
+public class LtvTierEntityMapper {
+
+    /**
+     * Map LTV tier persistence object to domain model
+     *
+     * @param ltvTierEntity Persistence layer LTV tier object
+     * @return Domain layer LTV tier object
+     */
+    public static LtvTier toDomain(LtvTierEntity ltvTierEntity) {
+        if (ltvTierEntity == null) {
+            return null;
+        }
+
+        return new LtvTier(
+                ltvTierEntity.getMinLtv(),
+                ltvTierEntity.getMaxLtv(),
+                ltvTierEntity.getRateAdjustment()
+        );
+
+    }
+
+}
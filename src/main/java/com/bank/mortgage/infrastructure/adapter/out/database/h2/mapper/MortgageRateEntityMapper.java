@@ -17,6 +17,7 @@ public class MortgageRateEntityMapper {
         }
 
         return new MortgageRate(
+                mortgageRateEntity.getProduct(),
                 mortgageRateEntity.getMaturityPeriod(),
                 mortgageRateEntity.getInterestRate(),
                 mortgageRateEntity.getLastUpdate()
@@ -0,0 +1,7 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.h2.repository;
+
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.LtvTierEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LtvTierRepository extends JpaRepository<LtvTierEntity, Long> {
+}
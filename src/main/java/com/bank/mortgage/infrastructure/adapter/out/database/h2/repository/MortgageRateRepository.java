@@ -1,18 +1,51 @@
 package com.bank.mortgage.infrastructure.adapter.out.database.h2.repository;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MortgageRateRepository extends JpaRepository<MortgageRateEntity, Long> {
 
     /**
-     * Find Mortgage rate by maturity period
+     * Find Mortgage rate by product and maturity period
      *
+     * @param product,        mortgage product
      * @param maturityPeriod, maturity period in years
-     * @return MortgageRateEntity related to a given maturity period
+     * @return MortgageRateEntity related to a given product and maturity period
      */
-    Optional<MortgageRateEntity> findByMaturityPeriod(int maturityPeriod);
+    Optional<MortgageRateEntity> findByProductAndMaturityPeriod(MortgageProduct product, int maturityPeriod);
+
+    /**
+     * Find a page of mortgage rates of a product by maturity period range, using the (product, maturity_period)
+     * index
+     *
+     * @param product, mortgage product
+     * @param from,    first maturity period, inclusive
+     * @param to,      last maturity period, inclusive
+     * @param limit,   maximum number of rates
+     * @return MortgageRateEntity list sorted by maturity period
+     */
+    List<MortgageRateEntity> findByProductAndMaturityPeriodBetweenOrderByMaturityPeriod(MortgageProduct product,
+                                                                                       int from, int to,
+                                                                                       Limit limit);
+
+    /**
+     * Find a page of mortgage rates of a product by maturity period range updated since a given timestamp, using the
+     * (product, maturity_period, last_update) index
+     *
+     * @param product,      mortgage product
+     * @param from,         first maturity period, inclusive
+     * @param to,           last maturity period, inclusive
+     * @param updatedSince, minimum last update, inclusive
+     * @param limit,        maximum number of rates
+     * @return MortgageRateEntity list sorted by maturity period
+     */
+    List<MortgageRateEntity> findByProductAndMaturityPeriodBetweenAndLastUpdateGreaterThanEqualOrderByMaturityPeriod(
+            MortgageProduct product, int from, int to, LocalDateTime updatedSince, Limit limit);
 
 }
@@ -0,0 +1,76 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.index;
+
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorates the LTV tier repository so the tier index is read once per {@code refreshInterval} instead of once per
+ * mortgage check.
+ * <p>
+ * When the index is due, the first caller reads the tiers again, and concurrent callers keep using the previous
+ * index meanwhile instead of waiting. Only the very first read is waited for. If the read fails, the previous index
+ * is kept until the next interval. A {@link DataAccessResourceFailureException} is only thrown if the tiers could
+ * never be read.
+ */
+@Slf4j
+public class CachedLtvTierRepositoryAdapter implements LtvTierRepositoryPort {
+
+    private final LtvTierRepositoryPort delegate;
+    private final long refreshIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile LtvTierIndex ltvTierIndex;
+    private volatile long nextRefreshNanos;
+
+    public CachedLtvTierRepositoryAdapter(LtvTierRepositoryPort delegate, Duration refreshInterval) {
+        this.delegate = delegate;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    @Override
+    public LtvTierIndex findLtvTierIndex() {
+        LtvTierIndex current = ltvTierIndex;
+        if (current != null && System.nanoTime() - nextRefreshNanos < 0) {
+            return current;
+        }
+        LtvTierIndex refreshed = refresh();
+        if (refreshed != null) {
+            return refreshed;
+        }
+        if (current == null) {
+            throw new DataAccessResourceFailureException("LTV tiers are not available");
+        }
+        return current;
+    }
+
+    private LtvTierIndex refresh() {
+        // Until the tiers are first read there is nothing to serve, so callers wait for the first one to read them
+        if (ltvTierIndex == null) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return ltvTierIndex;
+        }
+        try {
+            LtvTierIndex current = ltvTierIndex;
+            if (current != null && System.nanoTime() - nextRefreshNanos < 0) {
+                return current;
+            }
+            LtvTierIndex refreshed = delegate.findLtvTierIndex();
+            ltvTierIndex = refreshed;
+            log.debug("LTV tier index loaded with {} tiers", refreshed.size());
+            return refreshed;
+        } catch (RuntimeException e) {
+            log.warn("Could not read LTV tiers, keeping the previous ones: {}", e.getMessage());
+            return null;
+        } finally {
+            // Also after a failure: the database is not queried again before the next interval
+            nextRefreshNanos = System.nanoTime() + refreshIntervalNanos;
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.index;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.event.MortgageRateLookupEvent;
+import com.bank.mortgage.domain.model.MortgageRateBracket;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.infrastructure.timing.ServerTiming;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Decorates the mortgage rate repository so single rate and bracket lookups are answered by a
+ * {@link MortgageRateIndex} instead of a database query per request.
+ * <p>
+ * When the index is not current, the first lookup reloads the whole rate set, and concurrent lookups go to the
+ * delegate meanwhile instead of waiting. Stale rates, served by the delegate while the database is unavailable, are
+ * never indexed, and the indexed rates are flagged as stale while the database is unavailable, as the rate feed
+ * can't tell whether they changed. Listing methods always go to the delegate, as the rate feed needs to read the
+ * table.
+ * <p>
+ * Being the outermost rate repository, it adds every lookup to the Server-Timing of the request, flagging the ones
+ * that went to the delegate.
+ */
+@Slf4j
+public class IndexedMortgageRateRepositoryAdapter implements MortgageRateRepositoryPort {
+
+    private final MortgageRateRepositoryPort delegate;
+    private final MortgageRateIndex index;
+    private final BooleanSupplier databaseUnavailable;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public IndexedMortgageRateRepositoryAdapter(MortgageRateRepositoryPort delegate, MortgageRateIndex index) {
+        this(delegate, index, () -> false);
+    }
+
+    /**
+     * @param databaseUnavailable, true while the database behind the delegate is unavailable, so the indexed rates
+     *                             may be out of date
+     */
+    public IndexedMortgageRateRepositoryAdapter(MortgageRateRepositoryPort delegate, MortgageRateIndex index,
+                                                BooleanSupplier databaseUnavailable) {
+        this.delegate = delegate;
+        this.index = index;
+        this.databaseUnavailable = databaseUnavailable;
+    }
+
+    @Override
+    public List<MortgageRate> findAllMortgageRates() {
+        long start = System.nanoTime();
+        List<MortgageRate> mortgageRates = delegate.findAllMortgageRates();
+        ServerTiming.rateLookup(System.nanoTime() - start, true);
+        return mortgageRates;
+    }
+
+    @Override
+    public Optional<MortgageRate> findByProductAndMaturityPeriod(MortgageProduct product, Integer maturityPeriod) {
+        long start = System.nanoTime();
+        MortgageRateLookupEvent event = new MortgageRateLookupEvent();
+        event.begin();
+        MortgageRateIndex.Snapshot snapshot = index.current();
+        if (snapshot == null) {
+            snapshot = reload();
+            if (snapshot == null) {
+                // The delegate records its own lookup
+                Optional<MortgageRate> mortgageRate = delegate.findByProductAndMaturityPeriod(product,
+                        maturityPeriod);
+                ServerTiming.rateLookup(System.nanoTime() - start, true);
+                return mortgageRate;
+            }
+        }
+        MortgageRate mortgageRate = snapshot.find(product, maturityPeriod);
+        event.complete(product, maturityPeriod, mortgageRate != null, MortgageRateLookupEvent.INDEX);
+        ServerTiming.rateLookup(System.nanoTime() - start, false);
+        if (mortgageRate != null && databaseUnavailable.getAsBoolean()) {
+            return Optional.of(mortgageRate.asStale());
+        }
+        return Optional.ofNullable(mortgageRate);
+    }
+
+    @Override
+    public MortgageRateBracket findBracketByProductAndMaturityPeriod(MortgageProduct product, int maturityPeriod) {
+        long start = System.nanoTime();
+        MortgageRateIndex.Snapshot snapshot = index.current();
+        if (snapshot == null) {
+            snapshot = reload();
+            if (snapshot == null) {
+                MortgageRateBracket mortgageRateBracket = delegate.findBracketByProductAndMaturityPeriod(product,
+                        maturityPeriod);
+                ServerTiming.rateLookup(System.nanoTime() - start, true);
+                return mortgageRateBracket;
+            }
+        }
+        MortgageRateBracket mortgageRateBracket = snapshot.bracket(product, maturityPeriod);
+        ServerTiming.rateLookup(System.nanoTime() - start, false);
+        if (databaseUnavailable.getAsBoolean()) {
+            return new MortgageRateBracket(
+                    mortgageRateBracket.lower() == null ? null : mortgageRateBracket.lower().asStale(),
+                    mortgageRateBracket.upper() == null ? null : mortgageRateBracket.upper().asStale());
+        }
+        return mortgageRateBracket;
+    }
+
+    @Override
+    public MortgageRatePage findMortgageRates(MortgageRateQuery query) {
+        long start = System.nanoTime();
+        MortgageRatePage mortgageRatePage = delegate.findMortgageRates(query);
+        ServerTiming.rateLookup(System.nanoTime() - start, true);
+        return mortgageRatePage;
+    }
+
+    private MortgageRateIndex.Snapshot reload() {
+        if (!reloadLock.tryLock()) {
+            return null;
+        }
+        try {
+            // Another thread may have reloaded it while this one was waiting for the lock
+            MortgageRateIndex.Snapshot current = index.current();
+            if (current != null) {
+                return current;
+            }
+            long generation = index.generation();
+            List<MortgageRate> rates = delegate.findAllMortgageRates();
+            if (rates.stream().anyMatch(MortgageRate::stale)) {
+                return null;
+            }
+            MortgageRateIndex.Snapshot snapshot = index.load(rates, generation);
+            log.info("Mortgage rate index loaded with {} rates", snapshot.size());
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory copy of the loan-to-value tiers.
+ *
+ * @param refreshInterval Time the tiers are served from memory before they are read again from the database.
+ */
+@ConfigurationProperties(prefix = "mortgage.ltv-tiers")
+public record LtvTierProperties(
+        @DefaultValue("1m") Duration refreshInterval) {
+}
@@ -0,0 +1,126 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.index;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageRateBracket;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRatesChangedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of the mortgage rates by product and maturity period.
+ * <p>
+ * Rates are kept in two parallel arrays sorted by {@link MortgageRate#key()}, so a lookup is a binary search over
+ * primitive longs, without boxing, hashing nor allocation. A snapshot is never modified: a reload replaces it at once,
+ * so lookups don't lock.
+ * <p>
+ * Every invalidation starts a new generation, and a snapshot is only current while no invalidation happened after the
+ * rates it holds were read. The index is invalidated when a rate is written through JPA and when the rate feed finds
+ * a change in the table.
+ */
+public class MortgageRateIndex {
+
+    /**
+     * Rates read at a given generation, sorted by key
+     */
+    public static final class Snapshot {
+
+        private final long generation;
+        private final long[] keys;
+        private final MortgageRate[] rates;
+
+        private Snapshot(long generation, List<MortgageRate> mortgageRates) {
+            this.generation = generation;
+            this.rates = mortgageRates.stream()
+                    .sorted(Comparator.comparingLong(MortgageRate::key))
+                    .toArray(MortgageRate[]::new);
+            this.keys = new long[rates.length];
+            for (int i = 0; i < rates.length; i++) {
+                keys[i] = rates[i].key();
+            }
+        }
+
+        /**
+         * @param product,        mortgage product
+         * @param maturityPeriod, maturity period in years
+         * @return The rate of the product for the maturity period, null if there is none
+         */
+        public MortgageRate find(MortgageProduct product, int maturityPeriod) {
+            int index = Arrays.binarySearch(keys, MortgageRate.key(product, maturityPeriod));
+            return index >= 0 ? rates[index] : null;
+        }
+
+        /**
+         * Keys sort by product then maturity period, so the rates around a missing key are its neighbours in the
+         * arrays, provided they belong to the same product
+         *
+         * @param product,        mortgage product
+         * @param maturityPeriod, maturity period in years
+         * @return The rates of the product around the maturity period
+         */
+        public MortgageRateBracket bracket(MortgageProduct product, int maturityPeriod) {
+            int index = Arrays.binarySearch(keys, MortgageRate.key(product, maturityPeriod));
+            if (index >= 0) {
+                return new MortgageRateBracket(rates[index], rates[index]);
+            }
+            int insertionPoint = -index - 1;
+            MortgageRate lower = insertionPoint > 0 && rates[insertionPoint - 1].product() == product
+                    ? rates[insertionPoint - 1] : null;
+            MortgageRate upper = insertionPoint < rates.length && rates[insertionPoint].product() == product
+                    ? rates[insertionPoint] : null;
+            return new MortgageRateBracket(lower, upper);
+        }
+
+        public int size() {
+            return rates.length;
+        }
+    }
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * @return The current snapshot, null if the index was never loaded or was invalidated since
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null && current.generation == generation.get() ? current : null;
+    }
+
+    /**
+     * @return The current generation, to be read before the rates to load
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Replace the indexed rates
+     *
+     * @param rates,      complete rate set, read after the given generation started
+     * @param generation, generation read before the rates. If the index was invalidated since, the snapshot is not
+     *                    current and the next lookup loads the rates again
+     * @return The new snapshot
+     */
+    public Snapshot load(List<MortgageRate> rates, long generation) {
+        Snapshot loaded = new Snapshot(generation, rates);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Rates changed in the table, possibly outside this application
+     */
+    @EventListener
+    public void onMortgageRatesChanged(MortgageRatesChangedEvent event) {
+        invalidate();
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.quote;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Write-behind store of mortgage quotes.
+ *
+ * @param queueCapacity  Maximum number of quotes waiting to be written to the database.
+ * @param enqueueTimeout Maximum time a request waits for room in a full queue before failing.
+ * @param batchSize      Maximum number of quotes written by a single JDBC batch insert.
+ * @param flushInterval  Maximum time a quote waits for a batch to fill up before it is written.
+ * @param retryBackoff   Wait before retrying a batch whose insert failed.
+ * @param recentCapacity Number of recent quotes served from memory.
+ */
+@ConfigurationProperties(prefix = "mortgage.quote-store")
+public record QuoteStoreProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("1s") Duration enqueueTimeout,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("1s") Duration retryBackoff,
+        @DefaultValue("10000") int recentCapacity) {
+}
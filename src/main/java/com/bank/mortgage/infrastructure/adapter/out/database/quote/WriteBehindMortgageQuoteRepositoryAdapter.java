@@ -0,0 +1,257 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.quote;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageQuote;
+import com.bank.mortgage.domain.port.out.MortgageQuoteRepositoryPort;
+import com.bank.mortgage.infrastructure.logging.LogRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.Closeable;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores quotes with a write-behind queue, so mortgage checks never wait for the insert.
+ * <p>
+ * Saved quotes are queued and written by a single background thread with JDBC batch inserts of up to
+ * {@code batchSize} rows, waiting at most {@code flushInterval} for a batch to fill up. Reads are served from memory
+ * first: quotes not written yet, then the most recent quotes, and only then from the table. A batch failing because
+ * the database is unavailable is retried until it is written. A batch the database rejects is written row by row, and
+ * the rows it still rejects are logged and dropped, so one bad quote never blocks the queue. The remaining queue is
+ * flushed on close.
+ */
+@Slf4j
+public class WriteBehindMortgageQuoteRepositoryAdapter implements MortgageQuoteRepositoryPort, Closeable {
+
+    static final String INSERT_SQL = "INSERT INTO mortgage_quote (id, product, maturity_period, interest_rate, "
+            + "income, loan_value, home_value, feasible, monthly_cost, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String SELECT_BY_ID_SQL = "SELECT id, product, maturity_period, interest_rate, income, loan_value, "
+            + "home_value, feasible, monthly_cost, created_at FROM mortgage_quote WHERE id = ?";
+
+    // Attempts for a failing batch while closing, the application is going down and can't wait forever
+    private static final int CLOSE_ATTEMPTS = 3;
+
+    private static final RowMapper<MortgageQuote> ROW_MAPPER = (resultSet, rowNum) -> new MortgageQuote(
+            resultSet.getObject("id", UUID.class),
+            MortgageProduct.valueOf(resultSet.getString("product")),
+            resultSet.getInt("maturity_period"),
+            resultSet.getBigDecimal("interest_rate"),
+            resultSet.getBigDecimal("income"),
+            resultSet.getBigDecimal("loan_value"),
+            resultSet.getBigDecimal("home_value"),
+            resultSet.getBoolean("feasible"),
+            resultSet.getBigDecimal("monthly_cost"),
+            resultSet.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<MortgageQuote> queue;
+    private final Duration enqueueTimeout;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration retryBackoff;
+    private final Thread writer;
+    private final LogRateLimiter failureLogLimiter = new LogRateLimiter(log, "quote write failure", 1,
+            Duration.ofSeconds(10));
+
+    // Queued quotes, until they are written. Never evicted, so they are found while the table is behind
+    private final Map<UUID, MortgageQuote> pending = new ConcurrentHashMap<>();
+    // Most recent quotes, evicted in insertion order
+    private final Map<UUID, MortgageQuote> recent;
+    private final AtomicLong rejectedQuotes = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public WriteBehindMortgageQuoteRepositoryAdapter(JdbcTemplate jdbcTemplate, QuoteStoreProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.enqueueTimeout = properties.enqueueTimeout();
+        this.batchSize = properties.batchSize();
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+        this.retryBackoff = properties.retryBackoff();
+        int recentCapacity = properties.recentCapacity();
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, MortgageQuote> eldest) {
+                return size() > recentCapacity;
+            }
+        });
+        this.writer = new Thread(this::writeBehind, "mortgage-quote-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void save(MortgageQuote mortgageQuote) {
+        pending.put(mortgageQuote.id(), mortgageQuote);
+        recent.put(mortgageQuote.id(), mortgageQuote);
+        boolean queued;
+        try {
+            queued = queue.offer(mortgageQuote, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            // The database has been behind for too long: fail the request instead of queueing without limit
+            pending.remove(mortgageQuote.id());
+            recent.remove(mortgageQuote.id());
+            throw new DataAccessResourceFailureException("Mortgage quote store is full");
+        }
+    }
+
+    @Override
+    public Optional<MortgageQuote> findById(UUID quoteId) {
+        MortgageQuote mortgageQuote = pending.get(quoteId);
+        if (mortgageQuote == null) {
+            mortgageQuote = recent.get(quoteId);
+        }
+        if (mortgageQuote != null) {
+            return Optional.of(mortgageQuote);
+        }
+        return jdbcTemplate.query(SELECT_BY_ID_SQL, ROW_MAPPER, quoteId).stream().findFirst();
+    }
+
+    /**
+     * Stop accepting work and write the quotes still queued
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!pending.isEmpty()) {
+            log.error("{} mortgage quotes could not be written before shutdown", pending.size());
+        }
+    }
+
+    private void writeBehind() {
+        List<MortgageQuote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MortgageQuote first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Add queued quotes to the batch until it is full or the flush interval since its first quote has elapsed
+     */
+    private void fillBatch(List<MortgageQuote> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            MortgageQuote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void write(List<MortgageQuote> batch) throws InterruptedException {
+        if (insert(batch)) {
+            return;
+        }
+        // One row the database will never accept fails the whole batch: write the rows one by one to set it aside
+        for (MortgageQuote quote : batch) {
+            if (!insert(List.of(quote))) {
+                rejectedQuotes.incrementAndGet();
+                pending.remove(quote.id());
+                log.error("Mortgage quote rejected by the database, not stored: {}", quote);
+            }
+        }
+    }
+
+    /**
+     * Insert the quotes, retrying transient failures until they are written or the adapter is closed
+     *
+     * @return False if the database rejected the quotes for good
+     */
+    private boolean insert(List<MortgageQuote> quotes) throws InterruptedException {
+        int attempts = 0;
+        while (true) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, quotes, quotes.size(), (statement, quote) -> {
+                    statement.setObject(1, quote.id());
+                    statement.setString(2, quote.product().name());
+                    statement.setInt(3, quote.maturityPeriod());
+                    statement.setBigDecimal(4, quote.interestRate());
+                    statement.setBigDecimal(5, quote.income());
+                    statement.setBigDecimal(6, quote.loanValue());
+                    statement.setBigDecimal(7, quote.homeValue());
+                    statement.setBoolean(8, quote.feasible());
+                    statement.setBigDecimal(9, quote.monthlyCost());
+                    statement.setTimestamp(10, Timestamp.valueOf(quote.createdAt()));
+                });
+                quotes.forEach(quote -> pending.remove(quote.id()));
+                return true;
+            } catch (DataAccessException e) {
+                if (!isTransient(e)) {
+                    log.warn("Database rejected {} mortgage quotes: {}", quotes.size(), e.getMessage());
+                    return false;
+                }
+                attempts++;
+                if (failureLogLimiter.tryAcquire()) {
+                    log.warn("Could not write {} mortgage quotes, retrying: {}", quotes.size(), e.getMessage());
+                }
+                if (!running && attempts >= CLOSE_ATTEMPTS) {
+                    // Left pending, close reports them
+                    log.error("Giving up writing {} mortgage quotes on shutdown", quotes.size(), e);
+                    return true;
+                }
+                Thread.sleep(retryBackoff.toMillis());
+            }
+        }
+    }
+
+    /**
+     * Failures worth retrying: the database or the connection to it is unavailable, not the rows themselves
+     */
+    private static boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * @return The number of quotes the database rejected, which were not stored
+     */
+    public long rejectedQuotes() {
+        return rejectedQuotes.get();
+    }
+}
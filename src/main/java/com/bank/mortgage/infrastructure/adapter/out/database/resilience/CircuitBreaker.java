@@ -0,0 +1,86 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal circuit breaker.
+ * <ul>
+ *     <li>CLOSED: calls go through. After {@code failureThreshold} consecutive failures it opens.</li>
+ *     <li>OPEN: calls are not attempted until {@code openDuration} has passed.</li>
+ *     <li>HALF_OPEN: a single trial call goes through. Success closes the breaker, failure opens it again.</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInProgress = new AtomicBoolean();
+    private volatile long openedAt;
+    private volatile boolean open;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Invalid failure threshold: It must be greater than zero.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true if the call can be attempted. When it returns true, the caller must report the outcome with
+     * {@link #onSuccess()} or {@link #onFailure()}
+     */
+    public boolean tryAcquirePermission() {
+        if (!open) {
+            return true;
+        }
+        if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+            return false;
+        }
+        // Open period is over, let a single trial call through
+        return trialInProgress.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        open = false;
+        trialInProgress.set(false);
+    }
+
+    public void onFailure() {
+        if (open || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = nanoClock.getAsLong();
+            open = true;
+            trialInProgress.set(false);
+        }
+    }
+
+    /**
+     * Releases a permission whose call was never attempted, without changing the breaker state
+     */
+    public void onNotPermittedCall() {
+        trialInProgress.set(false);
+    }
+
+    public State getState() {
+        if (!open) {
+            return State.CLOSED;
+        }
+        return nanoClock.getAsLong() - openedAt < openDurationNanos ? State.OPEN : State.HALF_OPEN;
+    }
+}
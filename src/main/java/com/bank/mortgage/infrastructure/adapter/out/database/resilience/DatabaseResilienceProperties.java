@@ -0,0 +1,24 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Protection of the calls to the mortgage rate database.
+ *
+ * @param timeout          Maximum time a caller waits for the database.
+ * @param failureThreshold Consecutive failures (errors or timeouts) that open the circuit breaker.
+ * @param openDuration     Time the circuit breaker stays open before a trial call is allowed.
+ * @param bulkheadSize     Maximum number of concurrent database calls.
+ * @param bulkheadQueue    Maximum number of calls waiting for a free slot. Calls beyond it are not attempted.
+ */
+@ConfigurationProperties(prefix = "mortgage.database.resilience")
+public record DatabaseResilienceProperties(
+        @DefaultValue("500ms") Duration timeout,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("10s") Duration openDuration,
+        @DefaultValue("10") int bulkheadSize,
+        @DefaultValue("50") int bulkheadQueue) {
+}
@@ -0,0 +1,177 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.resilience;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.event.MortgageRateLookupEvent;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Decorates the mortgage rate repository with a timeout, a bulkhead and a circuit breaker.
+ * <p>
+ * Database calls run on a bounded executor (the bulkhead), so a slow database can only hold a fixed number of
+ * threads, and callers wait at most {@code timeout} for them. Every successful call refreshes a copy of the last
+ * known good rates. When a call fails, times out, is rejected by the bulkhead or the circuit is open, rates are
+ * served from that copy flagged as stale. If the copy can't answer, a {@link DataAccessResourceFailureException}
+ * is thrown.
+ */
+@Slf4j
+public class ResilientMortgageRateRepositoryAdapter implements MortgageRateRepositoryPort {
+
+    private final MortgageRateRepositoryPort delegate;
+    private final ExecutorService bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final long timeoutNanos;
+
+    private final Map<Long, MortgageRate> lastKnownRates = new ConcurrentHashMap<>();
+    private volatile boolean allRatesKnown;
+    private volatile boolean lastCallFailed;
+
+    public ResilientMortgageRateRepositoryAdapter(MortgageRateRepositoryPort delegate, ExecutorService bulkhead,
+                                                  CircuitBreaker circuitBreaker, Duration timeout) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public List<MortgageRate> findAllMortgageRates() {
+        List<MortgageRate> mortgageRates = execute(delegate::findAllMortgageRates, this::lastKnownRates);
+        if (!mortgageRates.isEmpty() && mortgageRates.get(0).stale()) {
+            return mortgageRates;
+        }
+        lastKnownRates.clear();
+        mortgageRates.forEach(rate -> lastKnownRates.put(rate.key(), rate));
+        allRatesKnown = true;
+        return mortgageRates;
+    }
+
+    @Override
+    public Optional<MortgageRate> findByProductAndMaturityPeriod(MortgageProduct product, Integer maturityPeriod) {
+        MortgageRateLookupEvent event = new MortgageRateLookupEvent();
+        event.begin();
+        long key = MortgageRate.key(product, maturityPeriod);
+        Optional<MortgageRate> mortgageRate =
+                execute(() -> delegate.findByProductAndMaturityPeriod(product, maturityPeriod),
+                        () -> lastKnownRate(key));
+        if (mortgageRate.isPresent() && mortgageRate.get().stale()) {
+            // Only the fallback is recorded here, the delegate records the database lookups
+            event.complete(product, maturityPeriod, true, MortgageRateLookupEvent.LAST_KNOWN);
+            return mortgageRate;
+        }
+        mortgageRate.ifPresentOrElse(rate -> lastKnownRates.put(key, rate), () -> lastKnownRates.remove(key));
+        return mortgageRate;
+    }
+
+    @Override
+    public MortgageRatePage findMortgageRates(MortgageRateQuery query) {
+        MortgageRatePage page = execute(() -> delegate.findMortgageRates(query), () -> lastKnownPage(query));
+        if (!page.rates().isEmpty() && page.rates().get(0).stale()) {
+            return page;
+        }
+        // A page is only part of the table: it refreshes known rates, but can't tell which ones were removed
+        page.rates().forEach(rate -> lastKnownRates.put(rate.key(), rate));
+        return page;
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * @return true while the circuit breaker is not closed or the last database call did not succeed, so rates read
+     * before, and kept elsewhere, may be out of date
+     */
+    public boolean isDegraded() {
+        return lastCallFailed || circuitBreaker.getState() != CircuitBreaker.State.CLOSED;
+    }
+
+    private Optional<List<MortgageRate>> lastKnownRates() {
+        if (!allRatesKnown) {
+            return Optional.empty();
+        }
+        return Optional.of(lastKnownRates.values().stream()
+                .sorted(Comparator.comparingLong(MortgageRate::key))
+                .map(MortgageRate::asStale)
+                .toList());
+    }
+
+    private Optional<MortgageRatePage> lastKnownPage(MortgageRateQuery query) {
+        return lastKnownRates().map(rates -> MortgageRatePage.of(rates.stream()
+                .filter(query::matches)
+                .limit(query.limit() + 1L)
+                .toList(), query.limit()));
+    }
+
+    private Optional<Optional<MortgageRate>> lastKnownRate(long key) {
+        MortgageRate mortgageRate = lastKnownRates.get(key);
+        if (mortgageRate != null) {
+            return Optional.of(Optional.of(mortgageRate.asStale()));
+        }
+        // Only a complete copy can tell the maturity doesn't exist
+        return allRatesKnown ? Optional.of(Optional.empty()) : Optional.empty();
+    }
+
+    private <T> T execute(Callable<T> call, Supplier<Optional<T>> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(fallback, "circuit breaker is open", null);
+        }
+
+        Future<T> future;
+        try {
+            future = bulkhead.submit(call);
+        } catch (RejectedExecutionException e) {
+            // Not a database failure, so the breaker state is left as it is
+            circuitBreaker.onNotPermittedCall();
+            return fallback(fallback, "bulkhead is full", e);
+        }
+
+        try {
+            T result = future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            lastCallFailed = false;
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            return fallback(fallback, "database call timed out", e);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            return fallback(fallback, "database call failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for mortgage rates", e);
+        }
+    }
+
+    private <T> T fallback(Supplier<Optional<T>> fallback, String reason, Throwable cause) {
+        lastCallFailed = true;
+        Optional<T> lastKnown = fallback.get();
+        if (lastKnown.isPresent()) {
+            log.warn("Serving last known mortgage rates: {}", reason);
+            return lastKnown.get();
+        }
+        log.error("Mortgage rates are unavailable: {}", reason);
+        throw new DataAccessResourceFailureException("Mortgage rates are unavailable: " + reason, cause);
+    }
+}
@@ -0,0 +1,479 @@
+package com.bank.mortgage.infrastructure.adapter.out.portfolio;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+import com.bank.mortgage.domain.model.PortfolioChunk;
+import com.bank.mortgage.domain.model.ScoredLoan;
+import com.bank.mortgage.domain.port.out.PortfolioRepositoryPort;
+import com.bank.mortgage.domain.port.out.PortfolioScanPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Portfolio stored off-heap, one primitive column per field.
+ * <p>
+ * Every column is a {@link ByteBuffer} outside the Java heap: a direct buffer, or a memory-mapped file per column when
+ * a directory is configured, so the operating system pages the columns instead of the garbage collector tracing
+ * millions of loan objects. The heap only holds two primitive indexes: loan id to row, an open-addressing table, and
+ * rate key to rows, so the loans of a rate change are found without a scan. Columns double in size when full.
+ * <p>
+ * Scans read the columns in chunks of consecutive rows, in parallel, without materializing the loans. Writes are
+ * exclusive, scans and reads share the store.
+ */
+@Slf4j
+public class ColumnarPortfolioStore implements PortfolioRepositoryPort, PortfolioScanPort, Closeable {
+
+    // Loan ids are stored as a length byte followed by up to MAX_LOAN_ID_BYTES bytes of UTF-8. The API only accepts
+    // printable ASCII loan ids, so its maxLength of 64 characters is the same limit
+    static final int MAX_LOAN_ID_BYTES = 64;
+    private static final MortgageProduct[] PRODUCTS = MortgageProduct.values();
+
+    private final Path directory;
+    private final int chunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Column loanIds = new Column("loan-id", MAX_LOAN_ID_BYTES + 1);
+    private final Column products = new Column("product", Byte.BYTES);
+    private final Column maturityPeriods = new Column("maturity-period", Integer.BYTES);
+    private final Column incomes = new Column("income", Double.BYTES);
+    private final Column loanValues = new Column("loan-value", Double.BYTES);
+    private final Column homeValues = new Column("home-value", Double.BYTES);
+    private final Column feasibles = new Column("feasible", Byte.BYTES);
+    private final Column monthlyCostCents = new Column("monthly-cost", Long.BYTES);
+    private final List<Column> columns = List.of(loanIds, products, maturityPeriods, incomes, loanValues, homeValues,
+            feasibles, monthlyCostCents);
+
+    // Guarded by lock
+    private final Map<Long, RowList> rowsByRateKey = new HashMap<>();
+    private int[] rowByLoanId;
+    private int capacity;
+    private int size;
+
+    /**
+     * @param directory,       directory of the column files, null to keep the columns in direct buffers
+     * @param initialCapacity, number of loans the columns hold before they grow
+     * @param chunkSize,       number of rows scanned by a task
+     */
+    public ColumnarPortfolioStore(Path directory, int initialCapacity, int chunkSize) {
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+        this.capacity = Math.max(initialCapacity, 16);
+        this.rowByLoanId = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        try {
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            for (Column column : columns) {
+                column.allocate(capacity, true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Portfolio store: {} columns in {}, capacity {} loans", columns.size(),
+                directory == null ? "direct buffers" : directory, capacity);
+    }
+
+    /**
+     * The batch is validated and the columns grown for its new loans before the first loan is written, so a batch that
+     * fails leaves the store as it was
+     */
+    @Override
+    public void saveAll(List<ScoredLoan> scoredLoans) {
+        byte[][] loanIds = validate(scoredLoans);
+
+        lock.writeLock().lock();
+        try {
+            long newLoans = 0;
+            for (int i = 0; i < loanIds.length; i++) {
+                if (rowByLoanId[findSlot(loanIds[i], scoredLoans.get(i).loan().loanId().hashCode())] == 0) {
+                    newLoans++;
+                }
+            }
+            if (size + newLoans > capacity) {
+                grow(size + newLoans);
+            }
+            for (int i = 0; i < loanIds.length; i++) {
+                save(scoredLoans.get(i), loanIds[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ScoredLoan> updateScores(List<ScoredLoan> scoredLoans) {
+        byte[][] loanIds = validate(scoredLoans);
+
+        List<ScoredLoan> updated = new ArrayList<>(scoredLoans.size());
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < loanIds.length; i++) {
+                ScoredLoan scoredLoan = scoredLoans.get(i);
+                int row = rowByLoanId[findSlot(loanIds[i], scoredLoan.loan().loanId().hashCode())] - 1;
+                if (row >= 0 && holds(row, scoredLoan.loan())) {
+                    writeScore(row, scoredLoan);
+                    updated.add(scoredLoan);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return updated;
+    }
+
+    @Override
+    public List<ScoredLoan> findByProductAndMaturityPeriod(MortgageProduct product, int maturityPeriod) {
+        lock.readLock().lock();
+        try {
+            RowList rows = rowsByRateKey.get(MortgageRate.key(product, maturityPeriod));
+            if (rows == null) {
+                return List.of();
+            }
+            List<ScoredLoan> scoredLoans = new ArrayList<>(rows.size);
+            for (int i = 0; i < rows.size; i++) {
+                scoredLoans.add(read(rows.rows[i]));
+            }
+            return scoredLoans;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <R> R scan(Function<PortfolioChunk, R> chunkFunction, R identity, BinaryOperator<R> combiner) {
+        lock.readLock().lock();
+        try {
+            int rows = size;
+            int chunks = (rows + chunkSize - 1) / chunkSize;
+            // The read lock is held by this thread until every chunk is done, so no write moves the columns meanwhile
+            return IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> chunkFunction.apply(
+                            new ColumnChunk(chunk * chunkSize, Math.min(chunkSize, rows - chunk * chunkSize))))
+                    .reduce(identity, combiner);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Force the memory-mapped columns to disk
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            for (Column column : columns) {
+                if (column.buffer instanceof MappedByteBuffer mapped) {
+                    mapped.force();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Check every loan fits the columns, before the store is locked
+     *
+     * @return The loan ids in UTF-8
+     */
+    private static byte[][] validate(List<ScoredLoan> scoredLoans) {
+        byte[][] loanIds = new byte[scoredLoans.size()][];
+        for (int i = 0; i < loanIds.length; i++) {
+            ScoredLoan scoredLoan = scoredLoans.get(i);
+            loanIds[i] = scoredLoan.loan().loanId().getBytes(StandardCharsets.UTF_8);
+            if (loanIds[i].length > MAX_LOAN_ID_BYTES) {
+                throw new IllegalArgumentException("Invalid loan id: It must be at most " + MAX_LOAN_ID_BYTES
+                        + " bytes long.");
+            }
+            // The monthly cost column holds cents in a long
+            scoredLoan.monthlyCost().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        return loanIds;
+    }
+
+    private void save(ScoredLoan scoredLoan, byte[] loanId) {
+        PortfolioLoan loan = scoredLoan.loan();
+        int slot = findSlot(loanId, loan.loanId().hashCode());
+        int row = rowByLoanId[slot] - 1;
+        long rateKey = loan.rateKey();
+        if (row < 0) {
+            row = size++;
+            rowByLoanId[slot] = row + 1;
+            writeLoanId(row, loanId);
+        } else {
+            long previousRateKey = MortgageRate.key(PRODUCTS[products.buffer.get(row)],
+                    maturityPeriods.buffer.getInt(row * Integer.BYTES));
+            if (previousRateKey == rateKey) {
+                write(row, scoredLoan);
+                return;
+            }
+            rowsByRateKey.get(previousRateKey).remove(row);
+        }
+        write(row, scoredLoan);
+        rowsByRateKey.computeIfAbsent(rateKey, key -> new RowList()).add(row);
+    }
+
+    private void write(int row, ScoredLoan scoredLoan) {
+        PortfolioLoan loan = scoredLoan.loan();
+        products.buffer.put(row, (byte) loan.product().ordinal());
+        maturityPeriods.buffer.putInt(row * Integer.BYTES, loan.maturityPeriod());
+        incomes.buffer.putDouble(row * Double.BYTES, loan.income().doubleValue());
+        loanValues.buffer.putDouble(row * Double.BYTES, loan.loanValue().doubleValue());
+        homeValues.buffer.putDouble(row * Double.BYTES, loan.homeValue().doubleValue());
+        writeScore(row, scoredLoan);
+    }
+
+    private void writeScore(int row, ScoredLoan scoredLoan) {
+        feasibles.buffer.put(row, (byte) (scoredLoan.feasible() ? 1 : 0));
+        monthlyCostCents.buffer.putLong(row * Long.BYTES,
+                scoredLoan.monthlyCost().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * @return Whether the row holds the loan as it is, so a score computed for the loan is still its score
+     */
+    private boolean holds(int row, PortfolioLoan loan) {
+        return products.buffer.get(row) == loan.product().ordinal()
+                && maturityPeriods.buffer.getInt(row * Integer.BYTES) == loan.maturityPeriod()
+                && incomes.buffer.getDouble(row * Double.BYTES) == loan.income().doubleValue()
+                && loanValues.buffer.getDouble(row * Double.BYTES) == loan.loanValue().doubleValue()
+                && homeValues.buffer.getDouble(row * Double.BYTES) == loan.homeValue().doubleValue();
+    }
+
+    private ScoredLoan read(int row) {
+        PortfolioLoan loan = new PortfolioLoan(readLoanId(row),
+                PRODUCTS[products.buffer.get(row)],
+                maturityPeriods.buffer.getInt(row * Integer.BYTES),
+                BigDecimal.valueOf(incomes.buffer.getDouble(row * Double.BYTES)),
+                BigDecimal.valueOf(loanValues.buffer.getDouble(row * Double.BYTES)),
+                BigDecimal.valueOf(homeValues.buffer.getDouble(row * Double.BYTES)));
+        return new ScoredLoan(loan, feasibles.buffer.get(row) == 1,
+                BigDecimal.valueOf(monthlyCostCents.buffer.getLong(row * Long.BYTES), 2));
+    }
+
+    private void writeLoanId(int row, byte[] loanId) {
+        int offset = row * loanIds.width;
+        loanIds.buffer.put(offset, (byte) loanId.length);
+        loanIds.buffer.put(offset + 1, loanId);
+    }
+
+    private String readLoanId(int row) {
+        int offset = row * loanIds.width;
+        byte[] loanId = new byte[loanIds.buffer.get(offset)];
+        loanIds.buffer.get(offset + 1, loanId);
+        return new String(loanId, StandardCharsets.UTF_8);
+    }
+
+    private boolean loanIdEquals(int row, byte[] loanId) {
+        int offset = row * loanIds.width;
+        if (loanIds.buffer.get(offset) != loanId.length) {
+            return false;
+        }
+        for (int i = 0; i < loanId.length; i++) {
+            if (loanIds.buffer.get(offset + 1 + i) != loanId[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Linear probing in {@link #rowByLoanId}, which holds row + 1, 0 for a free slot
+     *
+     * @return The slot of the loan id, or the free slot where it belongs
+     */
+    private int findSlot(byte[] loanId, int hash) {
+        int mask = rowByLoanId.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (rowByLoanId[slot] != 0 && !loanIdEquals(rowByLoanId[slot] - 1, loanId)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Double the capacity until it holds the given number of loans. The new size of every column is checked before
+     * any column is allocated again.
+     */
+    private void grow(long rows) {
+        int newCapacity = capacity;
+        while (newCapacity < rows) {
+            if (newCapacity > Integer.MAX_VALUE / 2) {
+                throw new IllegalStateException("Portfolio store is full: it can't hold " + rows + " loans");
+            }
+            newCapacity *= 2;
+        }
+        for (Column column : columns) {
+            column.checkCapacity(newCapacity);
+        }
+        try {
+            for (Column column : columns) {
+                column.allocate(newCapacity, false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        capacity = newCapacity;
+
+        // The id table is kept at most half full
+        rowByLoanId = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        for (int row = 0; row < size; row++) {
+            String loanId = readLoanId(row);
+            rowByLoanId[findSlot(loanId.getBytes(StandardCharsets.UTF_8), loanId.hashCode())] = row + 1;
+        }
+        log.info("Portfolio store grown to {} loans", capacity);
+    }
+
+    /**
+     * Fixed-width column of primitives, in native byte order
+     */
+    private final class Column {
+
+        private final String name;
+        private final int width;
+        private ByteBuffer buffer;
+
+        private Column(String name, int width) {
+            this.name = name;
+            this.width = width;
+        }
+
+        /**
+         * Allocate room for the given number of rows, keeping the current ones. A file column keeps its rows in the
+         * file, so it is just mapped again with the new size.
+         */
+        private void allocate(int rows, boolean truncate) throws IOException {
+            checkCapacity(rows);
+            long bytes = (long) rows * width;
+            ByteBuffer allocated;
+            if (directory == null) {
+                allocated = ByteBuffer.allocateDirect((int) bytes);
+                if (buffer != null) {
+                    allocated.put(buffer.duplicate().clear());
+                }
+            } else {
+                StandardOpenOption[] options = truncate
+                        ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING}
+                        : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+                try (FileChannel channel = FileChannel.open(directory.resolve(name + ".col"), options)) {
+                    allocated = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                }
+            }
+            buffer = allocated.order(ByteOrder.nativeOrder());
+        }
+
+        private void checkCapacity(int rows) {
+            if ((long) rows * width > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Portfolio store is full: column " + name + " can't hold " + rows
+                        + " loans");
+            }
+        }
+    }
+
+    /**
+     * Rows of a rate key, in insertion order apart from removals
+     */
+    private static final class RowList {
+
+        private int[] rows = new int[16];
+        private int size;
+
+        private void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        private void remove(int row) {
+            for (int i = 0; i < size; i++) {
+                if (rows[i] == row) {
+                    System.arraycopy(rows, i + 1, rows, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * View of consecutive rows of the columns
+     */
+    private final class ColumnChunk implements PortfolioChunk {
+
+        private final int start;
+        private final int size;
+
+        private ColumnChunk(int start, int size) {
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public MortgageProduct product(int row) {
+            return PRODUCTS[products.buffer.get(start + row)];
+        }
+
+        @Override
+        public int maturityPeriod(int row) {
+            return maturityPeriods.buffer.getInt((start + row) * Integer.BYTES);
+        }
+
+        @Override
+        public double income(int row) {
+            return incomes.buffer.getDouble((start + row) * Double.BYTES);
+        }
+
+        @Override
+        public double loanValue(int row) {
+            return loanValues.buffer.getDouble((start + row) * Double.BYTES);
+        }
+
+        @Override
+        public double homeValue(int row) {
+            return homeValues.buffer.getDouble((start + row) * Double.BYTES);
+        }
+    }
+}
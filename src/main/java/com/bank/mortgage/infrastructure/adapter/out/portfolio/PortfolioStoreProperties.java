@@ -0,0 +1,18 @@
+package com.bank.mortgage.infrastructure.adapter.out.portfolio;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Off-heap columnar store of the loan portfolio.
+ *
+ * @param directory       Directory of the memory-mapped column files, empty to keep the columns in direct buffers.
+ * @param initialCapacity Number of loans the columns hold before they are grown.
+ * @param chunkSize       Number of loans scanned by a single parallel task.
+ */
+@ConfigurationProperties(prefix = "mortgage.portfolio")
+public record PortfolioStoreProperties(
+        @DefaultValue("") String directory,
+        @DefaultValue("65536") int initialCapacity,
+        @DefaultValue("65536") int chunkSize) {
+}
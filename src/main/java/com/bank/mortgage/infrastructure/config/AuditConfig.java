@@ -0,0 +1,37 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.infrastructure.adapter.out.audit.AuditLogReader;
+import com.bank.mortgage.infrastructure.adapter.out.audit.AuditProperties;
+import com.bank.mortgage.infrastructure.adapter.out.audit.RingBufferMortgageDecisionAuditAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    @Bean(destroyMethod = "close")
+    public RingBufferMortgageDecisionAuditAdapter mortgageDecisionAuditAdapter(AuditProperties properties) {
+        return new RingBufferMortgageDecisionAuditAdapter(properties);
+    }
+
+    /**
+     * Decisions dropped because the audit buffer was full, as mortgage.audit.dropped
+     */
+    @Bean
+    public MeterBinder auditMetrics(RingBufferMortgageDecisionAuditAdapter mortgageDecisionAuditAdapter) {
+        return registry -> FunctionCounter.builder("mortgage.audit.dropped", mortgageDecisionAuditAdapter,
+                        RingBufferMortgageDecisionAuditAdapter::getDropped)
+                .description("Mortgage decisions not audited because the audit buffer was full")
+                .register(registry);
+    }
+
+    @Bean
+    public AuditLogReader auditLogReader(AuditProperties properties) {
+        return new AuditLogReader(properties.directory());
+    }
+
+}
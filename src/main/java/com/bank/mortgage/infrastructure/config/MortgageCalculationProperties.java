@@ -0,0 +1,23 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.domain.model.CalculationPrecision;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Mortgage calculations. Quotes and portfolio scoring each have their own precision, so high-volume scoring can be
+ * fast while the quotes given to applicants keep the reference precision.
+ *
+ * @param precision          Numeric precision of the quotes: mortgage checks, refinance comparisons, variable-rate
+ *                           projections and overpayment simulations.
+ * @param screeningPrecision Numeric precision of the portfolio scoring: loading and rescoring the portfolio.
+ *                           DECIMAL128 (reference), DECIMAL64, or DOUBLE. DOUBLE calculates the monthly cost of a
+ *                           mortgage on doubles, cent-exact thanks to a DECIMAL128 fallback near half a cent, but falls
+ *                           back to DECIMAL64 for the refinance annuity factors and the balances of projections, which
+ *                           are not cent-exact (see {@link CalculationPrecision#DOUBLE}).
+ */
+@ConfigurationProperties(prefix = "mortgage.calculation")
+public record MortgageCalculationProperties(
+        @DefaultValue("DECIMAL128") CalculationPrecision precision,
+        @DefaultValue("DOUBLE") CalculationPrecision screeningPrecision) {
+}
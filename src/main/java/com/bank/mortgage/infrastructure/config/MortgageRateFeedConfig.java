@@ -0,0 +1,63 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.infrastructure.adapter.in.rest.sse.MortgageRateStreamBroadcaster;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRateFeed;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRateFeedProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(MortgageRateFeedProperties.class)
+public class MortgageRateFeedConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService mortgageRateFeedScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mortgage-rate-feed-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mortgageRateStreamSender() {
+        return Executors.newSingleThreadExecutor(new CustomizableThreadFactory("mortgage-rate-stream-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mortgageRateStreamWriters(MortgageRateFeedProperties properties) {
+        return Executors.newFixedThreadPool(properties.writerThreads(),
+                new CustomizableThreadFactory("mortgage-rate-stream-writer-"));
+    }
+
+    @Bean
+    public MortgageRateFeed mortgageRateFeed(MortgageRateRepositoryPort mortgageRateRepositoryPort,
+                                             ApplicationEventPublisher eventPublisher,
+                                             ScheduledExecutorService mortgageRateFeedScheduler,
+                                             MortgageRateFeedProperties properties) {
+        return new MortgageRateFeed(mortgageRateRepositoryPort, eventPublisher, mortgageRateFeedScheduler, properties);
+    }
+
+    @Bean
+    public MortgageRateStreamBroadcaster mortgageRateStreamBroadcaster(MortgageRateFeed mortgageRateFeed,
+                                                                       ObjectMapper objectMapper,
+                                                                       ExecutorService mortgageRateStreamSender,
+                                                                       ExecutorService mortgageRateStreamWriters,
+                                                                       ScheduledExecutorService mortgageRateFeedScheduler,
+                                                                       MortgageRateFeedProperties properties) {
+        MortgageRateStreamBroadcaster broadcaster = new MortgageRateStreamBroadcaster(mortgageRateFeed, objectMapper,
+                mortgageRateStreamSender, mortgageRateStreamWriters, properties.streamTimeout(),
+                properties.sendQueueSize());
+        long heartbeatMillis = properties.heartbeatInterval().toMillis();
+        mortgageRateFeedScheduler.scheduleAtFixedRate(broadcaster::heartbeat, heartbeatMillis, heartbeatMillis,
+                TimeUnit.MILLISECONDS);
+        return broadcaster;
+    }
+
+}
@@ -1,15 +1,101 @@
 package com.bank.mortgage.infrastructure.config;
 
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
 import com.bank.mortgage.domain.service.MortgageDomainService;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.adapter.LtvTierRepositoryAdapter;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.adapter.MortgageRateRepositoryAdapter;
+import com.bank.mortgage.infrastructure.adapter.out.database.index.CachedLtvTierRepositoryAdapter;
+import com.bank.mortgage.infrastructure.adapter.out.database.index.IndexedMortgageRateRepositoryAdapter;
+import com.bank.mortgage.infrastructure.adapter.out.database.index.LtvTierProperties;
+import com.bank.mortgage.infrastructure.adapter.out.database.index.MortgageRateIndex;
+import com.bank.mortgage.infrastructure.adapter.out.database.resilience.CircuitBreaker;
+import com.bank.mortgage.infrastructure.adapter.out.database.resilience.DatabaseResilienceProperties;
+import com.bank.mortgage.infrastructure.adapter.out.database.resilience.ResilientMortgageRateRepositoryAdapter;
+import com.bank.mortgage.infrastructure.warmup.MortgageWarmUpProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@ImportRuntimeHints(MortgageServiceRuntimeHints.class)
+@EnableConfigurationProperties({MortgageWarmUpProperties.class, DatabaseResilienceProperties.class,
+        LtvTierProperties.class, MortgageCalculationProperties.class})
 public class MortgageServiceConfig {
 
+    /**
+     * Domain service of the quotes, in their precision
+     */
+    @Bean
+    @Primary
+    public MortgageDomainService mortgageDomainService(MortgageCalculationProperties properties) {
+        return new MortgageDomainService(properties.precision());
+    }
+
+    /**
+     * Domain service of the portfolio scoring, in the screening precision
+     */
+    @Bean
+    public MortgageDomainService screeningMortgageDomainService(MortgageCalculationProperties properties) {
+        return new MortgageDomainService(properties.screeningPrecision());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mortgageRateDatabaseBulkhead(DatabaseResilienceProperties properties) {
+        return new ThreadPoolExecutor(properties.bulkheadSize(), properties.bulkheadSize(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.bulkheadQueue()),
+                new CustomizableThreadFactory("mortgage-rate-db-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * The database adapter protected by a timeout, a bulkhead and a circuit breaker, with a fallback to the last known
+     * good rates
+     */
+    @Bean
+    public ResilientMortgageRateRepositoryAdapter resilientMortgageRateRepositoryPort(
+            MortgageRateRepositoryAdapter mortgageRateRepositoryAdapter,
+            ExecutorService mortgageRateDatabaseBulkhead,
+            DatabaseResilienceProperties properties) {
+        return new ResilientMortgageRateRepositoryAdapter(mortgageRateRepositoryAdapter, mortgageRateDatabaseBulkhead,
+                new CircuitBreaker(properties.failureThreshold(), properties.openDuration()), properties.timeout());
+    }
+
+    @Bean
+    public MortgageRateIndex mortgageRateIndex() {
+        return new MortgageRateIndex();
+    }
+
+    /**
+     * Mortgage rate port used by the application: single rate lookups are answered by the in-memory index, loaded
+     * through the resilient database adapter, and flagged as stale while the database is unavailable
+     */
+    @Bean
+    @Primary
+    public MortgageRateRepositoryPort indexedMortgageRateRepositoryPort(
+            ResilientMortgageRateRepositoryAdapter resilientMortgageRateRepositoryPort,
+            MortgageRateIndex mortgageRateIndex) {
+        return new IndexedMortgageRateRepositoryAdapter(resilientMortgageRateRepositoryPort, mortgageRateIndex,
+                resilientMortgageRateRepositoryPort::isDegraded);
+    }
+
+    /**
+     * LTV tier port used by the application: the tier index is kept in memory and read again from the database
+     * once per refresh interval
+     */
     @Bean
-    public MortgageDomainService mortgageDomainService() {
-        return new MortgageDomainService();
+    @Primary
+    public LtvTierRepositoryPort cachedLtvTierRepositoryPort(LtvTierRepositoryAdapter ltvTierRepositoryAdapter,
+                                                             LtvTierProperties properties) {
+        return new CachedLtvTierRepositoryAdapter(ltvTierRepositoryAdapter, properties.refreshInterval());
     }
 
 }
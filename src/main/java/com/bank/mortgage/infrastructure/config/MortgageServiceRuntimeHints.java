@@ -0,0 +1,83 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.LoanScoreChangeResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageProjectionRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageProjectionResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageQuoteResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioAnalyticsResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioLoadResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioLoanRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.PortfolioRescoreReportResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceComparisonResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.sse.MortgageRateStreamEvent;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.LtvTierEntity;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntity;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntityListener;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.stream.Stream;
+
+/**
+ * Runtime hints needed by the GraalVM native image (see the native profile in pom.xml).
+ * Everything that is reached through reflection or classpath scanning at runtime must be declared here,
+ * as the native image only contains what was reachable at build time.
+ */
+public class MortgageServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] REST_DTOS = {
+            MortgageCheckRequest.class,
+            MortgageCheckResponse.class,
+            MortgageProjectionRequest.class,
+            MortgageProjectionResponse.class,
+            OverpaymentSimulationRequest.class,
+            OverpaymentSimulationResponse.class,
+            RefinanceRequest.class,
+            RefinanceComparisonResponse.class,
+            PortfolioLoanRequest.class,
+            PortfolioLoadResponse.class,
+            PortfolioRescoreReportResponse.class,
+            LoanScoreChangeResponse.class,
+            PortfolioAnalyticsResponse.class,
+            MortgageRateResponse.class,
+            MortgageQuoteResponse.class,
+            ErrorResponse.class,
+            MortgageRateStreamEvent.Snapshot.class,
+            MortgageRateStreamEvent.Delta.class,
+            MortgageRateStreamEvent.Removed.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // OpenAPI generated DTOs are (de)serialized by Jackson through their getters and setters
+        bindingRegistrar.registerReflectionHints(hints.reflection(), REST_DTOS);
+
+        // JPA entities, instantiated and populated by Hibernate, and the rate listener, instantiated through the bean
+        // container
+        hints.reflection().registerType(MortgageRateEntity.class, MemberCategory.values());
+        hints.reflection().registerType(LtvTierEntity.class, MemberCategory.values());
+        hints.reflection().registerType(MortgageRateEntityListener.class, MemberCategory.values());
+
+        // Jackson modules registered by JacksonConfig
+        Stream.of(JavaTimeModule.class, LocalDateTimeSerializer.class)
+                .forEach(type -> hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // Flyway migrations are discovered by scanning spring.flyway.locations
+        hints.resources().registerPattern("db/migration/*.sql");
+        hints.resources().registerPattern("openapi/openapi.yml");
+    }
+}
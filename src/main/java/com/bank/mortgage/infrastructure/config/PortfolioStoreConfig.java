@@ -0,0 +1,24 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.infrastructure.adapter.out.portfolio.ColumnarPortfolioStore;
+import com.bank.mortgage.infrastructure.adapter.out.portfolio.PortfolioStoreProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(PortfolioStoreProperties.class)
+public class PortfolioStoreConfig {
+
+    /**
+     * Closed on shutdown, forcing the memory-mapped columns to disk
+     */
+    @Bean(destroyMethod = "close")
+    public ColumnarPortfolioStore portfolioStore(PortfolioStoreProperties properties) {
+        Path directory = properties.directory().isBlank() ? null : Path.of(properties.directory());
+        return new ColumnarPortfolioStore(directory, properties.initialCapacity(), properties.chunkSize());
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.infrastructure.adapter.out.database.quote.QuoteStoreProperties;
+import com.bank.mortgage.infrastructure.adapter.out.database.quote.WriteBehindMortgageQuoteRepositoryAdapter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(QuoteStoreProperties.class)
+public class QuoteStoreConfig {
+
+    /**
+     * Depends on the JdbcTemplate, so it is closed, flushing the queued quotes, before the datasource
+     */
+    @Bean(destroyMethod = "close")
+    public WriteBehindMortgageQuoteRepositoryAdapter mortgageQuoteRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                                                                    QuoteStoreProperties properties) {
+        return new WriteBehindMortgageQuoteRepositoryAdapter(jdbcTemplate, properties);
+    }
+
+}
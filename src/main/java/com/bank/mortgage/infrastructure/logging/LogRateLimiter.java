@@ -0,0 +1,55 @@
+package com.bank.mortgage.infrastructure.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits how many log lines of a given kind are written per time window, so a flood of identical failures can't
+ * turn logging into the bottleneck. Lines over the budget are only counted, and the count is reported when the next
+ * window starts.
+ * <p>
+ * Usage: {@code if (limiter.tryAcquire()) log.warn(...)}, so arguments aren't even formatted when the line is dropped.
+ */
+public class LogRateLimiter {
+
+    private final Logger logger;
+    private final String name;
+    private final int permitsPerWindow;
+    private final long windowNanos;
+
+    private final AtomicLong windowStart;
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogRateLimiter(Logger logger, String name, int permitsPerWindow, Duration window) {
+        this.logger = logger;
+        this.name = name;
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @return true if the caller can write its log line
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+            long dropped = suppressed.getAndSet(0);
+            if (dropped > 0) {
+                logger.warn("{} {} log lines were suppressed in the last {} ms", dropped, name,
+                        windowNanos / 1_000_000);
+            }
+        }
+        if (used.incrementAndGet() <= permitsPerWindow) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+}
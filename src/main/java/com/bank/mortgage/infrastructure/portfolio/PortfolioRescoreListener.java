@@ -0,0 +1,49 @@
+package com.bank.mortgage.infrastructure.portfolio;
+
+import com.bank.mortgage.domain.model.PortfolioRescoreReport;
+import com.bank.mortgage.domain.port.in.RescorePortfolioUseCase;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRatesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Scores the portfolio again on every rate change published by the rate feed, and keeps the report of the last one.
+ * Runs on the rate feed thread, so rate changes are applied to the portfolio one at a time and in order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioRescoreListener {
+
+    /**
+     * Report of the rescoring caused by the change to a version of the rate set
+     */
+    public record VersionedReport(long rateVersion, PortfolioRescoreReport report) {
+    }
+
+    private final RescorePortfolioUseCase rescorePortfolioUseCase;
+
+    private volatile VersionedReport lastReport;
+
+    @EventListener
+    public void onMortgageRatesChanged(MortgageRatesChangedEvent event) {
+        try {
+            lastReport = new VersionedReport(event.version(),
+                    rescorePortfolioUseCase.rescorePortfolio(event.updated(), event.removed()));
+        } catch (RuntimeException e) {
+            // The rate change is still published to the other listeners
+            log.error("Could not rescore the portfolio for rate version {}", event.version(), e);
+        }
+    }
+
+    /**
+     * @return The report of the last rate change, empty until a rate changes
+     */
+    public Optional<VersionedReport> lastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+}
@@ -0,0 +1,167 @@
+package com.bank.mortgage.infrastructure.ratefeed;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.infrastructure.logging.LogRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Versioned view of the mortgage rate set.
+ * <p>
+ * The rate table has no change notification, so it is read every {@code pollInterval} by a single thread and compared
+ * with the previous read. Every difference gets the next version and is published as a
+ * {@link MortgageRatesChangedEvent}. The last {@code historySize} changes are kept, so a client that knows a recent
+ * version can catch up with the changes since then instead of the whole set.
+ * <p>
+ * Versions start at the startup time in milliseconds, so a version from a previous run is not mistaken for a version
+ * of this one.
+ */
+@Slf4j
+public class MortgageRateFeed {
+
+    /**
+     * Rate set at a given version, sorted by product and maturity period
+     */
+    public record Snapshot(long version, List<MortgageRate> rates) {
+    }
+
+    private static final Comparator<MortgageRate> BY_KEY = Comparator.comparingLong(MortgageRate::key);
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int historySize;
+    private final ScheduledExecutorService scheduler;
+    private final Duration pollInterval;
+    private final LogRateLimiter failureLogLimiter = new LogRateLimiter(log, "rate feed failure", 1,
+            Duration.ofMinutes(1));
+
+    // Guarded by this
+    private final Deque<MortgageRatesChangedEvent> history = new ArrayDeque<>();
+    private volatile Snapshot snapshot;
+
+    public MortgageRateFeed(MortgageRateRepositoryPort mortgageRateRepositoryPort,
+                            ApplicationEventPublisher eventPublisher, ScheduledExecutorService scheduler,
+                            MortgageRateFeedProperties properties) {
+        this(mortgageRateRepositoryPort, eventPublisher, scheduler, properties, System.currentTimeMillis());
+    }
+
+    MortgageRateFeed(MortgageRateRepositoryPort mortgageRateRepositoryPort, ApplicationEventPublisher eventPublisher,
+                     ScheduledExecutorService scheduler, MortgageRateFeedProperties properties, long initialVersion) {
+        this.mortgageRateRepositoryPort = mortgageRateRepositoryPort;
+        this.eventPublisher = eventPublisher;
+        this.scheduler = scheduler;
+        this.pollInterval = properties.pollInterval();
+        this.historySize = properties.historySize();
+        this.snapshot = new Snapshot(initialVersion, List.of());
+    }
+
+    /**
+     * Start polling once the context is refreshed, so the published events reach every listener
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Changes after the given version, oldest first
+     *
+     * @param version, last version known by the client
+     * @return The changes, empty if the version is the current one. Optional.empty() if the version is unknown or too
+     * old to be resumed, so the client needs a snapshot
+     */
+    public synchronized Optional<List<MortgageRatesChangedEvent>> changesSince(long version) {
+        long current = snapshot.version();
+        if (version == current) {
+            return Optional.of(List.of());
+        }
+        if (version > current || history.isEmpty() || version < history.getFirst().version() - 1) {
+            return Optional.empty();
+        }
+        return Optional.of(history.stream()
+                .filter(event -> event.version() > version)
+                .toList());
+    }
+
+    /**
+     * Read the rate table and publish the differences with the previous read, if any
+     */
+    public void poll() {
+        List<MortgageRate> rates;
+        try {
+            rates = mortgageRateRepositoryPort.findAllMortgageRates();
+        } catch (RuntimeException e) {
+            if (failureLogLimiter.tryAcquire()) {
+                log.warn("Could not read mortgage rates for the rate feed: {}", e.getMessage());
+            }
+            return;
+        }
+        // Stale rates are the last known ones while the database is unavailable, nothing has changed
+        if (rates.stream().anyMatch(MortgageRate::stale)) {
+            return;
+        }
+
+        MortgageRatesChangedEvent event = apply(rates);
+        if (event != null) {
+            log.info("Mortgage rates changed, version {}: {} updated, {} removed",
+                    event.version(), event.updated().size(), event.removed().size());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private synchronized MortgageRatesChangedEvent apply(List<MortgageRate> rates) {
+        Map<Long, MortgageRate> previous = snapshot.rates().stream()
+                .collect(Collectors.toMap(MortgageRate::key, Function.identity()));
+
+        List<MortgageRate> updated = new ArrayList<>();
+        for (MortgageRate rate : rates) {
+            if (!sameRate(previous.remove(rate.key()), rate)) {
+                updated.add(rate);
+            }
+        }
+        // What is left of the previous set is no longer in the table
+        List<MortgageRate> removed = previous.values().stream().sorted(BY_KEY).toList();
+        if (updated.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+
+        updated.sort(BY_KEY);
+        List<MortgageRate> sortedRates = rates.stream().sorted(BY_KEY).toList();
+        MortgageRatesChangedEvent event = new MortgageRatesChangedEvent(snapshot.version() + 1,
+                List.copyOf(updated), removed, sortedRates);
+
+        snapshot = new Snapshot(event.version(), sortedRates);
+        history.addLast(event);
+        if (history.size() > historySize) {
+            history.removeFirst();
+        }
+        return event;
+    }
+
+    private static boolean sameRate(MortgageRate previous, MortgageRate current) {
+        return previous != null
+                && previous.interestRate().compareTo(current.interestRate()) == 0
+                && Objects.equals(previous.lastUpdate(), current.lastUpdate());
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.mortgage.infrastructure.ratefeed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Detection and streaming of mortgage rate changes.
+ *
+ * @param pollInterval      Time between two reads of the rate table.
+ * @param historySize       Number of changes kept, so reconnecting clients can resume from their last version.
+ * @param heartbeatInterval Time between two heartbeats sent to idle stream connections.
+ * @param streamTimeout     Lifetime of a stream connection. Clients reconnect, resuming from their last version.
+ * @param sendQueueSize     Events queued to a stream connection. A client further behind is disconnected.
+ * @param writerThreads     Threads writing the events to the stream connections.
+ */
+@ConfigurationProperties(prefix = "mortgage.rate-feed")
+public record MortgageRateFeedProperties(
+        @DefaultValue("5s") Duration pollInterval,
+        @DefaultValue("100") int historySize,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration streamTimeout,
+        @DefaultValue("128") int sendQueueSize,
+        @DefaultValue("4") int writerThreads) {
+}
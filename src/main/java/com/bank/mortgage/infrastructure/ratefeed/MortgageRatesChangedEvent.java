@@ -0,0 +1,20 @@
+package com.bank.mortgage.infrastructure.ratefeed;
+
+import com.bank.mortgage.domain.entity.MortgageRate;
+
+import java.util.List;
+
+/**
+ * Published by {@link MortgageRateFeed} whenever the set of mortgage rates changes.
+ *
+ * @param version Version of the rate set after the change. Versions increase by one per change.
+ * @param updated Rates added or modified by the change.
+ * @param removed Rates removed by the change, as they were before it.
+ * @param rates   Complete rate set after the change, sorted by product and maturity period.
+ */
+public record MortgageRatesChangedEvent(
+        long version,
+        List<MortgageRate> updated,
+        List<MortgageRate> removed,
+        List<MortgageRate> rates) {
+}
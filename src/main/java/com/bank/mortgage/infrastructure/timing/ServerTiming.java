@@ -0,0 +1,130 @@
+package com.bank.mortgage.infrastructure.timing;
+
+import java.util.Arrays;
+
+/**
+ * Per-request stage timer behind the Server-Timing response header.
+ * <p>
+ * Each thread reuses one timer, active only while a measured request is being served: {@link #begin()} and
+ * {@link #end()} are called by {@code ServerTimingFilter}, and any code on the request thread adds to a stage with
+ * {@link #lap(Stage)} or {@link #rateLookup(long, boolean)}. Outside a measured request every call is a thread-local read
+ * and a branch. Nothing is allocated per request but the header value.
+ * <p>
+ * Rate lookups happen within the compute lap, so they are taken out of it when the header is written.
+ */
+public final class ServerTiming {
+
+    public enum Stage {
+        // Reading, deserializing and validating the request, until the controller runs
+        PARSE("parse"),
+        // Rate lookups, within the compute stage
+        RATE_LOOKUP("rate-lookup"),
+        // The use case, rate lookups excluded, and mapping its result
+        COMPUTE("compute"),
+        // Writing the response body
+        SERIALIZE("serialize");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = ThreadLocal.withInitial(ServerTiming::new);
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long[] durations = new long[STAGES.length];
+    private boolean active;
+    private int rateLookups;
+    private boolean databaseHit;
+    private long start;
+    private long lastLap;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Start timing the request served by this thread
+     */
+    public static void begin() {
+        ServerTiming timing = CURRENT.get();
+        timing.active = true;
+        timing.rateLookups = 0;
+        timing.databaseHit = false;
+        Arrays.fill(timing.durations, 0);
+        timing.start = System.nanoTime();
+        timing.lastLap = timing.start;
+    }
+
+    /**
+     * Add the time since the previous lap, or the beginning of the request, to the stage
+     */
+    public static void lap(Stage stage) {
+        ServerTiming timing = CURRENT.get();
+        if (timing.active) {
+            long now = System.nanoTime();
+            timing.durations[stage.ordinal()] += now - timing.lastLap;
+            timing.lastLap = now;
+        }
+    }
+
+    /**
+     * Add a rate lookup to the request
+     *
+     * @param nanos,    duration of the lookup
+     * @param database, whether the lookup read the database, instead of the rate index
+     */
+    public static void rateLookup(long nanos, boolean database) {
+        ServerTiming timing = CURRENT.get();
+        if (timing.active) {
+            timing.durations[Stage.RATE_LOOKUP.ordinal()] += nanos;
+            timing.rateLookups++;
+            timing.databaseHit |= database;
+        }
+    }
+
+    /**
+     * @return Whether the request served by this thread is being timed
+     */
+    public static boolean isActive() {
+        return CURRENT.get().active;
+    }
+
+    /**
+     * Stop timing the request served by this thread
+     *
+     * @return The Server-Timing header value, e.g.
+     * {@code parse;dur=0.210, rate-lookup;dur=0.012;desc="index", compute;dur=0.350, serialize;dur=0.080, total;dur=0.700}
+     */
+    public static String end() {
+        ServerTiming timing = CURRENT.get();
+        timing.active = false;
+        long total = System.nanoTime() - timing.start;
+        long[] durations = timing.durations;
+        durations[Stage.COMPUTE.ordinal()] = Math.max(0,
+                durations[Stage.COMPUTE.ordinal()] - durations[Stage.RATE_LOOKUP.ordinal()]);
+
+        StringBuilder header = new StringBuilder(160);
+        for (Stage stage : STAGES) {
+            appendMetric(header, stage.metricName, durations[stage.ordinal()]);
+            if (stage == Stage.RATE_LOOKUP && timing.rateLookups > 0) {
+                header.append(";desc=\"").append(timing.databaseHit ? "database" : "index").append('"');
+            }
+            header.append(", ");
+        }
+        appendMetric(header, "total", total);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        // Milliseconds with microsecond precision
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+        header.append(name).append(";dur=").append(micros / 1000).append('.');
+        if (fraction < 100) {
+            header.append(fraction < 10 ? "00" : "0");
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bank.mortgage.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Warm-up phase configuration.
+ *
+ * @param enabled               Whether synthetic checks are run before the instance reports ready.
+ * @param iterationsPerMaturity Number of synthetic mortgage checks run for every stored maturity period.
+ * @param infeasiblePercentage  Share (0-100) of synthetic checks whose loan exceeds the allowed amount, so both
+ *                              feasibility branches get compiled.
+ */
+@ConfigurationProperties(prefix = "mortgage.warmup")
+public record MortgageWarmUpProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int iterationsPerMaturity,
+        @DefaultValue("20") int infeasiblePercentage) {
+}
@@ -0,0 +1,154 @@
+package com.bank.mortgage.infrastructure.warmup;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.controller.MortgageAPIController;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.Product;
+import com.bank.mortgage.infrastructure.adapter.in.rest.pagination.MortgageRateCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a synthetic mix of mortgage checks through the real controller, use case and domain path, so the hot path is
+ * JIT-compiled before the instance receives traffic. The checks are dry runs: they are neither audited nor stored as
+ * quotes.
+ * Application runners are executed before Spring Boot publishes {@link ReadinessState#ACCEPTING_TRAFFIC}, so the
+ * readiness probe keeps refusing traffic until the warm-up is done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MortgageWarmUpRunner implements ApplicationRunner, InfoContributor {
+
+    private static final int RATES_PAGE_SIZE = 1000;
+
+    private final MortgageWarmUpProperties properties;
+    private final MortgageAPIController mortgageAPIController;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private volatile boolean completed;
+    private volatile long durationMillis;
+    private volatile int executedChecks;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            log.info("Warm-up is disabled");
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        log.info("Starting warm-up with {} checks per maturity period", properties.iterationsPerMaturity());
+
+        long start = System.nanoTime();
+        try {
+            executedChecks = warmUp();
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs latency, it must never prevent the instance from starting
+            log.warn("Warm-up aborted: {}", e.getMessage());
+        }
+        durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        completed = true;
+
+        meterRegistry.ifAvailable(registry ->
+                TimeGauge.builder("mortgage.warmup.duration", this, TimeUnit.MILLISECONDS, r -> r.durationMillis)
+                        .description("Duration of the startup warm-up phase")
+                        .register(registry));
+
+        log.info("Warm-up completed in {} ms after {} checks", durationMillis, executedChecks);
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("enabled", properties.enabled());
+        details.put("completed", completed);
+        details.put("durationMillis", durationMillis);
+        details.put("checks", executedChecks);
+        builder.withDetail("warmUp", details);
+    }
+
+    private int warmUp() {
+        List<MortgageRateResponse> rates = allRates();
+        if (rates.isEmpty()) {
+            log.info("No mortgage rates stored, skipping warm-up checks");
+            return 0;
+        }
+
+        int checks = 0;
+        for (int i = 0; i < properties.iterationsPerMaturity(); i++) {
+            boolean infeasible = i % 100 < properties.infeasiblePercentage();
+            for (MortgageRateResponse rate : rates) {
+                check(syntheticRequest(rate.getProduct(), rate.getMaturityPeriod(), i, infeasible));
+                checks++;
+            }
+        }
+        return checks;
+    }
+
+    private List<MortgageRateResponse> allRates() {
+        List<MortgageRateResponse> rates = new ArrayList<>();
+        for (Product product : Product.values()) {
+            String cursor = null;
+            do {
+                ResponseEntity<List<MortgageRateResponse>> page =
+                        mortgageAPIController.getInterestRates(product, null, null, null, cursor, RATES_PAGE_SIZE);
+                if (page.getBody() != null) {
+                    rates.addAll(page.getBody());
+                }
+                cursor = page.getHeaders().getFirst(MortgageRateCursor.NEXT_CURSOR_HEADER);
+            } while (cursor != null);
+        }
+        return rates;
+    }
+
+    private void check(MortgageCheckRequest request) {
+        try {
+            // Round trip through Jackson so request deserialization and response serialization get compiled too
+            MortgageCheckRequest parsed = objectMapper.readValue(objectMapper.writeValueAsBytes(request),
+                    MortgageCheckRequest.class);
+            MortgageCheckResponse response = mortgageAPIController.checkMortgageFeasibilityDryRun(parsed);
+            objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize warm-up request", e);
+        }
+    }
+
+    private static MortgageCheckRequest syntheticRequest(Product product, Integer maturityPeriod, int iteration,
+                                                         boolean infeasible) {
+        double income = 20000d + (iteration % 50) * 1000d;
+        double homeValue = income * 6;
+        // Feasible loans stay under 4 times the income and the home value, infeasible ones exceed both
+        double loanValue = infeasible ? homeValue * 1.1 : income * (1 + iteration % 3);
+
+        return new MortgageCheckRequest()
+                .product(product)
+                .maturityPeriod(maturityPeriod)
+                .income(income)
+                .loanValue(loanValue)
+                .homeValue(homeValue);
+    }
+}
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS mortgage_quote (
+    id UUID PRIMARY KEY,
+    maturity_period INT NOT NULL,
+    interest_rate DECIMAL(5, 4) NOT NULL,
+    income DECIMAL(19, 4) NOT NULL,
+    loan_value DECIMAL(19, 4) NOT NULL,
+    home_value DECIMAL(19, 4) NOT NULL,
+    feasible BOOLEAN NOT NULL,
+    monthly_cost DECIMAL(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+    );
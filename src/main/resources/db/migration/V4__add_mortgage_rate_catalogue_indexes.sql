@@ -0,0 +1,6 @@
+-- Pages are read in maturity period order, optionally filtered by last update: the index covers both, so the
+-- filter is applied without reading the rows
+CREATE INDEX idx_mortgage_rate_maturity_last_update ON mortgage_rate(maturity_period, last_update);
+
+-- Selective updated-since queries (e.g. changes of the last hour) start from the last update instead
+CREATE INDEX idx_mortgage_rate_last_update_maturity ON mortgage_rate(last_update, maturity_period);
@@ -0,0 +1,30 @@
+-- Every product has its own rate curve: existing rates and quotes are all fixed-rate
+ALTER TABLE mortgage_rate ADD COLUMN product VARCHAR(32) DEFAULT 'FIXED' NOT NULL;
+ALTER TABLE mortgage_quote ADD COLUMN product VARCHAR(32) DEFAULT 'FIXED' NOT NULL;
+
+-- A maturity period is unique per product
+DROP INDEX idx_maturity_period;
+CREATE UNIQUE INDEX idx_mortgage_rate_product_maturity ON mortgage_rate(product, maturity_period);
+
+-- Pages are read per product in maturity period order, optionally filtered by last update
+DROP INDEX idx_mortgage_rate_maturity_last_update;
+CREATE INDEX idx_mortgage_rate_product_maturity_last_update ON mortgage_rate(product, maturity_period, last_update);
+
+-- Selective updated-since queries are per product too, and start from the last update within the product
+DROP INDEX idx_mortgage_rate_last_update_maturity;
+CREATE INDEX idx_mortgage_rate_product_last_update_maturity ON mortgage_rate(product, last_update, maturity_period);
+
+INSERT INTO mortgage_rate (product, maturity_period, interest_rate, last_update)
+VALUES
+    ('GREEN', 5, 0.028, CURRENT_TIMESTAMP),              -- 0.2% below the fixed rate for energy efficient homes
+    ('GREEN', 10, 0.033, CURRENT_TIMESTAMP),
+    ('GREEN', 15, 0.038, CURRENT_TIMESTAMP),
+    ('GREEN', 20, 0.043, CURRENT_TIMESTAMP),
+    ('GREEN', 25, 0.048, CURRENT_TIMESTAMP),
+    ('GREEN', 30, 0.053, CURRENT_TIMESTAMP),
+    ('FIRST_TIME_BUYER', 5, 0.029, CURRENT_TIMESTAMP),   -- 0.1% below the fixed rate for first-time buyers
+    ('FIRST_TIME_BUYER', 10, 0.034, CURRENT_TIMESTAMP),
+    ('FIRST_TIME_BUYER', 15, 0.039, CURRENT_TIMESTAMP),
+    ('FIRST_TIME_BUYER', 20, 0.044, CURRENT_TIMESTAMP),
+    ('FIRST_TIME_BUYER', 25, 0.049, CURRENT_TIMESTAMP),
+    ('FIRST_TIME_BUYER', 30, 0.054, CURRENT_TIMESTAMP);
@@ -0,0 +1,15 @@
+-- Loan-to-value bands: (min_ltv, max_ltv], the adjustment is added to the product rate of loans in the band
+CREATE TABLE mortgage_ltv_tier (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    min_ltv DECIMAL(5, 4) NOT NULL,
+    max_ltv DECIMAL(5, 4) NOT NULL,
+    rate_adjustment DECIMAL(5, 4) NOT NULL,
+    CONSTRAINT chk_mortgage_ltv_tier_band CHECK (min_ltv < max_ltv)
+);
+
+INSERT INTO mortgage_ltv_tier (min_ltv, max_ltv, rate_adjustment)
+VALUES
+    (0.0, 0.6, 0.0),      -- Up to 60%: the product rate
+    (0.6, 0.8, 0.002),
+    (0.8, 0.9, 0.005),
+    (0.9, 1.0, 0.01);     -- Loans over the home value are not feasible
@@ -1,13 +1,49 @@
 package com.bank.mortgage;
 
+import com.bank.mortgage.application.usecase.CheckMortgageFeasibilityUseCaseImpl;
+import com.bank.mortgage.application.usecase.LoadPortfolioUseCaseImpl;
+import com.bank.mortgage.application.usecase.RescorePortfolioUseCaseImpl;
+import com.bank.mortgage.domain.service.MortgageDomainService;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
+@ActiveProfiles("test")
 class MortgageServiceApplicationTests {
 
+	@Autowired
+	private MortgageDomainService mortgageDomainService;
+
+	@Autowired
+	@Qualifier("screeningMortgageDomainService")
+	private MortgageDomainService screeningMortgageDomainService;
+
 	@Test
 	void contextLoads() {
 	}
 
+	/**
+	 * Checks the portfolio scoring gets the domain service in the screening precision, and the quotes the other one
+	 */
+	@Test
+	void mortgageDomainService_Given_use_cases_Then_screening_precision_for_portfolio_scoring_only(
+			@Autowired LoadPortfolioUseCaseImpl loadPortfolioUseCase,
+			@Autowired RescorePortfolioUseCaseImpl rescorePortfolioUseCase,
+			@Autowired CheckMortgageFeasibilityUseCaseImpl checkMortgageFeasibilityUseCase) {
+		// Then:
+		assertThat(screeningMortgageDomainService).isNotSameAs(mortgageDomainService);
+		assertThat(ReflectionTestUtils.getField(loadPortfolioUseCase, "mortgageDomainService"))
+				.isSameAs(screeningMortgageDomainService);
+		assertThat(ReflectionTestUtils.getField(rescorePortfolioUseCase, "mortgageDomainService"))
+				.isSameAs(screeningMortgageDomainService);
+		assertThat(ReflectionTestUtils.getField(checkMortgageFeasibilityUseCase, "mortgageDomainService"))
+				.isSameAs(mortgageDomainService);
+	}
+
 }
@@ -1,22 +1,42 @@
 package com.bank.mortgage.application.usecase;
 
+import com.bank.mortgage.domain.entity.MaturityResolution;
 import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageQuote;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.event.MortgageCheckEvent;
+import com.bank.mortgage.domain.exception.MortgageDomainException;
 import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.model.CostOfCredit;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.model.MortgageCheckCommand;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.model.MortgageRateBracket;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageDecisionAuditPort;
+import com.bank.mortgage.domain.port.out.MortgageQuoteRepositoryPort;
 import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
 import com.bank.mortgage.domain.service.MortgageDomainService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -30,6 +50,15 @@ class CheckMortgageFeasibilityUseCaseImplTest {
     @Mock
     private MortgageDomainService mortgageDomainService;
 
+    @Mock
+    private MortgageDecisionAuditPort mortgageDecisionAuditPort;
+
+    @Mock
+    private MortgageQuoteRepositoryPort mortgageQuoteRepositoryPort;
+
+    @Mock
+    private LtvTierRepositoryPort ltvTierRepositoryPort;
+
     @InjectMocks
     private CheckMortgageFeasibilityUseCaseImpl checkMortgageFeasibilityUseCase;
 
@@ -41,30 +70,238 @@ class CheckMortgageFeasibilityUseCaseImplTest {
         BigDecimal loanValue = BigDecimal.valueOf(7000);
         BigDecimal homeValue = BigDecimal.valueOf(60000);
 
-        MortgageRate mortgageRate = new MortgageRate(10,BigDecimal.valueOf(0.1),LocalDateTime.now());
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.1), LocalDateTime.now());
 
         MortgageApplicant mortgageApplicant = new MortgageApplicant(income, loanValue, homeValue);
 
         Optional<MortgageRate> mortgageRate1 = Optional.of(mortgageRate);
-        when(mortgageRateRepositoryPort.findByMaturityPeriod(maturityPeriod))
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.GREEN, maturityPeriod))
                 .thenReturn(mortgageRate1);
 
-        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), eq(mortgageApplicant)))
-                .thenReturn(
-                        MortgageFeasibilityResult.builder()
-                                .feasible(true)
-                                .monthlyCost(BigDecimal.valueOf(100))
-                                .build()
-                );
+        LtvTierIndex ltvTierIndex = LtvTierIndex.EMPTY;
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(ltvTierIndex);
+
+        MortgageFeasibilityResult domainResult = MortgageFeasibilityResult.builder()
+                .feasible(true)
+                .monthlyCost(BigDecimal.valueOf(100))
+                .interestRate(BigDecimal.valueOf(0.102))
+                .build();
+        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), eq(mortgageApplicant),
+                eq(ltvTierIndex))).thenReturn(domainResult);
+
+        // When
+        MortgageFeasibilityResult result = checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                new MortgageCheckCommand(MortgageProduct.GREEN, maturityPeriod, income, loanValue, homeValue));
+
+        // Then
+        assertThat(result.isFeasible()).isTrue();
+        assertThat(result.getMonthlyCost()).isEqualTo(BigDecimal.valueOf(100));
+        assertThat(result.getMaturityResolution()).isEqualTo(MaturityResolution.EXACT);
+        verify(mortgageRateRepositoryPort).findByProductAndMaturityPeriod(eq(MortgageProduct.GREEN), eq(maturityPeriod));
+        verify(mortgageDomainService).checkMortgageFeasibility(eq(mortgageRate), eq(mortgageApplicant),
+                eq(ltvTierIndex));
+        verify(mortgageDecisionAuditPort).record(eq(mortgageRate), eq(mortgageApplicant), eq(domainResult));
+        verify(mortgageQuoteRepositoryPort).save(argThat((MortgageQuote quote) ->
+                quote.id().equals(result.getQuoteId())
+                        && quote.product() == MortgageProduct.GREEN
+                        && quote.maturityPeriod().equals(maturityPeriod)
+                        && quote.interestRate().equals(new BigDecimal("0.1020"))
+                        && quote.monthlyCost().equals(new BigDecimal("100.00"))));
+    }
+
+    @Test
+    public void checkMortgageFeasibility_Given_nearest_resolution_of_unlisted_maturity_Then_check_with_nearest_rate() {
+        // Given:
+        Integer maturityPeriod = 12;
+        BigDecimal income = BigDecimal.valueOf(10000);
+        BigDecimal loanValue = BigDecimal.valueOf(7000);
+        BigDecimal homeValue = BigDecimal.valueOf(60000);
+        LocalDateTime lastUpdate = LocalDateTime.now();
+
+        when(mortgageRateRepositoryPort.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, maturityPeriod))
+                .thenReturn(new MortgageRateBracket(
+                        new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.035), lastUpdate),
+                        new MortgageRate(MortgageProduct.FIXED, 15, BigDecimal.valueOf(0.04), lastUpdate)));
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+
+        MortgageRate expectedRate =
+                new MortgageRate(MortgageProduct.FIXED, maturityPeriod, BigDecimal.valueOf(0.035), lastUpdate);
+        MortgageApplicant mortgageApplicant = new MortgageApplicant(income, loanValue, homeValue);
+        when(mortgageDomainService.checkMortgageFeasibility(eq(expectedRate), eq(mortgageApplicant), any()))
+                .thenReturn(MortgageFeasibilityResult.builder()
+                        .feasible(true)
+                        .monthlyCost(BigDecimal.valueOf(100))
+                        .interestRate(BigDecimal.valueOf(0.035))
+                        .build());
+
+        // When
+        MortgageFeasibilityResult result = checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                new MortgageCheckCommand(MortgageProduct.FIXED, maturityPeriod, income, loanValue, homeValue,
+                        MaturityResolution.NEAREST, BigDecimal.ZERO, false));
+
+        // Then
+        assertThat(result.isFeasible()).isTrue();
+        assertThat(result.getMaturityResolution()).isEqualTo(MaturityResolution.NEAREST);
+        verify(mortgageRateRepositoryPort, never()).findByProductAndMaturityPeriod(any(), any());
+        verify(mortgageQuoteRepositoryPort).save(argThat((MortgageQuote quote) ->
+                quote.id().equals(result.getQuoteId()) && quote.maturityPeriod().equals(maturityPeriod)));
+    }
+
+    @Test
+    public void checkMortgageFeasibility_Given_apr_requested_for_feasible_mortgage_Then_return_cost_of_credit() {
+        // Given:
+        Integer maturityPeriod = 20;
+        BigDecimal income = BigDecimal.valueOf(50000);
+        BigDecimal loanValue = BigDecimal.valueOf(100000);
+        BigDecimal homeValue = BigDecimal.valueOf(200000);
+        BigDecimal fees = BigDecimal.valueOf(1000);
+
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.FIXED, maturityPeriod, BigDecimal.valueOf(0.05), LocalDateTime.now());
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.FIXED, maturityPeriod))
+                .thenReturn(Optional.of(mortgageRate));
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), any(), any()))
+                .thenReturn(MortgageFeasibilityResult.builder()
+                        .feasible(true)
+                        .monthlyCost(BigDecimal.valueOf(659.96))
+                        .interestRate(BigDecimal.valueOf(0.05))
+                        .build());
+        CostOfCredit costOfCredit = new CostOfCredit(new BigDecimal("0.052423"), new BigDecimal("58390.40"),
+                new BigDecimal("59390.40"));
+        when(mortgageDomainService.calculateCostOfCredit(maturityPeriod, BigDecimal.valueOf(0.05), loanValue,
+                BigDecimal.valueOf(659.96), fees)).thenReturn(costOfCredit);
+
+        // When
+        MortgageFeasibilityResult result = checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                new MortgageCheckCommand(MortgageProduct.FIXED, maturityPeriod, income, loanValue, homeValue,
+                        MaturityResolution.EXACT, fees, true));
+
+        // Then
+        assertThat(result.getCostOfCredit()).isEqualTo(costOfCredit);
+    }
+
+    /**
+     * Checks a quote keeps its amounts at the scales of the quote table, so it reads the same from memory as from the
+     * database
+     */
+    @Test
+    public void checkMortgageFeasibility_Given_amounts_finer_than_quote_table_Then_save_quote_at_table_scales() {
+        // Given:
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.1), LocalDateTime.now());
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10))
+                .thenReturn(Optional.of(mortgageRate));
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), any(), any()))
+                .thenReturn(MortgageFeasibilityResult.builder()
+                        .feasible(true)
+                        .monthlyCost(new BigDecimal("100.125"))
+                        .interestRate(new BigDecimal("0.101234"))
+                        .build());
+
+        // When
+        checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(MortgageProduct.GREEN, 10,
+                new BigDecimal("1234.567891"), new BigDecimal("700.00005"), new BigDecimal("60000")));
+
+        // Then
+        verify(mortgageQuoteRepositoryPort).save(argThat((MortgageQuote quote) ->
+                quote.interestRate().equals(new BigDecimal("0.1012"))
+                        && quote.income().equals(new BigDecimal("1234.5679"))
+                        && quote.loanValue().equals(new BigDecimal("700.0001"))
+                        && quote.homeValue().equals(new BigDecimal("60000.0000"))
+                        && quote.monthlyCost().equals(new BigDecimal("100.13"))
+                        && quote.createdAt().getNano() % 1000 == 0));
+    }
+
+    /**
+     * Checks a dry run is decided like any other check but is neither audited nor issued as a quote
+     */
+    @Test
+    public void checkMortgageFeasibility_Given_dry_run_Then_neither_audit_nor_save_quote() {
+        // Given:
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.1), LocalDateTime.now());
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10))
+                .thenReturn(Optional.of(mortgageRate));
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), any(), any()))
+                .thenReturn(MortgageFeasibilityResult.builder()
+                        .feasible(true)
+                        .monthlyCost(BigDecimal.valueOf(100))
+                        .interestRate(BigDecimal.valueOf(0.1))
+                        .build());
+
+        // When
+        MortgageFeasibilityResult result = checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                new MortgageCheckCommand(MortgageProduct.GREEN, 10, BigDecimal.valueOf(10000),
+                        BigDecimal.valueOf(7000), BigDecimal.valueOf(60000), MaturityResolution.EXACT,
+                        BigDecimal.ZERO, false, true));
+
+        // Then
+        assertThat(result.isFeasible()).isTrue();
+        assertThat(result.getMonthlyCost()).isEqualTo(BigDecimal.valueOf(100));
+        assertThat(result.getQuoteId()).isNull();
+        verifyNoInteractions(mortgageDecisionAuditPort, mortgageQuoteRepositoryPort);
+    }
+
+    /**
+     * Checks a decision whose quote the quote store refuses is not audited, so the audit log holds no decision
+     * without its quote
+     */
+    @Test
+    public void checkMortgageFeasibility_Given_quote_store_full_Then_do_not_audit() {
+        // Given:
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.1), LocalDateTime.now());
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10))
+                .thenReturn(Optional.of(mortgageRate));
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), any(), any()))
+                .thenReturn(MortgageFeasibilityResult.builder()
+                        .feasible(true)
+                        .monthlyCost(BigDecimal.valueOf(100))
+                        .interestRate(BigDecimal.valueOf(0.1))
+                        .build());
+        doThrow(new DataAccessResourceFailureException("Quote store is full"))
+                .when(mortgageQuoteRepositoryPort).save(any());
+
+        // When
+        assertThatExceptionOfType(DataAccessResourceFailureException.class)
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(
+                        MortgageProduct.GREEN, 10, BigDecimal.valueOf(10000), BigDecimal.valueOf(7000),
+                        BigDecimal.valueOf(60000))));
+
+        // Then
+        verifyNoInteractions(mortgageDecisionAuditPort);
+    }
+
+    /**
+     * Checks fees are validated before the rate lookup, even without the APR, so an invalid check is neither audited
+     * nor issued as a quote
+     */
+    @Test
+    public void checkMortgageFeasibility_Given_fees_not_lower_than_loan_value_Then_return_MortgageDomainException() {
+        // Given:
+        MortgageCheckCommand negativeFees = new MortgageCheckCommand(MortgageProduct.FIXED, 10,
+                BigDecimal.valueOf(10000), BigDecimal.valueOf(7000), BigDecimal.valueOf(60000),
+                MaturityResolution.EXACT, BigDecimal.valueOf(-1), true);
+        MortgageCheckCommand feesAsLoanValue = new MortgageCheckCommand(MortgageProduct.FIXED, 10,
+                BigDecimal.valueOf(10000), BigDecimal.valueOf(7000), BigDecimal.valueOf(60000),
+                MaturityResolution.EXACT, BigDecimal.valueOf(7000), false);
 
         // When
-        MortgageFeasibilityResult result =
-                checkMortgageFeasibilityUseCase.checkMortgageFeasibility(maturityPeriod, income, loanValue, homeValue);
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(negativeFees))
+                .isSameAs(MortgageDomainException.INVALID_FEES);
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(feesAsLoanValue))
+                .isSameAs(MortgageDomainException.INVALID_FEES);
 
         // Then
-        assertThat(result).isEqualTo(result);
-        verify(mortgageRateRepositoryPort).findByMaturityPeriod(eq(maturityPeriod));
-        verify(mortgageDomainService).checkMortgageFeasibility(eq(mortgageRate), eq(mortgageApplicant));
+        verifyNoInteractions(mortgageRateRepositoryPort, mortgageDomainService, mortgageDecisionAuditPort,
+                mortgageQuoteRepositoryPort);
     }
 
     @Test
@@ -75,18 +312,18 @@ class CheckMortgageFeasibilityUseCaseImplTest {
         BigDecimal loanValue = BigDecimal.valueOf(7000);
         BigDecimal homeValue = BigDecimal.valueOf(60000);
 
-        when(mortgageRateRepositoryPort.findByMaturityPeriod(maturityPeriod))
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.FIXED, maturityPeriod))
                 .thenReturn(Optional.empty());
 
         // When
         assertThatExceptionOfType(MortgageNotFoundException.class)
-                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(maturityPeriod, income,
-                        loanValue, homeValue))
-                .withMessage("Could not find mortgage rate for maturity period of 10 years");
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(
+                        MortgageProduct.FIXED, maturityPeriod, income, loanValue, homeValue)))
+                .withMessage("Could not find FIXED mortgage rate for maturity period of 10 years");
 
         // Then
-        verify(mortgageRateRepositoryPort).findByMaturityPeriod(eq(maturityPeriod));
-        verify(mortgageDomainService, never()).checkMortgageFeasibility(any(), any());
+        verify(mortgageRateRepositoryPort).findByProductAndMaturityPeriod(eq(MortgageProduct.FIXED), eq(maturityPeriod));
+        verify(mortgageDomainService, never()).checkMortgageFeasibility(any(), any(), any());
     }
 
     @Test
@@ -101,26 +338,105 @@ class CheckMortgageFeasibilityUseCaseImplTest {
 
         // When
         assertThatExceptionOfType(IllegalArgumentException.class)
-                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(nullMaturityPeriod, income,
-                        loanValue, homeValue))
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(
+                        MortgageProduct.FIXED, nullMaturityPeriod, income, loanValue, homeValue)))
                 .withMessage("Invalid maturity period: It must be greater than zero.");
 
         assertThatExceptionOfType(IllegalArgumentException.class)
-                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(negativeMaturityPeriod, income,
-                        loanValue, homeValue))
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(
+                        MortgageProduct.FIXED, negativeMaturityPeriod, income, loanValue, homeValue)))
                 .withMessage("Invalid maturity period: It must be greater than zero.");
 
 
         assertThatExceptionOfType(IllegalArgumentException.class)
-                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(zeroMaturityPeriod, income,
-                        loanValue, homeValue))
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(
+                        MortgageProduct.FIXED, zeroMaturityPeriod, income, loanValue, homeValue)))
                 .withMessage("Invalid maturity period: It must be greater than zero.");
 
 
         // Then
-        verify(mortgageRateRepositoryPort, never()).findByMaturityPeriod(any());
-        verify(mortgageDomainService, never()).checkMortgageFeasibility(any(), any());
+        verify(mortgageRateRepositoryPort, never()).findByProductAndMaturityPeriod(any(), any());
+        verify(mortgageDomainService, never()).checkMortgageFeasibility(any(), any(), any());
+    }
+
+    @Test
+    public void checkMortgageFeasibility_Given_null_product_Then_return_IllegalArgumentException() {
+        // When
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(
+                        null, 10, BigDecimal.valueOf(10000), BigDecimal.valueOf(7000), BigDecimal.valueOf(60000))))
+                .withMessage("Invalid product: It must be provided.");
+
+        // Then
+        verify(mortgageRateRepositoryPort, never()).findByProductAndMaturityPeriod(any(), any());
+    }
+
+    /**
+     * Checks invalid input is rejected without a stack trace, and with a new exception every time, so nothing is
+     * shared between requests
+     */
+    @Test
+    public void checkMortgageFeasibility_Given_invalid_maturity_period_Then_throw_stackless_exception_per_failure() {
+        // Given:
+        MortgageCheckCommand command = new MortgageCheckCommand(MortgageProduct.FIXED, 0, BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(7000), BigDecimal.valueOf(60000));
+
+        // When:
+        Throwable first = catchThrowable(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(command));
+        Throwable second = catchThrowable(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(command));
+
+        // Then:
+        assertThat(first).isInstanceOf(IllegalArgumentException.class).isNotSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
     }
 
+    /**
+     * Checks every check is recorded as a Flight Recorder event with its product, maturity period and outcome
+     */
+    @Test
+    public void checkMortgageFeasibility_Given_recording_Then_record_check_event_with_outcome(@TempDir Path directory)
+            throws IOException {
+        // Given:
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.1), LocalDateTime.now());
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10))
+                .thenReturn(Optional.of(mortgageRate));
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 15))
+                .thenReturn(Optional.empty());
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+        when(mortgageDomainService.checkMortgageFeasibility(eq(mortgageRate), any(), any()))
+                .thenReturn(MortgageFeasibilityResult.builder()
+                        .feasible(false)
+                        .monthlyCost(BigDecimal.ZERO)
+                        .build());
 
-}
\ No newline at end of file
+        // When:
+        Path recordingFile = directory.resolve("checks.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MortgageCheckEvent.class);
+            recording.start();
+            checkMortgageFeasibilityUseCase.checkMortgageFeasibility(new MortgageCheckCommand(MortgageProduct.GREEN,
+                    10, BigDecimal.valueOf(10000), BigDecimal.valueOf(70000), BigDecimal.valueOf(60000)));
+            assertThatExceptionOfType(MortgageNotFoundException.class)
+                    .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                            new MortgageCheckCommand(MortgageProduct.GREEN, 15, BigDecimal.valueOf(10000),
+                                    BigDecimal.valueOf(7000), BigDecimal.valueOf(60000))));
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> checkMortgageFeasibilityUseCase.checkMortgageFeasibility(
+                            new MortgageCheckCommand(MortgageProduct.GREEN, 0, BigDecimal.valueOf(10000),
+                                    BigDecimal.valueOf(7000), BigDecimal.valueOf(60000))));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then:
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+                .filteredOn(event -> event.getEventType().getName().equals("com.bank.mortgage.MortgageCheck"))
+                .extracting(event -> event.getString("product"), event -> event.getInt("maturityPeriod"),
+                        event -> event.getString("outcome"))
+                .containsExactly(
+                        tuple("GREEN", 10, MortgageCheckEvent.NOT_FEASIBLE),
+                        tuple("GREEN", 15, MortgageCheckEvent.NO_RATE),
+                        tuple("GREEN", 0, MortgageCheckEvent.INVALID));
+    }
+}
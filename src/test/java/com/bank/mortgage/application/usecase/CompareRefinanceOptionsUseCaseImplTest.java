@@ -0,0 +1,77 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.exception.MortgageDomainException;
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CompareRefinanceOptionsUseCaseImplTest {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort = mock(MortgageRateRepositoryPort.class);
+
+    private final CompareRefinanceOptionsUseCaseImpl compareRefinanceOptionsUseCase =
+            new CompareRefinanceOptionsUseCaseImpl(mortgageRateRepositoryPort, new MortgageDomainService());
+
+    /**
+     * Checks every loan of a batch is compared with the stored rates, read once for the whole batch
+     */
+    @Test
+    void compareRefinanceOptions_Given_batch_Then_compare_every_loan_reading_rates_once() {
+        // Given:
+        when(mortgageRateRepositoryPort.findAllMortgageRates()).thenReturn(List.of(
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.03), LocalDateTime.now()),
+                new MortgageRate(MortgageProduct.FIXED, 20, BigDecimal.valueOf(0.035), LocalDateTime.now())));
+        List<RefinanceCommand> commands = List.of(
+                new RefinanceCommand("L-1", BigDecimal.valueOf(150000), 120, BigDecimal.valueOf(0.05),
+                        BigDecimal.ZERO, null),
+                new RefinanceCommand("L-2", BigDecimal.valueOf(80000), 60, BigDecimal.valueOf(0.04),
+                        BigDecimal.ZERO, null));
+
+        // When:
+        List<RefinanceComparison> comparisons = compareRefinanceOptionsUseCase.compareRefinanceOptions(commands);
+
+        // Then:
+        assertThat(comparisons).extracting(RefinanceComparison::loanReference).containsExactly("L-1", "L-2");
+        assertThat(comparisons).allSatisfy(comparison -> assertThat(comparison.options()).hasSize(2));
+        verify(mortgageRateRepositoryPort, times(1)).findAllMortgageRates();
+    }
+
+    /**
+     * Checks a loan of a batch that cannot be compared gets its error, and the other loans are still compared
+     */
+    @Test
+    void compareRefinanceOptions_Given_batch_with_invalid_loan_Then_return_error_of_that_loan() {
+        // Given:
+        when(mortgageRateRepositoryPort.findAllMortgageRates()).thenReturn(List.of(
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.03), LocalDateTime.now())));
+        List<RefinanceCommand> commands = List.of(
+                new RefinanceCommand("L-1", BigDecimal.valueOf(150000), 120, BigDecimal.valueOf(0.05),
+                        BigDecimal.ZERO, null),
+                new RefinanceCommand("L-2", BigDecimal.valueOf(80000), 0, BigDecimal.valueOf(0.04),
+                        BigDecimal.ZERO, null),
+                new RefinanceCommand("L-3", BigDecimal.valueOf(80000), 60, BigDecimal.valueOf(0.04),
+                        BigDecimal.valueOf(90000), null));
+
+        // When:
+        List<RefinanceComparison> comparisons = compareRefinanceOptionsUseCase.compareRefinanceOptions(commands);
+
+        // Then:
+        assertThat(comparisons).extracting(RefinanceComparison::loanReference).containsExactly("L-1", "L-2", "L-3");
+        assertThat(comparisons.get(0).error()).isNull();
+        assertThat(comparisons.get(0).options()).hasSize(1);
+        assertThat(comparisons.get(1).error()).isEqualTo(MortgageDomainException.INVALID_MATURITY_PERIOD.getMessage());
+        assertThat(comparisons.get(1).options()).isEmpty();
+        assertThat(comparisons.get(2).error()).isEqualTo(MortgageDomainException.INVALID_FEES.getMessage());
+    }
+}
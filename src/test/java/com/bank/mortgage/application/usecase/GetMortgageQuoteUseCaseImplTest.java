@@ -0,0 +1,57 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageQuote;
+import com.bank.mortgage.domain.exception.MortgageQuoteNotFoundException;
+import com.bank.mortgage.domain.port.out.MortgageQuoteRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetMortgageQuoteUseCaseImplTest {
+
+    @Mock
+    private MortgageQuoteRepositoryPort mortgageQuoteRepositoryPort;
+
+    @InjectMocks
+    private GetMortgageQuoteUseCaseImpl getMortgageQuoteUseCase;
+
+    @Test
+    public void getMortgageQuote_Given_existing_quote_Then_return_it() {
+        // Given:
+        MortgageQuote mortgageQuote = new MortgageQuote(UUID.randomUUID(), MortgageProduct.FIXED, 10,
+                BigDecimal.valueOf(0.05), BigDecimal.valueOf(5000), BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(100000), true, new BigDecimal("106.07"), LocalDateTime.now());
+        when(mortgageQuoteRepositoryPort.findById(mortgageQuote.id())).thenReturn(Optional.of(mortgageQuote));
+
+        // When
+        MortgageQuote result = getMortgageQuoteUseCase.getMortgageQuote(mortgageQuote.id());
+
+        // Then
+        assertThat(result).isEqualTo(mortgageQuote);
+    }
+
+    @Test
+    public void getMortgageQuote_Given_unknown_quote_Then_throw_MortgageQuoteNotFoundException() {
+        // Given:
+        UUID quoteId = UUID.randomUUID();
+        when(mortgageQuoteRepositoryPort.findById(quoteId)).thenReturn(Optional.empty());
+
+        // When - Then
+        assertThatExceptionOfType(MortgageQuoteNotFoundException.class)
+                .isThrownBy(() -> getMortgageQuoteUseCase.getMortgageQuote(quoteId))
+                .withMessage("Could not find mortgage quote " + quoteId);
+    }
+}
@@ -0,0 +1,112 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.model.MortgageRateBracket;
+import com.bank.mortgage.domain.model.RateReset;
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import com.bank.mortgage.domain.model.VariableRateProjectionCommand;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ProjectVariableRateMortgageUseCaseImplTest {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort = mock(MortgageRateRepositoryPort.class);
+
+    private final ProjectVariableRateMortgageUseCaseImpl projectVariableRateMortgageUseCase =
+            new ProjectVariableRateMortgageUseCaseImpl(mortgageRateRepositoryPort, new MortgageDomainService());
+
+    private final MortgageRate fixedRate1 =
+            new MortgageRate(MortgageProduct.FIXED, 1, BigDecimal.valueOf(0.02), LocalDateTime.now());
+    private final MortgageRate fixedRate2 =
+            new MortgageRate(MortgageProduct.FIXED, 2, BigDecimal.valueOf(0.03), LocalDateTime.now());
+
+    /**
+     * Checks every period follows the rate path plus the spread, the last rate applying beyond the end of the path
+     */
+    @Test
+    void projectVariableRateMortgage_Given_rate_path_Then_apply_path_plus_spread() {
+        // Given:
+        VariableRateProjectionCommand command = new VariableRateProjectionCommand(MortgageProduct.FIXED, 2,
+                BigDecimal.valueOf(10000), 6, List.of(BigDecimal.valueOf(0.02), BigDecimal.valueOf(0.04)),
+                BigDecimal.valueOf(0.01));
+
+        // When:
+        VariableRateProjection projection = projectVariableRateMortgageUseCase.projectVariableRateMortgage(command);
+
+        // Then:
+        assertThat(projection.resets()).extracting(RateReset::interestRate).containsExactly(
+                BigDecimal.valueOf(0.03), BigDecimal.valueOf(0.05), BigDecimal.valueOf(0.05), BigDecimal.valueOf(0.05));
+        verifyNoInteractions(mortgageRateRepositoryPort);
+    }
+
+    /**
+     * Checks without a rate path every period takes the rate of the product for the remaining term, read once per
+     * remaining year however many resets there are
+     */
+    @Test
+    void projectVariableRateMortgage_Given_no_rate_path_Then_apply_curve_of_remaining_term() {
+        // Given:
+        when(mortgageRateRepositoryPort.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, 2))
+                .thenReturn(new MortgageRateBracket(fixedRate2, fixedRate2));
+        when(mortgageRateRepositoryPort.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, 1))
+                .thenReturn(new MortgageRateBracket(fixedRate1, fixedRate1));
+        VariableRateProjectionCommand command = new VariableRateProjectionCommand(MortgageProduct.FIXED, 2,
+                BigDecimal.valueOf(10000), 1, List.of(), BigDecimal.ZERO);
+
+        // When:
+        VariableRateProjection projection = projectVariableRateMortgageUseCase.projectVariableRateMortgage(command);
+
+        // Then: 2 years remain during the first 12 months, 1 year afterwards
+        assertThat(projection.resets()).hasSize(24);
+        assertThat(projection.resets().get(11).interestRate()).isEqualTo(BigDecimal.valueOf(0.03));
+        assertThat(projection.resets().get(12).interestRate()).isEqualTo(BigDecimal.valueOf(0.02));
+        verify(mortgageRateRepositoryPort, times(2)).findBracketByProductAndMaturityPeriod(any(), anyInt());
+    }
+
+    /**
+     * Checks a MortgageNotFoundException is thrown if the product has no rate for a remaining term
+     */
+    @Test
+    void projectVariableRateMortgage_Given_product_without_rates_Then_throw_MortgageNotFoundException() {
+        // Given:
+        when(mortgageRateRepositoryPort.findBracketByProductAndMaturityPeriod(MortgageProduct.GREEN, 2))
+                .thenReturn(new MortgageRateBracket(null, null));
+        VariableRateProjectionCommand command = new VariableRateProjectionCommand(MortgageProduct.GREEN, 2,
+                BigDecimal.valueOf(10000), 12, null, null);
+
+        // When:
+        // Then:
+        assertThatExceptionOfType(MortgageNotFoundException.class)
+                .isThrownBy(() -> projectVariableRateMortgageUseCase.projectVariableRateMortgage(command))
+                .withMessage("Could not find GREEN mortgage rate for maturity period of 2 years");
+    }
+
+    /**
+     * Checks a maturity period beyond the longest projection is rejected before the rate curve is read
+     */
+    @Test
+    void projectVariableRateMortgage_Given_too_long_maturity_period_Then_throw_IllegalArgumentException() {
+        // Given:
+        VariableRateProjectionCommand command = new VariableRateProjectionCommand(MortgageProduct.FIXED, 200_000_000,
+                BigDecimal.valueOf(10000), 1, null, null);
+
+        // When:
+        // Then:
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> projectVariableRateMortgageUseCase.projectVariableRateMortgage(command))
+                .withMessage("Invalid maturity period: It must be between 1 and 50 years.");
+        verifyNoInteractions(mortgageRateRepositoryPort);
+    }
+}
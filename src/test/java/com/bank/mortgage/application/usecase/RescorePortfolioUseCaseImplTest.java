@@ -0,0 +1,97 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+import com.bank.mortgage.domain.model.LoanScoreChange;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.model.PortfolioRescoreReport;
+import com.bank.mortgage.domain.model.ScoredLoan;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.PortfolioRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RescorePortfolioUseCaseImplTest {
+
+    private final LtvTierRepositoryPort ltvTierRepositoryPort = mock(LtvTierRepositoryPort.class);
+    private final PortfolioRepositoryPort portfolioRepositoryPort = mock(PortfolioRepositoryPort.class);
+
+    private final RescorePortfolioUseCaseImpl rescorePortfolioUseCase = new RescorePortfolioUseCaseImpl(
+            ltvTierRepositoryPort, portfolioRepositoryPort, new MortgageDomainService());
+
+    private final PortfolioLoan portfolioLoan = new PortfolioLoan("L-1", MortgageProduct.FIXED, 10,
+            BigDecimal.valueOf(50000), BigDecimal.valueOf(100000), BigDecimal.valueOf(200000));
+    private final MortgageRate fixedRate10 =
+            new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.04), LocalDateTime.now());
+
+    @BeforeEach
+    void setUp() {
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+        when(portfolioRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .thenReturn(List.of(new ScoredLoan(portfolioLoan, true, BigDecimal.valueOf(1060.66))));
+        when(portfolioRepositoryPort.updateScores(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * Checks only the loans of the changed rate are scored again, and their new monthly cost is reported and stored
+     */
+    @Test
+    void rescorePortfolio_Given_updated_rate_Then_rescore_its_bucket_only() {
+        // When: the 10 years rate goes from 5% to 4%
+        PortfolioRescoreReport report = rescorePortfolioUseCase.rescorePortfolio(List.of(fixedRate10), List.of());
+
+        // Then:
+        assertThat(report.loansRescored()).isEqualTo(1);
+        assertThat(report.newlyInfeasible()).isEmpty();
+        assertThat(report.changedPayments()).containsExactly(new LoanScoreChange("L-1", MortgageProduct.FIXED, 10,
+                true, true, BigDecimal.valueOf(1060.66), new BigDecimal("1012.45")));
+        verify(portfolioRepositoryPort).findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        verify(portfolioRepositoryPort).updateScores(List.of(
+                new ScoredLoan(portfolioLoan, true, new BigDecimal("1012.45"))));
+        verifyNoMoreInteractions(portfolioRepositoryPort);
+    }
+
+    /**
+     * Checks the loans of a removed rate are reported as newly infeasible
+     */
+    @Test
+    void rescorePortfolio_Given_removed_rate_Then_report_newly_infeasible() {
+        // When:
+        PortfolioRescoreReport report = rescorePortfolioUseCase.rescorePortfolio(List.of(), List.of(fixedRate10));
+
+        // Then:
+        assertThat(report.changedPayments()).isEmpty();
+        assertThat(report.newlyInfeasible()).singleElement().satisfies(change -> {
+            assertThat(change.loanId()).isEqualTo("L-1");
+            assertThat(change.feasible()).isFalse();
+            assertThat(change.monthlyCost()).isEqualTo(BigDecimal.ZERO);
+        });
+    }
+
+    /**
+     * Checks a loan saved again while its bucket was scored is neither reported nor counted
+     */
+    @Test
+    void rescorePortfolio_Given_loan_saved_meanwhile_Then_do_not_report_it() {
+        // Given: the store keeps the score the loan was saved with
+        when(portfolioRepositoryPort.updateScores(anyList())).thenReturn(List.of());
+
+        // When:
+        PortfolioRescoreReport report = rescorePortfolioUseCase.rescorePortfolio(List.of(fixedRate10), List.of());
+
+        // Then:
+        assertThat(report.loansRescored()).isZero();
+        assertThat(report.changedPayments()).isEmpty();
+        assertThat(report.newlyInfeasible()).isEmpty();
+        verify(portfolioRepositoryPort, never()).saveAll(anyList());
+    }
+}
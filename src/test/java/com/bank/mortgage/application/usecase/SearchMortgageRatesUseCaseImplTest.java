@@ -0,0 +1,59 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchMortgageRatesUseCaseImplTest {
+
+    @Mock
+    private MortgageRateRepositoryPort mortgageRateRepositoryPort;
+
+    @InjectMocks
+    private SearchMortgageRatesUseCaseImpl searchMortgageRatesUseCase;
+
+    @Test
+    public void searchMortgageRates_Given_query_Then_return_page_from_repository() {
+        // Given:
+        MortgageRateQuery query = new MortgageRateQuery(MortgageProduct.FIXED, 5, 20, null, null, 10);
+        MortgageRatePage page = new MortgageRatePage(
+                List.of(new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.05), LocalDateTime.now())),
+                false);
+        when(mortgageRateRepositoryPort.findMortgageRates(query)).thenReturn(page);
+
+        // When
+        MortgageRatePage result = searchMortgageRatesUseCase.searchMortgageRates(query);
+
+        // Then
+        assertThat(result).isEqualTo(page);
+    }
+
+    @Test
+    public void searchMortgageRates_Given_invalid_limit_Then_throw_IllegalArgumentException() {
+        // When - Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> searchMortgageRatesUseCase.searchMortgageRates(
+                        new MortgageRateQuery(MortgageProduct.FIXED, null, null, null, null, 0)))
+                .withMessage("Invalid limit: It must be greater than zero.");
+        verify(mortgageRateRepositoryPort, never()).findMortgageRates(any());
+    }
+}
@@ -0,0 +1,67 @@
+package com.bank.mortgage.application.usecase;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.OverpaymentStrategy;
+import com.bank.mortgage.domain.exception.MortgageNotFoundException;
+import com.bank.mortgage.domain.model.Overpayment;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.OverpaymentSimulationCommand;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+class SimulateOverpaymentsUseCaseImplTest {
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort = mock(MortgageRateRepositoryPort.class);
+
+    private final SimulateOverpaymentsUseCaseImpl simulateOverpaymentsUseCase =
+            new SimulateOverpaymentsUseCaseImpl(mortgageRateRepositoryPort, new MortgageDomainService());
+
+    /**
+     * Checks the overpayments are simulated at the rate of the product and maturity period
+     */
+    @Test
+    void simulateOverpayments_Given_rate_Then_simulate_at_rate() {
+        // Given:
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 30)).thenReturn(
+                Optional.of(new MortgageRate(MortgageProduct.FIXED, 30, BigDecimal.valueOf(0.035),
+                        LocalDateTime.now())));
+        OverpaymentSimulationCommand command = new OverpaymentSimulationCommand(MortgageProduct.FIXED, 30,
+                BigDecimal.valueOf(200000), OverpaymentStrategy.REDUCE_TERM,
+                List.of(new Overpayment(12, BigDecimal.valueOf(20000), 0, null)));
+
+        // When:
+        OverpaymentSimulation simulation = simulateOverpaymentsUseCase.simulateOverpayments(command);
+
+        // Then:
+        assertThat(simulation.interestRate()).isEqualTo(BigDecimal.valueOf(0.035));
+        assertThat(simulation.termMonths()).isEqualTo(304);
+        assertThat(simulation.interestSaved()).isEqualTo(new BigDecimal("30767.53"));
+    }
+
+    /**
+     * Checks a MortgageNotFoundException is thrown if the product has no rate for the maturity period
+     */
+    @Test
+    void simulateOverpayments_Given_no_rate_Then_throw_MortgageNotFoundException() {
+        // Given:
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 30))
+                .thenReturn(Optional.empty());
+        OverpaymentSimulationCommand command = new OverpaymentSimulationCommand(MortgageProduct.FIXED, 30,
+                BigDecimal.valueOf(200000), OverpaymentStrategy.REDUCE_TERM, List.of());
+
+        // Then:
+        assertThatExceptionOfType(MortgageNotFoundException.class)
+                .isThrownBy(() -> simulateOverpaymentsUseCase.simulateOverpayments(command));
+    }
+}
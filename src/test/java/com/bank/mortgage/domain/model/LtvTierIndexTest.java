@@ -0,0 +1,57 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.LtvTier;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LtvTierIndexTest {
+
+    private static final LtvTier UP_TO_60 = new LtvTier(BigDecimal.ZERO, BigDecimal.valueOf(0.6), BigDecimal.ZERO);
+    private static final LtvTier UP_TO_80 =
+            new LtvTier(BigDecimal.valueOf(0.6), BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.002));
+    private static final LtvTier UP_TO_100 =
+            new LtvTier(BigDecimal.valueOf(0.9), BigDecimal.ONE, BigDecimal.valueOf(0.01));
+
+    /**
+     * Checks a ratio resolves to the band (min, max] that contains it, and to no band in a gap or out of range
+     */
+    @Test
+    void find_Given_ltv_Then_return_tier_of_band() {
+        // Given:
+        LtvTierIndex index = LtvTierIndex.of(List.of(UP_TO_100, UP_TO_60, UP_TO_80));
+
+        // When:
+        // Then:
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.find(0.1)).isEqualTo(UP_TO_60);
+        assertThat(index.find(0.6)).isEqualTo(UP_TO_60);
+        assertThat(index.find(0.61)).isEqualTo(UP_TO_80);
+        assertThat(index.find(0.8)).isEqualTo(UP_TO_80);
+        assertThat(index.find(0.85)).isNull();
+        assertThat(index.find(0.9)).isNull();
+        assertThat(index.find(1.0)).isEqualTo(UP_TO_100);
+        assertThat(index.find(1.1)).isNull();
+        assertThat(index.find(0.0)).isNull();
+        assertThat(LtvTierIndex.EMPTY.find(0.5)).isNull();
+    }
+
+    /**
+     * Checks overlapping bands are rejected, as a ratio would have two rates
+     */
+    @Test
+    void of_Given_overlapping_tiers_Then_throw_IllegalArgumentException() {
+        // Given:
+        LtvTier overlapping = new LtvTier(BigDecimal.valueOf(0.5), BigDecimal.valueOf(0.7), BigDecimal.ZERO);
+
+        // When:
+        // Then:
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> LtvTierIndex.of(List.of(UP_TO_60, overlapping)))
+                .withMessageStartingWith("Overlapping LTV tiers");
+    }
+}
@@ -0,0 +1,101 @@
+package com.bank.mortgage.domain.model;
+
+import com.bank.mortgage.domain.entity.MaturityResolution;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MortgageRateBracketTest {
+
+    private final LocalDateTime lastUpdate = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final MortgageRate fixedRate10 =
+            new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.0350"), lastUpdate);
+    private final MortgageRate fixedRate15 =
+            new MortgageRate(MortgageProduct.FIXED, 15, new BigDecimal("0.0400"), lastUpdate.plusDays(1));
+    private final MortgageRate greenRate12 =
+            new MortgageRate(MortgageProduct.GREEN, 12, new BigDecimal("0.0300"), lastUpdate);
+
+    /**
+     * Checks the rates of the product around the maturity period are found, whatever the order of the rates
+     */
+    @Test
+    void of_Given_rates_Then_return_rates_of_product_around_maturity() {
+        // Given:
+        List<MortgageRate> rates = List.of(fixedRate15, greenRate12, fixedRate10);
+
+        // When:
+        MortgageRateBracket fixed12 = MortgageRateBracket.of(rates, MortgageProduct.FIXED, 12);
+        MortgageRateBracket fixed15 = MortgageRateBracket.of(rates, MortgageProduct.FIXED, 15);
+        MortgageRateBracket fixed30 = MortgageRateBracket.of(rates, MortgageProduct.FIXED, 30);
+
+        // Then:
+        assertThat(fixed12).isEqualTo(new MortgageRateBracket(fixedRate10, fixedRate15));
+        assertThat(fixed15).isEqualTo(new MortgageRateBracket(fixedRate15, fixedRate15));
+        assertThat(fixed30).isEqualTo(new MortgageRateBracket(fixedRate15, null));
+    }
+
+    /**
+     * Checks a maturity period with a rate of its own is resolved exactly, whatever the rule
+     */
+    @Test
+    void resolve_Given_rate_of_maturity_Then_return_exact_rate() {
+        // Given:
+        MortgageRateBracket bracket = new MortgageRateBracket(fixedRate10, fixedRate10);
+
+        // When:
+        ResolvedMortgageRate resolved = bracket.resolve(10, MaturityResolution.INTERPOLATED);
+
+        // Then:
+        assertThat(resolved).isEqualTo(new ResolvedMortgageRate(fixedRate10, MaturityResolution.EXACT));
+    }
+
+    /**
+     * Checks a maturity period without a rate takes the rate of the nearest one, or none with the exact rule
+     */
+    @Test
+    void resolve_Given_nearest_Then_return_rate_of_nearest_maturity() {
+        // Given:
+        MortgageRateBracket bracket = new MortgageRateBracket(fixedRate10, fixedRate15);
+
+        // When:
+        ResolvedMortgageRate twelve = bracket.resolve(12, MaturityResolution.NEAREST);
+        ResolvedMortgageRate thirteen = bracket.resolve(13, MaturityResolution.NEAREST);
+        ResolvedMortgageRate exact = bracket.resolve(12, MaturityResolution.EXACT);
+
+        // Then: the rate is for the requested maturity period
+        assertThat(twelve.resolution()).isEqualTo(MaturityResolution.NEAREST);
+        assertThat(twelve.mortgageRate()).isEqualTo(
+                new MortgageRate(MortgageProduct.FIXED, 12, new BigDecimal("0.0350"), lastUpdate));
+        assertThat(thirteen.mortgageRate().interestRate()).isEqualTo(new BigDecimal("0.0400"));
+        assertThat(exact).isNull();
+    }
+
+    /**
+     * Checks the interpolated rate is linear between the maturity periods around it, and the nearest rate is used
+     * outside of them
+     */
+    @Test
+    void resolve_Given_interpolated_Then_return_linear_rate_between_maturities() {
+        // Given:
+        MortgageRateBracket bracket = new MortgageRateBracket(fixedRate10, fixedRate15);
+        MortgageRateBracket longer = new MortgageRateBracket(fixedRate15, null);
+
+        // When:
+        ResolvedMortgageRate twelve = bracket.resolve(12, MaturityResolution.INTERPOLATED);
+        ResolvedMortgageRate thirty = longer.resolve(30, MaturityResolution.INTERPOLATED);
+
+        // Then: 3.5% + (4% - 3.5%) * 2 / 5
+        assertThat(twelve.resolution()).isEqualTo(MaturityResolution.INTERPOLATED);
+        assertThat(twelve.mortgageRate()).isEqualTo(
+                new MortgageRate(MortgageProduct.FIXED, 12, new BigDecimal("0.0370"), lastUpdate));
+        assertThat(thirty.resolution()).isEqualTo(MaturityResolution.NEAREST);
+        assertThat(thirty.mortgageRate().interestRate()).isEqualTo(new BigDecimal("0.0400"));
+    }
+}
@@ -0,0 +1,242 @@
+package com.bank.mortgage.domain.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Differential test harness for the mortgage calculations: runs a candidate engine and the reference engine over the
+ * same inputs and reports where they diverge.
+ * <p>
+ * Inputs are amounts in cents and rates in ten-thousandths (rates are stored with 4 decimals), so every engine reads
+ * the same decimal values. The edge cases come first: every maturity period with tiny and huge loans, zero and
+ * extreme rates, and loans exactly at, and a cent above, four times the income and the home value. Random inputs
+ * follow, a third of them on those boundaries. Input i only depends on the seed and i, so a reported input can be
+ * reproduced alone, and the inputs are split in blocks checked in parallel.
+ */
+final class DifferentialAccuracyHarness {
+
+    static final int MAX_MATURITY_PERIOD = 40;
+    // 10^12 in amounts, where a double still tells cents apart
+    static final long MAX_LOAN_CENTS = 100_000_000_000_000L;
+    static final int MAX_RATE = 2500;
+
+    private static final long[] EDGE_LOANS_CENTS = {1, 4, 100, 99_999_996, 100_000_000_000L, MAX_LOAN_CENTS};
+    private static final int[] EDGE_RATES = {0, 1, 350, 1500, MAX_RATE};
+    // Loan at 4 times the income, loan at the home value, each one exact and a cent above
+    private static final int EDGE_BOUNDARIES = 4;
+    private static final int BLOCK_SIZE = 16_384;
+
+    private DifferentialAccuracyHarness() {
+    }
+
+    /**
+     * @param incomeCents    Income in cents.
+     * @param loanValueCents Loan value in cents.
+     * @param homeValueCents Home value in cents.
+     * @param interestRate   Annual interest rate in ten-thousandths, e.g. 350 for 3.5%.
+     * @param maturityPeriod Maturity period in years.
+     */
+    record Input(long incomeCents, long loanValueCents, long homeValueCents, int interestRate, int maturityPeriod) {
+
+        BigDecimal income() {
+            return BigDecimal.valueOf(incomeCents, 2);
+        }
+
+        BigDecimal loanValue() {
+            return BigDecimal.valueOf(loanValueCents, 2);
+        }
+
+        BigDecimal homeValue() {
+            return BigDecimal.valueOf(homeValueCents, 2);
+        }
+
+        BigDecimal interestRateValue() {
+            return BigDecimal.valueOf(interestRate, 4);
+        }
+    }
+
+    /**
+     * @param feasible         Whether the mortgage is feasible.
+     * @param monthlyCostCents Monthly cost in cents, 0 if not feasible.
+     */
+    record Outcome(boolean feasible, long monthlyCostCents) {
+    }
+
+    /**
+     * A way of checking a mortgage, the reference or an optimized one
+     */
+    @FunctionalInterface
+    interface Engine {
+        Outcome check(Input input);
+    }
+
+    /**
+     * @param inputs                 The number of inputs compared.
+     * @param feasibilityMismatches  The number of inputs whose feasibility differs.
+     * @param costMismatches         The number of feasible inputs whose monthly cost differs.
+     * @param worstDivergenceCents   The largest difference of monthly cost, in cents.
+     * @param worstInput             The input of the largest difference, or of the first feasibility mismatch if
+     *                               the costs never differ. Null if the engines always agree.
+     */
+    record Report(long inputs, long feasibilityMismatches, long costMismatches, long worstDivergenceCents,
+                  Input worstInput) {
+
+        static final Report EMPTY = new Report(0, 0, 0, 0, null);
+
+        Report combine(Report other) {
+            Report worst = other.worstDivergenceCents > worstDivergenceCents
+                    || (worstInput == null && other.worstInput != null) ? other : this;
+            return new Report(inputs + other.inputs, feasibilityMismatches + other.feasibilityMismatches,
+                    costMismatches + other.costMismatches, worst.worstDivergenceCents, worst.worstInput);
+        }
+    }
+
+    /**
+     * Compare the engines over the edge cases and random inputs, in parallel
+     *
+     * @param reference,    engine giving the expected outcome
+     * @param candidate,    engine under test
+     * @param randomInputs, number of random inputs after the edge cases
+     * @param seed,         seed of the random inputs
+     * @return Report of the divergences
+     */
+    static Report compare(Engine reference, Engine candidate, long randomInputs, long seed) {
+        return blocks(randomInputs, seed)
+                .map(inputs -> compareBlock(reference, candidate, inputs))
+                .reduce(Report.EMPTY, Report::combine);
+    }
+
+    /**
+     * Compare the monthly costs of candidate engines with the reference maturity by maturity, over the same inputs as
+     * {@link #compare(Engine, Engine, long, long)}. The reference outcome of an input is calculated once for all the
+     * candidates.
+     *
+     * @return For each candidate, the largest difference of monthly cost in cents, indexed by maturity period (index 0
+     * is unused)
+     */
+    static long[][] worstDivergenceByMaturity(Engine reference, List<Engine> candidates, long randomInputs,
+                                              long seed) {
+        return blocks(randomInputs, seed)
+                .map(inputs -> {
+                    long[][] worstDivergenceCents = new long[candidates.size()][MAX_MATURITY_PERIOD + 1];
+                    for (Input input : inputs) {
+                        long expectedCents = reference.check(input).monthlyCostCents();
+                        for (int candidate = 0; candidate < candidates.size(); candidate++) {
+                            long divergenceCents = Math.abs(expectedCents
+                                    - candidates.get(candidate).check(input).monthlyCostCents());
+                            worstDivergenceCents[candidate][input.maturityPeriod()] =
+                                    Math.max(worstDivergenceCents[candidate][input.maturityPeriod()], divergenceCents);
+                        }
+                    }
+                    return worstDivergenceCents;
+                })
+                .reduce(new long[candidates.size()][MAX_MATURITY_PERIOD + 1], (left, right) -> {
+                    long[][] worstDivergenceCents = new long[candidates.size()][MAX_MATURITY_PERIOD + 1];
+                    for (int candidate = 0; candidate < candidates.size(); candidate++) {
+                        long[] leftCents = left[candidate];
+                        long[] rightCents = right[candidate];
+                        Arrays.setAll(worstDivergenceCents[candidate], maturityPeriod ->
+                                Math.max(leftCents[maturityPeriod], rightCents[maturityPeriod]));
+                    }
+                    return worstDivergenceCents;
+                });
+    }
+
+    /**
+     * The edge cases, then the random inputs in blocks, in parallel
+     */
+    private static Stream<List<Input>> blocks(long randomInputs, long seed) {
+        long blocks = (randomInputs + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        Stream<List<Input>> randomBlocks = LongStream.range(0, blocks)
+                .mapToObj(block -> {
+                    long first = block * BLOCK_SIZE;
+                    long last = Math.min(first + BLOCK_SIZE, randomInputs);
+                    List<Input> inputs = new ArrayList<>((int) (last - first));
+                    for (long index = first; index < last; index++) {
+                        inputs.add(randomInput(seed, index));
+                    }
+                    return inputs;
+                });
+        return Stream.concat(Stream.of(edgeCases()), randomBlocks).parallel();
+    }
+
+    static List<Input> edgeCases() {
+        List<Input> edgeCases = new ArrayList<>();
+        for (int maturityPeriod = 1; maturityPeriod <= MAX_MATURITY_PERIOD; maturityPeriod++) {
+            for (long loanValueCents : EDGE_LOANS_CENTS) {
+                for (int interestRate : EDGE_RATES) {
+                    for (int boundary = 0; boundary < EDGE_BOUNDARIES; boundary++) {
+                        edgeCases.add(boundaryInput(loanValueCents, interestRate, maturityPeriod, boundary));
+                    }
+                }
+            }
+        }
+        return edgeCases;
+    }
+
+    /**
+     * Random input number index of the seed: the loan is log-uniform from a cent to the maximum, so every magnitude
+     * is covered as often
+     */
+    static Input randomInput(long seed, long index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        int maturityPeriod = random.nextInt(1, MAX_MATURITY_PERIOD + 1);
+        int interestRate = random.nextInt(20) == 0 ? 0 : random.nextInt(1, MAX_RATE + 1);
+        long loanValueCents = Math.max(1, (long) Math.exp(random.nextDouble(Math.log(MAX_LOAN_CENTS))));
+
+        if (random.nextInt(3) == 0) {
+            return boundaryInput(loanValueCents, interestRate, maturityPeriod, random.nextInt(EDGE_BOUNDARIES));
+        }
+        long incomeCents = Math.max(1, (long) (loanValueCents / random.nextDouble(1, 8)));
+        long homeValueCents = Math.max(1, (long) (loanValueCents * random.nextDouble(0.5, 3)));
+        return new Input(incomeCents, loanValueCents, homeValueCents, interestRate, maturityPeriod);
+    }
+
+    /**
+     * @param boundary, 0: loan at 4 times the income, 1: a cent above it, 2: loan at the home value, 3: a cent above it
+     */
+    private static Input boundaryInput(long loanValueCents, int interestRate, int maturityPeriod, int boundary) {
+        // A multiple of 4 cents, so the income at the boundary is exact
+        long loanAtIncomeBoundary = Math.max(4, loanValueCents - loanValueCents % 4);
+        return switch (boundary) {
+            case 0 -> new Input(loanAtIncomeBoundary / 4, loanAtIncomeBoundary, loanAtIncomeBoundary * 2,
+                    interestRate, maturityPeriod);
+            case 1 -> new Input(loanAtIncomeBoundary / 4, loanAtIncomeBoundary + 1, loanAtIncomeBoundary * 2,
+                    interestRate, maturityPeriod);
+            case 2 -> new Input(loanValueCents, loanValueCents, loanValueCents, interestRate, maturityPeriod);
+            default -> new Input(loanValueCents, loanValueCents + 1, loanValueCents, interestRate, maturityPeriod);
+        };
+    }
+
+    private static Report compareBlock(Engine reference, Engine candidate, List<Input> inputs) {
+        long feasibilityMismatches = 0;
+        long costMismatches = 0;
+        long worstDivergenceCents = 0;
+        Input worstInput = null;
+        for (Input input : inputs) {
+            Outcome expected = reference.check(input);
+            Outcome actual = candidate.check(input);
+            if (expected.feasible() != actual.feasible()) {
+                feasibilityMismatches++;
+                if (worstInput == null) {
+                    worstInput = input;
+                }
+                continue;
+            }
+            long divergenceCents = Math.abs(expected.monthlyCostCents() - actual.monthlyCostCents());
+            if (divergenceCents > 0) {
+                costMismatches++;
+                if (divergenceCents > worstDivergenceCents) {
+                    worstDivergenceCents = divergenceCents;
+                    worstInput = input;
+                }
+            }
+        }
+        return new Report(inputs.size(), feasibilityMismatches, costMismatches, worstDivergenceCents, worstInput);
+    }
+}
@@ -0,0 +1,243 @@
+package com.bank.mortgage.domain.service;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.CalculationPrecision;
+import com.bank.mortgage.domain.model.RefinanceCandidate;
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import com.bank.mortgage.domain.service.DifferentialAccuracyHarness.Engine;
+import com.bank.mortgage.domain.service.DifferentialAccuracyHarness.Outcome;
+import com.bank.mortgage.domain.service.DifferentialAccuracyHarness.Report;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential accuracy of the optimized calculation paths against the BigDecimal (DECIMAL128) reference of the
+ * mortgage check. The number of random inputs is set with -Dmortgage.accuracy.inputs: 100 000 in a build, one million
+ * with the performance profile.
+ */
+@Slf4j
+@Tag("accuracy")
+class MortgageCalculationAccuracyTest {
+
+    private static final long RANDOM_INPUTS = Long.getLong("mortgage.accuracy.inputs", 100_000);
+    private static final long SEED = Long.getLong("mortgage.accuracy.seed", 20241107);
+
+    /**
+     * The feasibility rules and the monthly cost of a mortgage check, in DECIMAL128
+     */
+    private final Engine reference = engine(CalculationPrecision.DECIMAL128);
+
+    /**
+     * The primitive path of the portfolio analytics
+     */
+    private final Engine primitive = input -> {
+        double loanValue = input.loanValueCents() / 100.0;
+        boolean feasible = MortgageDomainService.isFeasible(input.incomeCents() / 100.0, loanValue,
+                input.homeValueCents() / 100.0);
+        return new Outcome(feasible, feasible
+                ? MortgageDomainService.monthlyCostCents(loanValue, input.interestRate() / 10000.0,
+                input.maturityPeriod() * 12)
+                : 0);
+    };
+
+    /**
+     * Checks the primitive path takes the same feasibility decisions as the reference, and its monthly costs are the
+     * reference ones to the cent
+     */
+    @Test
+    void compare_Given_primitive_engine_Then_same_feasibility_and_cost() {
+        // When:
+        Report report = DifferentialAccuracyHarness.compare(reference, primitive, RANDOM_INPUTS, SEED);
+
+        // Then:
+        log.info("Primitive engine against the reference: {}", report);
+        assertThat(report.inputs()).isEqualTo(DifferentialAccuracyHarness.edgeCases().size() + RANDOM_INPUTS);
+        assertThat(report.feasibilityMismatches()).as(report::toString).isZero();
+        assertThat(report.costMismatches()).as(report::toString).isZero();
+    }
+
+    /**
+     * Checks the monthly cost in every precision stays within the documented maximum error, maturity by maturity. The
+     * precisions are compared in a single pass, so the reference runs once per input
+     */
+    @Test
+    void worstDivergenceByMaturity_Given_every_precision_Then_within_documented_maximum_error() {
+        // Given:
+        List<CalculationPrecision> precisions = List.of(CalculationPrecision.DECIMAL64, CalculationPrecision.DOUBLE);
+
+        // When:
+        long[][] worstDivergenceCents = DifferentialAccuracyHarness.worstDivergenceByMaturity(reference,
+                precisions.stream().map(MortgageCalculationAccuracyTest::engine).toList(), RANDOM_INPUTS, SEED);
+
+        // Then:
+        for (int i = 0; i < precisions.size(); i++) {
+            assertWithinMaximumError(precisions.get(i).name(), worstDivergenceCents[i], precisions.get(i));
+        }
+    }
+
+    /**
+     * Checks the refinance options in DOUBLE, whose annuity factors fall back to DECIMAL64, stay within the maximum
+     * error documented for DECIMAL64, maturity by maturity
+     */
+    @Test
+    void worstDivergenceByMaturity_Given_refinance_in_double_Then_within_decimal64_maximum_error() {
+        // When:
+        long[] worstDivergenceCents = DifferentialAccuracyHarness.worstDivergenceByMaturity(
+                refinanceEngine(CalculationPrecision.DECIMAL128), List.of(refinanceEngine(CalculationPrecision.DOUBLE)),
+                RANDOM_INPUTS, SEED)[0];
+
+        // Then:
+        assertWithinMaximumError("Refinance in DOUBLE", worstDivergenceCents, CalculationPrecision.DECIMAL64);
+    }
+
+    /**
+     * Checks the variable-rate projections in DOUBLE, whose balances are rolled forward in DECIMAL64, stay within the
+     * maximum error documented for projections on the monthly cost of the last period, maturity by maturity. A
+     * projection rolls a balance per year, so it runs on a tenth of the inputs
+     */
+    @Test
+    void worstDivergenceByMaturity_Given_projection_in_double_Then_within_documented_maximum_error() {
+        // When:
+        long[] worstDivergenceCents = DifferentialAccuracyHarness.worstDivergenceByMaturity(
+                projectionEngine(CalculationPrecision.DECIMAL128),
+                List.of(projectionEngine(CalculationPrecision.DOUBLE)), RANDOM_INPUTS / 10, SEED)[0];
+
+        // Then:
+        logWorstDivergence("Projection in DOUBLE", worstDivergenceCents);
+        for (int maturityPeriod = 1; maturityPeriod <= DifferentialAccuracyHarness.MAX_MATURITY_PERIOD; maturityPeriod++) {
+            assertThat(worstDivergenceCents[maturityPeriod])
+                    .as("Projection in DOUBLE, maturity period %d", maturityPeriod)
+                    .isLessThanOrEqualTo(maxProjectionErrorCents(maturityPeriod));
+        }
+    }
+
+    /**
+     * Checks the harness reports an engine off by a cent: one truncating the monthly cost instead of rounding it
+     */
+    @Test
+    void compare_Given_truncating_engine_Then_report_worst_divergence() {
+        // Given:
+        Engine truncating = input -> {
+            Outcome outcome = primitive.check(input);
+            double monthlyCost = MortgageDomainService.annuity(input.loanValueCents() / 100.0,
+                    input.interestRate() / 10000.0 / 12, input.maturityPeriod() * 12);
+            return outcome.feasible() ? new Outcome(true, (long) (monthlyCost * 100)) : outcome;
+        };
+
+        // When:
+        Report report = DifferentialAccuracyHarness.compare(reference, truncating, 10_000, SEED);
+
+        // Then:
+        assertThat(report.feasibilityMismatches()).isZero();
+        assertThat(report.costMismatches()).isPositive();
+        assertThat(report.worstDivergenceCents()).isEqualTo(1);
+        assertThat(report.worstInput()).isNotNull();
+    }
+
+    /**
+     * Checks the edge cases cover every maturity period and both sides of the feasibility boundaries
+     */
+    @Test
+    void edgeCases_Then_cover_maturities_and_boundaries() {
+        // When:
+        Report report = DifferentialAccuracyHarness.compare(reference, reference, 0, SEED);
+
+        // Then:
+        assertThat(DifferentialAccuracyHarness.edgeCases())
+                .extracting(DifferentialAccuracyHarness.Input::maturityPeriod)
+                .containsAll(java.util.stream.IntStream.rangeClosed(1, DifferentialAccuracyHarness.MAX_MATURITY_PERIOD)
+                        .boxed().toList());
+        assertThat(DifferentialAccuracyHarness.edgeCases())
+                .extracting(input -> reference.check(input).feasible())
+                .contains(true, false);
+        assertThat(report).isEqualTo(new Report(DifferentialAccuracyHarness.edgeCases().size(), 0, 0, 0, null));
+    }
+
+    /**
+     * The maximum errors documented on {@link CalculationPrecision}, in cents. In DECIMAL64, the 16 digits of
+     * (1+i)^n - 1 lose the most to cancellation over short maturities at low rates
+     */
+    private static long maxErrorCents(CalculationPrecision precision, int maturityPeriod) {
+        return switch (precision) {
+            case DECIMAL128, DOUBLE -> 0;
+            case DECIMAL64 -> maturityPeriod == 1 ? 30 : maturityPeriod <= 4 ? 2 : 1;
+        };
+    }
+
+    /**
+     * The maximum errors documented on {@link CalculationPrecision#DOUBLE} for the last monthly cost of a projection,
+     * in cents. The error of every balance rolled forward in DECIMAL64 carries over to the next periods; a projection
+     * over 1 year has no balance to roll
+     */
+    private static long maxProjectionErrorCents(int maturityPeriod) {
+        return maturityPeriod == 1 ? 0 : maturityPeriod == 2 ? 15 : maturityPeriod <= 5 ? 10 : 5;
+    }
+
+    private static void logWorstDivergence(String calculation, long[] worstDivergenceCents) {
+        log.info("{} against DECIMAL128, worst divergence in cents per maturity period 1-{}: {}", calculation,
+                DifferentialAccuracyHarness.MAX_MATURITY_PERIOD,
+                Arrays.toString(Arrays.copyOfRange(worstDivergenceCents, 1, worstDivergenceCents.length)));
+    }
+
+    private static void assertWithinMaximumError(String calculation, long[] worstDivergenceCents,
+                                                 CalculationPrecision precision) {
+        logWorstDivergence(calculation, worstDivergenceCents);
+        for (int maturityPeriod = 1; maturityPeriod <= DifferentialAccuracyHarness.MAX_MATURITY_PERIOD; maturityPeriod++) {
+            assertThat(worstDivergenceCents[maturityPeriod])
+                    .as("%s, maturity period %d", calculation, maturityPeriod)
+                    .isLessThanOrEqualTo(maxErrorCents(precision, maturityPeriod));
+        }
+    }
+
+    /**
+     * The monthly cost of refinancing the loan at its rate, over its maturity period
+     */
+    private static Engine refinanceEngine(CalculationPrecision precision) {
+        MortgageDomainService mortgageDomainService = new MortgageDomainService(precision);
+        return input -> {
+            List<RefinanceCandidate> candidates = mortgageDomainService.prepareRefinanceCandidates(List.of(
+                    new MortgageRate(MortgageProduct.FIXED, input.maturityPeriod(), input.interestRateValue(), null)));
+            RefinanceComparison comparison = mortgageDomainService.compareRefinanceOptions(new RefinanceCommand(null,
+                    input.loanValue(), input.maturityPeriod() * 12, input.interestRateValue(), BigDecimal.ZERO,
+                    null), candidates);
+            return new Outcome(true, comparison.options().get(0).monthlyCost().unscaledValue().longValueExact());
+        };
+    }
+
+    /**
+     * The monthly cost of the last period of a projection with yearly resets, the rate rising by 0.1% a year and
+     * dropping back every 3 years, so the balance is rolled forward at a different rate every year
+     */
+    private static Engine projectionEngine(CalculationPrecision precision) {
+        MortgageDomainService mortgageDomainService = new MortgageDomainService(precision);
+        return input -> {
+            VariableRateProjection projection = mortgageDomainService.projectVariableRateMortgage(input.loanValue(),
+                    input.maturityPeriod(), 12,
+                    month -> input.interestRateValue().add(BigDecimal.valueOf(month / 12 % 3, 3)));
+            return new Outcome(true, projection.resets().get(projection.resets().size() - 1).monthlyCost()
+                    .unscaledValue().longValueExact());
+        };
+    }
+
+    private static Engine engine(CalculationPrecision precision) {
+        MortgageDomainService mortgageDomainService = new MortgageDomainService(precision);
+        return input -> {
+            boolean feasible = !MortgageDomainService.exceedsFourTimesIncome(input.income(), input.loanValue())
+                    && !MortgageDomainService.exceedsHomeValue(input.loanValue(), input.homeValue());
+            return new Outcome(feasible, feasible
+                    ? mortgageDomainService.calculateMonthlyCostFixedRateMortgage(input.maturityPeriod(),
+                    input.interestRateValue(), input.loanValue()).unscaledValue().longValueExact()
+                    : 0);
+        };
+    }
+}
@@ -1,15 +1,43 @@
 package com.bank.mortgage.domain.service;
 
+import com.bank.mortgage.domain.entity.LtvTier;
 import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.OverpaymentStrategy;
+import com.bank.mortgage.domain.event.MortgageValidationFailedEvent;
 import com.bank.mortgage.domain.exception.MortgageDomainException;
+import com.bank.mortgage.domain.model.CostOfCredit;
+import com.bank.mortgage.domain.model.LtvTierIndex;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.model.Overpayment;
+import com.bank.mortgage.domain.model.PortfolioAnalytics;
+import com.bank.mortgage.domain.model.PortfolioChunk;
+import com.bank.mortgage.domain.model.PortfolioRateTable;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.PortfolioAnalytics;
+import com.bank.mortgage.domain.model.PortfolioChunk;
+import com.bank.mortgage.domain.model.PortfolioRateTable;
+import com.bank.mortgage.domain.model.RateReset;
+import com.bank.mortgage.domain.model.RefinanceCandidate;
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.model.RefinanceOption;
+import com.bank.mortgage.domain.model.VariableRateProjection;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 
 
@@ -23,7 +51,7 @@ public class MortgageDomainServiceTest {
     @Test
     public void testCheckMortgageFeasibility_Given_loan_greater_than_four_times_income_Then_mortgage_is_not_feasible() {
         // Given:
-        MortgageRate mortgageRate = new MortgageRate(
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 
                 10, // 10 years
                 BigDecimal.valueOf(0.05), // 5%,
                 LocalDateTime.now()
@@ -50,7 +78,7 @@ public class MortgageDomainServiceTest {
     @Test
     public void testCheckMortgageFeasibility_Given_loan_greater_than_home_value_Then_mortgage_is_not_feasible() {
         // Given:
-        MortgageRate mortgageRate = new MortgageRate(
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 
                 10, // 10 years
                 BigDecimal.valueOf(0.05), // 5%
                 LocalDateTime.now() // Current timestamp for last update
@@ -77,7 +105,7 @@ public class MortgageDomainServiceTest {
     @Test
     public void testCheckMortgageFeasibility_Given_feasible_mortgage_Then_calculates_correct_monthly_cost() {
         // Given
-        MortgageRate mortgageRate = new MortgageRate(
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 
                 10, // 10 years
                 BigDecimal.valueOf(0.05), // 5%
                 LocalDateTime.now()
@@ -99,13 +127,449 @@ public class MortgageDomainServiceTest {
         assertThat(result.getMonthlyCost()).isEqualTo(expectedMonthlyCost);
     }
 
+    /**
+     * This test checks the monthly cost is calculated with the rate adjusted by the loan-to-value tier of the loan
+     */
+    @Test
+    public void testCheckMortgageFeasibility_Given_ltv_tiers_Then_applies_rate_of_ltv_band() {
+        // Given:
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED,
+                10, // 10 years
+                BigDecimal.valueOf(0.05), // 5%
+                LocalDateTime.now()
+        );
+
+        // 85% of the home value
+        MortgageApplicant mortgageApplicant = new MortgageApplicant(
+                BigDecimal.valueOf(50000),
+                BigDecimal.valueOf(85000),
+                BigDecimal.valueOf(100000)
+        );
+
+        LtvTierIndex ltvTierIndex = LtvTierIndex.of(List.of(
+                new LtvTier(BigDecimal.ZERO, BigDecimal.valueOf(0.6), BigDecimal.ZERO),
+                new LtvTier(BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.9), BigDecimal.valueOf(0.005)),
+                new LtvTier(BigDecimal.valueOf(0.6), BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.002))));
+
+        // When:
+        MortgageFeasibilityResult result =
+                mortgageDomainService.checkMortgageFeasibility(mortgageRate, mortgageApplicant, ltvTierIndex);
+
+        // Then: 5.5% is applied
+        assertThat(result.isFeasible()).isTrue();
+        assertThat(result.getInterestRate()).isEqualByComparingTo(BigDecimal.valueOf(0.055));
+        assertThat(result.getMonthlyCost()).isEqualTo(BigDecimal.valueOf(922.47));
+    }
+
+    /**
+     * This test checks the product rate is applied when the loan-to-value ratio is in no tier
+     */
+    @Test
+    public void testCheckMortgageFeasibility_Given_ltv_in_no_tier_Then_applies_product_rate() {
+        // Given:
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED,
+                10, // 10 years
+                BigDecimal.valueOf(0.05), // 5%
+                LocalDateTime.now()
+        );
+
+        // 10% of the home value
+        MortgageApplicant mortgageApplicant = new MortgageApplicant(
+                BigDecimal.valueOf(5000),
+                BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(100000)
+        );
+
+        LtvTierIndex ltvTierIndex = LtvTierIndex.of(List.of(
+                new LtvTier(BigDecimal.valueOf(0.6), BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.002))));
+
+        // When:
+        MortgageFeasibilityResult result =
+                mortgageDomainService.checkMortgageFeasibility(mortgageRate, mortgageApplicant, ltvTierIndex);
+
+        // Then:
+        assertThat(result.getInterestRate()).isEqualTo(BigDecimal.valueOf(0.05));
+        assertThat(result.getMonthlyCost()).isEqualTo(BigDecimal.valueOf(106.07));
+    }
+
+    /**
+     * This test checks a portfolio chunk is analyzed from its primitive columns: unpriced and infeasible loans are
+     * counted apart and the monthly costs of the feasible loans are summed with their loan-to-value rates
+     */
+    @Test
+    public void testAnalyzePortfolioChunk_Given_loans_Then_sums_monthly_costs_of_feasible_loans() {
+        // Given: 85% LTV at 5.5%, 50% LTV at 5%, a loan above four times the income and a loan without a rate
+        PortfolioChunk chunk = new PortfolioChunk() {
+            private final MortgageProduct[] products = {MortgageProduct.FIXED, MortgageProduct.FIXED,
+                    MortgageProduct.FIXED, MortgageProduct.GREEN};
+            private final double[] incomes = {50000, 50000, 10000, 50000};
+            private final double[] loanValues = {85000, 100000, 100000, 150000};
+            private final double[] homeValues = {100000, 200000, 200000, 200000};
+
+            @Override
+            public int size() {
+                return products.length;
+            }
+
+            @Override
+            public MortgageProduct product(int row) {
+                return products[row];
+            }
+
+            @Override
+            public int maturityPeriod(int row) {
+                return 10;
+            }
+
+            @Override
+            public double income(int row) {
+                return incomes[row];
+            }
+
+            @Override
+            public double loanValue(int row) {
+                return loanValues[row];
+            }
+
+            @Override
+            public double homeValue(int row) {
+                return homeValues[row];
+            }
+        };
+        PortfolioRateTable rateTable = PortfolioRateTable.of(List.of(new MortgageRate(MortgageProduct.FIXED, 10,
+                BigDecimal.valueOf(0.05), LocalDateTime.now())));
+        LtvTierIndex ltvTierIndex = LtvTierIndex.of(List.of(
+                new LtvTier(BigDecimal.ZERO, BigDecimal.valueOf(0.6), BigDecimal.ZERO),
+                new LtvTier(BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.9), BigDecimal.valueOf(0.005))));
+
+        // When:
+        PortfolioAnalytics analytics = mortgageDomainService.analyzePortfolioChunk(chunk, rateTable, ltvTierIndex);
+
+        // Then: 922.47 + 1060.66
+        assertThat(analytics.loans()).isEqualTo(4);
+        assertThat(analytics.feasibleLoans()).isEqualTo(2);
+        assertThat(analytics.unpricedLoans()).isEqualTo(1);
+        assertThat(analytics.totalLoanValue()).isEqualTo(435000.0);
+        assertThat(analytics.totalMonthlyCost()).isCloseTo(1983.13, within(1e-9));
+    }
+
+    /**
+     * This test checks the APR without fees is the effective annual rate of the nominal rate
+     */
+    @Test
+    public void testCalculateCostOfCredit_Given_no_fees_Then_apr_is_effective_nominal_rate() {
+        // When:
+        CostOfCredit costOfCredit = mortgageDomainService.calculateCostOfCredit(10, BigDecimal.valueOf(0.05),
+                BigDecimal.valueOf(10000), BigDecimal.valueOf(106.07), BigDecimal.ZERO);
+
+        // Then: (1 + 0.05 / 12)^12 - 1 = 0.051162, a bit more as the monthly cost is rounded up
+        assertThat(costOfCredit.apr()).isEqualTo(new BigDecimal("0.051172"));
+        assertThat(costOfCredit.totalInterest()).isEqualTo(new BigDecimal("2728.40"));
+        assertThat(costOfCredit.totalCostOfCredit()).isEqualTo(new BigDecimal("2728.40"));
+    }
+
+    /**
+     * This test checks fees raise the APR above the nominal rate and are part of the total cost of credit
+     */
+    @Test
+    public void testCalculateCostOfCredit_Given_fees_Then_apr_includes_fees() {
+        // When:
+        CostOfCredit twentyYears = mortgageDomainService.calculateCostOfCredit(20, BigDecimal.valueOf(0.05),
+                BigDecimal.valueOf(100000), BigDecimal.valueOf(659.96), BigDecimal.valueOf(1000));
+        CostOfCredit thirtyYears = mortgageDomainService.calculateCostOfCredit(30, BigDecimal.valueOf(0.04),
+                BigDecimal.valueOf(200000), BigDecimal.valueOf(954.83), BigDecimal.valueOf(2500));
+
+        // Then:
+        assertThat(twentyYears.apr()).isEqualTo(new BigDecimal("0.052423"));
+        assertThat(twentyYears.totalInterest()).isEqualTo(new BigDecimal("58390.40"));
+        assertThat(twentyYears.totalCostOfCredit()).isEqualTo(new BigDecimal("59390.40"));
+        assertThat(thirtyYears.apr()).isEqualTo(new BigDecimal("0.041826"));
+    }
+
+    /**
+     * This test checks that a MortgageDomainException is thrown when the fees are negative or not lower than the loan
+     */
+    @Test
+    public void testCalculateCostOfCredit_Given_invalid_fees_Then_throws_MortgageDomainException() {
+        // Then:
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.calculateCostOfCredit(10, BigDecimal.valueOf(0.05),
+                        BigDecimal.valueOf(10000), BigDecimal.valueOf(106.07), BigDecimal.valueOf(-1)))
+                .withMessage("Invalid fees: They must be zero or greater, and lower than the loan value.");
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.calculateCostOfCredit(10, BigDecimal.valueOf(0.05),
+                        BigDecimal.valueOf(10000), BigDecimal.valueOf(106.07), BigDecimal.valueOf(10000)))
+                .withMessage("Invalid fees: They must be zero or greater, and lower than the loan value.");
+    }
+
+    /**
+     * This test checks a mortgage without overpayments runs its whole term and saves nothing
+     */
+    @Test
+    public void testSimulateOverpayments_Given_no_overpayments_Then_nothing_is_saved() {
+        // When:
+        OverpaymentSimulation simulation = mortgageDomainService.simulateOverpayments(BigDecimal.valueOf(0.035), 30,
+                BigDecimal.valueOf(200000), OverpaymentStrategy.REDUCE_TERM, List.of());
+
+        // Then:
+        assertThat(simulation.monthlyCost()).isEqualTo(new BigDecimal("898.09"));
+        assertThat(simulation.finalMonthlyCost()).isEqualTo(new BigDecimal("898.09"));
+        assertThat(simulation.termMonths()).isEqualTo(360);
+        assertThat(simulation.monthsSaved()).isZero();
+        assertThat(simulation.totalInterest()).isEqualTo(new BigDecimal("123312.00"));
+        assertThat(simulation.interestSaved()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    /**
+     * This test checks a one-off overpayment shortens the term when reducing the term, and lowers the monthly cost
+     * when reducing the payment
+     */
+    @Test
+    public void testSimulateOverpayments_Given_one_off_overpayment_Then_shortens_term_or_lowers_payment() {
+        // Given: 20000 overpaid with the 12th monthly payment
+        List<Overpayment> overpayments = List.of(new Overpayment(12, BigDecimal.valueOf(20000), 0, null));
+
+        // When:
+        OverpaymentSimulation reduceTerm = mortgageDomainService.simulateOverpayments(BigDecimal.valueOf(0.035), 30,
+                BigDecimal.valueOf(200000), OverpaymentStrategy.REDUCE_TERM, overpayments);
+        OverpaymentSimulation reducePayment = mortgageDomainService.simulateOverpayments(BigDecimal.valueOf(0.035),
+                30, BigDecimal.valueOf(200000), OverpaymentStrategy.REDUCE_PAYMENT, overpayments);
+
+        // Then:
+        assertThat(reduceTerm.termMonths()).isEqualTo(304);
+        assertThat(reduceTerm.monthsSaved()).isEqualTo(56);
+        assertThat(reduceTerm.finalMonthlyCost()).isEqualTo(new BigDecimal("898.09"));
+        assertThat(reduceTerm.totalOverpaid()).isEqualTo(new BigDecimal("20000.00"));
+        assertThat(reduceTerm.interestSaved()).isEqualTo(new BigDecimal("30767.53"));
+
+        assertThat(reducePayment.termMonths()).isEqualTo(360);
+        assertThat(reducePayment.finalMonthlyCost()).isEqualTo(new BigDecimal("806.52"));
+        assertThat(reducePayment.interestSaved()).isEqualTo(new BigDecimal("11864.08"));
+    }
+
+    /**
+     * This test checks recurring overpayments are made every interval until their end month, and never beyond the
+     * outstanding balance
+     */
+    @Test
+    public void testSimulateOverpayments_Given_recurring_overpayments_Then_repeats_them_until_end_month() {
+        // When: 1200 every year from the 12th to the 48th month, and an overpayment larger than the loan
+        OverpaymentSimulation recurring = mortgageDomainService.simulateOverpayments(BigDecimal.ZERO, 10,
+                BigDecimal.valueOf(12000), OverpaymentStrategy.REDUCE_TERM,
+                List.of(new Overpayment(12, BigDecimal.valueOf(1200), 12, 48)));
+        OverpaymentSimulation repaid = mortgageDomainService.simulateOverpayments(BigDecimal.valueOf(0.035), 30,
+                BigDecimal.valueOf(200000), OverpaymentStrategy.REDUCE_TERM,
+                List.of(new Overpayment(1, BigDecimal.valueOf(300000), 0, null)));
+
+        // Then: 4 overpayments of 12 monthly payments each
+        assertThat(recurring.totalOverpaid()).isEqualTo(new BigDecimal("4800.00"));
+        assertThat(recurring.termMonths()).isEqualTo(72);
+        assertThat(recurring.monthsSaved()).isEqualTo(48);
+        assertThat(repaid.termMonths()).isEqualTo(1);
+        assertThat(repaid.totalOverpaid()).isEqualTo(new BigDecimal("199685.24"));
+    }
+
+    /**
+     * This test checks an overpayment with the last monthly payment, leaving cents of the balance, does not
+     * recalculate the monthly cost over an empty remaining term
+     */
+    @Test
+    public void testSimulateOverpayments_Given_overpayment_in_last_month_Then_settles_balance_with_last_payment() {
+        // When:
+        OverpaymentSimulation simulation = mortgageDomainService.simulateOverpayments(BigDecimal.valueOf(0.03), 30,
+                BigDecimal.valueOf(100000), OverpaymentStrategy.REDUCE_PAYMENT,
+                List.of(new Overpayment(360, BigDecimal.ONE, 0, null)));
+
+        // Then:
+        assertThat(simulation.termMonths()).isEqualTo(360);
+        assertThat(simulation.monthsSaved()).isZero();
+        assertThat(simulation.finalMonthlyCost()).isEqualTo(simulation.monthlyCost());
+        assertThat(simulation.totalOverpaid()).isEqualTo(new BigDecimal("1.00"));
+    }
+
+    /**
+     * This test checks that a MortgageDomainException is thrown when an overpayment is outside the mortgage term
+     */
+    @Test
+    public void testSimulateOverpayments_Given_overpayment_beyond_term_Then_throws_MortgageDomainException() {
+        // Then:
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.simulateOverpayments(BigDecimal.valueOf(0.035), 10,
+                        BigDecimal.valueOf(100000), OverpaymentStrategy.REDUCE_TERM,
+                        List.of(new Overpayment(121, BigDecimal.valueOf(1000), 0, null))))
+                .isSameAs(MortgageDomainException.INVALID_OVERPAYMENT);
+    }
+
+    /**
+     * This test checks a loan is compared with every stored rate, the best lifetime savings first, with the month the
+     * monthly savings cover the switching cost
+     */
+    @Test
+    public void testCompareRefinanceOptions_Given_stored_rates_Then_returns_savings_and_break_even_month() {
+        // Given:
+        List<RefinanceCandidate> candidates = mortgageDomainService.prepareRefinanceCandidates(List.of(
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.03), LocalDateTime.now()),
+                new MortgageRate(MortgageProduct.FIXED, 20, BigDecimal.valueOf(0.035), LocalDateTime.now()),
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.028), LocalDateTime.now())));
+
+        // When: 150000 left over 10 years at 5%, 2000 to switch
+        RefinanceComparison comparison = mortgageDomainService.compareRefinanceOptions(new RefinanceCommand("L-1",
+                BigDecimal.valueOf(150000), 120, BigDecimal.valueOf(0.05), BigDecimal.valueOf(2000), null),
+                candidates);
+
+        // Then: 2000 / 156.38 = 12.8, so the 13th month
+        assertThat(comparison.loanReference()).isEqualTo("L-1");
+        assertThat(comparison.currentMonthlyCost()).isEqualTo(new BigDecimal("1590.98"));
+        assertThat(comparison.currentTotalCost()).isEqualTo(new BigDecimal("190917.60"));
+        assertThat(comparison.options()).extracting(RefinanceOption::product, RefinanceOption::maturityPeriod)
+                .containsExactly(tuple(MortgageProduct.GREEN, 10), tuple(MortgageProduct.FIXED, 10),
+                        tuple(MortgageProduct.FIXED, 20));
+        RefinanceOption best = comparison.options().get(0);
+        assertThat(best.monthlyCost()).isEqualTo(new BigDecimal("1434.60"));
+        assertThat(best.monthlySavings()).isEqualTo(new BigDecimal("156.38"));
+        assertThat(best.lifetimeSavings()).isEqualTo(new BigDecimal("16765.60"));
+        assertThat(best.breakEvenMonth()).isEqualTo(13);
+    }
+
+    /**
+     * This test checks only the rates of the requested product are compared, and there is no break-even month when
+     * the new monthly cost is higher
+     */
+    @Test
+    public void testCompareRefinanceOptions_Given_product_and_higher_monthly_cost_Then_no_break_even_month() {
+        // Given:
+        List<RefinanceCandidate> candidates = mortgageDomainService.prepareRefinanceCandidates(List.of(
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.03), LocalDateTime.now()),
+                new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.028), LocalDateTime.now())));
+
+        // When:
+        RefinanceComparison comparison = mortgageDomainService.compareRefinanceOptions(new RefinanceCommand("L-2",
+                BigDecimal.valueOf(150000), 120, BigDecimal.valueOf(0.02), BigDecimal.valueOf(2000),
+                MortgageProduct.FIXED), candidates);
+
+        // Then:
+        assertThat(comparison.options()).singleElement().satisfies(option -> {
+            assertThat(option.product()).isEqualTo(MortgageProduct.FIXED);
+            assertThat(option.monthlySavings()).isEqualTo(new BigDecimal("-68.21"));
+            assertThat(option.lifetimeSavings()).isEqualTo(new BigDecimal("-10185.20"));
+            assertThat(option.breakEvenMonth()).isNull();
+        });
+    }
+
+    /**
+     * This test checks there is no break-even month, instead of an overflow, when a cent of monthly savings would
+     * take billions of months to cover the switching cost
+     */
+    @Test
+    public void testCompareRefinanceOptions_Given_tiny_savings_on_large_switching_cost_Then_no_break_even_month() {
+        // Given:
+        List<RefinanceCandidate> candidates = mortgageDomainService.prepareRefinanceCandidates(List.of(
+                new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.0299"), LocalDateTime.now())));
+
+        // When:
+        RefinanceComparison comparison = mortgageDomainService.compareRefinanceOptions(new RefinanceCommand("L-3",
+                BigDecimal.valueOf(50_000_000), 120, new BigDecimal("0.029900004"), BigDecimal.valueOf(40_000_000),
+                null), candidates);
+
+        // Then:
+        assertThat(comparison.options()).singleElement().satisfies(option -> {
+            assertThat(option.monthlySavings()).isPositive();
+            assertThat(option.breakEvenMonth()).isNull();
+        });
+    }
+
+    /**
+     * This test checks a variable-rate mortgage is recomputed at each reset from the outstanding balance
+     */
+    @Test
+    public void testProjectVariableRateMortgage_Given_rate_rise_Then_recomputes_monthly_cost_from_balance() {
+        // Given: 5% the first year, 7% afterwards
+        BigDecimal loanValue = BigDecimal.valueOf(100000);
+
+        // When:
+        VariableRateProjection projection = mortgageDomainService.projectVariableRateMortgage(loanValue, 10, 12,
+                month -> month < 12 ? BigDecimal.valueOf(0.05) : BigDecimal.valueOf(0.07));
+
+        // Then: the first year is a 10 years annuity at 5%, the second one a 9 years annuity of the balance at 7%
+        assertThat(projection.resets()).hasSize(10);
+        RateReset first = projection.resets().get(0);
+        RateReset second = projection.resets().get(1);
+        assertThat(first.monthlyCost()).isEqualTo(BigDecimal.valueOf(1060.66));
+        assertThat(first.openingBalance()).isEqualTo(new BigDecimal("100000.00"));
+        assertThat(second.month()).isEqualTo(12);
+        assertThat(second.openingBalance()).isEqualTo(new BigDecimal("92092.50"));
+        assertThat(second.monthlyCost()).isEqualTo(BigDecimal.valueOf(1151.73));
+        assertThat(projection.totalPaid()).isEqualTo(new BigDecimal("137115.24"));
+        assertThat(projection.totalInterest()).isEqualTo(new BigDecimal("37115.24"));
+    }
+
+    /**
+     * This test checks a variable-rate mortgage with a constant rate pays the fixed-rate monthly cost, and the last
+     * period is shorter if the reset interval doesn't divide the term
+     */
+    @Test
+    public void testProjectVariableRateMortgage_Given_constant_rate_Then_pays_fixed_rate_monthly_cost() {
+        // Given:
+        BigDecimal loanValue = BigDecimal.valueOf(10000);
+
+        // When:
+        VariableRateProjection projection = mortgageDomainService.projectVariableRateMortgage(loanValue, 10, 7,
+                month -> BigDecimal.valueOf(0.05));
+
+        // Then: 120 months, 17 periods of 7 months and 1 of 1 month
+        assertThat(projection.resets()).hasSize(18);
+        assertThat(projection.resets().get(17).months()).isEqualTo(1);
+        assertThat(projection.resets()).allSatisfy(reset ->
+                assertThat(reset.monthlyCost().subtract(BigDecimal.valueOf(106.07)).abs())
+                        .isLessThanOrEqualTo(BigDecimal.valueOf(0.01)));
+    }
+
+    /**
+     * This test checks that a MortgageDomainException is thrown when the maturity period is beyond the longest
+     * projection, before the months are counted and overflow
+     */
+    @Test
+    public void testProjectVariableRateMortgage_Given_too_long_maturity_period_Then_throws_MortgageDomainException() {
+        // Given:
+        BigDecimal loanValue = BigDecimal.valueOf(10000);
+
+        // Then:
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.projectVariableRateMortgage(loanValue, 51, 1,
+                        month -> BigDecimal.valueOf(0.05)))
+                .isSameAs(MortgageDomainException.INVALID_PROJECTION_MATURITY_PERIOD);
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.projectVariableRateMortgage(loanValue, 200_000_000, 1,
+                        month -> BigDecimal.valueOf(0.05)))
+                .isSameAs(MortgageDomainException.INVALID_PROJECTION_MATURITY_PERIOD);
+    }
+
+    /**
+     * This test checks that a MortgageDomainException is thrown when the reset interval or a rate are not valid
+     */
+    @Test
+    public void testProjectVariableRateMortgage_Given_invalid_reset_interval_or_rate_Then_throws_MortgageDomainException() {
+        // Given:
+        BigDecimal loanValue = BigDecimal.valueOf(10000);
+
+        // Then:
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.projectVariableRateMortgage(loanValue, 10, 0,
+                        month -> BigDecimal.valueOf(0.05)))
+                .withMessage("Invalid reset interval: It must be greater than zero.");
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.projectVariableRateMortgage(loanValue, 10, 12,
+                        month -> month < 24 ? BigDecimal.valueOf(0.05) : BigDecimal.valueOf(-0.01)))
+                .withMessage("Invalid interest rate: It must be zero or greater.");
+    }
+
     /**
      * This test checks that a MortgageDomainException is thrown when income is negative or null
      */
     @Test
     public void testCheckMortgageFeasibility_Given_null_or_negative_income_Then_throws_MortgageDomainException() {
         // Given:
-        MortgageRate mortgageRate = new MortgageRate(
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 
                 10, // 10 years
                 BigDecimal.valueOf(0.05), // 5%
                 LocalDateTime.now() // Current timestamp for last update
@@ -140,7 +604,7 @@ public class MortgageDomainServiceTest {
     @Test
     public void testCheckMortgageFeasibility_Given_null_or_negative_loan_value_Then_throws_MortgageDomainException() {
         // Given:
-        MortgageRate mortgageRate = new MortgageRate(
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 
                 10, // 10 years
                 BigDecimal.valueOf(0.05), // 5%
                 LocalDateTime.now() // Current timestamp for last update
@@ -174,7 +638,7 @@ public class MortgageDomainServiceTest {
     @Test
     public void testCheckMortgageFeasibility_Given_null_or_negative_home_value_Then_throws_MortgageDomainException() {
         // Given:
-        MortgageRate mortgageRate = new MortgageRate(
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 
                 10, // 10 years
                 BigDecimal.valueOf(0.05), // 5%
                 LocalDateTime.now() // Current timestamp for last update
@@ -208,13 +672,13 @@ public class MortgageDomainServiceTest {
     @Test
     public void testCheckMortgageFeasibility_Given_null_or_negative_maturity_period_Then_throws_MortgageDomainException() {
         // Given:
-        MortgageRate mortgageRateWithNullMaturity = new MortgageRate(
+        MortgageRate mortgageRateWithNullMaturity = new MortgageRate(MortgageProduct.FIXED, 
                 null, // null maturity
                 BigDecimal.valueOf(0.05), // Interest rate of 5%
                 LocalDateTime.now() // Current timestamp for last update
         );
 
-        MortgageRate mortgageRateWithNegativeMaturity = new MortgageRate(
+        MortgageRate mortgageRateWithNegativeMaturity = new MortgageRate(MortgageProduct.FIXED, 
                 -3, // Not a positive maturity period
                 BigDecimal.valueOf(0.05), // Interest rate of 5%
                 LocalDateTime.now() // Current timestamp for last update
@@ -236,4 +700,58 @@ public class MortgageDomainServiceTest {
                 .withMessage("Invalid maturity period: It must be greater than zero.");
     }
 
-}
\ No newline at end of file
+    /**
+     * This test checks validation failures are the shared, stackless exceptions
+     */
+    @Test
+    public void testCheckMortgageFeasibility_Given_invalid_income_Then_throw_preallocated_stackless_exception() {
+        // Given:
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.05), LocalDateTime.now());
+        MortgageApplicant mortgageApplicant = new MortgageApplicant(
+                BigDecimal.valueOf(-1000),
+                BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(100000)
+        );
+
+        // When:
+        assertThatExceptionOfType(MortgageDomainException.class)
+                .isThrownBy(() -> mortgageDomainService.checkMortgageFeasibility(mortgageRate, mortgageApplicant))
+                // Then:
+                .isSameAs(MortgageDomainException.INVALID_INCOME)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    /**
+     * This test checks a validation failure is recorded as a Flight Recorder event with its message
+     */
+    @Test
+    public void testCheckMortgageFeasibility_Given_invalid_income_and_recording_Then_records_validation_failed_event(
+            @TempDir Path directory) throws IOException {
+        // Given:
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.05), LocalDateTime.now());
+        MortgageApplicant mortgageApplicant = new MortgageApplicant(
+                BigDecimal.valueOf(-1000),
+                BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(100000)
+        );
+
+        // When:
+        Path recordingFile = directory.resolve("validation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MortgageValidationFailedEvent.class);
+            recording.start();
+            assertThatExceptionOfType(MortgageDomainException.class)
+                    .isThrownBy(() -> mortgageDomainService.checkMortgageFeasibility(mortgageRate, mortgageApplicant));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then:
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+                .filteredOn(event -> event.getEventType().getName().equals("com.bank.mortgage.MortgageValidationFailed"))
+                .extracting(event -> event.getString("message"))
+                .containsExactly("Invalid income: It must be greater than zero.");
+    }
+}
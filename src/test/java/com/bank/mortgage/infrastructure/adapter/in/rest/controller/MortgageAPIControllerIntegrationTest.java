@@ -1,8 +1,11 @@
 package com.bank.mortgage.infrastructure.adapter.in.rest.controller;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MaturityResolution;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageQuoteResponse;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntity;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.repository.MortgageRateRepository;
@@ -18,16 +21,20 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
 public class MortgageAPIControllerIntegrationTest {
 
     @Autowired
@@ -36,6 +43,9 @@ public class MortgageAPIControllerIntegrationTest {
     @Autowired
     private MortgageRateRepository mortgageRateRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         // Clean the database between tests
@@ -65,12 +75,14 @@ public class MortgageAPIControllerIntegrationTest {
     void getInterestRates_Given_existing_mortgage_rates_Then_return_all() {
         // Given:
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.03))
                 .maturityPeriod(15)
                 .lastUpdate(LocalDateTime.now())
                 .build();
 
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.05))
                 .maturityPeriod(30)
                 .lastUpdate(LocalDateTime.now())
@@ -105,12 +117,14 @@ public class MortgageAPIControllerIntegrationTest {
 
         // Persist mortgage rates
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.03))
                 .maturityPeriod(15)
                 .lastUpdate(LocalDateTime.now())
                 .build();
 
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.05))
                 .maturityPeriod(10)
                 .lastUpdate(LocalDateTime.now())
@@ -152,12 +166,14 @@ public class MortgageAPIControllerIntegrationTest {
 
         // Persist mortgage rates
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.03))
                 .maturityPeriod(15)
                 .lastUpdate(LocalDateTime.now())
                 .build();
 
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.05))
                 .maturityPeriod(10)
                 .lastUpdate(LocalDateTime.now())
@@ -198,12 +214,14 @@ public class MortgageAPIControllerIntegrationTest {
 
         // Persist mortgage rates
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.03))
                 .maturityPeriod(15)
                 .lastUpdate(LocalDateTime.now())
                 .build();
 
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.05))
                 .maturityPeriod(10)
                 .lastUpdate(LocalDateTime.now())
@@ -244,12 +262,14 @@ public class MortgageAPIControllerIntegrationTest {
 
         // Persist mortgage rates
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.03))
                 .maturityPeriod(15)
                 .lastUpdate(LocalDateTime.now())
                 .build();
 
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .interestRate(BigDecimal.valueOf(0.05))
                 .maturityPeriod(10)
                 .lastUpdate(LocalDateTime.now())
@@ -274,7 +294,112 @@ public class MortgageAPIControllerIntegrationTest {
         ErrorResponse errorResponse = response.getBody();
         assertThat(errorResponse).isNotNull();
         assertThat(errorResponse.getErrorCode()).isEqualTo("Not Found");
-        assertThat(errorResponse.getErrorMessage()).isEqualTo("Could not find mortgage rate for maturity period of 8 years");
+        assertThat(errorResponse.getErrorMessage()).isEqualTo("Could not find FIXED mortgage rate for maturity period of 8 years");
+    }
+
+    /**
+     * Check a maturity period without a rate of its own is checked with the rate interpolated between the maturity
+     * periods around it, when asked to
+     */
+    @Test
+    void checkMortgageFeasibility_Given_interpolated_resolution_of_unlisted_maturity_Then_return_interpolated_check() {
+        // Given:
+        MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
+                .interestRate(BigDecimal.valueOf(0.03))
+                .maturityPeriod(10)
+                .lastUpdate(LocalDateTime.now())
+                .build();
+
+        MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
+                .interestRate(BigDecimal.valueOf(0.04))
+                .maturityPeriod(15)
+                .lastUpdate(LocalDateTime.now())
+                .build();
+
+        mortgageRateRepository.saveAll(Arrays.asList(mr1, mr2));
+
+        MortgageCheckRequest mortgageCheckRequest = new MortgageCheckRequest()
+                .maturityPeriod(12)
+                .maturityResolution(MaturityResolution.INTERPOLATED)
+                .income(5000d)
+                .loanValue(10000d)
+                .homeValue(100000d);
+
+        // When:
+        ResponseEntity<MortgageCheckResponse> response = restTemplate.exchange(
+                "/v1/api/mortgage-check", HttpMethod.POST,
+                new HttpEntity<>(mortgageCheckRequest), MortgageCheckResponse.class);
+
+        // Then: 3% + (4% - 3%) * 2 / 5
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        MortgageCheckResponse mortgageCheckResponse = response.getBody();
+        assertThat(mortgageCheckResponse).isNotNull();
+        assertThat(mortgageCheckResponse.getMaturityResolution()).isEqualTo(MaturityResolution.INTERPOLATED);
+        assertThat(mortgageCheckResponse.getInterestRate()).isEqualTo(0.034);
+        assertThat(mortgageCheckResponse.getMonthlyCost()).isEqualTo(84.67);
+    }
+
+    /**
+     * Check the quote issued by a mortgage check can be fetched by its id, and is written to the quote table
+     */
+    @Test
+    void getMortgageQuote_Given_previous_mortgage_check_Then_return_quote() throws InterruptedException {
+        // Given:
+        mortgageRateRepository.save(MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
+                .interestRate(BigDecimal.valueOf(0.05))
+                .maturityPeriod(10)
+                .lastUpdate(LocalDateTime.now())
+                .build());
+
+        MortgageCheckRequest mortgageCheckRequest = new MortgageCheckRequest()
+                .maturityPeriod(10)
+                .income(5000d)
+                .loanValue(10000d)
+                .homeValue(100000d);
+
+        UUID quoteId = restTemplate.exchange("/v1/api/mortgage-check", HttpMethod.POST,
+                new HttpEntity<>(mortgageCheckRequest), MortgageCheckResponse.class).getBody().getQuoteId();
+
+        // When:
+        ResponseEntity<MortgageQuoteResponse> response = restTemplate.exchange(
+                "/v1/api/quotes/" + quoteId, HttpMethod.GET, null, MortgageQuoteResponse.class);
+
+        // Then:
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        MortgageQuoteResponse mortgageQuoteResponse = response.getBody();
+        assertThat(mortgageQuoteResponse).isNotNull();
+        assertThat(mortgageQuoteResponse.getQuoteId()).isEqualTo(quoteId);
+        assertThat(mortgageQuoteResponse.getMaturityPeriod()).isEqualTo(10);
+        assertThat(mortgageQuoteResponse.getFeasible()).isTrue();
+        assertThat(mortgageQuoteResponse.getMonthlyCost()).isEqualTo(106.07);
+
+        // The quote is written behind the response
+        Integer rows = 0;
+        for (int attempt = 0; attempt < 50 && rows == 0; attempt++) {
+            Thread.sleep(100);
+            rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mortgage_quote WHERE id = ?", Integer.class, quoteId);
+        }
+        assertThat(rows).isEqualTo(1);
+    }
+
+    /**
+     * Check a not found error is returned for an unknown quote id
+     */
+    @Test
+    void getMortgageQuote_Given_unknown_quote_Then_return_not_found() {
+        // Given:
+        UUID quoteId = UUID.randomUUID();
+
+        // When:
+        ResponseEntity<ErrorResponse> response = restTemplate.exchange(
+                "/v1/api/quotes/" + quoteId, HttpMethod.GET, null, ErrorResponse.class);
+
+        // Then:
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getErrorMessage()).isEqualTo("Could not find mortgage quote " + quoteId);
     }
 
-}
\ No newline at end of file
+}
@@ -1,10 +1,32 @@
 package com.bank.mortgage.infrastructure.adapter.in.rest.controller;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.entity.OverpaymentStrategy;
+import com.bank.mortgage.domain.model.MortgageCheckCommand;
 import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.CostOfCredit;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.model.OverpaymentSimulation;
+import com.bank.mortgage.domain.model.RateReset;
+import com.bank.mortgage.domain.model.RefinanceCommand;
+import com.bank.mortgage.domain.model.RefinanceComparison;
+import com.bank.mortgage.domain.model.RefinanceOption;
+import com.bank.mortgage.domain.model.VariableRateProjection;
 import com.bank.mortgage.domain.port.in.CheckMortgageFeasibilityUseCase;
-import com.bank.mortgage.domain.port.in.GetAllMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.CompareRefinanceOptionsUseCase;
+import com.bank.mortgage.domain.port.in.ProjectVariableRateMortgageUseCase;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.SimulateOverpaymentsUseCase;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MaturityResolution;
 import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageProjectionRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.OverpaymentSimulationRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.Product;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.RefinanceRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.pagination.MortgageRateCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +34,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -23,10 +46,12 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@ActiveProfiles("test")
 @AutoConfigureMockMvc
 class MortgageAPIControllerTest {
 
@@ -37,38 +62,310 @@ class MortgageAPIControllerTest {
     private ObjectMapper objectMapper;
 
     @MockBean
-    private GetAllMortgageRatesUseCase getAllMortgageRatesUseCase;
+    private SearchMortgageRatesUseCase searchMortgageRatesUseCase;
 
     @MockBean
     private CheckMortgageFeasibilityUseCase checkMortgageFeasibilityUseCase;
 
+    @MockBean
+    private ProjectVariableRateMortgageUseCase projectVariableRateMortgageUseCase;
+
+    @MockBean
+    private SimulateOverpaymentsUseCase simulateOverpaymentsUseCase;
+
+    @MockBean
+    private CompareRefinanceOptionsUseCase compareRefinanceOptionsUseCase;
+
     /**
      * Checks getInterestRate endpoint return the mortgage rate list
      */
     @Test
     void getInterestRates_Given_valid_request_Then_return_rates() throws Exception {
         // Given:
-        MortgageRate mr1 = new MortgageRate(15, BigDecimal.valueOf(0.03), LocalDateTime.now());
-        MortgageRate mr2 = new MortgageRate(30, BigDecimal.valueOf(0.05), LocalDateTime.now());
+        MortgageRate mr1 = new MortgageRate(MortgageProduct.FIXED, 15, BigDecimal.valueOf(0.03), LocalDateTime.now());
+        MortgageRate mr2 = new MortgageRate(MortgageProduct.FIXED, 30, BigDecimal.valueOf(0.05), LocalDateTime.now());
 
         List<MortgageRate> mortgageRates = Arrays.asList(
                 mr1,
                 mr2
         );
 
-        when(getAllMortgageRatesUseCase.getAllMortgageRates()).thenReturn(mortgageRates);
+        when(searchMortgageRatesUseCase.searchMortgageRates(
+                new MortgageRateQuery(MortgageProduct.FIXED, null, null, null, null, 100)))
+                .thenReturn(new MortgageRatePage(mortgageRates, false));
 
         // When:
         mockMvc.perform(get("/v1/api/interest-rates"))
                 // Then:
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].product").value("FIXED"))
                 .andExpect(jsonPath("$[0].maturityPeriod").value(mr1.maturityPeriod()))
                 .andExpect(jsonPath("$[0].interestRate").value(mr1.interestRate()))
                 .andExpect(jsonPath("$[0].lastUpdate").value(mr1.lastUpdate().truncatedTo(ChronoUnit.MILLIS).toString()))
                 .andExpect(jsonPath("$[1].maturityPeriod").value(mr2.maturityPeriod()))
                 .andExpect(jsonPath("$[1].interestRate").value(mr2.interestRate()))
-                .andExpect(jsonPath("$[1].lastUpdate").value(mr2.lastUpdate().truncatedTo(ChronoUnit.MILLIS).toString()));
-        verify(getAllMortgageRatesUseCase).getAllMortgageRates();
+                .andExpect(jsonPath("$[1].lastUpdate").value(mr2.lastUpdate().truncatedTo(ChronoUnit.MILLIS).toString()))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        verify(searchMortgageRatesUseCase).searchMortgageRates(
+                new MortgageRateQuery(MortgageProduct.FIXED, null, null, null, null, 100));
+    }
+
+    /**
+     * Checks getInterestRates endpoint passes filters and cursor to the use case, and returns the next page cursor
+     */
+    @Test
+    void getInterestRates_Given_filters_and_cursor_Then_return_page_and_next_cursor() throws Exception {
+        // Given:
+        LocalDateTime updatedSince = LocalDateTime.of(2024, 1, 1, 10, 0);
+        MortgageRate mr1 = new MortgageRate(MortgageProduct.GREEN, 15, BigDecimal.valueOf(0.03), updatedSince.plusDays(1));
+        MortgageRateQuery query = new MortgageRateQuery(MortgageProduct.GREEN, 10, 30, updatedSince, 12, 1);
+
+        when(searchMortgageRatesUseCase.searchMortgageRates(query)).thenReturn(new MortgageRatePage(List.of(mr1), true));
+
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates")
+                        .param("product", "GREEN")
+                        .param("minMaturityPeriod", "10")
+                        .param("maxMaturityPeriod", "30")
+                        .param("updatedSince", "2024-01-01T10:00:00")
+                        .param("cursor", MortgageRateCursor.encode(12))
+                        .param("limit", "1"))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].product").value("GREEN"))
+                .andExpect(jsonPath("$[0].maturityPeriod").value(15))
+                .andExpect(header().string("X-Next-Cursor", MortgageRateCursor.encode(15)));
+    }
+
+    /**
+     * Checks getInterestRates endpoint rejects a cursor not issued by the service
+     */
+    @Test
+    void getInterestRates_Given_invalid_cursor_Then_return_bad_request() throws Exception {
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates").param("cursor", "not-a-cursor"))
+                // Then:
+                .andExpect(status().isBadRequest());
+        verify(searchMortgageRatesUseCase, never()).searchMortgageRates(any());
+    }
+
+    /**
+     * Checks getInterestRates endpoint rejects an unknown product
+     */
+    @Test
+    void getInterestRates_Given_unknown_product_Then_return_bad_request() throws Exception {
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates").param("product", "VARIABLE"))
+                // Then:
+                .andExpect(status().isBadRequest());
+        verify(searchMortgageRatesUseCase, never()).searchMortgageRates(any());
+    }
+
+    /**
+     * Checks checkMortgageFeasibility endpoint checks the mortgage with the rates of the requested product
+     */
+    @Test
+    void checkMortgageFeasibility_Given_product_Then_check_with_product() throws Exception {
+        // Given:
+        MortgageCheckRequest request = new MortgageCheckRequest()
+                .product(Product.FIRST_TIME_BUYER)
+                .maturityPeriod(20)
+                .income(5000.0)
+                .loanValue(150000.0)
+                .homeValue(200000.0);
+
+        doReturn(MortgageFeasibilityResult.builder().feasible(true).monthlyCost(BigDecimal.valueOf(190.0)).build())
+                .when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(any());
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-check")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlyCost").value(190.0));
+
+        verify(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(
+                argThat(command -> command.product() == MortgageProduct.FIRST_TIME_BUYER));
+    }
+
+    /**
+     * Checks checkMortgageFeasibility endpoint passes the maturity resolution and reports the rule that was used
+     */
+    @Test
+    void checkMortgageFeasibility_Given_maturity_resolution_Then_report_rule_used() throws Exception {
+        // Given:
+        MortgageCheckRequest request = new MortgageCheckRequest()
+                .maturityResolution(MaturityResolution.INTERPOLATED)
+                .maturityPeriod(12)
+                .income(5000.0)
+                .loanValue(15000.0)
+                .homeValue(200000.0);
+
+        doReturn(MortgageFeasibilityResult.builder()
+                .feasible(true)
+                .monthlyCost(BigDecimal.valueOf(150.0))
+                .maturityResolution(com.bank.mortgage.domain.entity.MaturityResolution.INTERPOLATED)
+                .build())
+                .when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(any());
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-check")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maturityResolution").value("INTERPOLATED"));
+
+        verify(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(argThat(command ->
+                command.maturityResolution() == com.bank.mortgage.domain.entity.MaturityResolution.INTERPOLATED));
+    }
+
+    /**
+     * Checks checkMortgageFeasibility endpoint passes the fees and returns the APR when requested
+     */
+    @Test
+    void checkMortgageFeasibility_Given_apr_requested_Then_return_apr_and_cost_of_credit() throws Exception {
+        // Given:
+        MortgageCheckRequest request = new MortgageCheckRequest()
+                .maturityPeriod(20)
+                .income(50000.0)
+                .loanValue(100000.0)
+                .homeValue(200000.0)
+                .fees(1000.0)
+                .includeApr(true);
+
+        doReturn(MortgageFeasibilityResult.builder()
+                .feasible(true)
+                .monthlyCost(BigDecimal.valueOf(659.96))
+                .costOfCredit(new CostOfCredit(new BigDecimal("0.052423"), new BigDecimal("58390.40"),
+                        new BigDecimal("59390.40")))
+                .build())
+                .when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(any());
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-check")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.apr").value(0.052423))
+                .andExpect(jsonPath("$.totalInterest").value(58390.40))
+                .andExpect(jsonPath("$.totalCostOfCredit").value(59390.40));
+
+        verify(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(argThat(command ->
+                command.includeApr() && command.fees().equals(BigDecimal.valueOf(1000.0))));
+    }
+
+    /**
+     * Checks projectVariableRateMortgage endpoint passes the rate path and returns the periods between resets
+     */
+    @Test
+    void projectVariableRateMortgage_Given_rate_path_Then_return_resets() throws Exception {
+        // Given:
+        MortgageProjectionRequest request = new MortgageProjectionRequest()
+                .maturityPeriod(10)
+                .loanValue(100000.0)
+                .ratePath(List.of(0.05, 0.07))
+                .spread(0.01);
+
+        doReturn(new VariableRateProjection(List.of(
+                new RateReset(0, 12, BigDecimal.valueOf(0.06), BigDecimal.valueOf(100000), BigDecimal.valueOf(1110.21))),
+                BigDecimal.valueOf(133000), BigDecimal.valueOf(33000)))
+                .when(projectVariableRateMortgageUseCase).projectVariableRateMortgage(any());
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-projection")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resets[0].monthlyCost").value(1110.21))
+                .andExpect(jsonPath("$.totalInterest").value(33000.0));
+
+        verify(projectVariableRateMortgageUseCase).projectVariableRateMortgage(argThat(command ->
+                command.product() == MortgageProduct.FIXED
+                        && command.resetIntervalMonths() == 12
+                        && command.ratePath().equals(List.of(BigDecimal.valueOf(0.05), BigDecimal.valueOf(0.07)))
+                        && command.spread().equals(BigDecimal.valueOf(0.01))));
+    }
+
+    /**
+     * Checks simulateOverpayments endpoint passes the overpayments, reducing the term by default, and returns what
+     * they save
+     */
+    @Test
+    void simulateOverpayments_Given_overpayments_Then_return_simulation() throws Exception {
+        // Given:
+        OverpaymentSimulationRequest request = new OverpaymentSimulationRequest()
+                .maturityPeriod(30)
+                .loanValue(200000.0)
+                .overpayments(List.of(new OverpaymentRequest().month(12).amount(20000.0)));
+
+        doReturn(new OverpaymentSimulation(BigDecimal.valueOf(0.035), BigDecimal.valueOf(898.09),
+                BigDecimal.valueOf(898.09), 304, 56, BigDecimal.valueOf(20000), BigDecimal.valueOf(92544.47),
+                BigDecimal.valueOf(30767.53)))
+                .when(simulateOverpaymentsUseCase).simulateOverpayments(any());
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-overpayment")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.termMonths").value(304))
+                .andExpect(jsonPath("$.monthsSaved").value(56))
+                .andExpect(jsonPath("$.interestSaved").value(30767.53));
+
+        verify(simulateOverpaymentsUseCase).simulateOverpayments(argThat(command ->
+                command.product() == MortgageProduct.FIXED
+                        && command.strategy() == OverpaymentStrategy.REDUCE_TERM
+                        && command.overpayments().size() == 1
+                        && command.overpayments().get(0).intervalMonths() == 0));
+    }
+
+    /**
+     * Checks compareRefinanceOptionsBatch endpoint compares every loan, across every product if none is given, with
+     * the error of a loan that could not be compared
+     */
+    @Test
+    void compareRefinanceOptionsBatch_Given_loans_Then_return_comparison_per_loan() throws Exception {
+        // Given:
+        List<RefinanceRequest> request = List.of(
+                new RefinanceRequest().loanReference("L-1").remainingBalance(150000.0).remainingTermMonths(120)
+                        .currentInterestRate(0.05).switchingCost(2000.0),
+                new RefinanceRequest().loanReference("L-2").remainingBalance(80000.0).remainingTermMonths(60)
+                        .currentInterestRate(0.04));
+
+        doReturn(List.of(
+                new RefinanceComparison("L-1", BigDecimal.valueOf(1590.98), BigDecimal.valueOf(190917.6), List.of(
+                        new RefinanceOption(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.028),
+                                BigDecimal.valueOf(1434.6), BigDecimal.valueOf(156.38),
+                                BigDecimal.valueOf(16765.6), 13))),
+                RefinanceComparison.failed("L-2", "Invalid fees: They must be zero or greater, and lower than the "
+                        + "loan value.")))
+                .when(compareRefinanceOptionsUseCase).compareRefinanceOptions(anyList());
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-refinance/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].loanReference").value("L-1"))
+                .andExpect(jsonPath("$[0].options[0].product").value("GREEN"))
+                .andExpect(jsonPath("$[0].options[0].breakEvenMonth").value(13))
+                .andExpect(jsonPath("$[1].loanReference").value("L-2"))
+                .andExpect(jsonPath("$[1].error").value(
+                        "Invalid fees: They must be zero or greater, and lower than the loan value."))
+                .andExpect(jsonPath("$[1].options").isEmpty());
+
+        verify(compareRefinanceOptionsUseCase).compareRefinanceOptions(argThat((List<RefinanceCommand> commands) ->
+                commands.size() == 2
+                        && commands.get(0).product() == null
+                        && commands.get(0).switchingCost().equals(BigDecimal.valueOf(2000.0))
+                        && commands.get(1).switchingCost().signum() == 0));
     }
 
     /**
@@ -88,14 +385,13 @@ class MortgageAPIControllerTest {
         MortgageFeasibilityResult result = MortgageFeasibilityResult.builder()
                 .feasible(expectedIsFeasible)
                 .monthlyCost(expectedMonthlyCost)
+                .interestRate(BigDecimal.valueOf(0.047))
                 .build();
 
-        doReturn(result).when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(
-                eq(20),
-                eq(BigDecimal.valueOf(5000.0)),
-                eq(BigDecimal.valueOf(150000.0)),
-                eq(BigDecimal.valueOf(200000.0))
-        );
+        MortgageCheckCommand expectedCommand = new MortgageCheckCommand(MortgageProduct.FIXED, 20,
+                BigDecimal.valueOf(5000.0), BigDecimal.valueOf(150000.0), BigDecimal.valueOf(200000.0),
+                com.bank.mortgage.domain.entity.MaturityResolution.EXACT, BigDecimal.valueOf(0.0), false);
+        doReturn(result).when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(eq(expectedCommand));
 
         // When:
         mockMvc.perform(post("/v1/api/mortgage-check")
@@ -104,9 +400,74 @@ class MortgageAPIControllerTest {
                 // Then:
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.feasible").value(expectedIsFeasible))
-                .andExpect(jsonPath("$.monthlyCost").value(expectedMonthlyCost));
+                .andExpect(jsonPath("$.monthlyCost").value(expectedMonthlyCost))
+                .andExpect(jsonPath("$.interestRate").value(0.047));
 
-        verify(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(eq(20), eq(BigDecimal.valueOf(5000.0)), eq(BigDecimal.valueOf(150000.0)), eq(BigDecimal.valueOf(200000.0)));
+        verify(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(eq(expectedCommand));
+    }
+
+    /**
+     * Checks a retry with the same Idempotency-Key gets the stored response, without checking the mortgage again
+     */
+    @Test
+    void checkMortgageFeasibility_Given_retry_with_same_idempotency_key_Then_replay_response() throws Exception {
+        // Given:
+        MortgageCheckRequest request = new MortgageCheckRequest();
+        request.setIncome(5000.0);
+        request.setLoanValue(15000.0);
+        request.setHomeValue(200000.0);
+        request.setMaturityPeriod(20);
+
+        doReturn(MortgageFeasibilityResult.builder().feasible(true).monthlyCost(BigDecimal.valueOf(95.0)).build())
+                .when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(any());
+
+        // When:
+        for (String expectedReplayed : List.of("false", "true")) {
+            mockMvc.perform(post("/v1/api/mortgage-check")
+                            .header("Idempotency-Key", "retry-test-key")
+                            .contentType("application/json")
+                            .content(objectMapper.writeValueAsString(request)))
+                    // Then:
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Idempotent-Replayed", expectedReplayed))
+                    .andExpect(jsonPath("$.monthlyCost").value(95.0));
+        }
+
+        verify(checkMortgageFeasibilityUseCase, times(1)).checkMortgageFeasibility(any());
+    }
+
+    /**
+     * Checks an Idempotency-Key can't be reused with a different request body
+     */
+    @Test
+    void checkMortgageFeasibility_Given_idempotency_key_reused_for_other_request_Then_return_unprocessable_entity()
+            throws Exception {
+        // Given:
+        MortgageCheckRequest request = new MortgageCheckRequest();
+        request.setIncome(5000.0);
+        request.setLoanValue(15000.0);
+        request.setHomeValue(200000.0);
+        request.setMaturityPeriod(20);
+
+        doReturn(MortgageFeasibilityResult.builder().feasible(true).monthlyCost(BigDecimal.valueOf(95.0)).build())
+                .when(checkMortgageFeasibilityUseCase).checkMortgageFeasibility(any());
+
+        mockMvc.perform(post("/v1/api/mortgage-check")
+                        .header("Idempotency-Key", "reused-test-key")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        request.setLoanValue(16000.0);
+
+        // When:
+        mockMvc.perform(post("/v1/api/mortgage-check")
+                        .header("Idempotency-Key", "reused-test-key")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                // Then:
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorMessage").value("Idempotency key already used with a different request."));
     }
 
     /**
@@ -130,7 +491,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("Bad Request"))
                 .andExpect(jsonPath("$.errorMessage").value("maturityPeriod: must be greater than or equal to 1"));
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -155,7 +516,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("maturityPeriod: must not be null"));
 
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -179,7 +540,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("Bad Request"))
                 .andExpect(jsonPath("$.errorMessage").value("income: must be greater than 0"));
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -204,7 +565,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("income: must not be null"));
 
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -228,7 +589,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("Bad Request"))
                 .andExpect(jsonPath("$.errorMessage").value("loanValue: must be greater than 0"));
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -252,7 +613,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("Bad Request"))
                 .andExpect(jsonPath("$.errorMessage").value("loanValue: must not be null"));
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -276,7 +637,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("Bad Request"))
                 .andExpect(jsonPath("$.errorMessage").value("homeValue: must be greater than 0"));
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
     /**
@@ -300,7 +661,7 @@ class MortgageAPIControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("Bad Request"))
                 .andExpect(jsonPath("$.errorMessage").value("homeValue: must not be null"));
 
-        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any(), any(), any(), any());
+        verify(checkMortgageFeasibilityUseCase, never()).checkMortgageFeasibility(any());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogLinearHistogramTest {
+
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
+
+    /**
+     * Checks every value falls in a bucket whose upper bound is at most 12.5% above it, up to the largest long
+     */
+    @Test
+    void bucketOf_Given_values_of_any_magnitude_Then_bound_them_within_precision() {
+        // Given:
+        long[] values = LongStream.concat(LongStream.range(0, 4096),
+                IntStream.range(12, 63).mapToLong(exponent -> (1L << exponent) + 12345)).toArray();
+
+        // When: Then:
+        for (long value : values) {
+            long upperBound = LogLinearHistogram.upperBoundOf(LogLinearHistogram.bucketOf(value));
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat(upperBound - value).isLessThanOrEqualTo(value / 8);
+        }
+        assertThat(LogLinearHistogram.upperBoundOf(LogLinearHistogram.bucketOf(Long.MAX_VALUE)))
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks a snapshot reports the count, mean, maximum and the percentiles within the precision of the buckets
+     */
+    @Test
+    void snapshot_Given_recorded_values_Then_return_percentiles() {
+        // Given:
+        LongStream.rangeClosed(1, 1000).forEach(histogram::record);
+        histogram.record(-1);
+
+        // When:
+        LogLinearHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then:
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.mean()).isEqualTo(500);
+        assertThat(snapshot.max()).isEqualTo(1000);
+        assertThat(snapshot.p50()).isBetween(500L, 500L + 500 / 8);
+        assertThat(snapshot.p90()).isBetween(900L, 900L + 900 / 8);
+        assertThat(snapshot.p99()).isBetween(990L, 1000L);
+    }
+
+    /**
+     * Checks a reset starts an empty histogram
+     */
+    @Test
+    void reset_Given_recorded_values_Then_return_empty_snapshot() {
+        // Given:
+        histogram.record(42);
+
+        // When:
+        histogram.reset();
+
+        // Then:
+        assertThat(histogram.snapshot()).isEqualTo(new LogLinearHistogram.Snapshot(0, 0, 0, 0, 0, 0));
+    }
+}
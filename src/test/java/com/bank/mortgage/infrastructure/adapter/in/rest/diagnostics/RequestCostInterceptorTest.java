@@ -0,0 +1,80 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.port.in.CheckMortgageFeasibilityUseCase;
+import com.bank.mortgage.domain.port.in.CompareRefinanceOptionsUseCase;
+import com.bank.mortgage.domain.port.in.GetMortgageQuoteUseCase;
+import com.bank.mortgage.domain.port.in.ProjectVariableRateMortgageUseCase;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.SimulateOverpaymentsUseCase;
+import com.bank.mortgage.infrastructure.adapter.in.rest.controller.MortgageAPIController;
+import com.bank.mortgage.infrastructure.adapter.in.rest.exception.GlobalExceptionHandler;
+import com.bank.mortgage.infrastructure.adapter.in.rest.idempotency.IdempotencyStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestCostInterceptorTest {
+
+    private final SearchMortgageRatesUseCase searchMortgageRatesUseCase = mock(SearchMortgageRatesUseCase.class);
+
+    private final RequestCostRecorder recorder = new RequestCostRecorder();
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new MortgageAPIController(searchMortgageRatesUseCase,
+                    mock(CheckMortgageFeasibilityUseCase.class), mock(GetMortgageQuoteUseCase.class),
+                    mock(ProjectVariableRateMortgageUseCase.class), mock(SimulateOverpaymentsUseCase.class),
+                    mock(CompareRefinanceOptionsUseCase.class), new IdempotencyStore<>(Duration.ofMinutes(1), 10)))
+            .addInterceptors(RequestCostInterceptor.forController(MortgageAPIController.class, recorder))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    /**
+     * Checks every request is measured under the name of its handler method and the series of its status
+     */
+    @Test
+    void afterCompletion_Given_requests_Then_record_cost_per_endpoint_and_outcome() throws Exception {
+        // Given:
+        when(searchMortgageRatesUseCase.searchMortgageRates(any())).thenReturn(new MortgageRatePage(List.of(), false));
+
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/interest-rates")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/interest-rates").param("product", "VARIABLE")).andExpect(status().isBadRequest());
+
+        // Then:
+        Map<String, RequestCostRecorder.RequestCostSnapshot> outcomes = recorder.snapshot().get("getInterestRates");
+        assertThat(outcomes).containsOnlyKeys("SUCCESSFUL", "CLIENT_ERROR");
+        assertThat(outcomes.get("SUCCESSFUL").allocatedBytes().count()).isEqualTo(2);
+        assertThat(outcomes.get("SUCCESSFUL").allocatedBytes().mean()).isPositive();
+        assertThat(outcomes.get("SUCCESSFUL").cpuTimeNanos().count()).isEqualTo(2);
+        assertThat(outcomes.get("CLIENT_ERROR").allocatedBytes().count()).isEqualTo(1);
+    }
+
+    /**
+     * Checks the recorder forgets the measured requests on reset, keeping the endpoints it has seen
+     */
+    @Test
+    void reset_Given_measured_requests_Then_start_new_measurement() throws Exception {
+        // Given:
+        when(searchMortgageRatesUseCase.searchMortgageRates(any())).thenReturn(new MortgageRatePage(List.of(), false));
+        mockMvc.perform(get("/v1/api/interest-rates")).andExpect(status().isOk());
+
+        // When:
+        recorder.reset();
+
+        // Then:
+        assertThat(recorder.snapshot()).containsEntry("getInterestRates", Map.of());
+    }
+}
@@ -0,0 +1,64 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.diagnostics;
+
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.port.in.CheckMortgageFeasibilityUseCase;
+import com.bank.mortgage.domain.port.in.CompareRefinanceOptionsUseCase;
+import com.bank.mortgage.domain.port.in.GetMortgageQuoteUseCase;
+import com.bank.mortgage.domain.port.in.ProjectVariableRateMortgageUseCase;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.SimulateOverpaymentsUseCase;
+import com.bank.mortgage.infrastructure.adapter.in.rest.controller.MortgageAPIController;
+import com.bank.mortgage.infrastructure.adapter.in.rest.exception.GlobalExceptionHandler;
+import com.bank.mortgage.infrastructure.adapter.in.rest.idempotency.IdempotencyStore;
+import com.bank.mortgage.infrastructure.timing.ServerTiming;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ServerTimingFilterTest {
+
+    private final SearchMortgageRatesUseCase searchMortgageRatesUseCase = mock(SearchMortgageRatesUseCase.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new MortgageAPIController(searchMortgageRatesUseCase,
+                    mock(CheckMortgageFeasibilityUseCase.class), mock(GetMortgageQuoteUseCase.class),
+                    mock(ProjectVariableRateMortgageUseCase.class), mock(SimulateOverpaymentsUseCase.class),
+                    mock(CompareRefinanceOptionsUseCase.class), new IdempotencyStore<>(Duration.ofMinutes(1), 10)))
+            .addFilters(new ServerTimingFilter())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    /**
+     * Checks the response carries every stage, the rate lookups with their source, and the buffered body
+     */
+    @Test
+    void doFilter_Given_request_Then_send_server_timing_header_and_body() throws Exception {
+        // Given:
+        when(searchMortgageRatesUseCase.searchMortgageRates(any())).thenAnswer(invocation -> {
+            ServerTiming.rateLookup(TimeUnit.MILLISECONDS.toNanos(2), true);
+            return new MortgageRatePage(List.of(), false);
+        });
+
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates"))
+                // Then:
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, matchesPattern(
+                        "parse;dur=\\d+\\.\\d{3}, rate-lookup;dur=2\\.000;desc=\"database\", compute;dur=\\d+\\.\\d{3}, "
+                                + "serialize;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")));
+    }
+}
@@ -0,0 +1,155 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.idempotency;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private final IdempotencyStore<String, String> store =
+            new IdempotencyStore<>(Duration.ofSeconds(10), 3, clock::get);
+
+    /**
+     * Checks a retry with the same key and request gets the stored response without computing it again
+     */
+    @Test
+    void execute_Given_same_key_and_request_Then_replay_stored_response() {
+        // When:
+        IdempotencyStore.Outcome<String> first = store.execute("key", "request", this::compute);
+        IdempotencyStore.Outcome<String> retry = store.execute("key", "request", this::compute);
+
+        // Then:
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response()).isEqualTo(first.response());
+        assertThat(computations).hasValue(1);
+    }
+
+    /**
+     * Checks a key can't be reused for a different request
+     */
+    @Test
+    void execute_Given_same_key_and_different_request_Then_throw_IdempotencyKeyReusedException() {
+        // Given:
+        store.execute("key", "request", this::compute);
+
+        // When - Then:
+        assertThatExceptionOfType(IdempotencyKeyReusedException.class)
+                .isThrownBy(() -> store.execute("key", "other request", this::compute));
+    }
+
+    /**
+     * Checks concurrent duplicates wait for the computation in progress instead of computing again
+     */
+    @Test
+    void execute_Given_concurrent_duplicates_Then_compute_once() throws Exception {
+        // Given:
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When:
+        Future<IdempotencyStore.Outcome<String>> first = executor.submit(() -> store.execute("key", "request", () -> {
+            computing.countDown();
+            await(release);
+            return compute();
+        }));
+        computing.await();
+        List<Future<IdempotencyStore.Outcome<String>>> duplicates = IntStream.range(0, 3)
+                .mapToObj(i -> executor.submit(() -> store.execute("key", "request", this::compute)))
+                .toList();
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then:
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        for (Future<IdempotencyStore.Outcome<String>> duplicate : duplicates) {
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+            assertThat(duplicate.get().response()).isEqualTo("response-1");
+        }
+        assertThat(computations).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Checks failures are not stored, so a retry computes again
+     */
+    @Test
+    void execute_Given_failed_computation_Then_compute_again_on_retry() {
+        // Given:
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> store.execute("key", "request", () -> {
+            throw new IllegalStateException("Database down");
+        }));
+
+        // When:
+        IdempotencyStore.Outcome<String> retry = store.execute("key", "request", this::compute);
+
+        // Then:
+        assertThat(retry.replayed()).isFalse();
+        assertThat(computations).hasValue(1);
+    }
+
+    /**
+     * Checks keys expire after the ttl
+     */
+    @Test
+    void execute_Given_expired_key_Then_compute_again() {
+        // Given:
+        store.execute("key", "request", this::compute);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // When:
+        IdempotencyStore.Outcome<String> afterTtl = store.execute("key", "other request", this::compute);
+
+        // Then:
+        assertThat(afterTtl.replayed()).isFalse();
+        assertThat(computations).hasValue(2);
+    }
+
+    /**
+     * Checks the oldest keys are evicted to keep the store bounded
+     */
+    @Test
+    void execute_Given_store_full_Then_evict_oldest_key() {
+        // Given:
+        IntStream.range(0, 5).forEach(i -> store.execute("key-" + i, "request", this::compute));
+
+        // When:
+        IdempotencyStore.Outcome<String> evicted = store.execute("key-0", "request", this::compute);
+        IdempotencyStore.Outcome<String> kept = store.execute("key-4", "request", this::compute);
+
+        // Then:
+        assertThat(store.size()).isLessThanOrEqualTo(3);
+        assertThat(evicted.replayed()).isFalse();
+        assertThat(kept.replayed()).isTrue();
+    }
+
+    private String compute() {
+        return "response-" + computations.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
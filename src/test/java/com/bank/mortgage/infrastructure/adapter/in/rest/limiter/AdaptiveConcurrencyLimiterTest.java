@@ -0,0 +1,97 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    /**
+     * Checks requests over the limit are rejected and released slots can be reused
+     */
+    @Test
+    void tryAcquire_Given_limit_reached_Then_reject_until_released() {
+        // Given:
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2);
+
+        // When:
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+        limiter.release(1_000_000, true);
+        boolean fourth = limiter.tryAcquire();
+
+        // Then:
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(fourth).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    /**
+     * Checks the limit grows while latency is stable and the limiter is saturated
+     */
+    @Test
+    void release_Given_stable_latency_under_saturation_Then_limit_grows() {
+        // Given:
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0.5);
+
+        // When:
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter);
+            drain(limiter, 1_000_000);
+        }
+
+        // Then:
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    /**
+     * Checks the limit shrinks when latency rises above its baseline
+     */
+    @Test
+    void release_Given_rising_latency_Then_limit_shrinks() {
+        // Given:
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100, 0.5);
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter);
+            drain(limiter, 1_000_000);
+        }
+        int limitBeforeSpike = limiter.getLimit();
+
+        // When:
+        for (int i = 0; i < 2; i++) {
+            saturate(limiter);
+            drain(limiter, 20_000_000);
+        }
+
+        // Then:
+        assertThat(limiter.getLimit()).isLessThan(limitBeforeSpike);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(5);
+    }
+
+    /**
+     * Checks invalid limits are rejected
+     */
+    @Test
+    void constructor_Given_invalid_limits_Then_throw_IllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 2, 10, 0.2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 1, 10, 0));
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.tryAcquire()) {
+            // acquire every available slot
+        }
+    }
+
+    private static void drain(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        while (limiter.getInFlight() > 0) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
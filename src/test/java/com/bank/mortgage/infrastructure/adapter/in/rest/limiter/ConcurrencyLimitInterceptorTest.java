@@ -0,0 +1,75 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.limiter;
+
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.port.in.CheckMortgageFeasibilityUseCase;
+import com.bank.mortgage.domain.port.in.CompareRefinanceOptionsUseCase;
+import com.bank.mortgage.domain.port.in.GetMortgageQuoteUseCase;
+import com.bank.mortgage.domain.port.in.ProjectVariableRateMortgageUseCase;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.in.SimulateOverpaymentsUseCase;
+import com.bank.mortgage.infrastructure.adapter.in.rest.controller.MortgageAPIController;
+import com.bank.mortgage.infrastructure.adapter.in.rest.exception.GlobalExceptionHandler;
+import com.bank.mortgage.infrastructure.adapter.in.rest.idempotency.IdempotencyStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final SearchMortgageRatesUseCase searchMortgageRatesUseCase = mock(SearchMortgageRatesUseCase.class);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.2);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new MortgageAPIController(searchMortgageRatesUseCase,
+                    mock(CheckMortgageFeasibilityUseCase.class), mock(GetMortgageQuoteUseCase.class),
+                    mock(ProjectVariableRateMortgageUseCase.class), mock(SimulateOverpaymentsUseCase.class),
+                    mock(CompareRefinanceOptionsUseCase.class), new IdempotencyStore<>(Duration.ofMinutes(1), 10)))
+            .addInterceptors(new ConcurrencyLimitInterceptor("interest-rates", limiter, 3))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    /**
+     * Checks requests within the limit are served and release their slot
+     */
+    @Test
+    void preHandle_Given_free_slot_Then_serve_request() throws Exception {
+        // Given:
+        when(searchMortgageRatesUseCase.searchMortgageRates(any())).thenReturn(new MortgageRatePage(List.of(), false));
+
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates"))
+                // Then:
+                .andExpect(status().isOk());
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * Checks requests over the limit are rejected with 503 and a Retry-After header
+     */
+    @Test
+    void preHandle_Given_limit_reached_Then_return_service_unavailable_with_retry_after() throws Exception {
+        // Given:
+        limiter.tryAcquire();
+
+        // When:
+        mockMvc.perform(get("/v1/api/interest-rates"))
+                // Then:
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.errorCode").value("Service Unavailable"));
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,204 @@
+package com.bank.mortgage.infrastructure.adapter.in.rest.sse;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRateFeed;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRateFeedProperties;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRatesChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class MortgageRateStreamControllerTest {
+
+    private static final LocalDateTime LAST_UPDATE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort = mock(MortgageRateRepositoryPort.class);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor();
+
+    private final ExecutorService writers = Executors.newFixedThreadPool(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final MortgageRateFeed feed = new MortgageRateFeed(mortgageRateRepositoryPort, eventPublisher, null,
+            new MortgageRateFeedProperties(Duration.ofSeconds(5), 10, Duration.ofSeconds(15), Duration.ofMinutes(30),
+                    128, 4));
+
+    private final MortgageRateStreamBroadcaster broadcaster = new MortgageRateStreamBroadcaster(feed, objectMapper,
+            sender, writers, Duration.ofMinutes(30), 128);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new MortgageRateStreamController(broadcaster))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    /**
+     * Checks a new client gets the current rates on connect, then a delta when a rate changes
+     */
+    @Test
+    void streamInterestRates_Given_new_client_Then_send_snapshot_and_deltas() throws Exception {
+        // Given:
+        doAnswer(invocation -> {
+            broadcaster.onMortgageRatesChanged(invocation.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(MortgageRatesChangedEvent.class));
+        when(mortgageRateRepositoryPort.findAllMortgageRates())
+                .thenReturn(List.of(
+                        new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.035"), LAST_UPDATE)))
+                .thenReturn(List.of(
+                        new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.04"), LAST_UPDATE)));
+        feed.poll();
+        long version = feed.snapshot().version();
+
+        // When:
+        MvcResult result = mockMvc.perform(get("/v1/api/interest-rates/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitConnections(1);
+        feed.poll();
+
+        // Then:
+        String content = awaitContent(result, "event:delta");
+        assertThat(content).contains("id:" + version + "\nevent:snapshot\ndata:{\"version\":" + version
+                + ",\"rates\":[{\"product\":\"FIXED\",\"maturityPeriod\":10,\"interestRate\":0.035");
+        assertThat(content).contains("id:" + (version + 1) + "\nevent:delta\ndata:{\"version\":" + (version + 1)
+                + ",\"updated\":[{\"product\":\"FIXED\",\"maturityPeriod\":10,\"interestRate\":0.04");
+        assertThat(content.indexOf("event:snapshot")).isLessThan(content.indexOf("event:delta"));
+    }
+
+    /**
+     * Checks a reconnecting client only gets the changes after its Last-Event-ID
+     */
+    @Test
+    void streamInterestRates_Given_known_last_event_id_Then_resume_with_deltas() throws Exception {
+        // Given:
+        when(mortgageRateRepositoryPort.findAllMortgageRates())
+                .thenReturn(List.of(
+                        new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.035"), LAST_UPDATE)))
+                .thenReturn(List.of(
+                        new MortgageRate(MortgageProduct.GREEN, 10, new BigDecimal("0.033"), LAST_UPDATE)));
+        feed.poll();
+        long lastEventId = feed.snapshot().version();
+        feed.poll();
+
+        // When:
+        MvcResult result = mockMvc.perform(get("/v1/api/interest-rates/stream")
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then:
+        String content = awaitContent(result, "event:delta");
+        assertThat(content).doesNotContain("event:snapshot");
+        assertThat(content).contains("\"updated\":[{\"product\":\"GREEN\",\"maturityPeriod\":10");
+        assertThat(content).contains("\"removed\":[{\"product\":\"FIXED\",\"maturityPeriod\":10}]");
+    }
+
+    /**
+     * Checks a client blocked on its socket does not delay the others, and is disconnected once its queue is full
+     */
+    @Test
+    void onMortgageRatesChanged_Given_slow_client_Then_keep_sending_to_others_and_drop_it() throws Exception {
+        // Given: a client blocked on its first event, with room for 4 more
+        MortgageRateStreamBroadcaster broadcaster = new MortgageRateStreamBroadcaster(feed, objectMapper, sender,
+                writers, Duration.ofMinutes(30), 4);
+        MortgageRate rate = new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.035"), LAST_UPDATE);
+        when(mortgageRateRepositoryPort.findAllMortgageRates()).thenReturn(List.of(rate));
+        feed.poll();
+        long version = feed.snapshot().version();
+
+        CountDownLatch unblock = new CountDownLatch(1);
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) throws IOException {
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        List<Set<DataWithMediaType>> received = new CopyOnWriteArrayList<>();
+        SseEmitter fast = new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                received.add(items);
+            }
+        };
+        broadcaster.connect(slow, null);
+        broadcaster.connect(fast, null);
+        awaitConnections(broadcaster, 2);
+
+        // When: 10 changes, each one received by the fast client before the next
+        for (int change = 1; change <= 10; change++) {
+            broadcaster.onMortgageRatesChanged(new MortgageRatesChangedEvent(version + change, List.of(rate),
+                    List.of(), List.of(rate)));
+            for (int attempt = 0; attempt < 100 && received.size() <= change; attempt++) {
+                Thread.sleep(20);
+            }
+        }
+
+        // Then: the snapshot and the 10 deltas
+        assertThat(received).hasSize(11);
+        assertThat(broadcaster.getConnections()).isEqualTo(1);
+        assertThat(broadcaster.getDroppedConnections()).isEqualTo(1);
+        unblock.countDown();
+    }
+
+    private void awaitConnections(int connections) throws InterruptedException {
+        awaitConnections(broadcaster, connections);
+    }
+
+    private static void awaitConnections(MortgageRateStreamBroadcaster broadcaster, int connections)
+            throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && broadcaster.getConnections() < connections; attempt++) {
+            Thread.sleep(20);
+        }
+        assertThat(broadcaster.getConnections()).isEqualTo(connections);
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        String content = result.getResponse().getContentAsString();
+        // Events are written by a writer thread, so the last one may still be half written
+        for (int attempt = 0; attempt < 100 && !(content.contains(expected) && content.endsWith("\n\n")); attempt++) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
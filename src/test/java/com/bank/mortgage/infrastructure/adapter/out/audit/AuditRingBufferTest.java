@@ -0,0 +1,103 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AuditRingBufferTest {
+
+    /**
+     * Checks claims fail once every slot is in use, and consumed slots can be claimed again
+     */
+    @Test
+    void tryClaim_Given_full_buffer_Then_return_minus_one_until_drained() {
+        // Given:
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(2);
+        publish(ringBuffer, 5);
+        publish(ringBuffer, 10);
+
+        // When:
+        long whenFull = ringBuffer.tryClaim();
+        List<Integer> drained = new ArrayList<>();
+        int count = ringBuffer.drain(slot -> drained.add(slot.maturityPeriod), 10);
+        long afterDrain = ringBuffer.tryClaim();
+
+        // Then:
+        assertThat(whenFull).isEqualTo(-1);
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly(5, 10);
+        assertThat(afterDrain).isEqualTo(2);
+    }
+
+    /**
+     * Checks the consumer stops at the first claimed but not yet published slot, preserving order
+     */
+    @Test
+    void drain_Given_unpublished_slot_Then_stop_before_it() {
+        // Given:
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(4);
+        long first = ringBuffer.tryClaim();
+        publish(ringBuffer, 20);
+
+        // When:
+        int beforePublish = ringBuffer.drain(slot -> {
+        }, 10);
+        ringBuffer.slot(first).maturityPeriod = 15;
+        ringBuffer.publish(first);
+        List<Integer> drained = new ArrayList<>();
+        int afterPublish = ringBuffer.drain(slot -> drained.add(slot.maturityPeriod), 10);
+
+        // Then:
+        assertThat(beforePublish).isZero();
+        assertThat(afterPublish).isEqualTo(2);
+        assertThat(drained).containsExactly(15, 20);
+        assertThat(ringBuffer.isEmpty()).isTrue();
+    }
+
+    /**
+     * Checks a consumer failing in the middle of a batch gets the slot it failed on again, with its data, and not the
+     * slots it already took
+     */
+    @Test
+    void drain_Given_consumer_failing_in_batch_Then_resume_at_failed_slot() {
+        // Given:
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(4);
+        publish(ringBuffer, 5);
+        publish(ringBuffer, 10);
+        publish(ringBuffer, 15);
+        List<Integer> drained = new ArrayList<>();
+
+        // When:
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> ringBuffer.drain(slot -> {
+            if (slot.maturityPeriod == 10) {
+                throw new IllegalStateException("Disk failure");
+            }
+            drained.add(slot.maturityPeriod);
+        }, 10));
+        long claimedAfterFailure = ringBuffer.tryClaim();
+        int count = ringBuffer.drain(slot -> drained.add(slot.maturityPeriod), 2);
+
+        // Then:
+        assertThat(claimedAfterFailure).isEqualTo(3);
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly(5, 10, 15);
+    }
+
+    /**
+     * Checks buffer size must be a power of two, so slots can be indexed with a mask
+     */
+    @Test
+    void constructor_Given_size_not_power_of_two_Then_throw_IllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new AuditRingBuffer(10));
+    }
+
+    private static void publish(AuditRingBuffer ringBuffer, int maturityPeriod) {
+        long sequence = ringBuffer.tryClaim();
+        ringBuffer.slot(sequence).maturityPeriod = maturityPeriod;
+        ringBuffer.publish(sequence);
+    }
+}
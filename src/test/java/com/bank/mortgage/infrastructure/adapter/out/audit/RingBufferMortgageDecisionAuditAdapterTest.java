@@ -0,0 +1,232 @@
+package com.bank.mortgage.infrastructure.adapter.out.audit;
+
+import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageFeasibilityResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferMortgageDecisionAuditAdapterTest {
+
+    @TempDir
+    private Path directory;
+
+    private final MortgageApplicant applicant = new MortgageApplicant(
+            BigDecimal.valueOf(5000), BigDecimal.valueOf(10000), BigDecimal.valueOf(100000));
+
+    private final MortgageFeasibilityResult result = MortgageFeasibilityResult.builder()
+            .feasible(true)
+            .monthlyCost(new BigDecimal("106.07"))
+            .interestRate(new BigDecimal("0.05"))
+            .build();
+
+    /**
+     * Checks every decision recorded concurrently is written and can be read back
+     */
+    @Test
+    void record_Given_concurrent_decisions_Then_write_all_of_them() {
+        // Given:
+        Instant start = Instant.now();
+        RingBufferMortgageDecisionAuditAdapter adapter = adapter(AuditProperties.FullBufferPolicy.BLOCK, 16, "64MB");
+
+        // When:
+        IntStream.range(0, 2000).parallel().forEach(i -> adapter.record(rate(i % 2 == 0 ? 10 : 20), applicant, result));
+        adapter.close();
+
+        // Then:
+        AuditLogReader reader = new AuditLogReader(directory);
+        List<AuditRecord> all = reader.find(start, Instant.now().plusSeconds(1), null);
+        List<AuditRecord> maturity10 = reader.find(start, Instant.now().plusSeconds(1), 10);
+        assertThat(all).hasSize(2000);
+        assertThat(maturity10).hasSize(1000);
+        assertThat(maturity10.get(0).monthlyCost()).isEqualTo(new BigDecimal("106.07"));
+        assertThat(maturity10.get(0).interestRate()).isEqualTo(new BigDecimal("0.05"));
+        assertThat(adapter.getDropped()).isZero();
+    }
+
+    /**
+     * Checks segments roll over when they reach their maximum size, and they are all read
+     */
+    @Test
+    void record_Given_small_segment_size_Then_roll_segments() throws IOException {
+        // Given:
+        Instant start = Instant.now();
+        RingBufferMortgageDecisionAuditAdapter adapter = adapter(AuditProperties.FullBufferPolicy.BLOCK, 16, "1KB");
+
+        // When:
+        for (int i = 0; i < 100; i++) {
+            adapter.record(rate(10), applicant, result);
+        }
+        adapter.close();
+
+        // Then:
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments.count()).isGreaterThan(1);
+        }
+        assertThat(new AuditLogReader(directory).find(start, Instant.now().plusSeconds(1), null)).hasSize(100);
+    }
+
+    /**
+     * Checks an incomplete last line, left by a crash in the middle of a write, is ignored
+     */
+    @Test
+    void find_Given_incomplete_last_line_Then_ignore_it() throws IOException {
+        // Given:
+        Instant start = Instant.now();
+        RingBufferMortgageDecisionAuditAdapter adapter = adapter(AuditProperties.FullBufferPolicy.BLOCK, 16, "64MB");
+        adapter.record(rate(10), applicant, result);
+        adapter.close();
+        try (Stream<Path> segments = Files.list(directory)) {
+            Path segment = segments.findFirst().orElseThrow();
+            Files.writeString(segment, System.currentTimeMillis() + ",10,0.05,50", StandardCharsets.US_ASCII,
+                    StandardOpenOption.APPEND);
+        }
+
+        // When:
+        List<AuditRecord> records = new AuditLogReader(directory).find(start, Instant.now().plusSeconds(1), null);
+
+        // Then:
+        assertThat(records).hasSize(1);
+    }
+
+    /**
+     * Checks a writer failing in the middle of a batch neither loses decisions nor stops the consumer
+     */
+    @Test
+    void record_Given_writer_failing_in_batch_Then_write_all_decisions() throws IOException {
+        // Given:
+        Instant start = Instant.now();
+        AtomicInteger appends = new AtomicInteger();
+        SegmentedAuditLogWriter failingOnce = new SegmentedAuditLogWriter(directory, DataSize.parse("64MB").toBytes(),
+                1024) {
+            @Override
+            void append(AuditSlot slot) throws IOException {
+                if (appends.incrementAndGet() == 3) {
+                    throw new IllegalStateException("Writer failure");
+                }
+                super.append(slot);
+            }
+        };
+        RingBufferMortgageDecisionAuditAdapter adapter = new RingBufferMortgageDecisionAuditAdapter(
+                properties(AuditProperties.FullBufferPolicy.BLOCK, 16, "64MB"), failingOnce);
+
+        // When:
+        for (int i = 0; i < 6; i++) {
+            adapter.record(rate(10 + i), applicant, result);
+        }
+        adapter.close();
+
+        // Then:
+        List<AuditRecord> records = new AuditLogReader(directory).find(start, Instant.now().plusSeconds(1), null);
+        assertThat(records).extracting(AuditRecord::maturityPeriod).containsExactly(10, 11, 12, 13, 14, 15);
+    }
+
+    /**
+     * Checks a segment write failing after part of the buffer is written neither duplicates nor loses a line when the
+     * consumer retries
+     */
+    @Test
+    void record_Given_segment_write_failing_once_Then_write_each_decision_once() throws IOException {
+        // Given: the first write of lines stores half of them, then fails
+        Instant start = Instant.now();
+        AtomicInteger writes = new AtomicInteger();
+        SegmentedAuditLogWriter failingOnce = new SegmentedAuditLogWriter(directory, DataSize.parse("64MB").toBytes(),
+                1024) {
+            @Override
+            int write(ByteBuffer buffer) throws IOException {
+                if (writes.incrementAndGet() != 1) {
+                    return super.write(buffer);
+                }
+                int limit = buffer.limit();
+                buffer.limit(buffer.position() + buffer.remaining() / 2);
+                super.write(buffer);
+                buffer.limit(limit);
+                throw new IOException("Disk failure");
+            }
+        };
+        RingBufferMortgageDecisionAuditAdapter adapter = new RingBufferMortgageDecisionAuditAdapter(
+                properties(AuditProperties.FullBufferPolicy.BLOCK, 64, "64MB"), failingOnce);
+
+        // When: enough decisions to fill the buffer
+        for (int i = 0; i < 30; i++) {
+            adapter.record(rate(10 + i), applicant, result);
+        }
+        adapter.close();
+
+        // Then:
+        List<AuditRecord> records = new AuditLogReader(directory).find(start, Instant.now().plusSeconds(1), null);
+        assertThat(writes).hasValueGreaterThan(1);
+        assertThat(records).extracting(AuditRecord::maturityPeriod)
+                .containsExactlyElementsOf(IntStream.range(10, 40).boxed().toList());
+    }
+
+    /**
+     * Checks a request waits at most the block timeout for a free slot, then drops the decision
+     */
+    @Test
+    void record_Given_full_buffer_and_stalled_writer_Then_drop_after_block_timeout() throws IOException {
+        // Given:
+        CountDownLatch stalled = new CountDownLatch(1);
+        SegmentedAuditLogWriter stalledWriter = new SegmentedAuditLogWriter(directory,
+                DataSize.parse("64MB").toBytes(), 1024) {
+            @Override
+            void append(AuditSlot slot) throws IOException {
+                try {
+                    stalled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.append(slot);
+            }
+        };
+        RingBufferMortgageDecisionAuditAdapter adapter = new RingBufferMortgageDecisionAuditAdapter(
+                properties(AuditProperties.FullBufferPolicy.BLOCK, 2, "64MB"), stalledWriter);
+
+        // When:
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            adapter.record(rate(10), applicant, result);
+        }
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+        stalled.countDown();
+        adapter.close();
+
+        // Then:
+        assertThat(adapter.getDropped()).isPositive();
+        assertThat(waited).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private RingBufferMortgageDecisionAuditAdapter adapter(AuditProperties.FullBufferPolicy policy, int bufferSize,
+                                                           String segmentSize) {
+        return new RingBufferMortgageDecisionAuditAdapter(properties(policy, bufferSize, segmentSize));
+    }
+
+    private AuditProperties properties(AuditProperties.FullBufferPolicy policy, int bufferSize, String segmentSize) {
+        return new AuditProperties(directory, bufferSize, policy, Duration.ofMillis(200), DataSize.parse(segmentSize),
+                Duration.ofMillis(100), 8);
+    }
+
+    private static MortgageRate rate(int maturityPeriod) {
+        return new MortgageRate(MortgageProduct.FIXED, maturityPeriod, new BigDecimal("0.05"), LocalDateTime.now());
+    }
+}
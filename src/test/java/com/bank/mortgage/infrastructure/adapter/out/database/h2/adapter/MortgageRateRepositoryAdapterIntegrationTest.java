@@ -1,6 +1,9 @@
 package com.bank.mortgage.infrastructure.adapter.out.database.h2.adapter;
 
+import com.bank.mortgage.domain.entity.MortgageProduct;
 import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntity;
 import com.bank.mortgage.infrastructure.adapter.out.database.h2.repository.MortgageRateRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,15 +11,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@ActiveProfiles("test")
 @ComponentScan(basePackages = "com.bank.mortgage")
 public class MortgageRateRepositoryAdapterIntegrationTest {
 
@@ -28,7 +34,7 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        mortgageRateRepository.deleteAll();  // Clean database
+        mortgageRateRepository.deleteAllInBatch();  // Clean database before the seeded maturities are reused
     }
 
     /**
@@ -41,6 +47,7 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
         BigDecimal mortgageRate1InterestRate = new BigDecimal("0.035");
         LocalDateTime mortgageRate1LastUpdate = LocalDateTime.now();
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .id(1L)
                 .maturityPeriod(mortgageRate1MaturityPeriod)
                 .interestRate(mortgageRate1InterestRate)
@@ -51,6 +58,7 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
         BigDecimal mortgageRate2InterestRate = new BigDecimal("0.04");
         LocalDateTime mortgageRate2LastUpdate = LocalDateTime.now();
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .id(2L)
                 .maturityPeriod(mortgageRate2MaturityPeriod)
                 .interestRate(mortgageRate2InterestRate)
@@ -83,15 +91,16 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
     }
 
     /**
-     * Checks findByMaturityPeriod find related mortgage rate by maturity
+     * Checks findByProductAndMaturityPeriod find related mortgage rate by maturity
      */
     @Test
-    void findByMaturityPeriod_Given_existing_mortgage_rate_Then_find_by_maturity() {
+    void findByProductAndMaturityPeriod_Given_existing_mortgage_rate_Then_find_by_maturity() {
         // Given:
         int mortgageRate1MaturityPeriod = 4;
         BigDecimal mortgageRate1InterestRate = new BigDecimal("0.035");
         LocalDateTime mortgageRate1LastUpdate = LocalDateTime.now();
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .id(1L)
                 .maturityPeriod(mortgageRate1MaturityPeriod)
                 .interestRate(mortgageRate1InterestRate)
@@ -102,6 +111,7 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
         BigDecimal mortgageRate2InterestRate = new BigDecimal("0.04");
         LocalDateTime mortgageRate2LastUpdate = LocalDateTime.now();
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .id(2L)
                 .maturityPeriod(mortgageRate2MaturityPeriod)
                 .interestRate(mortgageRate2InterestRate)
@@ -112,7 +122,8 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
 
         // When:
         MortgageRate mortgageRate =
-                mortgageRateRepositoryAdapter.findByMaturityPeriod(mortgageRate2MaturityPeriod).orElse(null);
+                mortgageRateRepositoryAdapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED,
+                        mortgageRate2MaturityPeriod).orElse(null);
 
         // Then:
         assertThat(mortgageRate).isNotNull();
@@ -121,15 +132,16 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
     }
 
     /**
-     * Checks findByMaturityPeriod return empty optional if no related mortgage is found for a given maturity
+     * Checks findByProductAndMaturityPeriod return empty optional if no related mortgage is found for a given maturity
      */
     @Test
-    void findByMaturityPeriod_Given_invalid_maturity_Then_return_empty_optional() {
+    void findByProductAndMaturityPeriod_Given_invalid_maturity_Then_return_empty_optional() {
         // Given:
         int mortgageRate1MaturityPeriod = 4;
         BigDecimal mortgageRate1InterestRate = new BigDecimal("0.035");
         LocalDateTime mortgageRate1LastUpdate = LocalDateTime.now();
         MortgageRateEntity mr1 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .id(1L)
                 .maturityPeriod(mortgageRate1MaturityPeriod)
                 .interestRate(mortgageRate1InterestRate)
@@ -140,6 +152,7 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
         BigDecimal mortgageRate2InterestRate = new BigDecimal("0.04");
         LocalDateTime mortgageRate2LastUpdate = LocalDateTime.now();
         MortgageRateEntity mr2 = MortgageRateEntity.builder()
+                .product(MortgageProduct.FIXED)
                 .id(2L)
                 .maturityPeriod(mortgageRate2MaturityPeriod)
                 .interestRate(mortgageRate2InterestRate)
@@ -149,10 +162,70 @@ public class MortgageRateRepositoryAdapterIntegrationTest {
         mortgageRateRepository.saveAll(List.of(mr1, mr2));
 
         // When:
-        Optional<MortgageRate> mortgageRate = mortgageRateRepositoryAdapter.findByMaturityPeriod(15);
+        Optional<MortgageRate> mortgageRate =
+                mortgageRateRepositoryAdapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 15);
 
         // Then:
         assertThat(mortgageRate).isEmpty();
     }
 
-}
\ No newline at end of file
+    /**
+     * Checks findMortgageRates walks the filtered rates page by page, in maturity order, following the last maturity
+     */
+    @Test
+    void findMortgageRates_Given_filters_and_pages_Then_return_each_matching_rate_once() {
+        // Given:
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+        mortgageRateRepository.saveAll(IntStream.rangeClosed(1, 40)
+                .mapToObj(maturity -> MortgageRateEntity.builder()
+                        .product(MortgageProduct.FIXED)
+                        .maturityPeriod(maturity)
+                        .interestRate(new BigDecimal("0.03"))
+                        // Odd maturities were updated before the updated-since filter
+                        .lastUpdate(maturity % 2 == 0 ? since.plusHours(maturity) : since.minusDays(1))
+                        .build())
+                .toList());
+
+        // When:
+        MortgageRatePage first = mortgageRateRepositoryAdapter.findMortgageRates(
+                new MortgageRateQuery(MortgageProduct.FIXED, 10, 30, since, null, 4));
+        MortgageRatePage second = mortgageRateRepositoryAdapter.findMortgageRates(
+                new MortgageRateQuery(MortgageProduct.FIXED, 10, 30, since, first.lastMaturityPeriod(), 4));
+        MortgageRatePage third = mortgageRateRepositoryAdapter.findMortgageRates(
+                new MortgageRateQuery(MortgageProduct.FIXED, 10, 30, since, second.lastMaturityPeriod(), 4));
+
+        // Then:
+        assertThat(first.rates()).extracting(MortgageRate::maturityPeriod).containsExactly(10, 12, 14, 16);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.rates()).extracting(MortgageRate::maturityPeriod).containsExactly(18, 20, 22, 24);
+        assertThat(second.hasNext()).isTrue();
+        assertThat(third.rates()).extracting(MortgageRate::maturityPeriod).containsExactly(26, 28, 30);
+        assertThat(third.hasNext()).isFalse();
+        assertThat(third.lastMaturityPeriod()).isNull();
+    }
+
+    /**
+     * Checks findMortgageRates without filters returns the first rates of the table
+     */
+    @Test
+    void findMortgageRates_Given_no_filters_Then_return_first_page() {
+        // Given:
+        mortgageRateRepository.saveAll(IntStream.of(30, 5, 20)
+                .mapToObj(maturity -> MortgageRateEntity.builder()
+                        .product(MortgageProduct.FIXED)
+                        .maturityPeriod(maturity)
+                        .interestRate(new BigDecimal("0.03"))
+                        .lastUpdate(LocalDateTime.now())
+                        .build())
+                .toList());
+
+        // When:
+        MortgageRatePage page = mortgageRateRepositoryAdapter.findMortgageRates(
+                new MortgageRateQuery(MortgageProduct.FIXED, null, null, null, null, 100));
+
+        // Then:
+        assertThat(page.rates()).extracting(MortgageRate::maturityPeriod).containsExactly(5, 20, 30);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+}
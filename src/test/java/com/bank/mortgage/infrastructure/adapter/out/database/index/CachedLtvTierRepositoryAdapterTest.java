@@ -0,0 +1,65 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.index;
+
+import com.bank.mortgage.domain.entity.LtvTier;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+class CachedLtvTierRepositoryAdapterTest {
+
+    private final LtvTierRepositoryPort delegate = mock(LtvTierRepositoryPort.class);
+
+    private final LtvTierIndex ltvTierIndex = LtvTierIndex.of(List.of(
+            new LtvTier(BigDecimal.ZERO, BigDecimal.valueOf(0.6), BigDecimal.ZERO)));
+
+    /**
+     * Checks the tiers are read once and served from memory until the refresh interval elapses
+     */
+    @Test
+    void findLtvTierIndex_Given_loaded_tiers_Then_answer_without_database() {
+        // Given:
+        CachedLtvTierRepositoryAdapter adapter = new CachedLtvTierRepositoryAdapter(delegate, Duration.ofHours(1));
+        when(delegate.findLtvTierIndex()).thenReturn(ltvTierIndex);
+
+        // When:
+        LtvTierIndex first = adapter.findLtvTierIndex();
+        LtvTierIndex second = adapter.findLtvTierIndex();
+
+        // Then:
+        assertThat(first).isSameAs(ltvTierIndex);
+        assertThat(second).isSameAs(ltvTierIndex);
+        verify(delegate, times(1)).findLtvTierIndex();
+    }
+
+    /**
+     * Checks the previous tiers are kept when they can't be read again, and an error is only raised if they were
+     * never read
+     */
+    @Test
+    void findLtvTierIndex_Given_database_failure_Then_keep_previous_tiers() {
+        // Given:
+        CachedLtvTierRepositoryAdapter adapter = new CachedLtvTierRepositoryAdapter(delegate, Duration.ZERO);
+        when(delegate.findLtvTierIndex())
+                .thenThrow(new DataAccessResourceFailureException("Database down"))
+                .thenReturn(ltvTierIndex)
+                .thenThrow(new DataAccessResourceFailureException("Database down"));
+
+        // When:
+        // Then:
+        assertThatExceptionOfType(DataAccessResourceFailureException.class)
+                .isThrownBy(adapter::findLtvTierIndex)
+                .withMessage("LTV tiers are not available");
+        assertThat(adapter.findLtvTierIndex()).isSameAs(ltvTierIndex);
+        assertThat(adapter.findLtvTierIndex()).isSameAs(ltvTierIndex);
+        verify(delegate, times(3)).findLtvTierIndex();
+    }
+}
@@ -0,0 +1,246 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.index;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.event.MortgageRateLookupEvent;
+import com.bank.mortgage.domain.model.MortgageRateBracket;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.infrastructure.adapter.out.database.resilience.CircuitBreaker;
+import com.bank.mortgage.infrastructure.adapter.out.database.resilience.ResilientMortgageRateRepositoryAdapter;
+import com.bank.mortgage.infrastructure.ratefeed.MortgageRatesChangedEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class IndexedMortgageRateRepositoryAdapterTest {
+
+    private final MortgageRateRepositoryPort delegate = mock(MortgageRateRepositoryPort.class);
+
+    private final MortgageRateIndex index = new MortgageRateIndex();
+
+    private final IndexedMortgageRateRepositoryAdapter adapter =
+            new IndexedMortgageRateRepositoryAdapter(delegate, index);
+
+    private final MortgageRate fixedRate10 =
+            new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.035), LocalDateTime.now());
+    private final MortgageRate fixedRate20 =
+            new MortgageRate(MortgageProduct.FIXED, 20, BigDecimal.valueOf(0.045), LocalDateTime.now());
+    private final MortgageRate greenRate10 =
+            new MortgageRate(MortgageProduct.GREEN, 10, BigDecimal.valueOf(0.033), LocalDateTime.now());
+
+    /**
+     * Checks lookups of every product are answered by the index, loaded with a single read of the rates
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_loaded_index_Then_answer_without_database() {
+        // Given:
+        when(delegate.findAllMortgageRates()).thenReturn(List.of(greenRate10, fixedRate20, fixedRate10));
+
+        // When:
+        Optional<MortgageRate> fixed10 = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        Optional<MortgageRate> green10 = adapter.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10);
+        Optional<MortgageRate> fixed20 = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20);
+        Optional<MortgageRate> green20 = adapter.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 20);
+        Optional<MortgageRate> firstTimeBuyer10 =
+                adapter.findByProductAndMaturityPeriod(MortgageProduct.FIRST_TIME_BUYER, 10);
+
+        // Then:
+        assertThat(fixed10).contains(fixedRate10);
+        assertThat(green10).contains(greenRate10);
+        assertThat(fixed20).contains(fixedRate20);
+        assertThat(green20).isEmpty();
+        assertThat(firstTimeBuyer10).isEmpty();
+        verify(delegate, times(1)).findAllMortgageRates();
+        verify(delegate, never()).findByProductAndMaturityPeriod(any(), any());
+    }
+
+    /**
+     * Checks the rates around a maturity period are the neighbours of the same product in the index
+     */
+    @Test
+    void findBracketByProductAndMaturityPeriod_Given_loaded_index_Then_return_rates_of_product_around_maturity() {
+        // Given:
+        when(delegate.findAllMortgageRates()).thenReturn(List.of(greenRate10, fixedRate20, fixedRate10));
+
+        // When:
+        MortgageRateBracket fixed12 = adapter.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, 12);
+        MortgageRateBracket fixed20 = adapter.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, 20);
+        MortgageRateBracket fixed25 = adapter.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, 25);
+        MortgageRateBracket green5 = adapter.findBracketByProductAndMaturityPeriod(MortgageProduct.GREEN, 5);
+        MortgageRateBracket firstTimeBuyer10 =
+                adapter.findBracketByProductAndMaturityPeriod(MortgageProduct.FIRST_TIME_BUYER, 10);
+
+        // Then:
+        assertThat(fixed12).isEqualTo(new MortgageRateBracket(fixedRate10, fixedRate20));
+        assertThat(fixed20).isEqualTo(new MortgageRateBracket(fixedRate20, fixedRate20));
+        assertThat(fixed25).isEqualTo(new MortgageRateBracket(fixedRate20, null));
+        assertThat(green5).isEqualTo(new MortgageRateBracket(null, greenRate10));
+        assertThat(firstTimeBuyer10).isEqualTo(new MortgageRateBracket(null, null));
+        verify(delegate, times(1)).findAllMortgageRates();
+    }
+
+    /**
+     * Checks the index is loaded again after it was invalidated by a write or a rate change
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_invalidated_index_Then_reload_rates() {
+        // Given:
+        MortgageRate newFixedRate10 =
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.03), LocalDateTime.now());
+        when(delegate.findAllMortgageRates())
+                .thenReturn(List.of(fixedRate10))
+                .thenReturn(List.of(newFixedRate10))
+                .thenReturn(List.of(newFixedRate10, greenRate10));
+
+        // When:
+        Optional<MortgageRate> beforeWrite = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        index.invalidate();
+        Optional<MortgageRate> afterWrite = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        index.onMortgageRatesChanged(new MortgageRatesChangedEvent(2, List.of(greenRate10), List.of(),
+                List.of(newFixedRate10, greenRate10)));
+        Optional<MortgageRate> afterChange = adapter.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10);
+
+        // Then:
+        assertThat(beforeWrite).contains(fixedRate10);
+        assertThat(afterWrite).contains(newFixedRate10);
+        assertThat(afterChange).contains(greenRate10);
+        verify(delegate, times(3)).findAllMortgageRates();
+    }
+
+    /**
+     * Checks stale rates served during a database outage are not indexed, so the rates are read again once it's back
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_stale_rates_Then_ask_delegate_and_keep_index_unloaded() {
+        // Given:
+        when(delegate.findAllMortgageRates())
+                .thenReturn(List.of(fixedRate10.asStale()))
+                .thenReturn(List.of(fixedRate10));
+        when(delegate.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .thenReturn(Optional.of(fixedRate10.asStale()));
+
+        // When:
+        Optional<MortgageRate> duringOutage = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        Optional<MortgageRate> afterOutage = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+
+        // Then:
+        assertThat(duringOutage).contains(fixedRate10.asStale());
+        assertThat(afterOutage).contains(fixedRate10);
+        verify(delegate, times(1)).findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        assertThat(index.current()).isNotNull();
+    }
+
+    /**
+     * Checks a snapshot loaded from rates read before an invalidation is not current, so it's loaded again
+     */
+    @Test
+    void load_Given_invalidation_while_reading_Then_snapshot_is_not_current() {
+        // Given:
+        long generation = index.generation();
+        index.invalidate();
+
+        // When:
+        MortgageRateIndex.Snapshot snapshot = index.load(List.of(fixedRate10), generation);
+
+        // Then:
+        assertThat(snapshot.find(MortgageProduct.FIXED, 10)).isEqualTo(fixedRate10);
+        assertThat(index.current()).isNull();
+    }
+
+    /**
+     * Checks lookups answered by the index are recorded as Flight Recorder events, hits and misses
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_recording_Then_record_index_lookups(@TempDir Path directory)
+            throws IOException {
+        // Given:
+        when(delegate.findAllMortgageRates()).thenReturn(List.of(fixedRate10));
+
+        // When:
+        Path recordingFile = directory.resolve("lookups.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MortgageRateLookupEvent.class);
+            recording.start();
+            adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+            adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then:
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+                .filteredOn(event -> event.getEventType().getName().equals("com.bank.mortgage.MortgageRateLookup"))
+                .extracting(event -> event.getInt("maturityPeriod"), event -> event.getBoolean("hit"),
+                        event -> event.getString("source"))
+                .containsExactly(tuple(10, true, "index"), tuple(20, false, "index"));
+    }
+
+    /**
+     * Checks the indexed rates are flagged as stale while the circuit breaker of the database is open, and fresh
+     * again once a database call succeeds
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_open_circuit_breaker_Then_return_stale_indexed_rates() {
+        // Given: the index is loaded, then the rate feed fails to read the table and opens the breaker
+        ExecutorService bulkhead = Executors.newSingleThreadExecutor();
+        ResilientMortgageRateRepositoryAdapter resilientAdapter = new ResilientMortgageRateRepositoryAdapter(delegate,
+                bulkhead, new CircuitBreaker(1, Duration.ofMillis(200)), Duration.ofSeconds(1));
+        IndexedMortgageRateRepositoryAdapter adapter =
+                new IndexedMortgageRateRepositoryAdapter(resilientAdapter, index, resilientAdapter::isDegraded);
+        when(delegate.findAllMortgageRates())
+                .thenReturn(List.of(fixedRate10, fixedRate20))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(List.of(fixedRate10, fixedRate20));
+        try {
+            assertThat(adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10).orElseThrow().stale())
+                    .isFalse();
+            adapter.findAllMortgageRates();
+
+            // When:
+            Optional<MortgageRate> duringOutage = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+            MortgageRateBracket bracketDuringOutage =
+                    adapter.findBracketByProductAndMaturityPeriod(MortgageProduct.FIXED, 15);
+            await(() -> resilientAdapter.getCircuitBreakerState() == CircuitBreaker.State.HALF_OPEN);
+            adapter.findAllMortgageRates();
+            Optional<MortgageRate> afterOutage = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+
+            // Then:
+            assertThat(resilientAdapter.isDegraded()).isFalse();
+            assertThat(duringOutage.orElseThrow().stale()).isTrue();
+            assertThat(duringOutage.get().interestRate()).isEqualTo(fixedRate10.interestRate());
+            assertThat(bracketDuringOutage.lower().stale()).isTrue();
+            assertThat(bracketDuringOutage.upper().stale()).isTrue();
+            assertThat(afterOutage.orElseThrow().stale()).isFalse();
+        } finally {
+            bulkhead.shutdownNow();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        for (int attempt = 0; attempt < 100 && !condition.getAsBoolean(); attempt++) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
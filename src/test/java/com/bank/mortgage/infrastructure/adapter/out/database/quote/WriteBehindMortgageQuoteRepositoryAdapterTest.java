@@ -0,0 +1,174 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.quote;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageQuote;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindMortgageQuoteRepositoryAdapterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    /**
+     * Checks saved quotes are found in memory without querying the table, before and after they are written
+     */
+    @Test
+    void findById_Given_saved_quote_Then_return_it_from_memory() {
+        // Given:
+        WriteBehindMortgageQuoteRepositoryAdapter adapter = adapter(500, 10);
+        MortgageQuote mortgageQuote = quote();
+        adapter.save(mortgageQuote);
+
+        // When:
+        MortgageQuote beforeWrite = adapter.findById(mortgageQuote.id()).orElseThrow();
+        adapter.close();
+        MortgageQuote afterWrite = adapter.findById(mortgageQuote.id()).orElseThrow();
+
+        // Then:
+        assertThat(beforeWrite).isEqualTo(mortgageQuote);
+        assertThat(afterWrite).isEqualTo(mortgageQuote);
+        verify(jdbcTemplate, never()).query(any(String.class), any(RowMapper.class), any(Object[].class));
+    }
+
+    /**
+     * Checks queued quotes are written with batch inserts no larger than the batch size
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void save_Given_many_quotes_Then_write_them_in_batches() {
+        // Given:
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(WriteBehindMortgageQuoteRepositoryAdapter.INSERT_SQL), anyCollection(),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    // The batch list is reused by the writer, so its size is taken at call time
+                    batchSizes.add(invocation.<Collection<MortgageQuote>>getArgument(1).size());
+                    return new int[0][];
+                });
+        WriteBehindMortgageQuoteRepositoryAdapter adapter = adapter(100, 10);
+
+        // When:
+        IntStream.range(0, 1000).forEach(i -> adapter.save(quote()));
+        adapter.close();
+
+        // Then:
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(100));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1000);
+    }
+
+    /**
+     * Checks a failed batch insert is retried, and the quotes stay available while they are not written
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void save_Given_failing_insert_Then_retry_batch() {
+        // Given:
+        when(jdbcTemplate.batchUpdate(any(String.class), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database down"))
+                .thenReturn(new int[0][]);
+        WriteBehindMortgageQuoteRepositoryAdapter adapter = adapter(500, 10);
+        MortgageQuote mortgageQuote = quote();
+
+        // When:
+        adapter.save(mortgageQuote);
+        adapter.close();
+
+        // Then:
+        verify(jdbcTemplate, times(2)).batchUpdate(any(String.class), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(adapter.findById(mortgageQuote.id())).contains(mortgageQuote);
+    }
+
+    /**
+     * Checks a quote the database rejects is set aside, and the other quotes of its batch are still written
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void save_Given_quote_rejected_by_database_Then_write_the_rest_of_the_batch() {
+        // Given:
+        MortgageQuote rejected = quote();
+        List<UUID> written = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(WriteBehindMortgageQuoteRepositoryAdapter.INSERT_SQL), anyCollection(),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<MortgageQuote> quotes = invocation.getArgument(1);
+                    if (quotes.contains(rejected)) {
+                        throw new DataIntegrityViolationException("Value too long for column DECIMAL(19,4)");
+                    }
+                    quotes.forEach(quote -> written.add(quote.id()));
+                    return new int[0][];
+                });
+        WriteBehindMortgageQuoteRepositoryAdapter adapter = adapter(100, 10);
+        List<MortgageQuote> accepted = List.of(quote(), quote(), quote(), quote());
+
+        // When:
+        adapter.save(accepted.get(0));
+        adapter.save(accepted.get(1));
+        adapter.save(rejected);
+        adapter.save(accepted.get(2));
+        adapter.save(accepted.get(3));
+        adapter.close();
+
+        // Then:
+        assertThat(written).containsExactlyInAnyOrderElementsOf(accepted.stream().map(MortgageQuote::id).toList());
+        assertThat(adapter.rejectedQuotes()).isEqualTo(1);
+    }
+
+    /**
+     * Checks quotes evicted from memory are read from the table
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void findById_Given_quote_not_in_memory_Then_query_table() {
+        // Given:
+        WriteBehindMortgageQuoteRepositoryAdapter adapter = adapter(500, 1);
+        MortgageQuote evicted = quote();
+        adapter.save(evicted);
+        adapter.save(quote());
+        adapter.close();
+        when(jdbcTemplate.query(eq(WriteBehindMortgageQuoteRepositoryAdapter.SELECT_BY_ID_SQL), any(RowMapper.class),
+                eq(evicted.id()))).thenReturn(List.of(evicted));
+
+        // When:
+        MortgageQuote result = adapter.findById(evicted.id()).orElseThrow();
+
+        // Then:
+        assertThat(result).isEqualTo(evicted);
+    }
+
+    private WriteBehindMortgageQuoteRepositoryAdapter adapter(int batchSize, int recentCapacity) {
+        return new WriteBehindMortgageQuoteRepositoryAdapter(jdbcTemplate, new QuoteStoreProperties(10000,
+                Duration.ofSeconds(1), batchSize, Duration.ofMillis(20), Duration.ofMillis(10), recentCapacity));
+    }
+
+    private static MortgageQuote quote() {
+        return new MortgageQuote(UUID.randomUUID(), MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.05),
+                BigDecimal.valueOf(5000), BigDecimal.valueOf(10000), BigDecimal.valueOf(100000), true,
+                new BigDecimal("106.07"), LocalDateTime.now());
+    }
+}
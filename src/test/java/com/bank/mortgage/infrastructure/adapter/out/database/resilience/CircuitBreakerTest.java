@@ -0,0 +1,82 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(10), clock::get);
+
+    /**
+     * Checks the breaker opens after the configured consecutive failures
+     */
+    @Test
+    void onFailure_Given_consecutive_failures_over_threshold_Then_open() {
+        // When:
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        boolean permittedBeforeThreshold = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        // Then:
+        assertThat(permittedBeforeThreshold).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    /**
+     * Checks a success resets the consecutive failures count
+     */
+    @Test
+    void onSuccess_Given_failures_under_threshold_Then_reset_count() {
+        // When:
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // Then:
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    /**
+     * Checks a single trial call is allowed once the open period is over, and its outcome decides the next state
+     */
+    @Test
+    void tryAcquirePermission_Given_open_period_over_Then_allow_single_trial_call() {
+        // Given:
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // When:
+        boolean trial = circuitBreaker.tryAcquirePermission();
+        boolean concurrentTrial = circuitBreaker.tryAcquirePermission();
+
+        // Then:
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(trial).isTrue();
+        assertThat(concurrentTrial).isFalse();
+
+        // Failed trial opens the breaker again
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // Successful trial closes it
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
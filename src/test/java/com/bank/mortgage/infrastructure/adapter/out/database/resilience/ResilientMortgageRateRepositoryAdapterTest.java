@@ -0,0 +1,142 @@
+package com.bank.mortgage.infrastructure.adapter.out.database.resilience;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+class ResilientMortgageRateRepositoryAdapterTest {
+
+    private final MortgageRateRepositoryPort delegate = mock(MortgageRateRepositoryPort.class);
+
+    private final ExecutorService bulkhead = Executors.newFixedThreadPool(2);
+
+    private final ResilientMortgageRateRepositoryAdapter adapter = new ResilientMortgageRateRepositoryAdapter(
+            delegate, bulkhead, new CircuitBreaker(2, Duration.ofMinutes(1)), Duration.ofMillis(200));
+
+    private final MortgageRate rate10 =
+            new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.035), LocalDateTime.now());
+    private final MortgageRate rate20 =
+            new MortgageRate(MortgageProduct.FIXED, 20, BigDecimal.valueOf(0.045), LocalDateTime.now());
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.shutdownNow();
+    }
+
+    /**
+     * Checks rates from an available database are returned as they are
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_available_database_Then_return_fresh_rate() {
+        // Given:
+        when(delegate.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10)).thenReturn(Optional.of(rate10));
+
+        // When:
+        Optional<MortgageRate> mortgageRate = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+
+        // Then:
+        assertThat(mortgageRate).contains(rate10);
+        assertThat(mortgageRate.get().stale()).isFalse();
+    }
+
+    /**
+     * Checks last known rates are served as stale when the database fails, and the circuit opens
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_failing_database_Then_serve_stale_rate_and_open_circuit() {
+        // Given:
+        when(delegate.findAllMortgageRates()).thenReturn(List.of(rate10, rate20));
+        adapter.findAllMortgageRates();
+        when(delegate.findByProductAndMaturityPeriod(any(), any())).thenThrow(new QueryTimeoutException("Database is down"));
+
+        // When:
+        Optional<MortgageRate> first = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20);
+        Optional<MortgageRate> second = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20);
+        Optional<MortgageRate> whileOpen = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20);
+        Optional<MortgageRate> unknown = adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 15);
+
+        // Then:
+        assertThat(first).contains(rate20.asStale());
+        assertThat(second).contains(rate20.asStale());
+        assertThat(whileOpen).contains(rate20.asStale());
+        assertThat(unknown).isEmpty();
+        assertThat(adapter.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        // The third and fourth lookups did not reach the database
+        verify(delegate, times(2)).findByProductAndMaturityPeriod(any(), any());
+    }
+
+    /**
+     * Checks a slow database call is abandoned after the timeout and stale rates are served
+     */
+    @Test
+    void findAllMortgageRates_Given_slow_database_Then_serve_stale_rates_after_timeout() {
+        // Given:
+        when(delegate.findAllMortgageRates()).thenReturn(List.of(rate10)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        adapter.findAllMortgageRates();
+
+        // When:
+        long start = System.nanoTime();
+        List<MortgageRate> mortgageRates = adapter.findAllMortgageRates();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then:
+        assertThat(mortgageRates).containsExactly(rate10.asStale());
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    /**
+     * Checks a page is answered from the last known rates, filtered and paged, when the database fails
+     */
+    @Test
+    void findMortgageRates_Given_failing_database_Then_serve_stale_page() {
+        // Given:
+        MortgageRate rate30 = new MortgageRate(MortgageProduct.FIXED, 30, BigDecimal.valueOf(0.055), LocalDateTime.now());
+        when(delegate.findAllMortgageRates()).thenReturn(List.of(rate10, rate20, rate30));
+        adapter.findAllMortgageRates();
+        when(delegate.findMortgageRates(any())).thenThrow(new QueryTimeoutException("Database is down"));
+
+        // When:
+        MortgageRatePage page =
+                adapter.findMortgageRates(new MortgageRateQuery(MortgageProduct.FIXED, 15, null, null, null, 1));
+
+        // Then:
+        assertThat(page.rates()).containsExactly(rate20.asStale());
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    /**
+     * Checks the original error is surfaced as unavailability when there's no last known rate to serve
+     */
+    @Test
+    void findByProductAndMaturityPeriod_Given_failing_database_and_no_known_rates_Then_throw_DataAccessResourceFailureException() {
+        // Given:
+        when(delegate.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .thenThrow(new QueryTimeoutException("Database is down"));
+
+        // When:
+        assertThatExceptionOfType(DataAccessResourceFailureException.class)
+                .isThrownBy(() -> adapter.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .withCauseInstanceOf(QueryTimeoutException.class);
+    }
+}
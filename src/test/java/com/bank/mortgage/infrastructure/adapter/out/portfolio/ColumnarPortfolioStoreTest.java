@@ -0,0 +1,200 @@
+package com.bank.mortgage.infrastructure.adapter.out.portfolio;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.PortfolioLoan;
+import com.bank.mortgage.domain.model.ScoredLoan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarPortfolioStoreTest {
+
+    private final ColumnarPortfolioStore store = new ColumnarPortfolioStore(null, 16, 4);
+
+    /**
+     * Checks loans are found by the product and maturity period of their rate, and a saved loan replaces the loan
+     * with the same id, moving it to its new bucket
+     */
+    @Test
+    void saveAll_Given_loans_Then_bucket_them_by_rate() {
+        // Given:
+        ScoredLoan tenYears = scoredLoan("L-1", MortgageProduct.FIXED, 10);
+        ScoredLoan twentyYears = scoredLoan("L-2", MortgageProduct.FIXED, 20);
+        ScoredLoan green = scoredLoan("L-3", MortgageProduct.GREEN, 10);
+
+        // When:
+        store.saveAll(List.of(tenYears, twentyYears, green));
+        ScoredLoan moved = scoredLoan("L-1", MortgageProduct.FIXED, 20);
+        store.saveAll(List.of(moved));
+
+        // Then:
+        assertThat(store.count()).isEqualTo(3);
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10)).isEmpty();
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20))
+                .containsExactlyInAnyOrder(twentyYears, moved);
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 10)).containsExactly(green);
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 30)).isEmpty();
+    }
+
+    /**
+     * Checks the columns and the id index grow past the initial capacity without losing a loan, and a rescored loan
+     * keeps its row
+     */
+    @Test
+    void saveAll_Given_more_loans_than_capacity_Then_grow() {
+        // Given:
+        List<ScoredLoan> loans = IntStream.range(0, 100)
+                .mapToObj(i -> scoredLoan("L-" + i, MortgageProduct.FIXED, 10))
+                .toList();
+        ScoredLoan rescored = new ScoredLoan(loans.get(42).loan(), false, new BigDecimal("0.00"));
+
+        // When:
+        store.saveAll(loans);
+        store.saveAll(List.of(rescored));
+
+        // Then:
+        assertThat(store.count()).isEqualTo(100);
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .hasSize(100)
+                .contains(loans.get(0), loans.get(99), rescored)
+                .doesNotContain(loans.get(42));
+    }
+
+    /**
+     * Checks a scan visits every loan once, split in chunks of the configured size
+     */
+    @Test
+    void scan_Given_loans_Then_visit_every_row_in_chunks() {
+        // Given:
+        store.saveAll(IntStream.range(0, 10)
+                .mapToObj(i -> scoredLoan("L-" + i, MortgageProduct.FIXED, 10 + i))
+                .toList());
+
+        // When:
+        int chunks = store.scan(chunk -> 1, 0, Integer::sum);
+        int maturityPeriods = store.scan(chunk -> IntStream.range(0, chunk.size())
+                .map(chunk::maturityPeriod)
+                .sum(), 0, Integer::sum);
+        double loanValue = store.scan(chunk -> IntStream.range(0, chunk.size())
+                .mapToDouble(chunk::loanValue)
+                .sum(), 0.0, Double::sum);
+
+        // Then:
+        assertThat(chunks).isEqualTo(3);
+        assertThat(maturityPeriods).isEqualTo(145);
+        assertThat(loanValue).isEqualTo(1000000.0);
+    }
+
+    /**
+     * Checks an empty store is scanned without any chunk
+     */
+    @Test
+    void scan_Given_empty_store_Then_return_identity() {
+        // When:
+        int chunks = store.scan(chunk -> 1, 0, Integer::sum);
+
+        // Then:
+        assertThat(chunks).isZero();
+    }
+
+    /**
+     * Checks the columns are memory-mapped files in the configured directory, and grown files keep their rows
+     */
+    @Test
+    void saveAll_Given_directory_Then_map_a_file_per_column(@TempDir Path directory) {
+        // Given:
+        ColumnarPortfolioStore mapped = new ColumnarPortfolioStore(directory, 16, 4);
+        List<ScoredLoan> loans = IntStream.range(0, 20)
+                .mapToObj(i -> scoredLoan("L-" + i, MortgageProduct.GREEN, 30))
+                .toList();
+
+        // When:
+        mapped.saveAll(loans);
+        mapped.close();
+
+        // Then:
+        assertThat(directory.resolve("loan-value.col")).exists().hasSize(32L * Double.BYTES);
+        assertThat(directory.resolve("product.col")).exists().hasSize(32L);
+        assertThat(mapped.findByProductAndMaturityPeriod(MortgageProduct.GREEN, 30))
+                .containsExactlyInAnyOrderElementsOf(loans);
+    }
+
+    /**
+     * Checks only the score of loans stored as they were read is updated: a loan moved to another bucket or saved
+     * with other amounts meanwhile keeps its new row
+     */
+    @Test
+    void updateScores_Given_loans_saved_meanwhile_Then_update_unchanged_loans_only() {
+        // Given: L-2 moves to the 20 years bucket and L-3 gets a new loan value after the 10 years bucket is read
+        store.saveAll(List.of(scoredLoan("L-1", MortgageProduct.FIXED, 10),
+                scoredLoan("L-2", MortgageProduct.FIXED, 10), scoredLoan("L-3", MortgageProduct.FIXED, 10)));
+        List<ScoredLoan> rescored = store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10).stream()
+                .map(read -> new ScoredLoan(read.loan(), false, new BigDecimal("0.00")))
+                .toList();
+        ScoredLoan moved = scoredLoan("L-2", MortgageProduct.FIXED, 20);
+        PortfolioLoan l3 = rescored.get(2).loan();
+        ScoredLoan resaved = new ScoredLoan(new PortfolioLoan("L-3", MortgageProduct.FIXED, 10, l3.income(),
+                BigDecimal.valueOf(90000.0), l3.homeValue()), true, new BigDecimal("900.00"));
+        store.saveAll(List.of(moved, resaved));
+
+        // When:
+        List<ScoredLoan> updated = store.updateScores(rescored);
+
+        // Then:
+        assertThat(updated).containsExactly(rescored.get(0));
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .containsExactlyInAnyOrder(rescored.get(0), resaved);
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20)).containsExactly(moved);
+    }
+
+    /**
+     * Checks a loan id that doesn't fit its column is refused
+     */
+    @Test
+    void saveAll_Given_too_long_loan_id_Then_throw_exception() {
+        // Given:
+        ScoredLoan loan = scoredLoan("L".repeat(ColumnarPortfolioStore.MAX_LOAN_ID_BYTES + 1), MortgageProduct.FIXED,
+                10);
+
+        // When: Then:
+        assertThatThrownBy(() -> store.saveAll(List.of(loan)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid loan id");
+    }
+
+    /**
+     * Checks a batch with an invalid loan is refused as a whole, even when its valid loans come first
+     */
+    @Test
+    void saveAll_Given_invalid_loan_after_valid_ones_Then_store_none() {
+        // Given: the valid loans need the columns to grow, the last loan id is 64 characters but 128 bytes
+        store.saveAll(List.of(scoredLoan("L-0", MortgageProduct.FIXED, 10)));
+        List<ScoredLoan> batch = new ArrayList<>(IntStream.range(1, 40)
+                .mapToObj(i -> scoredLoan("L-" + i, MortgageProduct.FIXED, 20))
+                .toList());
+        batch.add(scoredLoan("\u00e9".repeat(ColumnarPortfolioStore.MAX_LOAN_ID_BYTES), MortgageProduct.FIXED, 20));
+
+        // When: Then:
+        assertThatThrownBy(() -> store.saveAll(batch))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid loan id");
+        assertThat(store.count()).isEqualTo(1);
+        assertThat(store.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 20)).isEmpty();
+    }
+
+    /**
+     * The store keeps amounts as doubles and monthly costs as cents, so the fixtures use the same scales
+     */
+    private static ScoredLoan scoredLoan(String loanId, MortgageProduct product, int maturityPeriod) {
+        return new ScoredLoan(new PortfolioLoan(loanId, product, maturityPeriod, BigDecimal.valueOf(50000.0),
+                BigDecimal.valueOf(100000.0), BigDecimal.valueOf(200000.0)), true, new BigDecimal("1000.00"));
+    }
+}
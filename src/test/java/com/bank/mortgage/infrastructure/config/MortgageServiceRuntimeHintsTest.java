@@ -0,0 +1,46 @@
+package com.bank.mortgage.infrastructure.config;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
+import com.bank.mortgage.infrastructure.adapter.out.database.h2.entity.MortgageRateEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MortgageServiceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new MortgageServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    /**
+     * Checks the REST DTOs and the JPA entity are registered for reflection
+     */
+    @Test
+    void registerHints_Then_register_dtos_and_entity_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(MortgageCheckRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MortgageCheckResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MortgageRateResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ErrorResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MortgageRateEntity.class)).accepts(hints);
+    }
+
+    /**
+     * Checks Flyway migrations are included as resources
+     */
+    @Test
+    void registerHints_Then_register_flyway_migrations() {
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/V1__create_mortgage_rate_table.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/V2__populate_mortgage_rate_table.sql")).accepts(hints);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.mortgage.infrastructure.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LogRateLimiterTest {
+
+    private final Logger logger = mock(Logger.class);
+
+    /**
+     * Checks log lines over the budget of the window are dropped
+     */
+    @Test
+    void tryAcquire_Given_budget_exhausted_Then_drop_log_lines() {
+        // Given:
+        LogRateLimiter limiter = new LogRateLimiter(logger, "client error", 2, Duration.ofHours(1));
+
+        // When:
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then:
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        verifyNoInteractions(logger);
+    }
+
+    /**
+     * Checks a new window restores the budget and reports how many lines were dropped
+     */
+    @Test
+    void tryAcquire_Given_new_window_Then_report_suppressed_lines() throws InterruptedException {
+        // Given:
+        LogRateLimiter limiter = new LogRateLimiter(logger, "client error", 1, Duration.ofMillis(10));
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // When:
+        Thread.sleep(20);
+        boolean acquired = limiter.tryAcquire();
+
+        // Then:
+        assertThat(acquired).isTrue();
+        verify(logger).warn(anyString(), eq(2L), eq("client error"), any());
+    }
+}
@@ -0,0 +1,124 @@
+package com.bank.mortgage.infrastructure.ratefeed;
+
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MortgageRateFeedTest {
+
+    private static final LocalDateTime LAST_UPDATE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private final MortgageRateRepositoryPort mortgageRateRepositoryPort = mock(MortgageRateRepositoryPort.class);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final MortgageRateFeed feed = new MortgageRateFeed(mortgageRateRepositoryPort, eventPublisher, null,
+            new MortgageRateFeedProperties(Duration.ofSeconds(5), 2, Duration.ofSeconds(15), Duration.ofMinutes(30),
+                    128, 4),
+            100);
+
+    /**
+     * Checks only the rates that changed since the previous read are published, with the next version
+     */
+    @Test
+    void poll_Given_changed_and_removed_rates_Then_publish_delta() {
+        // Given:
+        MortgageRate rate10 = new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.035"), LAST_UPDATE);
+        MortgageRate rate20 = new MortgageRate(MortgageProduct.FIXED, 20, new BigDecimal("0.045"), LAST_UPDATE);
+        MortgageRate greenRate20 = new MortgageRate(MortgageProduct.GREEN, 20, new BigDecimal("0.043"), LAST_UPDATE);
+        MortgageRate newRate20 =
+                new MortgageRate(MortgageProduct.FIXED, 20, new BigDecimal("0.04"), LAST_UPDATE.plusDays(1));
+        when(mortgageRateRepositoryPort.findAllMortgageRates())
+                .thenReturn(List.of(greenRate20, rate10, rate20))
+                .thenReturn(List.of(rate10, newRate20));
+
+        // When:
+        feed.poll();
+        feed.poll();
+
+        // Then:
+        verify(eventPublisher).publishEvent(new MortgageRatesChangedEvent(101, List.of(rate10, rate20, greenRate20),
+                List.of(), List.of(rate10, rate20, greenRate20)));
+        verify(eventPublisher).publishEvent(new MortgageRatesChangedEvent(102, List.of(newRate20),
+                List.of(greenRate20), List.of(rate10, newRate20)));
+        assertThat(feed.snapshot()).isEqualTo(new MortgageRateFeed.Snapshot(102, List.of(rate10, newRate20)));
+    }
+
+    /**
+     * Checks nothing is published when the rates didn't change, or are stale because the database is down
+     */
+    @Test
+    void poll_Given_unchanged_or_stale_rates_Then_publish_nothing() {
+        // Given:
+        MortgageRate rate10 = new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.035"), LAST_UPDATE);
+        when(mortgageRateRepositoryPort.findAllMortgageRates())
+                .thenReturn(List.of(rate10))
+                .thenReturn(List.of(
+                        new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.0350"), LAST_UPDATE)))
+                .thenReturn(List.of(
+                        new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.05"), LAST_UPDATE).asStale()));
+        feed.poll();
+
+        // When:
+        feed.poll();
+        feed.poll();
+
+        // Then:
+        assertThat(feed.snapshot().version()).isEqualTo(101);
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Checks a client can resume from a version still in the history, and needs a snapshot otherwise
+     */
+    @Test
+    void changesSince_Given_versions_in_and_out_of_history_Then_resume_only_known_ones() {
+        // Given:
+        when(mortgageRateRepositoryPort.findAllMortgageRates())
+                .thenReturn(List.of(new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.01"), LAST_UPDATE)))
+                .thenReturn(List.of(new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.02"), LAST_UPDATE)))
+                .thenReturn(List.of(new MortgageRate(MortgageProduct.FIXED, 10, new BigDecimal("0.03"), LAST_UPDATE)));
+        feed.poll();
+        feed.poll();
+        feed.poll();
+
+        // When - Then: history keeps the last 2 changes, 102 and 103
+        assertThat(feed.changesSince(103)).hasValue(List.of());
+        assertThat(feed.changesSince(102).orElseThrow()).extracting(MortgageRatesChangedEvent::version)
+                .containsExactly(103L);
+        assertThat(feed.changesSince(101).orElseThrow()).extracting(MortgageRatesChangedEvent::version)
+                .containsExactly(102L, 103L);
+        assertThat(feed.changesSince(100)).isEmpty();
+        assertThat(feed.changesSince(200)).isEmpty();
+    }
+
+    /**
+     * Checks a failing read is skipped, keeping the current version
+     */
+    @Test
+    void poll_Given_failing_repository_Then_keep_current_version() {
+        // Given:
+        when(mortgageRateRepositoryPort.findAllMortgageRates()).thenThrow(new IllegalStateException("Database down"));
+
+        // When:
+        feed.poll();
+
+        // Then:
+        assertThat(feed.snapshot().version()).isEqualTo(100);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,63 @@
+package com.bank.mortgage.infrastructure.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingTest {
+
+    /**
+     * Checks the header has every stage in milliseconds, and the rate lookups are taken out of the compute stage
+     */
+    @Test
+    void end_Given_timed_request_Then_return_header_with_stages() {
+        // Given:
+        ServerTiming.begin();
+        ServerTiming.rateLookup(TimeUnit.MICROSECONDS.toNanos(1500), false);
+        ServerTiming.rateLookup(TimeUnit.MICROSECONDS.toNanos(250), true);
+
+        // When:
+        String header = ServerTiming.end();
+
+        // Then:
+        assertThat(header).matches("parse;dur=0\\.000, rate-lookup;dur=1\\.750;desc=\"database\", "
+                + "compute;dur=0\\.000, serialize;dur=0\\.000, total;dur=\\d+\\.\\d{3}");
+        assertThat(ServerTiming.isActive()).isFalse();
+    }
+
+    /**
+     * Checks laps add the time since the previous one to their stage, and the source is left out without lookups
+     */
+    @Test
+    void lap_Given_timed_request_Then_add_time_since_previous_lap() throws InterruptedException {
+        // Given:
+        ServerTiming.begin();
+        Thread.sleep(5);
+        ServerTiming.lap(ServerTiming.Stage.PARSE);
+
+        // When:
+        String header = ServerTiming.end();
+
+        // Then:
+        assertThat(header).startsWith("parse;dur=").contains("rate-lookup;dur=0.000, ");
+        assertThat(Double.parseDouble(header.substring("parse;dur=".length(), header.indexOf(','))))
+                .isGreaterThanOrEqualTo(5.0);
+    }
+
+    /**
+     * Checks calls outside a timed request are ignored
+     */
+    @Test
+    void rateLookup_Given_no_timed_request_Then_ignore_it() {
+        // When:
+        ServerTiming.rateLookup(TimeUnit.SECONDS.toNanos(1), true);
+        ServerTiming.lap(ServerTiming.Stage.COMPUTE);
+
+        // Then:
+        assertThat(ServerTiming.isActive()).isFalse();
+        ServerTiming.begin();
+        assertThat(ServerTiming.end()).startsWith("parse;dur=0.000, rate-lookup;dur=0.000, compute;dur=0.000");
+    }
+}
@@ -0,0 +1,166 @@
+package com.bank.mortgage.infrastructure.warmup;
+
+import com.bank.mortgage.application.usecase.CheckMortgageFeasibilityUseCaseImpl;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.model.MortgageRatePage;
+import com.bank.mortgage.domain.model.MortgageRateQuery;
+import com.bank.mortgage.domain.port.in.SearchMortgageRatesUseCase;
+import com.bank.mortgage.domain.port.out.LtvTierRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageDecisionAuditPort;
+import com.bank.mortgage.domain.port.out.MortgageQuoteRepositoryPort;
+import com.bank.mortgage.domain.port.out.MortgageRateRepositoryPort;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import com.bank.mortgage.infrastructure.adapter.in.rest.controller.MortgageAPIController;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageRateResponse;
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MortgageWarmUpRunnerTest {
+
+    @Mock
+    private MortgageAPIController mortgageAPIController;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Checks warm-up runs the configured number of checks for every stored rate of every product and reports its
+     * duration
+     */
+    @Test
+    void run_Given_enabled_warm_up_Then_check_every_maturity_and_report_duration() {
+        // Given:
+        MortgageWarmUpRunner runner = runner(new MortgageWarmUpProperties(true, 10, 20));
+        when(mortgageAPIController.getInterestRates(eq(Product.FIXED), isNull(), isNull(), isNull(), isNull(), eq(1000)))
+                .thenReturn(ResponseEntity.ok(List.of(
+                        new MortgageRateResponse().product(Product.FIXED).maturityPeriod(10),
+                        new MortgageRateResponse().product(Product.FIXED).maturityPeriod(20))));
+        when(mortgageAPIController.getInterestRates(eq(Product.GREEN), isNull(), isNull(), isNull(), isNull(), eq(1000)))
+                .thenReturn(ResponseEntity.ok(List.of(
+                        new MortgageRateResponse().product(Product.GREEN).maturityPeriod(10))));
+        when(mortgageAPIController.getInterestRates(eq(Product.FIRST_TIME_BUYER), isNull(), isNull(), isNull(), isNull(),
+                eq(1000)))
+                .thenReturn(ResponseEntity.ok(List.of()));
+        when(mortgageAPIController.checkMortgageFeasibilityDryRun(any(MortgageCheckRequest.class)))
+                .thenReturn(new MortgageCheckResponse().feasible(true).monthlyCost(100d));
+        doAnswer(invocation -> {
+            ((Consumer<MeterRegistry>) invocation.getArgument(0)).accept(meterRegistry);
+            return null;
+        }).when(meterRegistryProvider).ifAvailable(any());
+
+        // When:
+        runner.run(new DefaultApplicationArguments());
+
+        // Then:
+        verify(mortgageAPIController, times(10)).checkMortgageFeasibilityDryRun(
+                argThat(r -> r.getProduct() == Product.FIXED && r.getMaturityPeriod() == 10));
+        verify(mortgageAPIController, times(10)).checkMortgageFeasibilityDryRun(
+                argThat(r -> r.getProduct() == Product.FIXED && r.getMaturityPeriod() == 20));
+        verify(mortgageAPIController, times(10)).checkMortgageFeasibilityDryRun(
+                argThat(r -> r.getProduct() == Product.GREEN && r.getMaturityPeriod() == 10));
+        verify(mortgageAPIController, never()).checkMortgageFeasibility(any(), any());
+        verify(eventPublisher).publishEvent(argThat((ApplicationEvent event) ->
+                event instanceof AvailabilityChangeEvent<?> e && e.getState() == ReadinessState.REFUSING_TRAFFIC));
+        assertThat(meterRegistry.find("mortgage.warmup.duration").timeGauge()).isNotNull();
+
+        Info.Builder info = new Info.Builder();
+        runner.contribute(info);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> warmUp = (Map<String, Object>) info.build().get("warmUp");
+        assertThat(warmUp).containsEntry("completed", true).containsEntry("checks", 30);
+    }
+
+    /**
+     * Checks disabled warm-up does not call the controller
+     */
+    @Test
+    void run_Given_disabled_warm_up_Then_do_nothing() {
+        // Given:
+        MortgageWarmUpRunner runner = runner(new MortgageWarmUpProperties(false, 10, 20));
+
+        // When:
+        runner.run(new DefaultApplicationArguments());
+
+        // Then:
+        verifyNoInteractions(mortgageAPIController, eventPublisher);
+    }
+
+    /**
+     * Checks the synthetic checks of the warm-up go through the real controller and use case without reaching the
+     * audit log or the quote store
+     */
+    @Test
+    void run_Given_real_check_path_Then_record_no_decision_and_no_quote() {
+        // Given:
+        SearchMortgageRatesUseCase searchMortgageRatesUseCase = mock(SearchMortgageRatesUseCase.class);
+        MortgageRateRepositoryPort mortgageRateRepositoryPort = mock(MortgageRateRepositoryPort.class);
+        LtvTierRepositoryPort ltvTierRepositoryPort = mock(LtvTierRepositoryPort.class);
+        MortgageDecisionAuditPort mortgageDecisionAuditPort = mock(MortgageDecisionAuditPort.class);
+        MortgageQuoteRepositoryPort mortgageQuoteRepositoryPort = mock(MortgageQuoteRepositoryPort.class);
+
+        MortgageRate mortgageRate =
+                new MortgageRate(MortgageProduct.FIXED, 10, BigDecimal.valueOf(0.035), LocalDateTime.now());
+        when(searchMortgageRatesUseCase.searchMortgageRates(any())).thenAnswer(invocation ->
+                ((MortgageRateQuery) invocation.getArgument(0)).product() == MortgageProduct.FIXED
+                        ? new MortgageRatePage(List.of(mortgageRate), false)
+                        : new MortgageRatePage(List.of(), false));
+        when(mortgageRateRepositoryPort.findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10))
+                .thenReturn(Optional.of(mortgageRate));
+        when(ltvTierRepositoryPort.findLtvTierIndex()).thenReturn(LtvTierIndex.EMPTY);
+
+        MortgageAPIController controller = new MortgageAPIController(searchMortgageRatesUseCase,
+                new CheckMortgageFeasibilityUseCaseImpl(mortgageRateRepositoryPort, new MortgageDomainService(),
+                        mortgageDecisionAuditPort, mortgageQuoteRepositoryPort, ltvTierRepositoryPort),
+                null, null, null, null, null);
+        MortgageWarmUpRunner runner = new MortgageWarmUpRunner(new MortgageWarmUpProperties(true, 10, 20),
+                controller, new ObjectMapper(), eventPublisher, meterRegistryProvider);
+
+        // When:
+        runner.run(new DefaultApplicationArguments());
+
+        // Then:
+        verify(mortgageRateRepositoryPort, times(10)).findByProductAndMaturityPeriod(MortgageProduct.FIXED, 10);
+        verifyNoInteractions(mortgageDecisionAuditPort, mortgageQuoteRepositoryPort);
+    }
+
+    private MortgageWarmUpRunner runner(MortgageWarmUpProperties properties) {
+        return new MortgageWarmUpRunner(properties, mortgageAPIController, new ObjectMapper(), eventPublisher,
+                meterRegistryProvider);
+    }
+}
@@ -0,0 +1,189 @@
+package com.bank.mortgage.performance;
+
+import com.bank.mortgage.infrastructure.adapter.in.rest.dto.MortgageCheckRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Latency and SQL budgets of the mortgage API, called in process through MockMvc with the whole application context.
+ * Like in {@link MortgageDomainServicePerformanceTest}, the info logs of every check are turned off. The rate feed and
+ * the tier refresh are slowed down so their queries are not counted as the statements of a request.
+ */
+@Tag("performance")
+@SpringBootTest(properties = {"logging.level.com.bank.mortgage.domain.service=WARN",
+        "mortgage.rate-feed.poll-interval=1h", "mortgage.ltv-tiers.refresh-interval=1h"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MortgageCheckPerformanceTest {
+
+    private static final int WARM_UP_REQUESTS = 5_000;
+    private static final int MEASURED_REQUESTS = 10_000;
+
+    @RegisterExtension
+    static final PerformanceBudgets budgets = new PerformanceBudgets();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Counts the statements prepared on every thread, through a proxy around the connections of the data source. Rate
+     * queries run on the database bulkhead and quotes are inserted by the write-behind thread, so the statements of a
+     * request are not all prepared on the request thread
+     */
+    @TestConfiguration
+    static class SqlStatementCounterConfig {
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement",
+                "prepareCall");
+        private static final AtomicLong STATEMENTS = new AtomicLong();
+        private static final long SETTLE_MILLIS = 1_000;
+
+        /**
+         * @return Statements prepared so far, once none has been prepared for a second, so the asynchronous work of
+         * the previous request is counted
+         */
+        static long settledStatements() throws InterruptedException {
+            long statements = STATEMENTS.get();
+            while (true) {
+                Thread.sleep(SETTLE_MILLIS);
+                long settled = STATEMENTS.get();
+                if (settled == statements) {
+                    return settled;
+                }
+                statements = settled;
+            }
+        }
+
+        @Bean
+        static BeanPostProcessor sqlStatementCounter() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return counting(super.getConnection(username, password));
+                        }
+                    } : bean;
+                }
+            };
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (STATEMENT_METHODS.contains(method.getName())) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Checks the p99 latency of a mortgage check stays within budget
+     */
+    @Test
+    void checkMortgageFeasibility_Then_p99_latency_within_budget() throws Exception {
+        // Given:
+        RequestBuilder request = mortgageCheck();
+        for (int call = 0; call < WARM_UP_REQUESTS; call++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+
+        // When:
+        long[] latencies = new long[MEASURED_REQUESTS];
+        for (int call = 0; call < MEASURED_REQUESTS; call++) {
+            long start = System.nanoTime();
+            mockMvc.perform(request).andExpect(status().isOk());
+            latencies[call] = System.nanoTime() - start;
+        }
+
+        // Then:
+        Arrays.sort(latencies);
+        budgets.check("mortgage-check.p99-millis",
+                latencies[(int) Math.ceil(MEASURED_REQUESTS * 0.99) - 1] / 1_000_000.0, "ms");
+    }
+
+    /**
+     * Checks a mortgage check, a rate search and the lookup of a quote no longer in memory run no more SQL statements
+     * than budgeted, on any thread
+     */
+    @Test
+    void mortgageApi_Then_sql_statements_per_request_within_budget() throws Exception {
+        // Given:
+        RequestBuilder mortgageCheck = mortgageCheck();
+        RequestBuilder interestRates = get("/v1/api/interest-rates");
+        RequestBuilder quote = get("/v1/api/quotes/{quoteId}", UUID.randomUUID());
+        mockMvc.perform(mortgageCheck).andExpect(status().isOk());
+        mockMvc.perform(interestRates).andExpect(status().isOk());
+        mockMvc.perform(quote).andExpect(status().isNotFound());
+
+        // When:
+        long mortgageCheckStatements = SqlStatementCounterConfig.settledStatements();
+        mockMvc.perform(mortgageCheck).andExpect(status().isOk());
+        mortgageCheckStatements = SqlStatementCounterConfig.settledStatements() - mortgageCheckStatements;
+
+        long interestRatesStatements = SqlStatementCounterConfig.settledStatements();
+        mockMvc.perform(interestRates).andExpect(status().isOk());
+        interestRatesStatements = SqlStatementCounterConfig.settledStatements() - interestRatesStatements;
+
+        long quoteStatements = SqlStatementCounterConfig.settledStatements();
+        mockMvc.perform(quote).andExpect(status().isNotFound());
+        quoteStatements = SqlStatementCounterConfig.settledStatements() - quoteStatements;
+
+        // Then:
+        budgets.check("mortgage-check.sql-statements-per-request", mortgageCheckStatements, "statements");
+        budgets.check("interest-rates.sql-statements-per-request", interestRatesStatements, "statements");
+        budgets.check("quote.sql-statements-per-request", quoteStatements, "statements");
+    }
+
+    private RequestBuilder mortgageCheck() throws Exception {
+        return post("/v1/api/mortgage-check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MortgageCheckRequest()
+                        .maturityPeriod(20)
+                        .income(60000d)
+                        .loanValue(210000d)
+                        .homeValue(300000d)));
+    }
+}
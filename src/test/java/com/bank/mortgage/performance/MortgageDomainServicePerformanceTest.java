@@ -0,0 +1,97 @@
+package com.bank.mortgage.performance;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bank.mortgage.domain.entity.LtvTier;
+import com.bank.mortgage.domain.entity.MortgageApplicant;
+import com.bank.mortgage.domain.entity.MortgageProduct;
+import com.bank.mortgage.domain.entity.MortgageRate;
+import com.bank.mortgage.domain.model.CalculationPrecision;
+import com.bank.mortgage.domain.model.LtvTierIndex;
+import com.bank.mortgage.domain.service.MortgageDomainService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Allocation and time budgets of the mortgage check calculation, in every numeric precision.
+ * The info logs of the check are turned off while measuring: what they allocate depends on the logging configuration
+ * of the deployment, not on the calculation.
+ */
+@Tag("performance")
+class MortgageDomainServicePerformanceTest {
+
+    private static final int WARM_UP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 200_000;
+
+    @RegisterExtension
+    static final PerformanceBudgets budgets = new PerformanceBudgets();
+
+    private final Logger domainLogger = (Logger) LoggerFactory.getLogger(MortgageDomainService.class);
+    private Level domainLogLevel;
+
+    @BeforeEach
+    void setUp() {
+        domainLogLevel = domainLogger.getLevel();
+        domainLogger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        domainLogger.setLevel(domainLogLevel);
+    }
+
+    /**
+     * Checks the bytes allocated and the time taken per check, feasible or not and in every loan-to-value tier, stay
+     * within the budgets of the precision
+     */
+    @ParameterizedTest
+    @EnumSource(CalculationPrecision.class)
+    void checkMortgageFeasibility_Given_precision_Then_allocated_bytes_and_nanos_per_call_within_budget(
+            CalculationPrecision precision) {
+        // Given:
+        MortgageDomainService mortgageDomainService = new MortgageDomainService(precision);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MortgageRate mortgageRate = new MortgageRate(MortgageProduct.FIXED, 20, BigDecimal.valueOf(0.045),
+                LocalDateTime.now());
+        LtvTierIndex ltvTierIndex = LtvTierIndex.of(List.of(
+                new LtvTier(BigDecimal.ZERO, BigDecimal.valueOf(0.6), BigDecimal.ZERO),
+                new LtvTier(BigDecimal.valueOf(0.6), BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.002)),
+                new LtvTier(BigDecimal.valueOf(0.8), BigDecimal.valueOf(0.9), BigDecimal.valueOf(0.005)),
+                new LtvTier(BigDecimal.valueOf(0.9), BigDecimal.ONE, BigDecimal.valueOf(0.01))));
+        List<MortgageApplicant> applicants = List.of(
+                new MortgageApplicant(BigDecimal.valueOf(60000), BigDecimal.valueOf(100000), BigDecimal.valueOf(300000)),
+                new MortgageApplicant(BigDecimal.valueOf(60000), BigDecimal.valueOf(210000), BigDecimal.valueOf(300000)),
+                new MortgageApplicant(BigDecimal.valueOf(80000), BigDecimal.valueOf(290000), BigDecimal.valueOf(300000)),
+                new MortgageApplicant(BigDecimal.valueOf(20000), BigDecimal.valueOf(200000), BigDecimal.valueOf(300000)));
+        for (int call = 0; call < WARM_UP_CALLS; call++) {
+            mortgageDomainService.checkMortgageFeasibility(mortgageRate, applicants.get(call % applicants.size()),
+                    ltvTierIndex);
+        }
+
+        // When:
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int call = 0; call < MEASURED_CALLS; call++) {
+            mortgageDomainService.checkMortgageFeasibility(mortgageRate, applicants.get(call % applicants.size()),
+                    ltvTierIndex);
+        }
+        long nanos = System.nanoTime() - start;
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        // Then:
+        String budget = "mortgage-check." + precision.name().toLowerCase();
+        budgets.check(budget + ".allocated-bytes-per-call", (double) allocatedBytes / MEASURED_CALLS, "bytes");
+        budgets.check(budget + ".nanos-per-call", (double) nanos / MEASURED_CALLS, "ns");
+    }
+}
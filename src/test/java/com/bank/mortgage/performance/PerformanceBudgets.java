@@ -0,0 +1,97 @@
+package com.bank.mortgage.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Budgets of the performance tests, run with mvn -Pperformance test.
+ * <p>
+ * The budgets are read from performance-budgets.properties, and a system property of the same name overrides one, e.g.
+ * for a slower build machine. Every measurement is kept, within budget or not, and written once the test class is
+ * done to performance.results.directory (target/performance by default) as {@code <test class>.json}, so the results
+ * of successive builds can be compared.
+ */
+public class PerformanceBudgets implements AfterAllCallback {
+
+    private static final String BUDGETS = "/performance-budgets.properties";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Properties budgets = new Properties();
+    private final List<Measurement> measurements = new ArrayList<>();
+
+    public PerformanceBudgets() {
+        try (InputStream input = PerformanceBudgets.class.getResourceAsStream(BUDGETS)) {
+            budgets.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param name         Name of the measurement, e.g. mortgage-check.p99-millis.
+     * @param value        Value measured.
+     * @param budget       Highest value allowed.
+     * @param unit         Unit of the value and the budget.
+     * @param withinBudget Whether the value is at most the budget.
+     */
+    public record Measurement(String name, double value, double budget, String unit, boolean withinBudget) {
+
+        Measurement(String name, double value, double budget, String unit) {
+            this(name, value, budget, unit, value <= budget);
+        }
+    }
+
+    public record Results(String testClass, Instant timestamp, String javaVersion, int availableProcessors,
+                          List<Measurement> measurements) {
+    }
+
+    /**
+     * Keep the measurement and fail if it exceeds its budget
+     *
+     * @param name,  name of the budget in performance-budgets.properties
+     * @param value, value measured
+     * @param unit,  unit of the value
+     */
+    public void check(String name, double value, String unit) {
+        String budget = System.getProperty(name, budgets.getProperty(name));
+        assertThat(budget).as("Budget of %s in %s", name, BUDGETS).isNotNull();
+
+        Measurement measurement = new Measurement(name, value, Double.parseDouble(budget), unit);
+        synchronized (measurements) {
+            measurements.add(measurement);
+        }
+        assertThat(measurement.withinBudget())
+                .as("%s: %s %s, over its budget of %s %s", name, value, unit, budget, unit)
+                .isTrue();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws IOException {
+        Path directory = Path.of(System.getProperty("performance.results.directory", "target/performance"));
+        Files.createDirectories(directory);
+        String testClass = context.getRequiredTestClass().getSimpleName();
+        synchronized (measurements) {
+            OBJECT_MAPPER.writeValue(directory.resolve(testClass + ".json").toFile(), new Results(testClass,
+                    Instant.now(), Runtime.version().toString(), Runtime.getRuntime().availableProcessors(),
+                    measurements));
+        }
+    }
+}